@@ -20,6 +20,10 @@ import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HexFormat;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicLong;
 
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
@@ -35,6 +39,23 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
     private static final String TEMP_FILE_PREFIX = "tmp";
     private static final String TEMP_FILE_SUFFIX = "artifactrepo";
 
+    // shared by all repositories calculating the hashes in parallel, idle threads are terminated
+    private static final ExecutorService DIGEST_EXECUTOR = Executors.newCachedThreadPool(digestThreadFactory());
+
+    private final boolean parallelDigest;
+
+    protected AbstractArtifactRepository() {
+        this(false);
+    }
+
+    /**
+     * @param parallelDigest if <code>true</code> the hashes (SHA-1, MD5, SHA-256) of the stored artifacts are calculated in
+     *         parallel, otherwise sequentially by the storing thread
+     */
+    protected AbstractArtifactRepository(final boolean parallelDigest) {
+        this.parallelDigest = parallelDigest;
+    }
+
     // suppress warning, of not strong enough hashing algorithm, SHA-1 and MD5 is not used security related
     @SuppressWarnings("squid:S2070")
     @Override
@@ -53,8 +74,11 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
         }
 
         String tempFile = null;
-        try (final DigestInputStream inputStream = wrapInDigestInputStream(content, mdSHA1, mdMD5, mdSHA256)) {
-            tempFile = storeTempFile(inputStream);
+        try {
+            // the digests are complete when the stream is closed
+            try (final InputStream inputStream = wrapInDigestInputStream(content, mdSHA1, mdMD5, mdSHA256)) {
+                tempFile = storeTempFile(inputStream);
+            }
 
             final HexFormat hexFormat = HexFormat.of().withLowerCase();
 
@@ -159,8 +183,21 @@ public abstract class AbstractArtifactRepository implements ArtifactRepository {
         return providedHashValue != null && !hashValue.equals(providedHashValue);
     }
 
-    private static DigestInputStream wrapInDigestInputStream(final InputStream input,
+    private static ThreadFactory digestThreadFactory() {
+        final AtomicLong count = new AtomicLong(0);
+        return runnable -> {
+            final Thread thread = Executors.defaultThreadFactory().newThread(runnable);
+            thread.setName("artifact-digest-" + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private InputStream wrapInDigestInputStream(final InputStream input,
             final MessageDigest mdSHA1, final MessageDigest mdMD5, final MessageDigest mdSHA256) {
+        if (parallelDigest) {
+            return new ParallelDigestInputStream(input, DIGEST_EXECUTOR, mdSHA1, mdMD5, mdSHA256);
+        }
         return new DigestInputStream(new DigestInputStream(new DigestInputStream(input, mdSHA256), mdMD5), mdSHA1);
     }
 
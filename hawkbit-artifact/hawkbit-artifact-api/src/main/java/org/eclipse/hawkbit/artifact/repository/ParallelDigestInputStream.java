@@ -0,0 +1,243 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * {@link InputStream} which updates a number of {@link MessageDigest}s with the read data in parallel - one task per
+ * digest, executed by the given {@link Executor}. The read data is collected in pooled buffers which are handed over
+ * to all digest tasks, so the stream is read only once and the caller (e.g. writing the data to a temp file) is
+ * blocked only if all buffers are still in use by the digest tasks.
+ * <p/>
+ * The digests are complete as soon as the end of the stream is reached or the stream is closed. If a digest task fails
+ * (or is interrupted), the reading fails with an {@link IOException}. Must not be used by multiple threads concurrently.
+ */
+final class ParallelDigestInputStream extends FilterInputStream {
+
+    private static final int BUFFER_SIZE = 0x10000; // 64k
+    private static final int BUFFER_COUNT = 8;
+    // time between the checks for failed digest tasks while waiting for a free buffer
+    private static final long TAKE_TIMEOUT_MS = 100;
+
+    private static final Chunk END = new Chunk(new byte[0], 0);
+
+    private final BlockingQueue<byte[]> pool = new ArrayBlockingQueue<>(BUFFER_COUNT);
+    private final List<BlockingQueue<Chunk>> queues;
+    private final CountDownLatch completed;
+
+    private byte[] buffer;
+    private int bufferLength;
+    private boolean finished;
+    private volatile Throwable failure;
+
+    ParallelDigestInputStream(final InputStream in, final Executor executor, final MessageDigest... digests) {
+        super(in);
+        for (int i = 0; i < BUFFER_COUNT; i++) {
+            pool.add(new byte[BUFFER_SIZE]);
+        }
+        queues = new ArrayList<>(digests.length);
+        completed = new CountDownLatch(digests.length);
+        for (final MessageDigest digest : digests) {
+            final BlockingQueue<Chunk> queue = new LinkedBlockingQueue<>();
+            queues.add(queue);
+            executor.execute(() -> digest(digest, queue));
+        }
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = in.read();
+        if (b == -1) {
+            finish();
+        } else {
+            append(new byte[] { (byte) b }, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int read = in.read(b, off, len);
+        if (read == -1) {
+            finish();
+        } else {
+            append(b, off, read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        // skipped bytes need to be digested as well
+        final byte[] skipBuffer = new byte[(int) Math.min(BUFFER_SIZE, Math.max(n, 0))];
+        long skipped = 0;
+        while (skipped < n) {
+            final int read = read(skipBuffer, 0, (int) Math.min(skipBuffer.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(final int readlimit) {
+        // not supported
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            finish();
+        } finally {
+            super.close();
+        }
+    }
+
+    private void append(final byte[] b, final int off, final int len) throws IOException {
+        int offset = off;
+        int remaining = len;
+        while (remaining > 0) {
+            if (buffer == null) {
+                buffer = take();
+                bufferLength = 0;
+            }
+            final int count = Math.min(remaining, BUFFER_SIZE - bufferLength);
+            System.arraycopy(b, offset, buffer, bufferLength, count);
+            bufferLength += count;
+            offset += count;
+            remaining -= count;
+            if (bufferLength == BUFFER_SIZE) {
+                dispatch();
+            }
+        }
+    }
+
+    // waits until all digests are updated with the whole read data
+    private void finish() throws IOException {
+        if (finished) {
+            return;
+        }
+        finished = true;
+
+        if (buffer != null && bufferLength > 0) {
+            dispatch();
+        }
+        queues.forEach(queue -> queue.add(END));
+        try {
+            completed.await();
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for the digests");
+        }
+        checkFailure();
+    }
+
+    private void checkFailure() throws IOException {
+        if (failure != null) {
+            throw new IOException("Digest calculation failed", failure);
+        }
+    }
+
+    private void dispatch() {
+        final Chunk chunk = new Chunk(buffer, bufferLength);
+        chunk.pending.set(queues.size());
+        queues.forEach(queue -> queue.add(chunk));
+        buffer = null;
+    }
+
+    // a failed digest task may not return the buffers anymore - so don't wait for them forever
+    private byte[] take() throws IOException {
+        try {
+            byte[] free;
+            do {
+                checkFailure();
+                free = pool.poll(TAKE_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            } while (free == null);
+            return free;
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for a free buffer");
+        }
+    }
+
+    private void digest(final MessageDigest digest, final BlockingQueue<Chunk> queue) {
+        try {
+            Chunk chunk;
+            while ((chunk = queue.take()) != END) {
+                try {
+                    if (failure == null) {
+                        digest.update(chunk.data, 0, chunk.length);
+                    }
+                } catch (final RuntimeException e) {
+                    failure = e;
+                } finally {
+                    release(chunk);
+                }
+            }
+        } catch (final InterruptedException e) {
+            failure = e;
+            Thread.currentThread().interrupt();
+            // the queued chunks won't be digested anymore, return their buffers so that the other digest tasks don't block
+            Chunk chunk;
+            while ((chunk = queue.poll()) != null) {
+                if (chunk != END) {
+                    release(chunk);
+                }
+            }
+        } finally {
+            completed.countDown();
+        }
+    }
+
+    // returns the buffer to the pool when all digests are updated with it
+    private void release(final Chunk chunk) {
+        if (chunk.pending.decrementAndGet() == 0) {
+            pool.add(chunk.data);
+        }
+    }
+
+    private static final class Chunk {
+
+        private final byte[] data;
+        private final int length;
+        private final AtomicInteger pending = new AtomicInteger();
+
+        private Chunk(final byte[] data, final int length) {
+            this.data = data;
+            this.length = length;
+        }
+    }
+}
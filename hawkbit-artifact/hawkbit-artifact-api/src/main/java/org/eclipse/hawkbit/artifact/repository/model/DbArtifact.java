@@ -10,6 +10,7 @@
 package org.eclipse.hawkbit.artifact.repository.model;
 
 import java.io.InputStream;
+import java.nio.file.Path;
 
 /**
  * Interface definition for artifact binary.
@@ -43,4 +44,17 @@ public interface DbArtifact {
      * @return {@link InputStream} to read from artifact.
      */
     InputStream getFileInputStream();
+
+    /**
+     * Returns the path of the file which holds the artifact binary as it shall be delivered to the clients. Only
+     * artifacts which are stored as plain files on the local file-system return a path. It allows the callers to
+     * stream the binary directly from the file (e.g. via {@link java.nio.channels.FileChannel#transferTo}) instead of
+     * copying it through {@link #getFileInputStream()}.
+     *
+     * @return path to the artifact binary file or <code>null</code> if the binary is not available as plain file (e.g.
+     *         encrypted or stored in a non file-system repository)
+     */
+    default Path getFilePath() {
+        return null;
+    }
 }
\ No newline at end of file
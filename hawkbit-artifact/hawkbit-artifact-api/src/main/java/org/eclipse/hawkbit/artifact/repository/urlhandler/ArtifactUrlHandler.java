@@ -36,4 +36,15 @@ public interface ArtifactUrlHandler {
      * @return a URL for the given artifact parameters in a given protocol
      */
     List<ArtifactUrl> getUrls(URLPlaceholder placeholder, ApiType api, URI requestUri);
+
+    /**
+     * Returns if the URLs generated for the given API could depend on the target (e.g. contain its controller id). If not, the
+     * URLs of an artifact could be generated once and reused for all targets.
+     *
+     * @param api given protocol that URL needs to support
+     * @return {@code true} if the URLs could differ per target, by default {@code true}
+     */
+    default boolean isTargetSpecific(final ApiType api) {
+        return true;
+    }
 }
\ No newline at end of file
@@ -12,13 +12,12 @@ package org.eclipse.hawkbit.artifact.repository.urlhandler;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrlHandlerProperties.UrlProtocol;
 import org.springframework.util.ObjectUtils;
@@ -38,6 +37,9 @@ import org.springframework.util.StringUtils;
  * Default (MD5SUM files):
  * {protocol}://{hostname}:{port}{contextPath}/{tenant}/controller/v1/{controllerId}/
  * softwaremodules/{softwareModuleId}/artifacts/{artifactFileName}.MD5SUM
+ *
+ * The patterns are compiled once into a list of segments, so an URL is rendered in a single pass computing only the
+ * placeholders used by the pattern.
  */
 public class PropertyBasedArtifactUrlHandler implements ArtifactUrlHandler {
 
@@ -64,8 +66,53 @@ public class PropertyBasedArtifactUrlHandler implements ArtifactUrlHandler {
     private static final String SOFTWARE_MODULE_ID_BASE62_PLACEHOLDER = "softwareModuleIdBase62";
     static final String DEFAULT_URL_PROTOCOL_REF = "{" + PROTOCOL_PLACEHOLDER + "}://{" + HOSTNAME_PLACEHOLDER + "}:{" + PORT_PLACEHOLDER + "}{" + CONTEXT_PATH + "}/{" + TENANT_PLACEHOLDER + "}/controller/v1/{" + CONTROLLER_ID_PLACEHOLDER + "}/softwaremodules/{" + SOFTWARE_MODULE_ID_BASE10_PLACEHOLDER + "}/artifacts/{" + ARTIFACT_FILENAME_PLACEHOLDER + "}";
 
+    private static final Map<String, PlaceholderResolver> RESOLVERS = Map.ofEntries(
+            Map.entry(IP_PLACEHOLDER, (protocol, placeholder, requestUri, contextPath) -> protocol.getIp()),
+            Map.entry(HOSTNAME_PLACEHOLDER, (protocol, placeholder, requestUri, contextPath) -> protocol.getHostname()),
+            Map.entry(HOSTNAME_REQUEST_PLACEHOLDER,
+                    (protocol, placeholder, requestUri, contextPath) -> getRequestHost(protocol, requestUri)),
+            Map.entry(PORT_REQUEST_PLACEHOLDER,
+                    (protocol, placeholder, requestUri, contextPath) -> getRequestPort(protocol, requestUri)),
+            Map.entry(HOSTNAME_WITH_DOMAIN_REQUEST_PLACEHOLDER,
+                    (protocol, placeholder, requestUri, contextPath) -> computeHostWithRequestDomain(protocol, requestUri)),
+            Map.entry(PROTOCOL_REQUEST_PLACEHOLDER,
+                    (protocol, placeholder, requestUri, contextPath) -> getRequestProtocol(protocol, requestUri)),
+            Map.entry(CONTEXT_PATH, (protocol, placeholder, requestUri, contextPath) -> contextPath),
+            Map.entry(ARTIFACT_FILENAME_PLACEHOLDER, (protocol, placeholder, requestUri, contextPath) ->
+                    URLEncoder.encode(placeholder.getSoftwareData().getFilename(), StandardCharsets.UTF_8)),
+            Map.entry(ARTIFACT_SHA1_PLACEHOLDER,
+                    (protocol, placeholder, requestUri, contextPath) -> placeholder.getSoftwareData().getSha1Hash()),
+            Map.entry(PROTOCOL_PLACEHOLDER, (protocol, placeholder, requestUri, contextPath) -> protocol.getProtocol()),
+            Map.entry(PORT_PLACEHOLDER, (protocol, placeholder, requestUri, contextPath) -> getPort(protocol)),
+            Map.entry(TENANT_PLACEHOLDER, (protocol, placeholder, requestUri, contextPath) -> placeholder.getTenant()),
+            Map.entry(TENANT_ID_BASE10_PLACEHOLDER,
+                    (protocol, placeholder, requestUri, contextPath) -> String.valueOf(placeholder.getTenantId())),
+            Map.entry(TENANT_ID_BASE62_PLACEHOLDER,
+                    (protocol, placeholder, requestUri, contextPath) -> Base62Util.fromBase10(placeholder.getTenantId())),
+            Map.entry(CONTROLLER_ID_PLACEHOLDER,
+                    (protocol, placeholder, requestUri, contextPath) -> placeholder.getControllerId()),
+            Map.entry(TARGET_ID_BASE10_PLACEHOLDER,
+                    (protocol, placeholder, requestUri, contextPath) -> String.valueOf(placeholder.getTargetId())),
+            Map.entry(TARGET_ID_BASE62_PLACEHOLDER, (protocol, placeholder, requestUri, contextPath) ->
+                    placeholder.getTargetId() == null ? null : Base62Util.fromBase10(placeholder.getTargetId())),
+            Map.entry(ARTIFACT_ID_BASE62_PLACEHOLDER, (protocol, placeholder, requestUri, contextPath) ->
+                    Base62Util.fromBase10(placeholder.getSoftwareData().getArtifactId())),
+            Map.entry(ARTIFACT_ID_BASE10_PLACEHOLDER, (protocol, placeholder, requestUri, contextPath) ->
+                    String.valueOf(placeholder.getSoftwareData().getArtifactId())),
+            Map.entry(SOFTWARE_MODULE_ID_BASE10_PLACEHOLDER, (protocol, placeholder, requestUri, contextPath) ->
+                    String.valueOf(placeholder.getSoftwareData().getSoftwareModuleId())),
+            Map.entry(SOFTWARE_MODULE_ID_BASE62_PLACEHOLDER, (protocol, placeholder, requestUri, contextPath) ->
+                    Base62Util.fromBase10(placeholder.getSoftwareData().getSoftwareModuleId())));
+    // placeholders which are rendered together with the preceding ':' which is omitted if there is no value
+    private static final List<String> PORT_PLACEHOLDERS = List.of(PORT_PLACEHOLDER, PORT_REQUEST_PLACEHOLDER);
+    // placeholders which values depend on the target
+    private static final List<String> TARGET_PLACEHOLDERS = List.of(
+            CONTROLLER_ID_PLACEHOLDER, TARGET_ID_BASE10_PLACEHOLDER, TARGET_ID_BASE62_PLACEHOLDER);
+
     private final ArtifactUrlHandlerProperties urlHandlerProperties;
     private final String contextPath;
+    // compiled url patterns by UrlProtocol#getRef()
+    private final Map<String, List<Segment>> compiledPatterns = new ConcurrentHashMap<>();
 
     /**
      * @param urlHandlerProperties for URL generation configuration
@@ -90,6 +137,16 @@ public class PropertyBasedArtifactUrlHandler implements ArtifactUrlHandler {
 
     }
 
+    @Override
+    public boolean isTargetSpecific(final ApiType api) {
+        return urlHandlerProperties.getProtocols().values().stream()
+                .filter(urlProtocol -> urlProtocol.getSupports().contains(api) && urlProtocol.isEnabled())
+                .map(urlProtocol -> compiledPatterns.computeIfAbsent(urlProtocol.getRef(), PropertyBasedArtifactUrlHandler::compile))
+                .flatMap(List::stream)
+                .anyMatch(segment -> segment instanceof PlaceholderSegment placeholderSegment
+                        && TARGET_PLACEHOLDERS.contains(placeholderSegment.name()));
+    }
+
     private static String getRequestPort(final UrlProtocol protocol, final URI requestUri) {
         if (requestUri == null) {
             return getPort(protocol);
@@ -142,62 +199,97 @@ public class PropertyBasedArtifactUrlHandler implements ArtifactUrlHandler {
         return host + "." + domain;
     }
 
-    private String generateUrl(final UrlProtocol protocol, final URLPlaceholder placeholder,
-            final URI requestUri) {
-        final Set<Entry<String, String>> entrySet = getReplaceMap(protocol, placeholder, requestUri).entrySet();
+    private String generateUrl(final UrlProtocol protocol, final URLPlaceholder placeholder, final URI requestUri) {
+        final List<Segment> segments = compiledPatterns.computeIfAbsent(protocol.getRef(),
+                PropertyBasedArtifactUrlHandler::compile);
+
+        final StringBuilder url = new StringBuilder(protocol.getRef().length() + 64);
+        for (final Segment segment : segments) {
+            segment.appendTo(url, protocol, placeholder, requestUri, contextPath);
+        }
+        return url.toString();
+    }
 
-        String urlPattern = protocol.getRef();
+    private static List<Segment> compile(final String urlPattern) {
+        final List<Segment> segments = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        int pos = 0;
+        while (pos < urlPattern.length()) {
+            final int start = urlPattern.indexOf('{', pos);
+            final int end = start < 0 ? -1 : urlPattern.indexOf('}', start + 1);
+            if (end < 0) {
+                literal.append(urlPattern, pos, urlPattern.length());
+                break;
+            }
 
-        for (final Entry<String, String> entry : entrySet) {
-            if (List.of(PORT_PLACEHOLDER, PORT_REQUEST_PLACEHOLDER).contains(entry.getKey())) {
-                urlPattern = urlPattern.replace(":{" + entry.getKey() + "}",
-                        ObjectUtils.isEmpty(entry.getValue()) ? "" : (":" + entry.getValue()));
-            } else {
-                if (entry.getValue() != null) {
-                    urlPattern = urlPattern.replace("{" + entry.getKey() + "}", entry.getValue());
+            final String name = urlPattern.substring(start + 1, end);
+            final PlaceholderResolver resolver = RESOLVERS.get(name);
+            if (resolver == null) {
+                // unknown placeholder - kept as it is
+                literal.append(urlPattern, pos, end + 1);
+            } else if (PORT_PLACEHOLDERS.contains(name)) {
+                if (start > 0 && urlPattern.charAt(start - 1) == ':') {
+                    addLiteral(segments, literal.append(urlPattern, pos, start - 1));
+                    segments.add(new PortSegment(resolver));
+                } else {
+                    // port placeholders are replaced only together with the preceding ':'
+                    literal.append(urlPattern, pos, end + 1);
                 }
+            } else {
+                addLiteral(segments, literal.append(urlPattern, pos, start));
+                segments.add(new PlaceholderSegment(name, resolver));
             }
+            pos = end + 1;
         }
+        addLiteral(segments, literal);
+        return List.copyOf(segments);
+    }
 
-        return urlPattern;
+    private static void addLiteral(final List<Segment> segments, final StringBuilder literal) {
+        if (!literal.isEmpty()) {
+            final String text = literal.toString();
+            segments.add((url, protocol, placeholder, requestUri, contextPath) -> url.append(text));
+            literal.setLength(0);
+        }
     }
 
-    private Map<String, String> getReplaceMap(final UrlProtocol protocol, final URLPlaceholder placeholder,
-            final URI requestUri) {
-        final Map<String, String> replaceMap = new HashMap<>();
-        replaceMap.put(IP_PLACEHOLDER, protocol.getIp());
+    @FunctionalInterface
+    private interface PlaceholderResolver {
 
-        replaceMap.put(HOSTNAME_PLACEHOLDER, protocol.getHostname());
+        String resolve(UrlProtocol protocol, URLPlaceholder placeholder, URI requestUri, String contextPath);
+    }
 
-        replaceMap.put(HOSTNAME_REQUEST_PLACEHOLDER, getRequestHost(protocol, requestUri));
-        replaceMap.put(PORT_REQUEST_PLACEHOLDER, getRequestPort(protocol, requestUri));
-        replaceMap.put(HOSTNAME_WITH_DOMAIN_REQUEST_PLACEHOLDER, computeHostWithRequestDomain(protocol, requestUri));
-        replaceMap.put(PROTOCOL_REQUEST_PLACEHOLDER, getRequestProtocol(protocol, requestUri));
+    @FunctionalInterface
+    private interface Segment {
 
-        replaceMap.put(CONTEXT_PATH, contextPath);
+        void appendTo(StringBuilder url, UrlProtocol protocol, URLPlaceholder placeholder, URI requestUri,
+                String contextPath);
+    }
 
-        replaceMap.put(ARTIFACT_FILENAME_PLACEHOLDER,
-                URLEncoder.encode(placeholder.getSoftwareData().getFilename(), StandardCharsets.UTF_8));
+    private record PlaceholderSegment(String name, PlaceholderResolver resolver) implements Segment {
 
-        replaceMap.put(ARTIFACT_SHA1_PLACEHOLDER, placeholder.getSoftwareData().getSha1Hash());
-        replaceMap.put(PROTOCOL_PLACEHOLDER, protocol.getProtocol());
-        replaceMap.put(PORT_PLACEHOLDER, getPort(protocol));
-        replaceMap.put(TENANT_PLACEHOLDER, placeholder.getTenant());
-        replaceMap.put(TENANT_ID_BASE10_PLACEHOLDER, String.valueOf(placeholder.getTenantId()));
-        replaceMap.put(TENANT_ID_BASE62_PLACEHOLDER, Base62Util.fromBase10(placeholder.getTenantId()));
-        replaceMap.put(CONTROLLER_ID_PLACEHOLDER, placeholder.getControllerId());
-        replaceMap.put(TARGET_ID_BASE10_PLACEHOLDER, String.valueOf(placeholder.getTargetId()));
-        if (placeholder.getTargetId() != null) {
-            replaceMap.put(TARGET_ID_BASE62_PLACEHOLDER, Base62Util.fromBase10(placeholder.getTargetId()));
+        @Override
+        public void appendTo(final StringBuilder url, final UrlProtocol protocol, final URLPlaceholder placeholder,
+                final URI requestUri, final String contextPath) {
+            final String value = resolver.resolve(protocol, placeholder, requestUri, contextPath);
+            if (value == null) {
+                // no value - placeholder is kept as it is
+                url.append('{').append(name).append('}');
+            } else {
+                url.append(value);
+            }
         }
-        replaceMap.put(ARTIFACT_ID_BASE62_PLACEHOLDER,
-                Base62Util.fromBase10(placeholder.getSoftwareData().getArtifactId()));
-        replaceMap.put(ARTIFACT_ID_BASE10_PLACEHOLDER, String.valueOf(placeholder.getSoftwareData().getArtifactId()));
-        replaceMap.put(SOFTWARE_MODULE_ID_BASE10_PLACEHOLDER,
-                String.valueOf(placeholder.getSoftwareData().getSoftwareModuleId()));
-        replaceMap.put(SOFTWARE_MODULE_ID_BASE62_PLACEHOLDER,
-                Base62Util.fromBase10(placeholder.getSoftwareData().getSoftwareModuleId()));
-        return replaceMap;
     }
 
+    private record PortSegment(PlaceholderResolver resolver) implements Segment {
+
+        @Override
+        public void appendTo(final StringBuilder url, final UrlProtocol protocol, final URLPlaceholder placeholder,
+                final URI requestUri, final String contextPath) {
+            final String port = resolver.resolve(protocol, placeholder, requestUri, contextPath);
+            if (!ObjectUtils.isEmpty(port)) {
+                url.append(':').append(port);
+            }
+        }
+    }
 }
@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.artifact.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feature: Unit Tests - Artifact Repository<br/>
+ * Story: Parallel digest calculation
+ */
+class ParallelDigestInputStreamTest {
+
+    // more than the buffers of the stream
+    private static final byte[] DATA = new byte[4 * 1024 * 1024 + 17];
+
+    static {
+        new Random(1).nextBytes(DATA);
+    }
+
+    private final List<Thread> digestThreads = new CopyOnWriteArrayList<>();
+    private final Executor executor = task -> {
+        final Thread thread = new Thread(task);
+        digestThreads.add(thread);
+        thread.start();
+    };
+
+    /**
+     * Verifies that the digests are updated with the whole read data.
+     */
+    @Test
+    void digestsReadData() throws IOException, NoSuchAlgorithmException {
+        final MessageDigest sha1 = MessageDigest.getInstance("SHA-1");
+        final MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+        try (final InputStream in = new ParallelDigestInputStream(new ByteArrayInputStream(DATA), executor, sha1, sha256)) {
+            assertThat(in.read()).isEqualTo(DATA[0] & 0xFF);
+            assertThat(in.skip(1000)).isEqualTo(1000);
+            readFully(in);
+        }
+
+        assertThat(sha1.digest()).isEqualTo(MessageDigest.getInstance("SHA-1").digest(DATA));
+        assertThat(sha256.digest()).isEqualTo(MessageDigest.getInstance("SHA-256").digest(DATA));
+    }
+
+    /**
+     * Verifies that the reading fails, instead of waiting forever for the buffers, if a digest task is interrupted mid-stream.
+     */
+    @Test
+    void readFailsIfDigestTaskIsInterrupted() {
+        assertTimeoutPreemptively(Duration.ofSeconds(30), () -> {
+            try (final InputStream in = new ParallelDigestInputStream(
+                    new ByteArrayInputStream(DATA), executor, MessageDigest.getInstance("SHA-1"), MessageDigest.getInstance("SHA-256"))) {
+                in.readNBytes(DATA.length / 4);
+                digestThreads.get(0).interrupt();
+
+                assertThatExceptionOfType(IOException.class).isThrownBy(() -> readFully(in))
+                        .withMessage("Digest calculation failed").withCauseInstanceOf(InterruptedException.class);
+            } catch (final IOException e) {
+                // closed with the failure as well
+                assertThat(e).hasCauseInstanceOf(InterruptedException.class);
+            }
+            // all digest tasks are done after close
+            for (final Thread digestThread : digestThreads) {
+                digestThread.join();
+            }
+        });
+    }
+
+    private static void readFully(final InputStream in) throws IOException {
+        final byte[] buffer = new byte[8192];
+        while (in.read(buffer) != -1) {
+            // just read
+        }
+    }
+}
@@ -179,6 +179,28 @@ class PropertyBasedArtifactUrlHandlerTest {
                                 CONTROLLER_ID + "/softwaremodules/" + SOFTWARE_MODULE_ID + "/artifacts/" + FILENAME_ENCODE));
     }
 
+    /**
+     * Verifies that the URLs are reported as target specific only if a pattern supporting the API contains a target placeholder.
+     */
+    @Test
+    void targetSpecificUrls() {
+        final UrlProtocol proto = new UrlProtocol();
+        proto.setSupports(List.of(ApiType.DMF));
+        proto.setRef("{protocol}://{hostname}:{port}/fw/{tenant}/sha1/{artifactSHA1}");
+        properties.getProtocols().put("download-http", proto);
+        assertThat(urlHandlerUnderTest.isTargetSpecific(ApiType.DMF)).isFalse();
+
+        final UrlProtocol targetSpecificProto = new UrlProtocol();
+        targetSpecificProto.setSupports(List.of(ApiType.DDI));
+        targetSpecificProto.setRef("{protocol}://{hostname}:{port}/fws/{tenant}/{targetIdBase62}/{artifactIdBase62}");
+        properties.getProtocols().put("download-ddi", targetSpecificProto);
+        assertThat(urlHandlerUnderTest.isTargetSpecific(ApiType.DMF)).isFalse();
+        assertThat(urlHandlerUnderTest.isTargetSpecific(ApiType.DDI)).isTrue();
+
+        properties.getProtocols().put("download-default", new UrlProtocol());
+        assertThat(urlHandlerUnderTest.isTargetSpecific(ApiType.DMF)).isTrue();
+    }
+
     /**
      * Verifies that if default protocol port in request is used then url is returned without port
      */
@@ -222,4 +244,24 @@ class PropertyBasedArtifactUrlHandlerTest {
                         "http://host.bumlux.net/" + TENANT + "/controller/v1/" +
                                 CONTROLLER_ID + "/softwaremodules/" + SOFTWARE_MODULE_ID + "/artifacts/" + FILENAME_ENCODE));
     }
-}
\ No newline at end of file
+
+    /**
+     * Verifies that unknown placeholders, placeholders without value and port placeholders without preceding ':' are
+     * kept as they are, and that a placeholder could be used multiple times.
+     */
+    @Test
+    void urlGenerationKeepsUnresolvedPlaceholders() {
+        final UrlProtocol proto = new UrlProtocol();
+        proto.setPort(null);
+        proto.setRef("{protocol}://{hostname}:{port}/{unknown}/{port}/{targetIdBase62}/{tenant}/{tenant}{");
+        properties.getProtocols().put("download-http", proto);
+
+        final URLPlaceholder noTargetPlaceHolder = new URLPlaceholder(
+                TENANT, TENANT_ID, CONTROLLER_ID, null,
+                new SoftwareData(SOFTWARE_MODULE_ID, FILENAME_DECODE, ARTIFACT_ID, SHA1HASH));
+        assertThat(urlHandlerUnderTest.getUrls(noTargetPlaceHolder, ApiType.DDI)).containsExactly(
+                new ArtifactUrl(
+                        "http".toUpperCase(), "download-http",
+                        "http://localhost/{unknown}/{port}/{targetIdBase62}/" + TENANT + "/" + TENANT + "{"));
+    }
+}
@@ -14,6 +14,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.util.Objects;
 
 import jakarta.validation.constraints.NotNull;
@@ -49,4 +50,9 @@ public class ArtifactFilesystem extends AbstractDbArtifact {
             throw new ArtifactFileNotFoundException(e);
         }
     }
+
+    @Override
+    public Path getFilePath() {
+        return file.toPath();
+    }
 }
\ No newline at end of file
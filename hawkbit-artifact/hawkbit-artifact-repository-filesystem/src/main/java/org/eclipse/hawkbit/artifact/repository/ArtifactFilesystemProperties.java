@@ -23,4 +23,10 @@ public class ArtifactFilesystemProperties {
      * The base-path of the directory to store the artifacts.
      */
     private String path = "./artifactrepo";
+
+    /**
+     * Calculate the hashes (SHA-1, MD5, SHA-256) of uploaded artifacts in parallel instead of sequentially by the
+     * uploading thread.
+     */
+    private boolean parallelDigest = false;
 }
\ No newline at end of file
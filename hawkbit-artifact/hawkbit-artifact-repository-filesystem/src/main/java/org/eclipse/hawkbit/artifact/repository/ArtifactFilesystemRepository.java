@@ -43,6 +43,7 @@ public class ArtifactFilesystemRepository extends AbstractArtifactRepository {
      * @param artifactResourceProperties the properties which holds the necessary configuration for the file-system repository
      */
     public ArtifactFilesystemRepository(final ArtifactFilesystemProperties artifactResourceProperties) {
+        super(artifactResourceProperties.isParallelDigest());
         this.artifactResourceProperties = artifactResourceProperties;
     }
 
@@ -14,6 +14,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 import java.util.Random;
 
 import lombok.extern.slf4j.Slf4j;
@@ -121,6 +125,36 @@ class ArtifactFilesystemRepositoryTest {
         }
     }
 
+    /**
+     * Verifies that the hashes calculated in parallel are the same as the sequentially calculated ones
+     */
+    @Test
+    void storeWithParallelDigestSuccessfully() throws IOException, NoSuchAlgorithmException {
+        final ArtifactFilesystemProperties parallelProperties = new ArtifactFilesystemProperties();
+        parallelProperties.setPath(artifactResourceProperties.getPath());
+        parallelProperties.setParallelDigest(true);
+        final ArtifactFilesystemRepository parallelRepository = new ArtifactFilesystemRepository(parallelProperties);
+
+        // more than a couple of buffers, not aligned
+        final byte[] fileContent = new byte[3 * 1024 * 1024 + 17];
+        new Random().nextBytes(fileContent);
+        final AbstractDbArtifact artifact;
+        try (final ByteArrayInputStream inputStream = new ByteArrayInputStream(fileContent)) {
+            artifact = parallelRepository.store(TENANT, inputStream, "filename.tmp", "application/txt", null);
+        }
+
+        final HexFormat hexFormat = HexFormat.of().withLowerCase();
+        assertThat(artifact.getHashes().getSha1())
+                .isEqualTo(hexFormat.formatHex(MessageDigest.getInstance("SHA1").digest(fileContent)));
+        assertThat(artifact.getHashes().getMd5())
+                .isEqualTo(hexFormat.formatHex(MessageDigest.getInstance("MD5").digest(fileContent)));
+        assertThat(artifact.getHashes().getSha256())
+                .isEqualTo(hexFormat.formatHex(MessageDigest.getInstance("SHA-256").digest(fileContent)));
+        try (final InputStream stored = artifact.getFileInputStream()) {
+            assertThat(stored.readAllBytes()).isEqualTo(fileContent);
+        }
+    }
+
     private static byte[] randomBytes() {
         final byte[] randomBytes = new byte[20];
         new Random().nextBytes(randomBytes);
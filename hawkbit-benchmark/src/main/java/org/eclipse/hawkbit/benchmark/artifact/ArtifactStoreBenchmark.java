@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark.artifact;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.io.FileUtils;
+import org.eclipse.hawkbit.artifact.repository.ArtifactFilesystemProperties;
+import org.eclipse.hawkbit.artifact.repository.ArtifactFilesystemRepository;
+import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Throughput of storing an artifact (temp file write and SHA-1, MD5, SHA-256 calculation) with the sequential digest
+ * chain compared to the parallel digest calculation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+public class ArtifactStoreBenchmark {
+
+    private static final String TENANT = "BENCHMARK";
+
+    @Param({ "false", "true" })
+    private boolean parallelDigest;
+
+    @Param({ "1048576", "67108864", "268435456" })
+    private int size;
+
+    private Path path;
+    private ArtifactFilesystemRepository repository;
+    private byte[] content;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        path = Files.createTempDirectory("benchmark");
+        final ArtifactFilesystemProperties properties = new ArtifactFilesystemProperties();
+        properties.setPath(path.toString());
+        properties.setParallelDigest(parallelDigest);
+        repository = new ArtifactFilesystemRepository(properties);
+
+        content = new byte[size];
+        new Random(size).nextBytes(content);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        FileUtils.deleteDirectory(path.toFile());
+    }
+
+    @Benchmark
+    public AbstractDbArtifact store() {
+        final AbstractDbArtifact artifact = repository.store(
+                TENANT, new ByteArrayInputStream(content), "artifact", "application/octet-stream", null);
+        // don't benchmark the deduplication of already existing artifacts
+        repository.deleteBySha1(TENANT, artifact.getHashes().getSha1());
+        return artifact;
+    }
+}
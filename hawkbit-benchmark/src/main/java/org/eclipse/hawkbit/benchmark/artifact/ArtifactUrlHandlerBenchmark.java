@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark.artifact;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.artifact.repository.urlhandler.ApiType;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrl;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrlHandlerProperties;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrlHandlerProperties.UrlProtocol;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.PropertyBasedArtifactUrlHandler;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.URLPlaceholder;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.URLPlaceholder.SoftwareData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * Cost of generating the artifact download URLs with the compiled url patterns of the
+ * {@link PropertyBasedArtifactUrlHandler} compared to the former replace map based generation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ArtifactUrlHandlerBenchmark {
+
+    private static final URLPlaceholder PLACEHOLDER = new URLPlaceholder("DEFAULT", 1L, "device-0001", 4711L,
+            new SoftwareData(815L, "firmware image v1.2.bin", 4712L, "6f1ed002ab5595859014ebf0951522d9"));
+
+    private UrlProtocol protocol;
+    private PropertyBasedArtifactUrlHandler urlHandler;
+
+    @Setup
+    public void setup() {
+        final ArtifactUrlHandlerProperties properties = new ArtifactUrlHandlerProperties();
+        protocol = new UrlProtocol();
+        properties.getProtocols().put("download-http", protocol);
+        urlHandler = new PropertyBasedArtifactUrlHandler(properties, "/");
+    }
+
+    @Benchmark
+    public List<ArtifactUrl> compiled() {
+        return urlHandler.getUrls(PLACEHOLDER, ApiType.DDI);
+    }
+
+    @Benchmark
+    public String replaceMap() {
+        return ReplaceMapUrlGenerator.generateUrl(protocol, PLACEHOLDER, null, "");
+    }
+
+    /**
+     * The former url generation - builds the map of all placeholders and replaces them one by one.
+     */
+    private static final class ReplaceMapUrlGenerator {
+
+        private static String generateUrl(final UrlProtocol protocol, final URLPlaceholder placeholder,
+                final URI requestUri, final String contextPath) {
+            String urlPattern = protocol.getRef();
+            for (final Map.Entry<String, String> entry : getReplaceMap(protocol, placeholder, requestUri,
+                    contextPath).entrySet()) {
+                if (List.of("port", "portRequest").contains(entry.getKey())) {
+                    urlPattern = urlPattern.replace(":{" + entry.getKey() + "}",
+                            ObjectUtils.isEmpty(entry.getValue()) ? "" : (":" + entry.getValue()));
+                } else if (entry.getValue() != null) {
+                    urlPattern = urlPattern.replace("{" + entry.getKey() + "}", entry.getValue());
+                }
+            }
+            return urlPattern;
+        }
+
+        private static Map<String, String> getReplaceMap(final UrlProtocol protocol, final URLPlaceholder placeholder,
+                final URI requestUri, final String contextPath) {
+            final Map<String, String> replaceMap = new HashMap<>();
+            replaceMap.put("ip", protocol.getIp());
+            replaceMap.put("hostname", protocol.getHostname());
+            replaceMap.put("hostnameRequest", requestUri == null ? protocol.getHostname() : requestUri.getHost());
+            replaceMap.put("portRequest", requestUri == null ? String.valueOf(protocol.getPort()) : "");
+            replaceMap.put("domainRequest", protocol.getHostname());
+            replaceMap.put("protocolRequest", requestUri == null ? protocol.getProtocol() : requestUri.getScheme());
+            replaceMap.put("contextPath", contextPath);
+            replaceMap.put("artifactFileName",
+                    URLEncoder.encode(placeholder.getSoftwareData().getFilename(), StandardCharsets.UTF_8));
+            replaceMap.put("artifactSHA1", placeholder.getSoftwareData().getSha1Hash());
+            replaceMap.put("protocol", protocol.getProtocol());
+            replaceMap.put("port", String.valueOf(protocol.getPort()));
+            replaceMap.put("tenant", placeholder.getTenant());
+            replaceMap.put("tenantId", String.valueOf(placeholder.getTenantId()));
+            replaceMap.put("tenantIdBase62", base62(placeholder.getTenantId()));
+            replaceMap.put("controllerId", placeholder.getControllerId());
+            replaceMap.put("targetId", String.valueOf(placeholder.getTargetId()));
+            replaceMap.put("targetIdBase62", base62(placeholder.getTargetId()));
+            replaceMap.put("artifactIdBase62", base62(placeholder.getSoftwareData().getArtifactId()));
+            replaceMap.put("artifactId", String.valueOf(placeholder.getSoftwareData().getArtifactId()));
+            replaceMap.put("softwareModuleId", String.valueOf(placeholder.getSoftwareData().getSoftwareModuleId()));
+            replaceMap.put("softwareModuleIdBase62", base62(placeholder.getSoftwareData().getSoftwareModuleId()));
+            return replaceMap;
+        }
+
+        // equivalent to the (package private) Base62Util
+        private static String base62(final long value) {
+            final String alphabet = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+            final StringBuilder result = new StringBuilder();
+            long remaining = value;
+            do {
+                result.append(alphabet.charAt((int) (remaining % 62)));
+                remaining /= 62;
+            } while (remaining > 0);
+            return result.reverse().toString();
+        }
+    }
+}
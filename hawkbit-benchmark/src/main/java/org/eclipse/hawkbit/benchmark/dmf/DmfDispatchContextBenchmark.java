@@ -0,0 +1,147 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark.dmf;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.hawkbit.amqp.DmfDispatchContext;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrlHandler;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrlHandlerProperties;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrlHandlerProperties.UrlProtocol;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.PropertyBasedArtifactUrlHandler;
+import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
+import org.eclipse.hawkbit.repository.model.SoftwareModuleType;
+import org.eclipse.hawkbit.repository.model.TenantMetaData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Per target cost of building the DMF software modules of a distribution set (3 modules with 4 artifacts and 5 metadata
+ * each) for a batch of targets:
+ * <ul>
+ *     <li>{@code perTarget} - the software modules are assembled for every target, as done before the
+ *     {@link DmfDispatchContext} (without the tenant metadata and software module metadata queries per target)</li>
+ *     <li>{@code perDispatch} - one context per dispatch, the artifact URLs are target specific (default pattern)</li>
+ *     <li>{@code perDispatchTargetIndependentUrls} - one context per dispatch, the artifact URLs don't depend on the target</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DmfDispatchContextBenchmark {
+
+    private static final int TARGETS = 100;
+
+    private final Supplier<TenantMetaData> tenantMetadata =
+            () -> stub(TenantMetaData.class, Map.of("getTenant", "DEFAULT", "getId", 1L));
+    private Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules;
+    private ArtifactUrlHandler urlHandler;
+    private ArtifactUrlHandler targetIndependentUrlHandler;
+
+    @Setup
+    public void setup() {
+        final ArtifactUrlHandlerProperties properties = new ArtifactUrlHandlerProperties();
+        properties.getProtocols().put("download-http", new UrlProtocol());
+        urlHandler = new PropertyBasedArtifactUrlHandler(properties, "/");
+
+        final ArtifactUrlHandlerProperties targetIndependentProperties = new ArtifactUrlHandlerProperties();
+        final UrlProtocol targetIndependentProtocol = new UrlProtocol();
+        targetIndependentProtocol.setRef("{protocol}://{hostname}:{port}{contextPath}/{tenant}/sha1/{artifactSHA1}");
+        targetIndependentProperties.getProtocols().put("download-http", targetIndependentProtocol);
+        targetIndependentUrlHandler = new PropertyBasedArtifactUrlHandler(targetIndependentProperties, "/");
+
+        softwareModules = new LinkedHashMap<>();
+        for (long moduleId = 1; moduleId <= 3; moduleId++) {
+            final List<Artifact> artifacts = new ArrayList<>();
+            final SoftwareModule module = stub(SoftwareModule.class, Map.of(
+                    "getId", moduleId,
+                    "getType", stub(SoftwareModuleType.class, Map.of("getKey", "type" + moduleId)),
+                    "getVersion", "1.0." + moduleId,
+                    "isEncrypted", false,
+                    "getArtifacts", artifacts));
+            for (long artifactId = 1; artifactId <= 4; artifactId++) {
+                artifacts.add(stub(Artifact.class, Map.of(
+                        "getId", moduleId * 10 + artifactId,
+                        "getFilename", "firmware image " + moduleId + "-" + artifactId + ".bin",
+                        "getSha1Hash", "6f1ed002ab5595859014ebf0951522d9" + moduleId + artifactId,
+                        "getMd5Hash", "6f1ed002ab5595859014ebf0951522d9",
+                        "getSize", 1024L * 1024L,
+                        "getLastModifiedAt", 1_700_000_000_000L,
+                        "getSoftwareModule", module)));
+            }
+            final List<SoftwareModuleMetadata> metadata = new ArrayList<>();
+            for (int i = 1; i <= 5; i++) {
+                metadata.add(stub(SoftwareModuleMetadata.class, Map.of("getKey", "key" + i, "getValue", "value" + i)));
+            }
+            softwareModules.put(module, metadata);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TARGETS)
+    public void perTarget(final Blackhole blackhole) {
+        for (int i = 0; i < TARGETS; i++) {
+            final DmfDispatchContext dispatchContext = new DmfDispatchContext(urlHandler, tenantMetadata, softwareModules);
+            blackhole.consume(dispatchContext.getSoftwareModules("device-" + i, (long) i));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TARGETS)
+    public void perDispatch(final Blackhole blackhole) {
+        dispatch(urlHandler, blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TARGETS)
+    public void perDispatchTargetIndependentUrls(final Blackhole blackhole) {
+        dispatch(targetIndependentUrlHandler, blackhole);
+    }
+
+    private void dispatch(final ArtifactUrlHandler artifactUrlHandler, final Blackhole blackhole) {
+        final DmfDispatchContext dispatchContext = new DmfDispatchContext(artifactUrlHandler, tenantMetadata, softwareModules);
+        for (int i = 0; i < TARGETS; i++) {
+            blackhole.consume(dispatchContext.getSoftwareModules("device-" + i, (long) i));
+        }
+    }
+
+    // the repository model is available as interfaces only, values by getter name
+    @SuppressWarnings("unchecked")
+    private static <T> T stub(final Class<T> type, final Map<String, Object> values) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> type.getSimpleName() + values;
+                    default -> values.get(method.getName());
+                });
+    }
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark.dmf;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.amqp.AmqpProperties;
+import org.eclipse.hawkbit.amqp.DmfMessageConverter;
+import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.eclipse.hawkbit.dmf.json.model.DmfActionStatus;
+import org.eclipse.hawkbit.dmf.json.model.DmfActionUpdateStatus;
+import org.eclipse.hawkbit.dmf.json.model.DmfArtifact;
+import org.eclipse.hawkbit.dmf.json.model.DmfArtifactHash;
+import org.eclipse.hawkbit.dmf.json.model.DmfDownloadAndUpdateRequest;
+import org.eclipse.hawkbit.dmf.json.model.DmfMetadata;
+import org.eclipse.hawkbit.dmf.json.model.DmfMultiActionRequest;
+import org.eclipse.hawkbit.dmf.json.model.DmfMultiActionRequest.DmfMultiActionElement;
+import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+/**
+ * Encoding and decoding throughput of representative DMF messages with the {@link DmfMessageConverter}:
+ * <ul>
+ *     <li>{@code encodeMultiAction} / {@code decodeMultiAction} - a multi action request with 3 actions, each with 3 software
+ *     modules with 4 artifacts and 5 metadata, as sent to the devices</li>
+ *     <li>{@code roundTripActionStatus} - an action status update, as received from the devices</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DmfMessageConverterBenchmark {
+
+    @Param({ "application/json", "application/cbor" })
+    private String contentType;
+
+    @Param({ "-1", "1024" })
+    private int compressionThreshold;
+
+    private DmfMessageConverter converter;
+    private DmfMultiActionRequest multiActionRequest;
+    private Message multiActionMessage;
+    private DmfActionUpdateStatus actionStatus;
+
+    @Setup
+    public void setup() {
+        final AmqpProperties.Encoding encoding = new AmqpProperties.Encoding();
+        encoding.setCompressionThreshold(compressionThreshold);
+        converter = new DmfMessageConverter(encoding);
+
+        multiActionRequest = createMultiActionRequest();
+        multiActionMessage = encodeMultiAction();
+        actionStatus = new DmfActionUpdateStatus(
+                42L, DmfActionStatus.DOWNLOADED, System.currentTimeMillis(), 7L, List.of("Downloaded firmware image 7"), 200);
+    }
+
+    @Benchmark
+    public Message encodeMultiAction() {
+        return converter.toMessage(multiActionRequest, createProperties());
+    }
+
+    @Benchmark
+    public Object decodeMultiAction() {
+        return converter.fromMessage(new Message(multiActionMessage.getBody(), copy(multiActionMessage.getMessageProperties())));
+    }
+
+    @Benchmark
+    public Object roundTripActionStatus() {
+        return converter.fromMessage(converter.toMessage(actionStatus, createProperties()));
+    }
+
+    // encoded as the client does, see DmfMessageConverter#toMessage(Object, MessageProperties, URI)
+    private MessageProperties createProperties() {
+        final MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setContentType(contentType);
+        messageProperties.setHeader(MessageHeaderKey.CONTENT_TYPE, contentType);
+        messageProperties.setHeader(MessageHeaderKey.TENANT, "DEFAULT");
+        messageProperties.setHeader(MessageHeaderKey.THING_ID, "device-1");
+        return messageProperties;
+    }
+
+    // decompression changes the properties (content encoding)
+    private static MessageProperties copy(final MessageProperties messageProperties) {
+        final MessageProperties copy = new MessageProperties();
+        copy.setContentType(messageProperties.getContentType());
+        copy.setContentEncoding(messageProperties.getContentEncoding());
+        messageProperties.getHeaders().forEach(copy::setHeader);
+        return copy;
+    }
+
+    private static DmfMultiActionRequest createMultiActionRequest() {
+        final List<DmfMultiActionElement> elements = new ArrayList<>();
+        for (long actionId = 1; actionId <= 3; actionId++) {
+            final List<DmfSoftwareModule> modules = new ArrayList<>();
+            for (long moduleId = 1; moduleId <= 3; moduleId++) {
+                final List<DmfArtifact> artifacts = new ArrayList<>();
+                for (long artifactId = 1; artifactId <= 4; artifactId++) {
+                    final String path = "/DEFAULT/controller/v1/device-1/softwaremodules/" + moduleId + "/artifacts/image-" + artifactId;
+                    artifacts.add(new DmfArtifact(
+                            "image-" + artifactId + ".bin",
+                            new DmfArtifactHash("6f1ed002ab5595859014ebf0951522d9e0f1ed00", "6f1ed002ab5595859014ebf0951522d9"),
+                            16L * 1024 * 1024, 1_700_000_000_000L,
+                            Map.of("HTTP", "http://localhost:8080" + path, "HTTPS", "https://localhost:8443" + path)));
+                }
+                final List<DmfMetadata> metadata = new ArrayList<>();
+                for (int i = 1; i <= 5; i++) {
+                    metadata.add(new DmfMetadata("key" + i, "value" + i));
+                }
+                modules.add(new DmfSoftwareModule(moduleId, "os", "1.0." + moduleId, null, artifacts, metadata));
+            }
+            elements.add(new DmfMultiActionElement(
+                    EventTopic.DOWNLOAD_AND_INSTALL, new DmfDownloadAndUpdateRequest(actionId, "securityToken" + actionId, modules), 500));
+        }
+        return new DmfMultiActionRequest(elements);
+    }
+}
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark.repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.management.AbstractDsAssignmentStrategy;
+import org.eclipse.hawkbit.repository.jpa.management.OnlineDsAssignmentStrategy;
+import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.model.TargetWithActionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Cost of creating the actions of a distribution set assignment with {@link AbstractDsAssignmentStrategy#createTargetActions}, as
+ * done by the deployment management - the requested targets are matched with the existing (found) targets by controller id and 10%
+ * of the requested targets don't exist. The database round trips are not part of the benchmark, the (online) assignment strategy
+ * is created without repositories.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class DeploymentAssignmentBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int targets;
+
+    private AbstractDsAssignmentStrategy assignmentStrategy;
+    private JpaDistributionSet distributionSet;
+    private List<TargetWithActionType> requested;
+    private List<JpaTarget> found;
+
+    @Setup
+    public void setup() {
+        assignmentStrategy = new OnlineDsAssignmentStrategy(
+                null, null, null, null, null, () -> false, () -> false, new RepositoryProperties());
+        distributionSet = new JpaDistributionSet();
+        requested = IntStream.range(0, targets).mapToObj(i -> new TargetWithActionType("controller-" + i)).toList();
+        final List<JpaTarget> shuffled = new ArrayList<>(IntStream.range(0, targets)
+                .filter(i -> i % 10 != 0)
+                .mapToObj(i -> new JpaTarget("controller-" + i, "token"))
+                .toList());
+        Collections.shuffle(shuffled);
+        found = shuffled;
+    }
+
+    @Benchmark
+    public void createTargetActions(final Blackhole blackhole) {
+        blackhole.consume(assignmentStrategy.createTargetActions("benchmark", requested, found, distributionSet));
+    }
+}
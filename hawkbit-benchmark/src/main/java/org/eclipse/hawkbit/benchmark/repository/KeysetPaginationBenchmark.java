@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark.repository;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Latency of reading a page of 50 targets, sorted by controller id (the default sort of the target listing), at a given page depth
+ * from an in-memory H2 table with 200.000 targets and an index on (controller id, id):
+ * <ul>
+ *     <li>{@code offset} - the page is read with offset / limit, so the database reads and discards all the preceding rows and
+ *     the latency grows with the page depth</li>
+ *     <li>{@code keyset} - the page is read after the sort key of the last entry of the previous page, with the predicate built by
+ *     the keyset specification, so the database seeks to the page start by index and the latency is flat</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class KeysetPaginationBenchmark {
+
+    private static final int TARGETS = 200_000;
+    private static final int PAGE_SIZE = 50;
+
+    @Param({ "0", "10000", "100000", "199950" })
+    private int depth;
+
+    private Connection connection;
+    private PreparedStatement offsetQuery;
+    private PreparedStatement keysetQuery;
+    private String lastControllerId;
+    private long lastId;
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:keyset;DB_CLOSE_DELAY=-1");
+        try (final Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS sp_target");
+            statement.execute("CREATE TABLE sp_target (id BIGINT PRIMARY KEY, controller_id VARCHAR(256) NOT NULL, name VARCHAR(128))");
+            statement.execute("CREATE INDEX sp_idx_target_controller_id ON sp_target (controller_id, id)");
+            statement.execute("INSERT INTO sp_target SELECT x, 'controller-' || LPAD(x, 7, '0'), 'target-' || x FROM SYSTEM_RANGE(1, " +
+                    TARGETS + ")");
+        }
+        offsetQuery = connection.prepareStatement("SELECT id, controller_id, name FROM sp_target ORDER BY controller_id, id LIMIT ? OFFSET ?");
+        keysetQuery = connection.prepareStatement("SELECT id, controller_id, name FROM sp_target " +
+                "WHERE controller_id >= ? AND (controller_id > ? OR (controller_id = ? AND id > ?)) ORDER BY controller_id, id LIMIT ?");
+
+        // the sort key of the last entry of the previous page, as encoded in the paging cursor
+        try (final PreparedStatement previous = connection.prepareStatement(
+                "SELECT id, controller_id FROM sp_target ORDER BY controller_id, id LIMIT 1 OFFSET ?")) {
+            previous.setInt(1, Math.max(depth - 1, 0));
+            try (final ResultSet resultSet = previous.executeQuery()) {
+                resultSet.next();
+                lastId = depth == 0 ? 0 : resultSet.getLong(1);
+                lastControllerId = depth == 0 ? "" : resultSet.getString(2);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public void offset(final Blackhole blackhole) throws SQLException {
+        offsetQuery.setInt(1, PAGE_SIZE);
+        offsetQuery.setInt(2, depth);
+        consume(offsetQuery, blackhole);
+    }
+
+    @Benchmark
+    public void keyset(final Blackhole blackhole) throws SQLException {
+        keysetQuery.setString(1, lastControllerId);
+        keysetQuery.setString(2, lastControllerId);
+        keysetQuery.setString(3, lastControllerId);
+        keysetQuery.setLong(4, lastId);
+        keysetQuery.setInt(5, PAGE_SIZE);
+        consume(keysetQuery, blackhole);
+    }
+
+    private static void consume(final PreparedStatement query, final Blackhole blackhole) throws SQLException {
+        try (final ResultSet resultSet = query.executeQuery()) {
+            while (resultSet.next()) {
+                blackhole.consume(resultSet.getLong(1));
+                blackhole.consume(resultSet.getString(2));
+                blackhole.consume(resultSet.getString(3));
+            }
+        }
+    }
+}
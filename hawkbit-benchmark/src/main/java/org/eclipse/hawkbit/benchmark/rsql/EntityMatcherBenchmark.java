@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark.rsql;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.repository.jpa.ql.CompiledEntityMatcher;
+import org.eclipse.hawkbit.repository.jpa.ql.EntityMatcher;
+import org.eclipse.hawkbit.repository.jpa.ql.Node;
+import org.eclipse.hawkbit.repository.jpa.rsql.RsqlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of matching a loaded target-like entity in-memory against typical (already parsed) target filter queries:
+ * <ul>
+ *     <li>{@code reflective} - the {@link EntityMatcher} resolves the getters and converts the values on each match</li>
+ *     <li>{@code compiled} - the {@link CompiledEntityMatcher} is compiled once and reused, as done by the auto assign checker</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EntityMatcherBenchmark {
+
+    @Param({
+            "name==target*",
+            "updateStatus==PENDING and (tags.name==beta or tags.name==canary) and attributes.hw_version=in=(1.0,1.1,2.0)",
+            "type.key==gateway and lastRequestAt=lt=1000 and attributes.region!=eu"
+    })
+    private String rsql;
+
+    private final Entity entity = new Entity(
+            "target-1", Status.PENDING, 500L, Set.of(new Tag("canary")), Map.of("hw_version", "1.1", "region", "us"), new Type("gateway"));
+    private EntityMatcher reflective;
+    private CompiledEntityMatcher<Entity> compiled;
+
+    @Setup
+    public void setup() {
+        final Node node = RsqlParser.parse(rsql);
+        reflective = EntityMatcher.forNode(node);
+        compiled = CompiledEntityMatcher.compile(node, Entity.class, true);
+    }
+
+    @Benchmark
+    public boolean reflective() {
+        return reflective.match(entity);
+    }
+
+    @Benchmark
+    public boolean compiled() {
+        return compiled.match(entity);
+    }
+
+    public enum Status {
+        PENDING, IN_SYNC
+    }
+
+    public record Tag(String name) {
+
+        public String getName() {
+            return name;
+        }
+    }
+
+    public record Type(String key) {
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    public record Entity(String name, Status updateStatus, Long lastRequestAt, Set<Tag> tags, Map<String, String> attributes, Type type) {
+
+        public String getName() {
+            return name;
+        }
+
+        public Status getUpdateStatus() {
+            return updateStatus;
+        }
+
+        public Long getLastRequestAt() {
+            return lastRequestAt;
+        }
+
+        public Set<Tag> getTags() {
+            return tags;
+        }
+
+        public Map<String, String> getAttributes() {
+            return attributes;
+        }
+
+        public Type getType() {
+            return type;
+        }
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.benchmark.rsql;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.repository.TargetFields;
+import org.eclipse.hawkbit.repository.jpa.ql.Node;
+import org.eclipse.hawkbit.repository.jpa.rsql.RsqlNodeCache;
+import org.eclipse.hawkbit.repository.jpa.rsql.RsqlParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Cost of getting the {@link Node} tree of typical target filter queries (with resolved target fields):
+ * <ul>
+ *     <li>{@code cold} - the query is parsed and the fields are resolved, as done without the {@link RsqlNodeCache}</li>
+ *     <li>{@code warm} - the query is taken from the {@link RsqlNodeCache}</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class RsqlParseBenchmark {
+
+    @Param({
+            "name==target*",
+            "updatestatus==pending and (tag==beta or tag==canary) and attribute.hw_version=in=(1.0,1.1,2.0)",
+            "targettype.key==gateway and assignedds.name==firmware and assignedds.version=lt=2.0 and lastcontrollerrequestat=le=${overdue_ts}"
+    })
+    private String rsql;
+
+    private RsqlNodeCache cache;
+
+    @Setup
+    public void setup() {
+        cache = RsqlNodeCache.init(RsqlNodeCache.DEFAULT_SIZE, Optional.empty());
+        warm();
+    }
+
+    @Benchmark
+    public Node cold() {
+        return RsqlParser.parse(rsql, TargetFields.class);
+    }
+
+    @Benchmark
+    public Node warm() {
+        return cache.get(rsql, TargetFields.class, () -> RsqlParser.parse(rsql, TargetFields.class));
+    }
+}
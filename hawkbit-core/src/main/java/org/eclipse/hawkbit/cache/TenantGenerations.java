@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.cache;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per tenant invalidation generations of a near cache. A value is put with the generation of its tenant taken before the value
+ * has been loaded - if the tenant has been {@link #invalidate(String) invalidated} in between, the value is dropped:
+ * <pre>
+ * final long generation = generations.get(tenant);
+ * final Object value = load();
+ * if (generations.isCurrent(tenant, generation)) {
+ *     cache.put(key, value);
+ *     // invalidated while putting - the invalidation could have been missed
+ *     if (!generations.isCurrent(tenant, generation)) {
+ *         cache.invalidate(key);
+ *     }
+ * }
+ * </pre>
+ * The tenants are {@link #normalize(String) normalized}, i.e. a tenant could be passed in any case.
+ */
+public class TenantGenerations {
+
+    private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    /**
+     * Tenants are stored upper case (see {@code AbstractJpaTenantAwareBaseEntity}), i.e. the tenant of an event could differ in
+     * case from the current tenant. The tenant aware caches shall key the tenants normalized by this method.
+     *
+     * @param tenant the tenant
+     * @return the tenant as stored
+     */
+    public static String normalize(final String tenant) {
+        return tenant.toUpperCase();
+    }
+
+    /**
+     * @param tenant the tenant
+     * @return the current invalidation generation of the tenant
+     */
+    public long get(final String tenant) {
+        return generation(tenant).get();
+    }
+
+    /**
+     * @param tenant the tenant
+     * @param generation the invalidation generation taken (see {@link #get(String)}) before loading the value
+     * @return {@code true} if the tenant has not been invalidated since the generation has been taken
+     */
+    public boolean isCurrent(final String tenant, final long generation) {
+        return generation(tenant).get() == generation;
+    }
+
+    /**
+     * Invalidates the values of the tenant which are loaded (but not put) yet. The already cached values have to be evicted by
+     * the caller.
+     *
+     * @param tenant the tenant
+     */
+    public void invalidate(final String tenant) {
+        generation(tenant).incrementAndGet();
+    }
+
+    private AtomicLong generation(final String tenant) {
+        return generations.computeIfAbsent(normalize(tenant), t -> new AtomicLong());
+    }
+}
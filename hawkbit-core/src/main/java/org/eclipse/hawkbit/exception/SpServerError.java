@@ -41,6 +41,9 @@ public enum SpServerError {
     SP_REPO_CONCURRENT_MODIFICATION(
             "hawkbit.server.error.repo.concurrentModification",
             "The given entity has been changed by another user/session"),
+    SP_REPO_TOO_MANY_TARGET_UPDATES(
+            "hawkbit.server.error.repo.tooManyTargetUpdates",
+            "Too many target updates are pending, the request shall be retried later"),
     SP_TARGET_ATTRIBUTES_INVALID(
             "hawkbit.server.error.repo.invalidTargetAttributes",
             "The given target attributes are invalid"),
@@ -59,6 +62,12 @@ public enum SpServerError {
     SP_REST_SORT_PARAM_INVALID_DIRECTION(
             "hawkbit.server.error.rest.param.invalidDirection",
             "The given sort parameter direction does not exist"),
+    SP_REST_PAGING_CURSOR_INVALID(
+            "hawkbit.server.error.rest.param.pagingCursorInvalid",
+            "The given paging cursor is not well formed or not supported for the sort order"),
+    SP_REST_PAGING_TOTAL_INVALID(
+            "hawkbit.server.error.rest.param.pagingTotalInvalid",
+            "The given paging total mode is not supported"),
     SP_REST_BODY_NOT_READABLE(
             "hawkbit.server.error.rest.body.notReadable",
             "The given request body is not well formed"),
@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import java.util.Objects;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.eclipse.hawkbit.cache.TenantGenerations;
+import org.eclipse.hawkbit.repository.event.remote.RemoteIdEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationUpdatedEvent;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Per tenant cache of the ETags of the controller base resources (see {@link DdiRootController#getControllerBase}), so that
+ * a conditional poll of a controller which resource hasn't changed could be answered without querying the target and its
+ * actions.
+ * <p/>
+ * The cached ETags are invalidated by the (remote) target, action and tenant configuration events. In order to not cache
+ * an ETag calculated from data which has been changed meanwhile, the ETags are put with the invalidation generation of the
+ * tenant, see {@link TenantGenerations}.
+ */
+public class ControllerBaseEtagCache implements ApplicationListener<RemoteTenantAwareEvent> {
+
+    private static final long DEFAULT_SIZE = 100_000;
+
+    private final TenantAware tenantAware;
+    // (tenant, controllerId) -> ETag
+    private final Cache<ControllerKey, CachedEtag> etags;
+    // (tenant, targetId) -> controllerId, in order to invalidate by the events that provide target id only
+    private final Cache<TargetKey, String> controllerIds;
+    private final TenantGenerations generations = new TenantGenerations();
+
+    /**
+     * @param tenantAware to get current tenant
+     * @param size the maximum number of cached ETags
+     */
+    public ControllerBaseEtagCache(final TenantAware tenantAware, final long size) {
+        this.tenantAware = tenantAware;
+        etags = Caffeine.newBuilder().maximumSize(size).build();
+        controllerIds = Caffeine.newBuilder().maximumSize(size).build();
+    }
+
+    /**
+     * @param tenantAware to get current tenant
+     */
+    public ControllerBaseEtagCache(final TenantAware tenantAware) {
+        this(tenantAware, DEFAULT_SIZE);
+    }
+
+    /**
+     * Returns the current invalidation generation of the current tenant. Shall be taken before reading the data the ETag is
+     * calculated of, and passed to {@link #put(String, long, String, String, String, long, long)}.
+     *
+     * @return the invalidation generation
+     */
+    public long generation() {
+        return generations.get(tenant());
+    }
+
+    /**
+     * Returns the cached ETag of the controller base resource of the given controller.
+     *
+     * @param controllerId of the target
+     * @param address the address of the target as it would be registered
+     * @param representation the requested representation of the resource (e.g. base URI of the links)
+     * @return the cached ETag or {@code null} if there is no (valid) one or the address or representation has changed
+     */
+    public String get(final String controllerId, final String address, final String representation) {
+        final String tenant = tenant();
+        final CachedEtag cached = etags.getIfPresent(new ControllerKey(tenant, controllerId));
+        if (cached == null || !Objects.equals(cached.address(), address) || !Objects.equals(cached.representation(), representation)
+                || System.currentTimeMillis() >= cached.validUntil()
+                // without the target id mapping the ETag can't be invalidated anymore
+                || !controllerId.equals(controllerIds.getIfPresent(new TargetKey(tenant, cached.targetId())))) {
+            return null;
+        }
+        return cached.etag();
+    }
+
+    /**
+     * Caches the ETag of the controller base resource of the given controller if the tenant has not been invalidated since
+     * the given generation has been taken.
+     *
+     * @param controllerId of the target
+     * @param targetId of the target
+     * @param address the address of the target
+     * @param representation the representation of the resource the ETag is calculated for
+     * @param etag the ETag
+     * @param validUntil time (in millis) until the resource is not changed by elapsing time (e.g. auto force time)
+     * @param generation the invalidation generation taken (see {@link #generation()}) before reading the resource data
+     */
+    public void put(final String controllerId, final long targetId, final String address, final String representation,
+            final String etag, final long validUntil, final long generation) {
+        final String tenant = tenant();
+        if (!generations.isCurrent(tenant, generation)) {
+            return;
+        }
+
+        final ControllerKey key = new ControllerKey(tenant, controllerId);
+        controllerIds.put(new TargetKey(tenant, targetId), controllerId);
+        etags.put(key, new CachedEtag(targetId, etag, address, representation, validUntil));
+        // invalidated while putting - the invalidation could have been missed
+        if (!generations.isCurrent(tenant, generation)) {
+            etags.invalidate(key);
+        }
+    }
+
+    @Override
+    public void onApplicationEvent(final RemoteTenantAwareEvent event) {
+        if (event instanceof TargetUpdatedEvent || event instanceof TargetDeletedEvent) {
+            invalidate(event.getTenant(), ((RemoteIdEvent) event).getEntityId());
+        } else if (event instanceof AbstractActionEvent actionEvent) {
+            if (actionEvent.getTargetId() != null) {
+                invalidate(event.getTenant(), actionEvent.getTargetId());
+            }
+        } else if (event instanceof TenantConfigurationCreatedEvent || event instanceof TenantConfigurationUpdatedEvent
+                || event instanceof TenantConfigurationDeletedEvent) {
+            // e.g. the polling time has been changed
+            evictCaches(event.getTenant());
+        }
+    }
+
+    /**
+     * The invalidation is cheap, so it is done synchronously by the event publishing thread - this way a change
+     * made by a request is visible by the ETags as soon as the request completes.
+     */
+    @Override
+    public boolean supportsAsyncExecution() {
+        return false;
+    }
+
+    /**
+     * Evicts all cached ETags of the given tenant.
+     *
+     * @param tenant the tenant to evict caches
+     */
+    public void evictCaches(final String tenant) {
+        final String normalizedTenant = TenantGenerations.normalize(tenant);
+        generations.invalidate(normalizedTenant);
+        etags.asMap().keySet().removeIf(key -> key.tenant().equals(normalizedTenant));
+        controllerIds.asMap().keySet().removeIf(key -> key.tenant().equals(normalizedTenant));
+    }
+
+    private void invalidate(final String tenant, final Long targetId) {
+        final String normalizedTenant = TenantGenerations.normalize(tenant);
+        generations.invalidate(normalizedTenant);
+        final String controllerId = controllerIds.getIfPresent(new TargetKey(normalizedTenant, targetId));
+        if (controllerId != null) {
+            etags.invalidate(new ControllerKey(normalizedTenant, controllerId));
+        }
+    }
+
+    private String tenant() {
+        return TenantGenerations.normalize(tenantAware.getCurrentTenant());
+    }
+
+    private record ControllerKey(String tenant, String controllerId) {}
+
+    private record TargetKey(String tenant, long targetId) {}
+
+    private record CachedEtag(long targetId, String etag, String address, String representation, long validUntil) {}
+}
@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.ddi.rest.resource;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 
@@ -31,6 +32,7 @@ import org.eclipse.hawkbit.ddi.rest.api.DdiRestConstants;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.ActionType;
 import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
@@ -42,6 +44,7 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.http.HttpRequest;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.DigestUtils;
 
 /**
  * Utility class for the DDI API.
@@ -129,6 +132,54 @@ public final class DataConversionHelper {
         return result;
     }
 
+    /**
+     * Calculates the ETag of the controller base resource (see {@link #fromTarget(Target, Action, Action, String, TenantAware)})
+     * based on the data the resource is built of.
+     *
+     * @param target the target
+     * @param installedAction the installed action, might be {@code null}
+     * @param activeAction the active action with the highest weight, might be {@code null}
+     * @param controllerPollTime the polling time of the controller
+     * @param representation the requested representation (e.g. base URI of the links)
+     * @return the (weak) ETag
+     */
+    static String calculateControllerBaseEtag(
+            final Target target, final Action installedAction, final Action activeAction, final String controllerPollTime,
+            final String representation) {
+        final StringBuilder state = new StringBuilder(representation).append(':')
+                .append(target.getId()).append(':').append(target.isRequestControllerAttributes()).append(':').append(controllerPollTime);
+        if (activeAction != null) {
+            state.append(":a").append(activeAction.getId()).append(':').append(activeAction.getStatus())
+                    .append(':').append(calculateEtag(activeAction));
+        }
+        if (installedAction != null && !installedAction.isActive()) {
+            state.append(":i").append(installedAction.getId());
+        }
+        // weak, since the representations of the different media types (e.g. JSON or CBOR) are semantically equivalent
+        return "W/\"" + DigestUtils.md5DigestAsHex(state.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Returns the time until the controller base resource doesn't change just by elapsing time, i.e. until its ETag could be
+     * reused as long as the underlying data is not changed.
+     *
+     * @param activeAction the active action with the highest weight, might be {@code null}
+     * @return the time in millis, {@code 0} if the resource changes continuously (e.g. polling time within maintenance window
+     *         schedule)
+     */
+    static long calculateControllerBaseValidUntil(final Action activeAction) {
+        if (activeAction == null) {
+            return Long.MAX_VALUE;
+        }
+        if (activeAction.hasMaintenanceSchedule() && !activeAction.isMaintenanceScheduleLapsed()) {
+            return 0;
+        }
+        if (activeAction.getActionType() == ActionType.TIMEFORCED && !activeAction.isHitAutoForceTime(System.currentTimeMillis())) {
+            return activeAction.getForcedTime();
+        }
+        return Long.MAX_VALUE;
+    }
+
     static List<DdiChunk> createChunks(
             final Target target, final Action uAction,
             final ArtifactUrlHandler artifactUrlHandler, final SystemManagement systemManagement,
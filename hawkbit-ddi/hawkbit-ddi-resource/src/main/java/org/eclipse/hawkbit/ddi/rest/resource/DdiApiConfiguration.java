@@ -11,6 +11,9 @@ package org.eclipse.hawkbit.ddi.rest.resource;
 
 import org.eclipse.hawkbit.rest.OpenApi;
 import org.eclipse.hawkbit.rest.RestConfiguration;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -24,4 +27,15 @@ import org.springframework.stereotype.Controller;
 @Configuration
 @ComponentScan
 @Import({ RestConfiguration.class, OpenApi.class, DdiOpenApiConfiguration.class })
-public class DdiApiConfiguration {}
+public class DdiApiConfiguration {
+
+    /**
+     * @param tenantAware to get current tenant
+     * @return the cache of the controller base resource ETags
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    ControllerBaseEtagCache controllerBaseEtagCache(final TenantAware tenantAware) {
+        return new ControllerBaseEtagCache(tenantAware);
+    }
+}
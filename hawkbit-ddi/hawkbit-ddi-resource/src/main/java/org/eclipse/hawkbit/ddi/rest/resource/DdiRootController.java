@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.ddi.rest.resource;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
@@ -81,6 +82,7 @@ import org.springframework.http.server.ServletServerHttpRequest;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.WebApplicationContext;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 /**
  * The {@link DdiRootController} of the hawkBit server DDI API that is queried by the hawkBit
@@ -106,6 +108,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
     private final HawkbitSecurityProperties securityProperties;
     private final TenantAware tenantAware;
     private final EntityFactory entityFactory;
+    private final ControllerBaseEtagCache controllerBaseEtagCache;
 
     @SuppressWarnings("java:S107")
     public DdiRootController(
@@ -113,7 +116,8 @@ public class DdiRootController implements DdiRootControllerRestApi {
             final ArtifactManagement artifactManagement, final ArtifactUrlHandler artifactUrlHandler,
             final SystemManagement systemManagement,
             final ApplicationEventPublisher eventPublisher,
-            final HawkbitSecurityProperties securityProperties, final TenantAware tenantAware, final EntityFactory entityFactory) {
+            final HawkbitSecurityProperties securityProperties, final TenantAware tenantAware, final EntityFactory entityFactory,
+            final ControllerBaseEtagCache controllerBaseEtagCache) {
         this.controllerManagement = controllerManagement;
         this.confirmationManagement = confirmationManagement;
         this.artifactManagement = artifactManagement;
@@ -123,6 +127,7 @@ public class DdiRootController implements DdiRootControllerRestApi {
         this.securityProperties = securityProperties;
         this.tenantAware = tenantAware;
         this.entityFactory = entityFactory;
+        this.controllerBaseEtagCache = controllerBaseEtagCache;
     }
 
     @Override
@@ -147,19 +152,42 @@ public class DdiRootController implements DdiRootControllerRestApi {
     public ResponseEntity<DdiControllerBase> getControllerBase(final String tenant, final String controllerId) {
         log.debug("getControllerBase({})", controllerId);
 
-        final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(
-                controllerId, IpUtil.getClientIpFromRequest(RequestResponseContextHolder.getHttpServletRequest(), securityProperties));
+        final HttpServletRequest request = RequestResponseContextHolder.getHttpServletRequest();
+        final URI address = IpUtil.getClientIpFromRequest(request, securityProperties);
+        // the links depend on the base URI of the request
+        final String representation = ServletUriComponentsBuilder.fromCurrentServletMapping().toUriString();
+
+        // fast path - the controller has the current resource, so just the poll is registered
+        final String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            final String cachedEtag = controllerBaseEtagCache.get(controllerId, address.toString(), representation);
+            if (cachedEtag != null && HttpUtil.matchesHttpHeader(ifNoneMatch, cachedEtag)) {
+                controllerManagement.registerPoll(controllerId);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cachedEtag).build();
+            }
+        }
+
+        final long etagGeneration = controllerBaseEtagCache.generation();
+        final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(controllerId, address);
         final Action activeAction = controllerManagement.findActiveActionWithHighestWeight(controllerId).orElse(null);
         final Action installedAction = controllerManagement.getInstalledActionByTarget(target).orElse(null);
 
         checkAndCancelExpiredAction(activeAction);
 
+        final String pollingTime = activeAction == null
+                ? controllerManagement.getPollingTime()
+                : controllerManagement.getPollingTimeForAction(activeAction);
+        final String etag = DataConversionHelper.calculateControllerBaseEtag(
+                target, installedAction, activeAction, pollingTime, representation);
+        final long validUntil = DataConversionHelper.calculateControllerBaseValidUntil(activeAction);
+        if (validUntil > System.currentTimeMillis()) {
+            controllerBaseEtagCache.put(
+                    controllerId, target.getId(), address.toString(), representation, etag, validUntil, etagGeneration);
+        }
+
         // activeAction
-        return new ResponseEntity<>(DataConversionHelper.fromTarget(target, installedAction, activeAction,
-                activeAction == null
-                        ? controllerManagement.getPollingTime()
-                        : controllerManagement.getPollingTimeForAction(activeAction), tenantAware),
-                HttpStatus.OK);
+        return ResponseEntity.ok().eTag(etag)
+                .body(DataConversionHelper.fromTarget(target, installedAction, activeAction, pollingTime, tenantAware));
     }
 
     @Override
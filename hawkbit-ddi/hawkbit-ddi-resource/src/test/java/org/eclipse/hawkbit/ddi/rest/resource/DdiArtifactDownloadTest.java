@@ -337,11 +337,11 @@ class DdiArtifactDownloadTest extends AbstractDDiApiIntegrationTest {
                 .andExpect(header().string("Content-Range", "bytes */" + random.length))
                 .andExpect(header().string("Content-Disposition", "attachment;filename=file1"));
 
-        // multipart download - first 20 bytes in 2 parts
+        // multipart download - 2 parts of 10 bytes
         result = mvc.perform(
                         get("/{tenant}/controller/v1/{controllerId}/softwaremodules/{softwareModuleId}/artifacts/{filename}",
                                 tenantAware.getCurrentTenant(), target.getControllerId(), getOsModule(ds), "file1")
-                                .header("Range", "bytes=0-9,10-19"))
+                                .header("Range", "bytes=0-9,20-29"))
                 .andExpect(status().isPartialContent())
                 .andExpect(header().string("ETag", artifact.getSha1Hash()))
                 .andExpect(content().contentType("multipart/byteranges; boundary=THIS_STRING_SEPARATES_MULTIPART"))
@@ -357,12 +357,25 @@ class DdiArtifactDownloadTest extends AbstractDDiApiIntegrationTest {
         outputStream.write(Arrays.copyOfRange(random, 0, 10));
         outputStream.write("\r\n--THIS_STRING_SEPARATES_MULTIPART\r\n".getBytes(StandardCharsets.ISO_8859_1));
         outputStream
-                .write(("Content-Range: bytes 10-19/" + resultLength + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
-        outputStream.write(Arrays.copyOfRange(random, 10, 20));
+                .write(("Content-Range: bytes 20-29/" + resultLength + "\r\n").getBytes(StandardCharsets.ISO_8859_1));
+        outputStream.write(Arrays.copyOfRange(random, 20, 30));
         outputStream.write("\r\n--THIS_STRING_SEPARATES_MULTIPART--".getBytes(StandardCharsets.ISO_8859_1));
 
         assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(outputStream.toByteArray());
 
+        // adjacent ranges are coalesced - first 20 bytes in 1 part
+        result = mvc.perform(
+                        get("/{tenant}/controller/v1/{controllerId}/softwaremodules/{softwareModuleId}/artifacts/{filename}",
+                                tenantAware.getCurrentTenant(), target.getControllerId(), getOsModule(ds), "file1")
+                                .header("Range", "bytes=10-19,0-9"))
+                .andExpect(status().isPartialContent())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(header().string("Content-Range", "bytes 0-19/" + resultLength))
+                .andExpect(header().longValue("Content-Length", 20))
+                .andReturn();
+
+        assertThat(result.getResponse().getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(random, 0, 20));
+
     }
 
     @Configuration
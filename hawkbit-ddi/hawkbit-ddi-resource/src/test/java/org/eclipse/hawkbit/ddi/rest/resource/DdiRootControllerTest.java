@@ -24,6 +24,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -315,6 +316,42 @@ class DdiRootControllerTest extends AbstractDDiApiIntegrationTest {
 
     }
 
+    /**
+     * Ensures that a not modified poll is still registered as target poll and that the cached etag is invalidated
+     * if the polling time configuration is changed.
+     */
+    @Test
+    @ExpectEvents({
+            @Expect(type = TargetCreatedEvent.class, count = 1),
+            @Expect(type = TargetPollEvent.class, count = 3),
+            @Expect(type = TenantConfigurationCreatedEvent.class, count = 1) })
+    void rootRsNotModifiedRegistersPoll() throws Exception {
+        final String controllerId = "4712";
+        final String etag = mvc.perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        final long firstPoll = targetManagement.getByControllerID(controllerId).get().getLastTargetQuery();
+
+        Thread.sleep(5);
+        mvc.perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId).header("If-None-Match", etag))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag));
+        assertThat(targetManagement.getByControllerID(controllerId).get().getLastTargetQuery()).isGreaterThan(firstPoll);
+
+        SecurityContextSwitch.runAs(SecurityContextSwitch.withUser("tenantadmin", TENANT_CONFIGURATION),
+                () -> {
+                    tenantConfigurationManagement.addOrUpdateConfiguration(TenantConfigurationKey.POLLING_TIME_INTERVAL, "00:02:00");
+                    return null;
+                });
+
+        mvc.perform(get(CONTROLLER_BASE, tenantAware.getCurrentTenant(), controllerId).header("If-None-Match", etag))
+                .andDo(MockMvcResultPrinter.print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.config.polling.sleep", equalTo("00:02:00")))
+                .andExpect(header().string("ETag", not(etag)));
+    }
+
     /**
      * Ensures that the target state machine of a precomissioned target switches from
      * UNKNOWN to REGISTERED when the target polls for the first time.
@@ -59,14 +59,12 @@ public class SecurityTokenAuthenticator extends Authenticator.AbstractAuthentica
         log.debug("Found 'authorization' header starting with '{}'", TARGET_SECURITY_TOKEN_AUTH_SCHEME);
         final String presentedToken = authHeader.substring(OFFSET_TARGET_TOKEN);
 
+        // validate if the presented token is the same as the one set for the target
         return systemSecurityContext.runAsSystemAsTenant(() -> controllerSecurityToken.getTargetId() != null
-                                ? controllerManagement.get(controllerSecurityToken.getTargetId())
-                                : controllerManagement.getByControllerId(controllerSecurityToken.getControllerId()),
+                                ? controllerManagement.verifySecurityToken(controllerSecurityToken.getTargetId(), presentedToken)
+                                : controllerManagement.verifySecurityToken(controllerSecurityToken.getControllerId(), presentedToken),
                         controllerSecurityToken.getTenant())
-                // validate if the presented token is the same as the one set for the target
-                .filter(target -> presentedToken.equals(
-                        systemSecurityContext.runAsSystemAsTenant(target::getSecurityToken, controllerSecurityToken.getTenant())))
-                .map(target -> authenticatedController(controllerSecurityToken.getTenant(), target.getControllerId()))
+                .map(controllerId -> authenticatedController(controllerSecurityToken.getTenant(), controllerId))
                 .orElse(null);
     }
 
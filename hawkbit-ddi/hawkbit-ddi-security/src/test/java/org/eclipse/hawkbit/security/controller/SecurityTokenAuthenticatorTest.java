@@ -16,7 +16,6 @@ import java.util.Optional;
 
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
-import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
 import org.eclipse.hawkbit.security.SecurityContextSerializer;
 import org.eclipse.hawkbit.security.SecurityContextTenantAware;
@@ -27,7 +26,6 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
-import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 /**
@@ -75,10 +73,7 @@ class SecurityTokenAuthenticatorTest {
                 TenantConfigurationKey.AUTHENTICATION_MODE_TARGET_SECURITY_TOKEN_ENABLED, Boolean.class))
                 .thenReturn(CONFIG_VALUE_ENABLED);
 
-        final Target target = Mockito.mock(Target.class);
-        when(target.getControllerId()).thenReturn(CONTROLLER_ID);
-        when(target.getSecurityToken()).thenReturn(SECURITY_TOKEN);
-        when(controllerManagementMock.getByControllerId(CONTROLLER_ID)).thenReturn(Optional.of(target));
+        when(controllerManagementMock.verifySecurityToken(CONTROLLER_ID, SECURITY_TOKEN)).thenReturn(Optional.of(CONTROLLER_ID));
 
         assertThat(authenticator.authenticate(securityToken))
                 .isNotNull()
@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+import com.rabbitmq.client.Channel;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.amqp.AmqpMessageHandlerService.ActionStatusUpdate;
+import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
+import org.eclipse.hawkbit.dmf.json.model.DmfActionUpdateStatus;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.annotation.RabbitListener;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.FatalExceptionStrategy;
+import org.springframework.amqp.rabbit.support.RabbitExceptionTranslator;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link AmqpBatchMessageHandlerService} consumes the incoming DMF messages of the queue configured by the property
+ * hawkbit.dmf.rabbitmq.receiverQueue in batches, if configured by {@code hawkbit.dmf.rabbitmq.receiver.mode=batch}.
+ * <p/>
+ * The action status updates of a batch are grouped by tenant and added per tenant in one transaction. All other messages (and the
+ * action status updates which have to be handled separately, e.g. confirmations) are handled one by one by the
+ * {@link AmqpMessageHandlerService} - the pending updates are added before, so the order of the messages is kept.
+ * <p/>
+ * Every message is acknowledged (or rejected) separately. If the bulk update of a tenant fails, its messages are handled one by one,
+ * so that a poisoned message is rejected alone and doesn't fail the others. Once the bulk update is added, the failures of sending
+ * the update commands or of the acknowledgements are logged only, so that the updates aren't added twice.
+ */
+@Slf4j
+public class AmqpBatchMessageHandlerService extends BaseAmqpService {
+
+    private final AmqpMessageHandlerService amqpMessageHandlerService;
+    private final FatalExceptionStrategy fatalExceptionStrategy;
+
+    /**
+     * Constructor.
+     *
+     * @param rabbitTemplate for converting messages
+     * @param amqpMessageHandlerService to handle the messages
+     * @param fatalExceptionStrategy decides if the messages, failed with an exception, are rejected or re-queued
+     */
+    public AmqpBatchMessageHandlerService(
+            final RabbitTemplate rabbitTemplate, final AmqpMessageHandlerService amqpMessageHandlerService,
+            final FatalExceptionStrategy fatalExceptionStrategy) {
+        super(rabbitTemplate);
+        this.amqpMessageHandlerService = amqpMessageHandlerService;
+        this.fatalExceptionStrategy = fatalExceptionStrategy;
+    }
+
+    /**
+     * Method to handle a batch of incoming DMF amqp messages.
+     *
+     * @param messages incoming messages
+     * @param channel the channel to acknowledge the messages
+     */
+    @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "batchListenerContainerFactory")
+    public void onMessages(final List<Message> messages, final Channel channel) {
+        final String virtualHost = getRabbitTemplate().getConnectionFactory().getVirtualHost();
+        final Map<String, List<ActionStatusUpdate>> pendingUpdates = new LinkedHashMap<>();
+        for (final Message message : messages) {
+            final Optional<ActionStatusUpdate> actionStatusUpdate = toBulkActionStatusUpdate(message);
+            if (actionStatusUpdate.isPresent()) {
+                pendingUpdates.computeIfAbsent(getHeader(message, MessageHeaderKey.TENANT), tenant -> new ArrayList<>())
+                        .add(actionStatusUpdate.get());
+            } else {
+                updateActionStatuses(pendingUpdates, channel, virtualHost);
+                onMessage(message, channel, virtualHost);
+            }
+        }
+        updateActionStatuses(pendingUpdates, channel, virtualHost);
+    }
+
+    private Optional<ActionStatusUpdate> toBulkActionStatusUpdate(final Message message) {
+        if (!MessageType.EVENT.name().equals(getHeader(message, MessageHeaderKey.TYPE))
+                || !EventTopic.UPDATE_ACTION_STATUS.name().equals(getHeader(message, MessageHeaderKey.TOPIC))
+                || ObjectUtils.isEmpty(getHeader(message, MessageHeaderKey.TENANT))) {
+            return Optional.empty();
+        }
+
+        try {
+            checkContentTypeSupported(message);
+            final DmfActionUpdateStatus actionUpdateStatus = convertMessage(message, DmfActionUpdateStatus.class);
+            return AmqpMessageHandlerService.isBulkActionStatus(actionUpdateStatus.getActionStatus())
+                    ? Optional.of(new ActionStatusUpdate(message, actionUpdateStatus))
+                    : Optional.empty();
+        } catch (final RuntimeException e) {
+            // invalid message - handled (and rejected) separately
+            log.debug("Could not convert action status update, handle it separately", e);
+            return Optional.empty();
+        }
+    }
+
+    private void updateActionStatuses(
+            final Map<String, List<ActionStatusUpdate>> pendingUpdates, final Channel channel, final String virtualHost) {
+        pendingUpdates.forEach((tenant, actionStatusUpdates) -> {
+            final List<Target> targets;
+            try {
+                targets = amqpMessageHandlerService.updateActionStatuses(tenant, actionStatusUpdates);
+            } catch (final RuntimeException e) {
+                log.warn("Could not add {} action status updates of tenant {} in bulk, handle them one by one: {}",
+                        actionStatusUpdates.size(), tenant, e.getMessage());
+                actionStatusUpdates.forEach(actionStatusUpdate -> onMessage(actionStatusUpdate.message(), channel, virtualHost));
+                return;
+            }
+
+            // the updates are added - whatever fails from now on, the messages mustn't be handled again
+            amqpMessageHandlerService.sendUpdateCommandToTargets(tenant, targets);
+            actionStatusUpdates.forEach(actionStatusUpdate -> {
+                try {
+                    ack(actionStatusUpdate.message(), channel);
+                } catch (final RuntimeException e) {
+                    log.error("Could not acknowledge added action status update of tenant {}: {}", tenant, e.getMessage());
+                }
+            });
+        });
+        pendingUpdates.clear();
+    }
+
+    private void onMessage(final Message message, final Channel channel, final String virtualHost) {
+        try {
+            amqpMessageHandlerService.onMessage(
+                    message, getHeader(message, MessageHeaderKey.TYPE), getHeader(message, MessageHeaderKey.TENANT), virtualHost);
+            ack(message, channel);
+        } catch (final RuntimeException e) {
+            final boolean requeue = !(e instanceof AmqpRejectAndDontRequeueException) && !fatalExceptionStrategy.isFatal(e);
+            log.warn("Execution of DMF message listener failed, message is {}: {}", requeue ? "re-queued" : "rejected", e.getMessage());
+            reject(message, channel, requeue);
+        }
+    }
+
+    private static String getHeader(final Message message, final String key) {
+        return Objects.toString(message.getMessageProperties().getHeaders().get(key), null);
+    }
+
+    private static void ack(final Message message, final Channel channel) {
+        try {
+            channel.basicAck(message.getMessageProperties().getDeliveryTag(), false);
+        } catch (final IOException e) {
+            throw RabbitExceptionTranslator.convertRabbitAccessException(e);
+        }
+    }
+
+    private static void reject(final Message message, final Channel channel, final boolean requeue) {
+        try {
+            channel.basicReject(message.getMessageProperties().getDeliveryTag(), requeue);
+        } catch (final IOException e) {
+            throw RabbitExceptionTranslator.convertRabbitAccessException(e);
+        }
+    }
+}
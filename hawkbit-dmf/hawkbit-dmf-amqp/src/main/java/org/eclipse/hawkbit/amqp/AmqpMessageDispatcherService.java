@@ -18,8 +18,6 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -29,27 +27,18 @@ import java.util.stream.StreamSupport;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.IterableUtils;
 import org.apache.commons.collections4.ListUtils;
-import org.eclipse.hawkbit.artifact.repository.urlhandler.ApiType;
-import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrl;
 import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrlHandler;
-import org.eclipse.hawkbit.artifact.repository.urlhandler.URLPlaceholder;
-import org.eclipse.hawkbit.artifact.repository.urlhandler.URLPlaceholder.SoftwareData;
 import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
 import org.eclipse.hawkbit.dmf.json.model.DmfActionRequest;
-import org.eclipse.hawkbit.dmf.json.model.DmfArtifact;
-import org.eclipse.hawkbit.dmf.json.model.DmfArtifactHash;
 import org.eclipse.hawkbit.dmf.json.model.DmfBatchDownloadAndUpdateRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfConfirmRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfDownloadAndUpdateRequest;
-import org.eclipse.hawkbit.dmf.json.model.DmfMetadata;
 import org.eclipse.hawkbit.dmf.json.model.DmfMultiActionRequest;
-import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
 import org.eclipse.hawkbit.dmf.json.model.DmfTarget;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.DistributionSetManagement;
-import org.eclipse.hawkbit.repository.RepositoryConstants;
 import org.eclipse.hawkbit.repository.SoftwareModuleManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
@@ -61,12 +50,10 @@ import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEven
 import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionProperties;
-import org.eclipse.hawkbit.repository.model.Artifact;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
 import org.eclipse.hawkbit.repository.model.Target;
-import org.eclipse.hawkbit.repository.model.TenantMetaData;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.eclipse.hawkbit.util.IpUtil;
 import org.springframework.amqp.core.Message;
@@ -76,7 +63,6 @@ import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.cloud.bus.ServiceMatcher;
 import org.springframework.cloud.bus.event.RemoteApplicationEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.CollectionUtils;
@@ -182,16 +168,15 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
         final Map<String, ActionProperties> actionProp = new HashMap<>();
         actionProp.put(target.getControllerId(), actionsProps);
-        sendUpdateMessageToTargets(actionProp, Collections.singletonList(target), softwareModules);
+        sendUpdateMessageToTargets(actionProp, Collections.singletonList(target), createDispatchContext(softwareModules));
     }
 
     protected DmfDownloadAndUpdateRequest createDownloadAndUpdateRequest(
-            final Target target, final Long actionId,
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+            final Target target, final Long actionId, final DmfDispatchContext dispatchContext) {
         return new DmfDownloadAndUpdateRequest(
                 actionId,
                 systemSecurityContext.runAsSystem(target::getSecurityToken),
-                convertToAmqpSoftwareModules(target, softwareModules));
+                dispatchContext.getSoftwareModules(target.getControllerId(), target.getId()));
     }
 
     /**
@@ -262,9 +247,9 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         }
 
         final DmfActionRequest actionRequest = new DmfActionRequest(actionId);
-        final Message message = getMessageConverter().toMessage(
+        final Message message = toMessage(
                 actionRequest,
-                createConnectorMessagePropertiesEvent(tenant, controllerId, EventTopic.CANCEL_DOWNLOAD));
+                createConnectorMessagePropertiesEvent(tenant, controllerId, EventTopic.CANCEL_DOWNLOAD), address);
 
         amqpSenderService.sendMessage(message, address);
     }
@@ -274,16 +259,21 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     }
 
     protected DmfConfirmRequest createConfirmRequest(
-            final Target target, final Long actionId, final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+            final Target target, final Long actionId, final DmfDispatchContext dispatchContext) {
         return new DmfConfirmRequest(
                 actionId,
                 systemSecurityContext.runAsSystem(target::getSecurityToken),
-                convertToAmqpSoftwareModules(target, softwareModules));
+                dispatchContext.getSoftwareModules(target.getControllerId(), target.getId()));
     }
 
     void sendMultiActionRequestToTarget(
             final Target target, final List<Action> actions,
             final Function<SoftwareModule, List<SoftwareModuleMetadata>> getSoftwareModuleMetaData) {
+        sendMultiActionRequestMessage(target, actions, createDispatchContexts(getSoftwareModuleMetaData));
+    }
+
+    private void sendMultiActionRequestMessage(
+            final Target target, final List<Action> actions, final Function<DistributionSet, DmfDispatchContext> dispatchContexts) {
         final URI targetAddress = target.getAddress();
         if (!IpUtil.isAmqpUri(targetAddress) || CollectionUtils.isEmpty(actions)) {
             return;
@@ -292,22 +282,16 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         final DmfMultiActionRequest multiActionRequest = new DmfMultiActionRequest(
                 actions.stream()
                         .map(action -> {
-                            final DmfActionRequest actionRequest = createDmfActionRequest(
-                                    target, action,
-                                    action.getDistributionSet().getModules().stream()
-                                            .collect(Collectors.toMap(Function.identity(), module -> {
-                                                final List<SoftwareModuleMetadata> softwareModuleMetadata = getSoftwareModuleMetaData.apply(
-                                                        module);
-                                                return softwareModuleMetadata == null ? Collections.emptyList() : softwareModuleMetadata;
-                                            })));
+                            final DmfActionRequest actionRequest = createDmfActionRequest(target, action, dispatchContexts);
                             final int weight = deploymentManagement.getWeightConsideringDefault(action);
                             return new DmfMultiActionRequest.DmfMultiActionElement(getEventTypeForAction(action), actionRequest, weight);
                         })
                         .toList());
 
-        final Message message = getMessageConverter().toMessage(
+        final Message message = toMessage(
                 multiActionRequest,
-                createConnectorMessagePropertiesEvent(target.getTenant(), target.getControllerId(), EventTopic.MULTI_ACTION));
+                createConnectorMessagePropertiesEvent(target.getTenant(), target.getControllerId(), EventTopic.MULTI_ACTION),
+                targetAddress);
         amqpSenderService.sendMessage(message, targetAddress);
     }
 
@@ -410,35 +394,38 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     }
 
     private List<Target> getTargetsWithoutPendingCancellations(final Set<String> controllerIds) {
-        return partitionedParallelExecution(controllerIds, partition ->
-                targetManagement.getByControllerID(partition).stream()
-                        .filter(target -> {
-                            if (hasPendingCancellations(target.getId())) {
-                                log.debug("Target {} has pending cancellations. Will not send update message to it.",
-                                        target.getControllerId());
-                                return false;
-                            }
-                            return true;
-                        }).toList());
+        return partitionedParallelExecution(controllerIds, partition -> {
+            final List<Target> targets = targetManagement.getByControllerID(partition);
+            final Set<Long> pendingCancellations = targets.isEmpty()
+                    ? Collections.emptySet()
+                    : deploymentManagement.findTargetIdsWithPendingCancellations(targets.stream().map(Target::getId).toList());
+            return targets.stream()
+                    .filter(target -> {
+                        if (pendingCancellations.contains(target.getId())) {
+                            log.debug("Target {} has pending cancellations. Will not send update message to it.",
+                                    target.getControllerId());
+                            return false;
+                        }
+                        return true;
+                    }).toList();
+        });
     }
 
     private void sendUpdateMessageToTargets(
             final Long dsId, final Map<String, ActionProperties> actionsPropsByTargetId, final List<Target> targets) {
-        distributionSetManagement.get(dsId).ifPresent(ds -> {
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules = getSoftwareModulesWithMetadata(ds);
-            sendUpdateMessageToTargets(actionsPropsByTargetId, targets, softwareModules);
-        });
+        distributionSetManagement.get(dsId).ifPresent(ds ->
+                sendUpdateMessageToTargets(actionsPropsByTargetId, targets, createDispatchContext(getSoftwareModulesWithMetadata(ds))));
     }
 
     private void sendUpdateMessageToTargets(
             final Map<String, ActionProperties> actionsPropsByTargetId,
-            final List<Target> targets, final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+            final List<Target> targets, final DmfDispatchContext dispatchContext) {
         if (!targets.isEmpty() && isBatchAssignmentsEnabled()) {
-            sendBatchUpdateMessage(actionsPropsByTargetId, targets, softwareModules);
+            sendBatchUpdateMessage(actionsPropsByTargetId, targets, dispatchContext);
         } else {
             targets.forEach(target -> {
                 final ActionProperties actionProp = actionsPropsByTargetId.get(target.getControllerId());
-                sendSingleUpdateMessage(actionProp, target, softwareModules);
+                sendSingleUpdateMessage(actionProp, target, dispatchContext);
             });
         }
     }
@@ -461,25 +448,25 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
                         ? Collections.emptyMap()
                         : softwareModuleManagement.findMetaDataBySoftwareModuleIdsAndTargetVisible(allSmIds);
 
+        // the software modules of a distribution set are assembled once for all targets
+        final Function<DistributionSet, DmfDispatchContext> dispatchContexts =
+                createDispatchContexts(module -> getSoftwareModuleMetadata.get(module.getId()));
         targetManagement.getByControllerID(controllerIds).forEach(target ->
-                sendMultiActionRequestToTarget(
-                        target, controllerIdToActions.get(target.getControllerId()), module -> getSoftwareModuleMetadata.get(module.getId())));
+                sendMultiActionRequestMessage(target, controllerIdToActions.get(target.getControllerId()), dispatchContexts));
     }
 
     private DmfActionRequest createDmfActionRequest(
-            final Target target, final Action action,
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+            final Target target, final Action action, final Function<DistributionSet, DmfDispatchContext> dispatchContexts) {
         if (action.isCancelingOrCanceled()) {
             return new DmfActionRequest(action.getId());
         } else if (action.isWaitingConfirmation()) {
-            return createConfirmRequest(target, action.getId(), softwareModules);
+            return createConfirmRequest(target, action.getId(), dispatchContexts.apply(action.getDistributionSet()));
         }
-        return createDownloadAndUpdateRequest(target, action.getId(), softwareModules);
+        return createDownloadAndUpdateRequest(target, action.getId(), dispatchContexts.apply(action.getDistributionSet()));
     }
 
     private void sendSingleUpdateMessage(
-            final ActionProperties action, final Target target,
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> modules) {
+            final ActionProperties action, final Target target, final DmfDispatchContext dispatchContext) {
         final String tenant = action.getTenant();
 
         final URI targetAddress = target.getAddress();
@@ -491,14 +478,14 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         if (action.isWaitingConfirmation()) {
             // For the moment the confirmation request is the same as download and update request.
             // It can be modified not to expose all the software modules in the future.
-            request = createConfirmRequest(target, action.getId(), modules);
+            request = createConfirmRequest(target, action.getId(), dispatchContext);
         } else {
-            request = createDownloadAndUpdateRequest(target, action.getId(), modules);
+            request = createDownloadAndUpdateRequest(target, action.getId(), dispatchContext);
         }
 
-        final Message message = getMessageConverter().toMessage(
+        final Message message = toMessage(
                 request,
-                createConnectorMessagePropertiesEvent(tenant, target.getControllerId(), getEventTypeForTarget(action)));
+                createConnectorMessagePropertiesEvent(tenant, target.getControllerId(), getEventTypeForTarget(action)), targetAddress);
         amqpSenderService.sendMessage(message, targetAddress);
     }
 
@@ -515,12 +502,15 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         return targetAddress == null || !IpUtil.isAmqpUri(URI.create(targetAddress));
     }
 
-    private boolean isFromSelf(final RemoteApplicationEvent event) {
-        return serviceMatcher == null || serviceMatcher.isFromSelf(event);
+    // encoded as the messages received from the address, if supported by the converter
+    private Message toMessage(final Object object, final MessageProperties messageProperties, final URI address) {
+        return getMessageConverter() instanceof DmfMessageConverter dmfMessageConverter
+                ? dmfMessageConverter.toMessage(object, messageProperties, address)
+                : getMessageConverter().toMessage(object, messageProperties);
     }
 
-    private boolean hasPendingCancellations(final Long targetId) {
-        return deploymentManagement.hasPendingCancellations(targetId);
+    private boolean isFromSelf(final RemoteApplicationEvent event) {
+        return serviceMatcher == null || serviceMatcher.isFromSelf(event);
     }
 
     private void sendUpdateAttributesMessageToTarget(final String tenant, final String controllerId, final String targetAddress) {
@@ -535,70 +525,32 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         amqpSenderService.sendMessage(message, URI.create(targetAddress));
     }
 
-    private List<DmfSoftwareModule> convertToAmqpSoftwareModules(
-            final Target target, final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
-        return Optional.ofNullable(softwareModules)
-                .map(Map::entrySet)
-                .map(Set::stream)
-                .map(stream -> stream.map(entry -> convertToAmqpSoftwareModule(target, entry)).toList())
-                .orElse(null);
-    }
-
-    private DmfSoftwareModule convertToAmqpSoftwareModule(
-            final Target target, final Entry<SoftwareModule, List<SoftwareModuleMetadata>> entry) {
-        return new DmfSoftwareModule(
-                entry.getKey().getId(),
-                entry.getKey().getType().getKey(),
-                entry.getKey().getVersion(),
-                entry.getKey().isEncrypted() ? Boolean.TRUE : null,
-                convertArtifacts(target, entry.getKey().getArtifacts()),
-                CollectionUtils.isEmpty(entry.getValue()) ? null :convertMetadata(entry.getValue()));
+    private DmfDispatchContext createDispatchContext(final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+        return new DmfDispatchContext(artifactUrlHandler, systemManagement::getTenantMetadataWithoutDetails, softwareModules);
     }
 
-    private List<DmfMetadata> convertMetadata(final List<SoftwareModuleMetadata> metadata) {
-        return metadata.stream().map(md -> new DmfMetadata(md.getKey(), md.getValue())).toList();
-    }
-
-    private List<DmfArtifact> convertArtifacts(final Target target, final List<Artifact> localArtifacts) {
-        if (localArtifacts.isEmpty()) {
-            return Collections.emptyList();
-        }
-
-        return localArtifacts.stream().map(localArtifact -> convertArtifact(target, localArtifact))
-                .toList();
-    }
-
-    private DmfArtifact convertArtifact(final Target target, final Artifact localArtifact) {
-        final TenantMetaData tenantMetadata = systemManagement.getTenantMetadataWithoutDetails();
-        return new DmfArtifact(
-                localArtifact.getFilename(),
-                new DmfArtifactHash(localArtifact.getSha1Hash(), localArtifact.getMd5Hash()),
-                localArtifact.getSize(),
-                localArtifact.getLastModifiedAt(),
-                artifactUrlHandler
-                        .getUrls(new URLPlaceholder(
-                                        tenantMetadata.getTenant(), tenantMetadata.getId(), target.getControllerId(), target.getId(),
-                                        new SoftwareData(
-                                                localArtifact.getSoftwareModule().getId(), localArtifact.getFilename(), localArtifact.getId(),
-                                                localArtifact.getSha1Hash())),
-                                ApiType.DMF)
-                        .stream()
-                        .collect(Collectors.toMap(ArtifactUrl::getProtocol, ArtifactUrl::getRef))
-        );
+    // creates the dispatch contexts on demand, once per distribution set
+    private Function<DistributionSet, DmfDispatchContext> createDispatchContexts(
+            final Function<SoftwareModule, List<SoftwareModuleMetadata>> getSoftwareModuleMetaData) {
+        final Map<Long, DmfDispatchContext> dispatchContexts = new HashMap<>();
+        return distributionSet -> dispatchContexts.computeIfAbsent(distributionSet.getId(), id -> createDispatchContext(
+                distributionSet.getModules().stream().collect(Collectors.toMap(Function.identity(), module -> {
+                    final List<SoftwareModuleMetadata> softwareModuleMetadata = getSoftwareModuleMetaData.apply(module);
+                    return softwareModuleMetadata == null ? Collections.emptyList() : softwareModuleMetadata;
+                }))));
     }
 
     private Map<SoftwareModule, List<SoftwareModuleMetadata>> getSoftwareModulesWithMetadata(final DistributionSet distributionSet) {
-        return distributionSet.getModules().stream().collect(Collectors.toMap(Function.identity(), this::getSoftwareModuleMetadata));
-    }
-
-    private List<SoftwareModuleMetadata> getSoftwareModuleMetadata(final SoftwareModule module) {
-        return softwareModuleManagement.findMetaDataBySoftwareModuleIdAndTargetVisible(
-                module.getId(), PageRequest.of(0, RepositoryConstants.MAX_META_DATA_COUNT)).getContent();
+        final List<Long> moduleIds = distributionSet.getModules().stream().map(SoftwareModule::getId).toList();
+        final Map<Long, List<SoftwareModuleMetadata>> metadata = moduleIds.isEmpty()
+                ? Collections.emptyMap()
+                : softwareModuleManagement.findMetaDataBySoftwareModuleIdsAndTargetVisible(moduleIds);
+        return distributionSet.getModules().stream().collect(Collectors.toMap(
+                Function.identity(), module -> metadata.getOrDefault(module.getId(), Collections.emptyList())));
     }
 
     private void sendBatchUpdateMessage(
-            final Map<String, ActionProperties> actions, final List<Target> targets,
-            final Map<SoftwareModule, List<SoftwareModuleMetadata>> modules) {
+            final Map<String, ActionProperties> actions, final List<Target> targets, final DmfDispatchContext dispatchContext) {
 
         final List<DmfTarget> dmfTargets = targets.stream()
                 .filter(target -> IpUtil.isAmqpUri(target.getAddress()))
@@ -610,18 +562,14 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         final DmfBatchDownloadAndUpdateRequest batchRequest = new DmfBatchDownloadAndUpdateRequest(
                 System.currentTimeMillis(),
                 dmfTargets,
-                Optional.ofNullable(modules)
-                        .map(Map::entrySet)
-                        .map(Set::stream)
-                        .map(stream -> stream.map(entry -> convertToAmqpSoftwareModule(firstTarget, entry)).toList())
-                        .orElse(null));
+                dispatchContext.getSoftwareModules(firstTarget.getControllerId(), firstTarget.getId()));
 
         // we use only the first action when constructing message as Tenant and action type are the same
         // since all actions have the same trigger
         final ActionProperties firstAction = actions.values().iterator().next();
-        final Message message = getMessageConverter().toMessage(
+        final Message message = toMessage(
                 batchRequest,
-                createMessagePropertiesBatch(firstAction.getTenant(), getBatchEventTopicForAction(firstAction)));
+                createMessagePropertiesBatch(firstAction.getTenant(), getBatchEventTopicForAction(firstAction)), firstTarget.getAddress());
         amqpSenderService.sendMessage(message, firstTarget.getAddress());
     }
 }
\ No newline at end of file
@@ -14,7 +14,10 @@ import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationPrope
 
 import java.io.Serializable;
 import java.net.URI;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -79,6 +82,10 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
 
     private static final String THING_ID_NULL = "ThingId is null";
     private static final String EMPTY_MESSAGE_BODY = "\"\"";
+    // action status updates which are simply added, i.e. could be added in bulk
+    private static final Set<DmfActionStatus> BULK_ACTION_STATUSES = EnumSet.of(
+            DmfActionStatus.DOWNLOAD, DmfActionStatus.RETRIEVED, DmfActionStatus.RUNNING, DmfActionStatus.FINISHED,
+            DmfActionStatus.ERROR, DmfActionStatus.WARNING, DmfActionStatus.DOWNLOADED);
 
     private final AmqpMessageDispatcherService amqpMessageDispatcherService;
     private final ConfirmationManagement confirmationManagement;
@@ -121,7 +128,10 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
      * @param tenant the contentType of the message
      * @return a message if <null> no message is send back to sender
      */
-    @RabbitListener(queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "listenerContainerFactory")
+    @RabbitListener(
+            queues = "${hawkbit.dmf.rabbitmq.receiverQueue:dmf_receiver}", containerFactory = "listenerContainerFactory",
+            // in batch mode the messages are consumed by the AmqpBatchMessageHandlerService
+            autoStartup = "#{'${hawkbit.dmf.rabbitmq.receiver.mode:default}'.equalsIgnoreCase('default')}")
     public Message onMessage(
             final Message message,
             @Header(name = MessageHeaderKey.TYPE, required = false) final String type,
@@ -145,6 +155,7 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
 
         final SecurityContext oldContext = SecurityContextHolder.getContext();
         try {
+            rememberContentType(message, virtualHost);
             final MessageType messageType = MessageType.valueOf(type);
             switch (messageType) {
                 case THING_CREATED: {
@@ -158,7 +169,7 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
                     break;
                 }
                 case EVENT: {
-                    checkContentTypeJson(message);
+                    checkContentTypeSupported(message);
                     setTenantSecurityContext(tenant);
                     handleIncomingEvent(message);
                     break;
@@ -183,6 +194,71 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
         return null;
     }
 
+    /**
+     * Adds the action status updates of a tenant in one transaction, i.e. all or none of them are added. The update command
+     * has to be sent afterward, see {@link #sendUpdateCommandToTargets(String, List)}.
+     *
+     * @param tenant the tenant
+     * @param updates the action status updates, all of them {@link #isBulkActionStatus(DmfActionStatus) bulk action statuses}
+     * @return the targets (once each) which should proceed
+     */
+    List<Target> updateActionStatuses(final String tenant, final List<ActionStatusUpdate> updates) {
+        final SecurityContext oldContext = SecurityContextHolder.getContext();
+        try {
+            setTenantSecurityContext(tenant);
+            final List<ActionStatusCreate> statusCreates = updates.stream().map(update -> {
+                final DmfActionUpdateStatus actionUpdateStatus = update.actionUpdateStatus();
+                if (!isBulkActionStatus(actionUpdateStatus.getActionStatus())) {
+                    throw new IllegalArgumentException("Action status " + actionUpdateStatus.getActionStatus() + " couldn't be added in bulk");
+                }
+                log.debug("Target notifies intermediate about action {} with status {}.", actionUpdateStatus.getActionId(),
+                        actionUpdateStatus.getActionStatus());
+                return createActionStatus(actionUpdateStatus.getActionId(), mapStatus(update.message(), actionUpdateStatus, null),
+                        messages(update.message(), actionUpdateStatus), actionUpdateStatus.getCode());
+            }).toList();
+
+            return List.copyOf(controllerManagement.addUpdateActionStatuses(statusCreates).stream()
+                    .filter(AmqpMessageHandlerService::shouldTargetProceed)
+                    .map(Action::getTarget)
+                    .collect(Collectors.toMap(Target::getId, Function.identity(), (target, same) -> target, LinkedHashMap::new))
+                    .values());
+        } finally {
+            SecurityContextHolder.setContext(oldContext);
+        }
+    }
+
+    /**
+     * Sends the update command to every target. As the action status updates are already added, the failure of a target is
+     * logged only - the update is sent on its next status update or poll.
+     *
+     * @param tenant the tenant
+     * @param targets the targets which should proceed, see {@link #updateActionStatuses(String, List)}
+     */
+    void sendUpdateCommandToTargets(final String tenant, final List<Target> targets) {
+        final SecurityContext oldContext = SecurityContextHolder.getContext();
+        try {
+            setTenantSecurityContext(tenant);
+            for (final Target target : targets) {
+                try {
+                    sendUpdateCommandToTarget(target);
+                } catch (final RuntimeException e) {
+                    log.error("Could not send update command to target {} of tenant {}", target.getControllerId(), tenant, e);
+                }
+            }
+        } finally {
+            SecurityContextHolder.setContext(oldContext);
+        }
+    }
+
+    /**
+     * @param actionStatus the reported action status
+     * @return {@code true} if updates with this status could be added in bulk, {@code false} if they have to be handled separately
+     *         (e.g. confirmation or cancellation)
+     */
+    static boolean isBulkActionStatus(final DmfActionStatus actionStatus) {
+        return BULK_ACTION_STATUSES.contains(actionStatus);
+    }
+
     // for testing
     public void setControllerManagement(final ControllerManagement controllerManagement) {
         this.controllerManagement = controllerManagement;
@@ -289,6 +365,15 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
         return null;
     }
 
+    // the messages sent to the client are encoded as the messages received from it
+    private void rememberContentType(final Message message, final String virtualHost) {
+        final String replyTo = message.getMessageProperties().getReplyTo();
+        if (!ObjectUtils.isEmpty(replyTo) && getMessageConverter() instanceof DmfMessageConverter dmfMessageConverter) {
+            dmfMessageConverter.rememberContentType(
+                    IpUtil.createAmqpUri(virtualHost, replyTo), message.getMessageProperties().getContentType());
+        }
+    }
+
     /**
      * Method to create a new target or to find the target if it already exists
      * and update its poll time, status and optionally its name and attributes.
@@ -311,7 +396,7 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
                 log.debug("Received \"THING_CREATED\" AMQP message for thing \"{}\" without body.", thingId);
                 target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(thingId, amqpUri);
             } else {
-                checkContentTypeJson(message);
+                checkContentTypeSupported(message);
                 final DmfCreateThing thingCreateBody = convertMessage(message, DmfCreateThing.class);
                 final DmfAttributeUpdate thingAttributeUpdateBody = thingCreateBody.getAttributeUpdate();
 
@@ -445,13 +530,7 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
         final DmfActionUpdateStatus actionUpdateStatus = convertMessage(message, DmfActionUpdateStatus.class);
         final Action action = checkActionExist(message, actionUpdateStatus);
 
-        final List<String> messages = actionUpdateStatus.getMessage();
-
-        if (isCorrelationIdNotEmpty(message)) {
-            messages.add(RepositoryConstants.SERVER_MESSAGE_PREFIX + "DMF message correlation-id "
-                    + message.getMessageProperties().getCorrelationId());
-        }
-
+        final List<String> messages = messages(message, actionUpdateStatus);
         final Status status = mapStatus(message, actionUpdateStatus, action);
 
         final Action updatedAction;
@@ -460,11 +539,7 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
         } else if (actionUpdateStatus.getActionStatus() == DmfActionStatus.DENIED) {
             updatedAction = confirmationManagement.denyAction(action.getId(), actionUpdateStatus.getCode(), messages);
         } else {
-            final ActionStatusCreate actionStatus = entityFactory.actionStatus().create(action.getId()).status(status).messages(messages);
-            Optional.ofNullable(actionUpdateStatus.getCode()).ifPresent(code -> {
-                actionStatus.code(code);
-                actionStatus.message("Device reported status code: " + code);
-            });
+            final ActionStatusCreate actionStatus = createActionStatus(action.getId(), status, messages, actionUpdateStatus.getCode());
             updatedAction = Status.CANCELED == status || Status.CANCEL_REJECTED == status
                     ? controllerManagement.addCancelActionStatus(actionStatus)
                     : controllerManagement.addUpdateActionStatus(actionStatus);
@@ -475,6 +550,24 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
         }
     }
 
+    private static List<String> messages(final Message message, final DmfActionUpdateStatus actionUpdateStatus) {
+        final List<String> messages = new ArrayList<>(actionUpdateStatus.getMessage());
+        if (isCorrelationIdNotEmpty(message)) {
+            messages.add(RepositoryConstants.SERVER_MESSAGE_PREFIX + "DMF message correlation-id "
+                    + message.getMessageProperties().getCorrelationId());
+        }
+        return messages;
+    }
+
+    private ActionStatusCreate createActionStatus(final Long actionId, final Status status, final List<String> messages, final Integer code) {
+        final ActionStatusCreate actionStatus = entityFactory.actionStatus().create(actionId).status(status).messages(messages);
+        Optional.ofNullable(code).ifPresent(reportedCode -> {
+            actionStatus.code(reportedCode);
+            actionStatus.message("Device reported status code: " + reportedCode);
+        });
+        return actionStatus;
+    }
+
     // Exception squid:S3655 - logAndThrowMessageError throws exception, i.e. get will not be called
     @SuppressWarnings("squid:S3655")
     private Action checkActionExist(final Message message, final DmfActionUpdateStatus actionUpdateStatus) {
@@ -498,4 +591,12 @@ public class AmqpMessageHandlerService extends BaseAmqpService {
     private <T extends Serializable> T getConfigValue(final String key, final Class<T> valueType) {
         return systemSecurityContext.runAsSystem(() -> tenantConfigurationManagement.getConfigurationValue(key, valueType).getValue());
     }
+
+    /**
+     * An action status update message with its converted body.
+     *
+     * @param message the received message
+     * @param actionUpdateStatus the converted message body
+     */
+    record ActionStatusUpdate(Message message, DmfActionUpdateStatus actionUpdateStatus) {}
 }
@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.amqp;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Pattern;
@@ -62,6 +63,21 @@ public class AmqpProperties {
      */
     private final FatalSqlExceptionPolicy fatalSqlExceptionPolicy = new FatalSqlExceptionPolicy();
 
+    /**
+     * Configuration of the sender of the DMF messages.
+     */
+    private final Sender sender = new Sender();
+
+    /**
+     * Configuration of the consumer of the received DMF messages.
+     */
+    private final Receiver receiver = new Receiver();
+
+    /**
+     * Configuration of the encoding of the DMF messages.
+     */
+    private final Encoding encoding = new Encoding();
+
     @Data
     public static class FatalSqlExceptionPolicy {
 
@@ -85,4 +101,76 @@ public class AmqpProperties {
          */
         private final List<Pattern> unlessMessageMatches = new ArrayList<>();
     }
-}
\ No newline at end of file
+
+    @Data
+    public static class Sender {
+
+        /**
+         * The sender mode. With {@code default} every message is sent separately. With {@code batch} the messages are accumulated
+         * per exchange and published in batches on a dedicated channel, with asynchronous publisher confirms (if enabled for the
+         * connection factory, e.g. {@code spring.rabbitmq.publisher-confirm-type=correlated}).
+         */
+        private Mode mode = Mode.DEFAULT;
+        /**
+         * Batch mode: the number of accumulated messages of an exchange which triggers the publishing.
+         */
+        private int batchSize = 100;
+        /**
+         * Batch mode: the maximum time a message is accumulated before it is published.
+         */
+        private Duration batchLatency = Duration.ofMillis(20);
+        /**
+         * Batch mode: the maximum number of accepted but not yet confirmed messages. If reached, the sending threads wait for confirms
+         * up to the confirm timeout - then the message is sent directly, behind the accumulated messages of its exchange.
+         */
+        private int maxInFlight = 5_000;
+        /**
+         * Batch mode: the maximum time to wait for the confirm of a message, or for room in the in-flight window.
+         */
+        private Duration confirmTimeout = Duration.ofSeconds(30);
+        /**
+         * Batch mode: how often a message which is nacked (or not confirmed in time) by the broker is published again. Note that
+         * retries could reorder and duplicate messages - set to 0 to disable them.
+         */
+        private int maxRetries = 3;
+
+        public enum Mode {
+            DEFAULT,
+            BATCH
+        }
+    }
+
+    @Data
+    public static class Receiver {
+
+        /**
+         * The receiver mode. With {@code default} every message is handled separately. With {@code batch} the messages are consumed
+         * in batches and the action status updates of a batch are added per tenant in one transaction. The messages are acknowledged
+         * one by one - if the batch update fails, its messages are handled separately, so that a poisoned message fails alone.
+         */
+        private Mode mode = Mode.DEFAULT;
+        /**
+         * Batch mode: the maximum number of messages consumed as one batch.
+         */
+        private int batchSize = 100;
+        /**
+         * Batch mode: the maximum time to wait for further messages before an incomplete batch is handled.
+         */
+        private Duration batchReceiveTimeout = Duration.ofMillis(100);
+
+        public enum Mode {
+            DEFAULT,
+            BATCH
+        }
+    }
+
+    @Data
+    public static class Encoding {
+
+        /**
+         * The minimum body size (in bytes) of a sent DMF message to be compressed with gzip (content encoding {@code gzip}).
+         * Negative value disables the compression. Received compressed messages are always decompressed.
+         */
+        private int compressionThreshold = -1;
+    }
+}
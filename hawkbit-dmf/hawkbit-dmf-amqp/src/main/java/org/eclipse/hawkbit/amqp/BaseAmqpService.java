@@ -16,7 +16,6 @@ import jakarta.validation.constraints.NotNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.core.Message;
-import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
 import org.springframework.amqp.support.converter.MessageConversionException;
@@ -54,12 +53,11 @@ public class BaseAmqpService {
         return (T) rabbitTemplate.getMessageConverter().fromMessage(message);
     }
 
-    protected static void checkContentTypeJson(final Message message) {
-        final MessageProperties messageProperties = message.getMessageProperties();
-        if (messageProperties.getContentType() != null && messageProperties.getContentType().contains("json")) {
+    protected static void checkContentTypeSupported(final Message message) {
+        if (DmfMessageConverter.isSupported(message.getMessageProperties().getContentType())) {
             return;
         }
-        throw new AmqpRejectAndDontRequeueException("Content-Type is not JSON compatible");
+        throw new AmqpRejectAndDontRequeueException("Content-Type is not JSON or CBOR compatible");
     }
 
     protected static boolean isMessageBodyEmpty(final Message message) {
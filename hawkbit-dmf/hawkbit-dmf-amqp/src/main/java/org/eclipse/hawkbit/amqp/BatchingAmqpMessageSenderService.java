@@ -0,0 +1,334 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.util.IpUtil;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Sender service which accumulates the messages per exchange (and virtual host) and publishes them in batches, each batch on a
+ * dedicated channel. This way the channel is checked out once per batch instead of once per message.
+ * <p/>
+ * If publisher confirms are enabled for the connection factory, the confirms are processed asynchronously. The number of sent but
+ * not yet confirmed messages is bounded by the in-flight window - if it is full, the sending threads wait for confirms. Messages
+ * which are nacked, or not confirmed in time, are published again up to the configured number of retries.
+ * <p/>
+ * If the in-flight window is still full after the confirm timeout, or the sender is shut down, the message is sent directly - after
+ * the messages accumulated for the exchange have been published, so that the order is kept.
+ * <p/>
+ * Retries weaken the delivery guarantees of the direct sender in two ways:
+ * <ul>
+ *   <li>Order - a retried message is put in front of the messages still accumulated for the exchange, but the messages published
+ *   while it was waiting for its confirm are ahead of it. So messages to the same target could be received in a different order
+ *   than they have been sent.</li>
+ *   <li>Duplicates - a message which is not confirmed in time could have been routed nevertheless (the confirm is just late), so the
+ *   retry could deliver it twice. The correlation id of the retry is the same as of the original message.</li>
+ * </ul>
+ * If that is not acceptable, the retries shall be disabled ({@code max-retries} set to 0) - then the messages which are not
+ * confirmed are logged and dropped, as by the direct sender.
+ * <p/>
+ * If a {@link MeterRegistry} is available, the batch sizes ({@code hawkbit.dmf.sender.batch.size}), the confirm latency
+ * ({@code hawkbit.dmf.sender.confirm.latency}) and the nacks ({@code hawkbit.dmf.sender.nacks}) are recorded.
+ */
+@Slf4j
+public class BatchingAmqpMessageSenderService extends BaseAmqpService implements AmqpMessageSenderService {
+
+    private final int batchSize;
+    private final long confirmTimeout;
+    private final int maxRetries;
+    private final int maxInFlight;
+    private final Semaphore inFlight;
+    private final boolean publisherConfirms;
+    private final Map<Destination, Batch> batches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService executorService;
+    private final ScheduledFuture<?> scheduledFlush;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Lock flushLock = new ReentrantLock();
+    private volatile boolean shutdown;
+
+    private final DistributionSummary batchSizeSummary;
+    private final Timer confirmLatency;
+    private final Counter nacks;
+
+    /**
+     * Constructor.
+     *
+     * @param rabbitTemplate the AMQP template
+     * @param sender the sender configuration
+     * @param meterRegistry to record the metrics, if available
+     */
+    public BatchingAmqpMessageSenderService(
+            final RabbitTemplate rabbitTemplate, final AmqpProperties.Sender sender, final Optional<MeterRegistry> meterRegistry) {
+        super(rabbitTemplate);
+        batchSize = sender.getBatchSize();
+        confirmTimeout = sender.getConfirmTimeout().toMillis();
+        maxRetries = sender.getMaxRetries();
+        maxInFlight = sender.getMaxInFlight();
+        inFlight = new Semaphore(maxInFlight);
+        publisherConfirms = rabbitTemplate.getConnectionFactory().isPublisherConfirms();
+        if (!publisherConfirms) {
+            log.warn("Publisher confirms are not enabled - the batched messages are not confirmed (and not retried).");
+        }
+
+        batchSizeSummary = meterRegistry.map(registry -> DistributionSummary.builder("hawkbit.dmf.sender.batch.size").register(registry))
+                .orElse(null);
+        confirmLatency = meterRegistry.map(registry -> Timer.builder("hawkbit.dmf.sender.confirm.latency").register(registry))
+                .orElse(null);
+        nacks = meterRegistry.map(registry -> Counter.builder("hawkbit.dmf.sender.nacks").register(registry)).orElse(null);
+
+        executorService = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory("dmf-batch-sender-"));
+        final long batchLatency = sender.getBatchLatency().toMillis();
+        scheduledFlush = executorService.scheduleWithFixedDelay(this::flush, batchLatency, batchLatency, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void sendMessage(final Message message, final URI sendTo) {
+        if (!IpUtil.isAmqpUri(sendTo)) {
+            return;
+        }
+
+        final Destination destination = new Destination(sendTo.getHost(), sendTo.getPath().substring(1));
+        if (DefaultAmqpMessageSenderService.isCorrelationIdEmpty(message)) {
+            message.getMessageProperties().setCorrelationId(UUID.randomUUID().toString());
+        }
+        final String correlationId = message.getMessageProperties().getCorrelationId();
+
+        if (shutdown || !acquire()) {
+            log.debug("Batch sender shut down or in-flight window full, send message to exchange {} directly", destination.exchange());
+            sendDirectly(destination, message, correlationId);
+            return;
+        }
+
+        log.debug("Queue message to exchange {} with correlationId {}", destination.exchange(), correlationId);
+        add(new PendingMessage(destination, message, 0));
+    }
+
+    /**
+     * Publishes all accumulated messages.
+     */
+    public void flush() {
+        flushLock.lock();
+        try {
+            batches.forEach((destination, batch) -> {
+                List<PendingMessage> messages;
+                while (!(messages = batch.drain(batchSize)).isEmpty()) {
+                    publish(destination, messages);
+                }
+            });
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Stops accumulating, publishes the accumulated messages and waits (up to the confirm timeout) for their confirms. Messages
+     * sent afterward are sent directly.
+     */
+    public void shutdown() {
+        shutdown = true;
+        scheduledFlush.cancel(false);
+        flush();
+        try {
+            if (!inFlight.tryAcquire(maxInFlight, confirmTimeout, TimeUnit.MILLISECONDS)) {
+                log.warn("{} messages have not been confirmed on shutdown.", maxInFlight - inFlight.availablePermits());
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        executorService.shutdown();
+    }
+
+    // behind the messages accumulated for the exchange, so that e.g. a cancel isn't received before its download request
+    private void sendDirectly(final Destination destination, final Message message, final String correlationId) {
+        flushLock.lock();
+        try {
+            final Batch batch = batches.get(destination);
+            if (batch != null) {
+                List<PendingMessage> messages;
+                while (!(messages = batch.drain(batchSize)).isEmpty()) {
+                    publish(destination, messages);
+                }
+            }
+            getRabbitTemplate().send(destination.exchange(), "", message, new CorrelationData(correlationId));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private boolean acquire() {
+        if (inFlight.tryAcquire()) {
+            return true;
+        }
+
+        requestFlush();
+        try {
+            return inFlight.tryAcquire(confirmTimeout, TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void add(final PendingMessage message) {
+        if (batches.computeIfAbsent(message.destination(), d -> new Batch()).add(message) >= batchSize) {
+            requestFlush();
+        }
+    }
+
+    // in front of the accumulated messages, so that it is at least not published after them
+    private void addRetry(final PendingMessage message) {
+        if (batches.computeIfAbsent(message.destination(), d -> new Batch()).addFirst(message) >= batchSize) {
+            requestFlush();
+        }
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                executorService.execute(() -> {
+                    flushRequested.set(false);
+                    flush();
+                });
+            } catch (final RejectedExecutionException e) {
+                flushRequested.set(false);
+                log.debug("Flush request rejected (shut down).", e);
+            }
+        }
+    }
+
+    private void publish(final Destination destination, final List<PendingMessage> messages) {
+        if (batchSizeSummary != null) {
+            batchSizeSummary.record(messages.size());
+        }
+        log.debug("Publish batch of {} messages to exchange {}", messages.size(), destination.exchange());
+
+        final AtomicInteger published = new AtomicInteger();
+        try {
+            // invoke binds a (dedicated) channel to the thread for the whole batch
+            getRabbitTemplate().invoke(operations -> {
+                for (final PendingMessage message : messages) {
+                    final CorrelationData correlationData = new CorrelationData(message.correlationId());
+                    final long sentAt = System.nanoTime();
+                    operations.send(destination.exchange(), "", message.message(), correlationData);
+                    published.incrementAndGet();
+                    if (publisherConfirms) {
+                        correlationData.getFuture()
+                                .orTimeout(confirmTimeout, TimeUnit.MILLISECONDS)
+                                .whenComplete((confirm, error) -> {
+                                    if (error == null) {
+                                        onConfirm(message, sentAt, confirm.isAck(), confirm.getReason());
+                                    } else {
+                                        onConfirm(message, sentAt, false, error.toString());
+                                    }
+                                });
+                    } else {
+                        inFlight.release();
+                    }
+                }
+                return null;
+            });
+        } catch (final RuntimeException e) {
+            log.warn("Failed to publish batch to exchange {}", destination.exchange(), e);
+            messages.subList(published.get(), messages.size()).forEach(message -> retryOrDrop(message, e.getMessage()));
+        }
+    }
+
+    private void onConfirm(final PendingMessage message, final long sentAt, final boolean ack, final String reason) {
+        if (confirmLatency != null) {
+            confirmLatency.record(System.nanoTime() - sentAt, TimeUnit.NANOSECONDS);
+        }
+        if (ack) {
+            inFlight.release();
+        } else {
+            if (nacks != null) {
+                nacks.increment();
+            }
+            retryOrDrop(message, reason);
+        }
+    }
+
+    // keeps the in-flight permit if the message is retried
+    private void retryOrDrop(final PendingMessage message, final String reason) {
+        if (message.attempt() < maxRetries && !shutdown) {
+            log.debug("Message with correlationId {} not confirmed ({}), retry", message.correlationId(), reason);
+            addRetry(message.retry());
+        } else {
+            inFlight.release();
+            log.error("Broker is unable to handle message with correlationId {} : {}", message.correlationId(), reason);
+        }
+    }
+
+    private record Destination(String virtualHost, String exchange) {}
+
+    private record PendingMessage(Destination destination, Message message, int attempt) {
+
+        private String correlationId() {
+            return message.getMessageProperties().getCorrelationId();
+        }
+
+        private PendingMessage retry() {
+            return new PendingMessage(destination, message, attempt + 1);
+        }
+    }
+
+    private static class Batch {
+
+        private final Deque<PendingMessage> messages = new ConcurrentLinkedDeque<>();
+        private final AtomicInteger size = new AtomicInteger();
+
+        private int add(final PendingMessage message) {
+            messages.add(message);
+            return size.incrementAndGet();
+        }
+
+        private int addFirst(final PendingMessage message) {
+            messages.addFirst(message);
+            return size.incrementAndGet();
+        }
+
+        private List<PendingMessage> drain(final int max) {
+            final List<PendingMessage> drained = new ArrayList<>(Math.min(max, size.get()));
+            PendingMessage message;
+            while (drained.size() < max && (message = messages.poll()) != null) {
+                size.decrementAndGet();
+                drained.add(message);
+            }
+            return drained;
+        }
+    }
+}
@@ -14,8 +14,10 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.regex.Pattern;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrlHandler;
@@ -30,6 +32,7 @@ import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.springframework.amqp.core.AcknowledgeMode;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.FanoutExchange;
@@ -42,7 +45,6 @@ import org.springframework.amqp.rabbit.listener.ConditionalRejectingErrorHandler
 import org.springframework.amqp.rabbit.listener.FatalExceptionStrategy;
 import org.springframework.amqp.rabbit.listener.RabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
-import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
@@ -120,12 +122,12 @@ public class DmfApiConfiguration {
     }
 
     /**
-     * @return {@link RabbitTemplate} with automatic retry, published confirms and {@link Jackson2JsonMessageConverter}.
+     * @return {@link RabbitTemplate} with automatic retry, published confirms and {@link DmfMessageConverter}.
      */
     @Bean
     public RabbitTemplate rabbitTemplate() {
         final RabbitTemplate rabbitTemplate = new RabbitTemplate(rabbitConnectionFactory);
-        rabbitTemplate.setMessageConverter(new Jackson2JsonMessageConverter());
+        rabbitTemplate.setMessageConverter(new DmfMessageConverter(amqpProperties.getEncoding()));
 
         final RetryTemplate retryTemplate = new RetryTemplate();
         retryTemplate.setBackOffPolicy(new ExponentialBackOffPolicy());
@@ -243,6 +245,25 @@ public class DmfApiConfiguration {
                 entityFactory, systemSecurityContext, tenantConfigurationManagement, confirmationManagement);
     }
 
+    /**
+     * Create AMQP batch handler service bean, if configured by {@code hawkbit.dmf.rabbitmq.receiver.mode=batch}.
+     *
+     * @param rabbitTemplate for converting messages
+     * @param amqpMessageHandlerService to handle the messages
+     * @param fatalExceptionStrategies list of {@link FatalExceptionStrategy} handlers, see {@link #errorHandler}
+     * @return batch handler service bean
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.dmf.rabbitmq.receiver", name = "mode", havingValue = "batch")
+    public AmqpBatchMessageHandlerService amqpBatchMessageHandlerService(
+            final RabbitTemplate rabbitTemplate, final AmqpMessageHandlerService amqpMessageHandlerService,
+            final List<FatalExceptionStrategy> fatalExceptionStrategies,
+            @Value("${hawkbit.dmf.rabbitmq.fatal-exception-types:}") final List<String> fatalExceptionTypes) {
+        return new AmqpBatchMessageHandlerService(
+                rabbitTemplate, amqpMessageHandlerService, new RequeueExceptionStrategy(fatalExceptionStrategies, fatalExceptionTypes));
+    }
+
     /**
      * Create default amqp sender service bean.
      *
@@ -250,10 +271,24 @@ public class DmfApiConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.dmf.rabbitmq.sender", name = "mode", havingValue = "default", matchIfMissing = true)
     public AmqpMessageSenderService amqpSenderServiceBean() {
         return new DefaultAmqpMessageSenderService(rabbitTemplate());
     }
 
+    /**
+     * Create batching amqp sender service bean, if configured by {@code hawkbit.dmf.rabbitmq.sender.mode=batch}.
+     *
+     * @param meterRegistry to record the sender metrics, if available
+     * @return the batching amqp sender service bean
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.dmf.rabbitmq.sender", name = "mode", havingValue = "batch")
+    public AmqpMessageSenderService batchingAmqpSenderServiceBean(final Optional<MeterRegistry> meterRegistry) {
+        return new BatchingAmqpMessageSenderService(rabbitTemplate(), amqpProperties.getSender(), meterRegistry);
+    }
+
     /**
      * Create RabbitListenerContainerFactory bean if no listenerContainerFactory bean found
      *
@@ -269,6 +304,28 @@ public class DmfApiConfiguration {
         return factory;
     }
 
+    /**
+     * Create the batch RabbitListenerContainerFactory bean, if configured by {@code hawkbit.dmf.rabbitmq.receiver.mode=batch} and
+     * no batchListenerContainerFactory bean found. The consumed messages are acknowledged by the listener.
+     *
+     * @return batch RabbitListenerContainerFactory bean
+     */
+    @Bean
+    @ConditionalOnMissingBean(name = "batchListenerContainerFactory")
+    @ConditionalOnProperty(prefix = "hawkbit.dmf.rabbitmq.receiver", name = "mode", havingValue = "batch")
+    public RabbitListenerContainerFactory<SimpleMessageListenerContainer> batchListenerContainerFactory(
+            final SimpleRabbitListenerContainerFactoryConfigurer configurer, final ErrorHandler errorHandler) {
+        final ConfigurableRabbitListenerContainerFactory factory = new ConfigurableRabbitListenerContainerFactory(
+                amqpProperties.isMissingQueuesFatal(), amqpProperties.getDeclarationRetries(), errorHandler);
+        configurer.configure(factory, rabbitConnectionFactory);
+        factory.setBatchListener(true);
+        factory.setConsumerBatchEnabled(true);
+        factory.setBatchSize(amqpProperties.getReceiver().getBatchSize());
+        factory.setReceiveTimeout(amqpProperties.getReceiver().getBatchReceiveTimeout().toMillis());
+        factory.setAcknowledgeMode(AcknowledgeMode.MANUAL);
+        return factory;
+    }
+
     @Bean
     @ConditionalOnMissingBean(AmqpMessageDispatcherService.class)
     AmqpMessageDispatcherService amqpMessageDispatcherService(
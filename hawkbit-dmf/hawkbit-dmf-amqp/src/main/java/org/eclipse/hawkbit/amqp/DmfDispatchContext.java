@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.hawkbit.artifact.repository.urlhandler.ApiType;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrl;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.ArtifactUrlHandler;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.URLPlaceholder;
+import org.eclipse.hawkbit.artifact.repository.urlhandler.URLPlaceholder.SoftwareData;
+import org.eclipse.hawkbit.dmf.json.model.DmfArtifact;
+import org.eclipse.hawkbit.dmf.json.model.DmfArtifactHash;
+import org.eclipse.hawkbit.dmf.json.model.DmfMetadata;
+import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
+import org.eclipse.hawkbit.repository.model.Artifact;
+import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
+import org.eclipse.hawkbit.repository.model.TenantMetaData;
+import org.springframework.util.CollectionUtils;
+
+/**
+ * Assembly context of the DMF software modules of a distribution set, for a single dispatch (e.g. the assignment of a
+ * distribution set to a batch of targets).
+ * <p/>
+ * The software modules, their target visible metadata and artifacts are the same for all targets of a dispatch, so they are
+ * converted once into DMF fragments which are reused for all targets. Only the artifact URLs are generated per target - and
+ * only if the {@link ArtifactUrlHandler} could generate target specific URLs, otherwise the whole DMF software modules are
+ * shared. The tenant metadata needed for the URLs is resolved once, when the first URL is generated.
+ * <p/>
+ * Not thread safe.
+ */
+public class DmfDispatchContext {
+
+    private final ArtifactUrlHandler artifactUrlHandler;
+    private final Supplier<TenantMetaData> tenantMetadataSupplier;
+    private final List<ModuleFragment> modules;
+    private final boolean targetSpecificUrls;
+
+    private TenantMetaData tenantMetadata;
+    private List<DmfSoftwareModule> sharedSoftwareModules;
+
+    /**
+     * @param artifactUrlHandler for generating download URLs
+     * @param tenantMetadataSupplier supplies the metadata of the current tenant, called at most once
+     * @param softwareModules the software modules with their target visible metadata, could be {@code null}
+     */
+    public DmfDispatchContext(
+            final ArtifactUrlHandler artifactUrlHandler, final Supplier<TenantMetaData> tenantMetadataSupplier,
+            final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules) {
+        this.artifactUrlHandler = artifactUrlHandler;
+        this.tenantMetadataSupplier = tenantMetadataSupplier;
+        modules = softwareModules == null
+                ? null
+                : softwareModules.entrySet().stream().map(entry -> ModuleFragment.of(entry.getKey(), entry.getValue())).toList();
+        targetSpecificUrls = artifactUrlHandler.isTargetSpecific(ApiType.DMF);
+    }
+
+    /**
+     * Returns the DMF software modules for the given target. The returned list is shared if the artifact URLs are not target
+     * specific.
+     *
+     * @param controllerId of the target
+     * @param targetId of the target
+     * @return the DMF software modules or {@code null} if the context has been created without software modules
+     */
+    public List<DmfSoftwareModule> getSoftwareModules(final String controllerId, final Long targetId) {
+        if (modules == null) {
+            return null;
+        }
+
+        if (targetSpecificUrls) {
+            return toDmfSoftwareModules(controllerId, targetId);
+        }
+        if (sharedSoftwareModules == null) {
+            sharedSoftwareModules = toDmfSoftwareModules(controllerId, targetId);
+        }
+        return sharedSoftwareModules;
+    }
+
+    private List<DmfSoftwareModule> toDmfSoftwareModules(final String controllerId, final Long targetId) {
+        return modules.stream()
+                .map(module -> new DmfSoftwareModule(
+                        module.id(), module.type(), module.version(), module.encrypted(),
+                        toDmfArtifacts(module.artifacts(), controllerId, targetId), module.metadata()))
+                .toList();
+    }
+
+    private List<DmfArtifact> toDmfArtifacts(final List<ArtifactFragment> artifacts, final String controllerId, final Long targetId) {
+        if (artifacts.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return artifacts.stream().map(artifact -> artifact.toDmfArtifact(getUrls(artifact, controllerId, targetId))).toList();
+    }
+
+    private Map<String, String> getUrls(final ArtifactFragment artifact, final String controllerId, final Long targetId) {
+        if (tenantMetadata == null) {
+            tenantMetadata = tenantMetadataSupplier.get();
+        }
+        return artifactUrlHandler
+                .getUrls(new URLPlaceholder(
+                                tenantMetadata.getTenant(), tenantMetadata.getId(), controllerId, targetId, artifact.softwareData()),
+                        ApiType.DMF)
+                .stream()
+                .collect(Collectors.toMap(ArtifactUrl::getProtocol, ArtifactUrl::getRef));
+    }
+
+    private record ModuleFragment(
+            Long id, String type, String version, Boolean encrypted, List<ArtifactFragment> artifacts, List<DmfMetadata> metadata) {
+
+        private static ModuleFragment of(final SoftwareModule module, final List<SoftwareModuleMetadata> metadata) {
+            return new ModuleFragment(
+                    module.getId(), module.getType().getKey(), module.getVersion(), module.isEncrypted() ? Boolean.TRUE : null,
+                    module.getArtifacts().stream().map(ArtifactFragment::of).toList(),
+                    CollectionUtils.isEmpty(metadata)
+                            ? null
+                            : metadata.stream().map(md -> new DmfMetadata(md.getKey(), md.getValue())).toList());
+        }
+    }
+
+    private record ArtifactFragment(String filename, DmfArtifactHash hashes, long size, long lastModified, SoftwareData softwareData) {
+
+        private static ArtifactFragment of(final Artifact artifact) {
+            return new ArtifactFragment(
+                    artifact.getFilename(), new DmfArtifactHash(artifact.getSha1Hash(), artifact.getMd5Hash()), artifact.getSize(),
+                    artifact.getLastModifiedAt(),
+                    new SoftwareData(
+                            artifact.getSoftwareModule().getId(), artifact.getFilename(), artifact.getId(), artifact.getSha1Hash()));
+        }
+
+        private DmfArtifact toDmfArtifact(final Map<String, String> urls) {
+            return new DmfArtifact(filename, hashes, size, lastModified, urls);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import java.io.IOException;
+import java.net.URI;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.core.MessagePropertiesBuilder;
+import org.springframework.amqp.support.converter.AbstractMessageConverter;
+import org.springframework.amqp.support.converter.DefaultJackson2JavaTypeMapper;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.amqp.support.postprocessor.DelegatingDecompressingPostProcessor;
+import org.springframework.amqp.support.postprocessor.GZipPostProcessor;
+import org.springframework.util.ObjectUtils;
+
+/**
+ * {@link MessageConverter} of the DMF messages which supports JSON and the compact binary CBOR encoding.
+ * <p/>
+ * Received messages are decoded according to their {@code content_type} (CBOR if it contains {@code cbor}, JSON otherwise) and
+ * decompressed according to their {@code content_encoding} ({@code gzip}, {@code deflate} or {@code zip}). Sent messages are
+ * encoded according to their content type and gzip compressed if their body exceeds the configured threshold.
+ * <p/>
+ * The content type of the last message received from a reply-to address is remembered (see {@link #rememberContentType}), so
+ * the messages sent to that address (see {@link #toMessage(Object, MessageProperties, URI)}) are encoded as the client does -
+ * JSON until a CBOR message is received from it. So, JSON and CBOR clients could be served at the same time.
+ */
+public class DmfMessageConverter implements MessageConverter {
+
+    /**
+     * The content type of CBOR encoded DMF messages.
+     */
+    public static final String CONTENT_TYPE_CBOR = "application/cbor";
+
+    private final Jackson2JsonMessageConverter jsonConverter = new Jackson2JsonMessageConverter();
+    private final CborMessageConverter cborConverter = new CborMessageConverter();
+    private final DelegatingDecompressingPostProcessor decompressor = new DelegatingDecompressingPostProcessor();
+    private final GZipPostProcessor compressor = new GZipPostProcessor();
+    // the reply-to addresses of the CBOR clients, all the others are JSON clients
+    private final Set<URI> cborAddresses = ConcurrentHashMap.newKeySet();
+    private final int compressionThreshold;
+
+    /**
+     * @param encoding the encoding of the sent messages
+     */
+    public DmfMessageConverter(final AmqpProperties.Encoding encoding) {
+        compressionThreshold = encoding.getCompressionThreshold();
+    }
+
+    /**
+     * Remembers the content type of a message received from a client, so that the messages sent to it are encoded the same way.
+     *
+     * @param replyTo the reply-to address of the client
+     * @param contentType the content type of the received message, ignored if neither JSON nor CBOR
+     */
+    public void rememberContentType(final URI replyTo, final String contentType) {
+        if (isCbor(contentType)) {
+            cborAddresses.add(replyTo);
+        } else if (isJson(contentType)) {
+            cborAddresses.remove(replyTo);
+        }
+    }
+
+    /**
+     * Converts the object to a message sent to the given address - encoded as the last message received from that address,
+     * JSON if none has been received yet.
+     *
+     * @param object the object to convert
+     * @param messageProperties the message properties
+     * @param address the address the message is sent to
+     * @return the message
+     */
+    public Message toMessage(final Object object, final MessageProperties messageProperties, final URI address) {
+        if (cborAddresses.contains(address)) {
+            messageProperties.setContentType(CONTENT_TYPE_CBOR);
+        }
+        return toMessage(object, messageProperties);
+    }
+
+    @Override
+    public Message toMessage(final Object object, final MessageProperties messageProperties) {
+        final boolean cbor = isCbor(messageProperties.getContentType());
+        Message message = (cbor ? cborConverter : jsonConverter).toMessage(object, messageProperties);
+        if (cbor && messageProperties.getHeaders().containsKey(MessageHeaderKey.CONTENT_TYPE)) {
+            messageProperties.setHeader(MessageHeaderKey.CONTENT_TYPE, CONTENT_TYPE_CBOR);
+        }
+        if (compressionThreshold >= 0 && message.getBody().length >= compressionThreshold) {
+            message = compressor.postProcessMessage(message);
+        }
+        return message;
+    }
+
+    @Override
+    public Object fromMessage(final Message message) {
+        // decompresses a copy - the decompression changes the properties and the received message could be converted again
+        final Message decompressed = ObjectUtils.isEmpty(message.getMessageProperties().getContentEncoding())
+                ? message
+                : decompressor.postProcessMessage(
+                        new Message(message.getBody(), MessagePropertiesBuilder.fromClonedProperties(message.getMessageProperties()).build()));
+        return (isCbor(decompressed.getMessageProperties().getContentType()) ? cborConverter : jsonConverter).fromMessage(decompressed);
+    }
+
+    /**
+     * @param contentType the content type of a message
+     * @return {@code true} if the content type is supported by this converter
+     */
+    public static boolean isSupported(final String contentType) {
+        return isJson(contentType) || isCbor(contentType);
+    }
+
+    private static boolean isJson(final String contentType) {
+        return contentType != null && contentType.contains("json");
+    }
+
+    private static boolean isCbor(final String contentType) {
+        return contentType != null && contentType.contains("cbor");
+    }
+
+    private static class CborMessageConverter extends AbstractMessageConverter {
+
+        private final ObjectMapper objectMapper = CBORMapper.builder()
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .disable(MapperFeature.DEFAULT_VIEW_INCLUSION)
+                .findAndAddModules()
+                .build();
+        private final DefaultJackson2JavaTypeMapper javaTypeMapper = new DefaultJackson2JavaTypeMapper();
+
+        private CborMessageConverter() {
+            javaTypeMapper.setTrustedPackages("*");
+        }
+
+        @Override
+        public Object fromMessage(final Message message) {
+            try {
+                return objectMapper.readValue(message.getBody(), javaTypeMapper.toJavaType(message.getMessageProperties()));
+            } catch (final IOException e) {
+                throw new MessageConversionException("Failed to convert CBOR message content", e);
+            }
+        }
+
+        @Override
+        protected Message createMessage(final Object object, final MessageProperties messageProperties) {
+            final byte[] body;
+            try {
+                body = objectMapper.writeValueAsBytes(object);
+            } catch (final IOException e) {
+                throw new MessageConversionException("Failed to convert object to CBOR message content", e);
+            }
+            messageProperties.setContentType(CONTENT_TYPE_CBOR);
+            messageProperties.setContentEncoding(null);
+            messageProperties.setContentLength(body.length);
+            javaTypeMapper.fromJavaType(objectMapper.constructType(object.getClass()), messageProperties);
+            return new Message(body, messageProperties);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+
+import com.rabbitmq.client.Channel;
+import org.eclipse.hawkbit.amqp.AmqpMessageHandlerService.ActionStatusUpdate;
+import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
+import org.eclipse.hawkbit.dmf.json.model.DmfActionStatus;
+import org.eclipse.hawkbit.dmf.json.model.DmfActionUpdateStatus;
+import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpRejectAndDontRequeueException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.dao.QueryTimeoutException;
+
+/**
+ * Feature: Unit Tests - Device Management Federation API<br/>
+ * Story: Amqp Batch Message Handler Service
+ */
+@ExtendWith(MockitoExtension.class)
+class AmqpBatchMessageHandlerServiceTest {
+
+    private static final String VIRTUAL_HOST = "vHost";
+
+    private final MessageConverter messageConverter = new Jackson2JsonMessageConverter();
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private AmqpMessageHandlerService amqpMessageHandlerService;
+    @Mock
+    private Channel channel;
+
+    private AmqpBatchMessageHandlerService batchMessageHandlerService;
+    private long deliveryTag;
+
+    @BeforeEach
+    void before() {
+        when(rabbitTemplate.getMessageConverter()).thenReturn(messageConverter);
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        when(connectionFactory.getVirtualHost()).thenReturn(VIRTUAL_HOST);
+        batchMessageHandlerService = new AmqpBatchMessageHandlerService(
+                rabbitTemplate, amqpMessageHandlerService, new RequeueExceptionStrategy(List.of(), List.of()));
+    }
+
+    /**
+     * Verifies that the action status updates of a batch are added in bulk per tenant and every message is acknowledged
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void updatesActionStatusesPerTenant() throws IOException {
+        final Message running1 = createActionStatusMessage("tenant1", DmfActionStatus.RUNNING);
+        final Message finished2 = createActionStatusMessage("tenant2", DmfActionStatus.FINISHED);
+        final Message download1 = createActionStatusMessage("tenant1", DmfActionStatus.DOWNLOAD);
+
+        batchMessageHandlerService.onMessages(List.of(running1, finished2, download1), channel);
+
+        final ArgumentCaptor<List<ActionStatusUpdate>> tenant1Updates = ArgumentCaptor.forClass(List.class);
+        verify(amqpMessageHandlerService).updateActionStatuses(eq("tenant1"), tenant1Updates.capture());
+        assertThat(tenant1Updates.getValue()).extracting(ActionStatusUpdate::message).containsExactly(running1, download1);
+        assertThat(tenant1Updates.getValue()).extracting(update -> update.actionUpdateStatus().getActionStatus())
+                .containsExactly(DmfActionStatus.RUNNING, DmfActionStatus.DOWNLOAD);
+        final ArgumentCaptor<List<ActionStatusUpdate>> tenant2Updates = ArgumentCaptor.forClass(List.class);
+        verify(amqpMessageHandlerService).updateActionStatuses(eq("tenant2"), tenant2Updates.capture());
+        assertThat(tenant2Updates.getValue()).extracting(ActionStatusUpdate::message).containsExactly(finished2);
+        verify(amqpMessageHandlerService, never()).onMessage(any(), anyString(), anyString(), anyString());
+
+        verifyAcknowledged(running1, finished2, download1);
+    }
+
+    /**
+     * Verifies that the other messages are handled separately and in order, after the pending action status updates are added
+     */
+    @Test
+    void handlesOtherMessagesSeparatelyInOrder() throws IOException {
+        final Message running = createActionStatusMessage("tenant", DmfActionStatus.RUNNING);
+        final Message confirmed = createActionStatusMessage("tenant", DmfActionStatus.CONFIRMED);
+        final Message ping = createMessage(MessageType.PING, "tenant", null, "");
+        final Message finished = createActionStatusMessage("tenant", DmfActionStatus.FINISHED);
+
+        batchMessageHandlerService.onMessages(List.of(running, confirmed, ping, finished), channel);
+
+        final InOrder inOrder = inOrder(amqpMessageHandlerService);
+        inOrder.verify(amqpMessageHandlerService).updateActionStatuses(eq("tenant"), anyList());
+        inOrder.verify(amqpMessageHandlerService).onMessage(confirmed, MessageType.EVENT.name(), "tenant", VIRTUAL_HOST);
+        inOrder.verify(amqpMessageHandlerService).onMessage(ping, MessageType.PING.name(), "tenant", VIRTUAL_HOST);
+        inOrder.verify(amqpMessageHandlerService).updateActionStatuses(eq("tenant"), anyList());
+
+        verifyAcknowledged(running, confirmed, ping, finished);
+    }
+
+    /**
+     * Verifies that the messages of a failed bulk update are handled one by one, so that only the failing message is rejected or
+     * re-queued (depending on the failure)
+     */
+    @Test
+    void failingBulkUpdateIsHandledOneByOne() throws IOException {
+        final Message running = createActionStatusMessage("tenant", DmfActionStatus.RUNNING);
+        final Message poisoned = createActionStatusMessage("tenant", DmfActionStatus.FINISHED);
+        final Message timedOut = createActionStatusMessage("tenant", DmfActionStatus.ERROR);
+        final Message download = createActionStatusMessage("tenant", DmfActionStatus.DOWNLOAD);
+        doThrow(new EntityNotFoundException("Action", 2L)).when(amqpMessageHandlerService).updateActionStatuses(eq("tenant"), anyList());
+        // lenient - the strict stubbing mismatch for the other messages would be handled as failure
+        lenient().when(amqpMessageHandlerService.onMessage(poisoned, MessageType.EVENT.name(), "tenant", VIRTUAL_HOST))
+                .thenThrow(new AmqpRejectAndDontRequeueException("Invalid message!"));
+        lenient().when(amqpMessageHandlerService.onMessage(timedOut, MessageType.EVENT.name(), "tenant", VIRTUAL_HOST))
+                .thenThrow(new QueryTimeoutException("timeout"));
+
+        batchMessageHandlerService.onMessages(List.of(running, poisoned, timedOut, download), channel);
+
+        verify(amqpMessageHandlerService).onMessage(running, MessageType.EVENT.name(), "tenant", VIRTUAL_HOST);
+        verify(amqpMessageHandlerService).onMessage(download, MessageType.EVENT.name(), "tenant", VIRTUAL_HOST);
+        verifyAcknowledged(running, download);
+        verify(channel).basicReject(poisoned.getMessageProperties().getDeliveryTag(), false);
+        verify(channel).basicReject(timedOut.getMessageProperties().getDeliveryTag(), true);
+        verify(channel, never()).basicAck(poisoned.getMessageProperties().getDeliveryTag(), false);
+        verify(channel, never()).basicAck(timedOut.getMessageProperties().getDeliveryTag(), false);
+    }
+
+    /**
+     * Verifies that the messages of an added bulk update are not handled again if the update command or the acknowledgement fails
+     * afterward
+     */
+    @Test
+    void addedBulkUpdateIsNotHandledAgain() throws IOException {
+        final Message running = createActionStatusMessage("tenant", DmfActionStatus.RUNNING);
+        final Message finished = createActionStatusMessage("tenant", DmfActionStatus.FINISHED);
+        final List<Target> targets = List.of(mock(Target.class));
+        when(amqpMessageHandlerService.updateActionStatuses(eq("tenant"), anyList())).thenReturn(targets);
+        doThrow(new IOException("channel closed")).when(channel).basicAck(running.getMessageProperties().getDeliveryTag(), false);
+
+        batchMessageHandlerService.onMessages(List.of(running, finished), channel);
+
+        final InOrder inOrder = inOrder(amqpMessageHandlerService, channel);
+        inOrder.verify(amqpMessageHandlerService).updateActionStatuses(eq("tenant"), anyList());
+        inOrder.verify(amqpMessageHandlerService).sendUpdateCommandToTargets("tenant", targets);
+        inOrder.verify(channel).basicAck(finished.getMessageProperties().getDeliveryTag(), false);
+        verify(amqpMessageHandlerService, never()).onMessage(any(), anyString(), anyString(), anyString());
+        verify(channel, never()).basicReject(anyLong(), anyBoolean());
+    }
+
+    /**
+     * Verifies that invalid action status updates are not added in bulk but handled (and rejected) separately
+     */
+    @Test
+    void rejectsInvalidActionStatusUpdateSeparately() throws IOException {
+        final Message invalid = createMessage(MessageType.EVENT, "tenant", EventTopic.UPDATE_ACTION_STATUS, "");
+        when(amqpMessageHandlerService.onMessage(invalid, MessageType.EVENT.name(), "tenant", VIRTUAL_HOST))
+                .thenThrow(new AmqpRejectAndDontRequeueException("Invalid message!"));
+
+        batchMessageHandlerService.onMessages(List.of(invalid), channel);
+
+        verify(amqpMessageHandlerService, never()).updateActionStatuses(anyString(), anyList());
+        verify(channel).basicReject(invalid.getMessageProperties().getDeliveryTag(), false);
+        verify(channel, never()).basicAck(anyLong(), eq(false));
+    }
+
+    private void verifyAcknowledged(final Message... messages) throws IOException {
+        for (final Message message : messages) {
+            verify(channel).basicAck(message.getMessageProperties().getDeliveryTag(), false);
+        }
+    }
+
+    private Message createActionStatusMessage(final String tenant, final DmfActionStatus actionStatus) {
+        return createMessage(MessageType.EVENT, tenant, EventTopic.UPDATE_ACTION_STATUS, new DmfActionUpdateStatus(2L, actionStatus));
+    }
+
+    private Message createMessage(final MessageType type, final String tenant, final EventTopic topic, final Object body) {
+        final MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setHeader(MessageHeaderKey.TYPE, type.name());
+        messageProperties.setHeader(MessageHeaderKey.TENANT, tenant);
+        if (topic != null) {
+            messageProperties.setHeader(MessageHeaderKey.TOPIC, topic.name());
+        }
+        messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        messageProperties.setDeliveryTag(++deliveryTag);
+        return messageConverter.toMessage(body, messageProperties);
+    }
+}
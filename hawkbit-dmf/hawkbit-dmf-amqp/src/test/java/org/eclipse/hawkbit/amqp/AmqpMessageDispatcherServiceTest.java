@@ -20,6 +20,7 @@ import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -32,6 +33,7 @@ import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
 import org.eclipse.hawkbit.dmf.json.model.DmfActionRequest;
+import org.eclipse.hawkbit.dmf.json.model.DmfCreateThing;
 import org.eclipse.hawkbit.dmf.json.model.DmfDownloadAndUpdateRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
 import org.eclipse.hawkbit.repository.SystemManagement;
@@ -207,6 +209,42 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
         }
     }
 
+    /**
+     * Verifies that the software modules of the distribution set are assembled once for all targets of an assignment.
+     */
+    @Test
+    void testSendDownloadRequestsAssemblesSoftwareModulesOnce() {
+        DistributionSet ds = testdataFactory.createDistributionSet(UUID.randomUUID().toString());
+        final SoftwareModule module = ds.getModules().iterator().next();
+        testdataFactory.createArtifacts(module.getId());
+        ds = distributionSetManagement.get(ds.getId()).get();
+        final List<Target> targets = new ArrayList<>(List.of(testTarget));
+        for (int i = 0; i < 2; i++) {
+            targets.add(targetManagement.create(entityFactory.target().create().controllerId("assembled" + i)
+                    .securityToken(TEST_TOKEN).address(AMQP_URI.toString())));
+        }
+        final List<Action> actions = assignDistributionSet(ds, targets).getAssignedEntity();
+
+        amqpMessageDispatcherService.targetAssignDistributionSet(new TargetAssignDistributionSetEvent(
+                actions.get(0).getTenant(), ds.getId(), actions, true));
+
+        final ArgumentCaptor<Message> messageCaptor = ArgumentCaptor.forClass(Message.class);
+        Mockito.verify(senderService, Mockito.times(targets.size())).sendMessage(messageCaptor.capture(), eq(AMQP_URI));
+        assertThat(messageCaptor.getAllValues()).allSatisfy(message -> {
+            message.getMessageProperties().getHeaders().put(
+                    AbstractJavaTypeMapper.DEFAULT_CLASSID_FIELD_NAME, DmfDownloadAndUpdateRequest.class.getTypeName());
+            final DmfDownloadAndUpdateRequest request =
+                    (DmfDownloadAndUpdateRequest) rabbitTemplate.getMessageConverter().fromMessage(message);
+            assertThat(request.getSoftwareModules()).hasSize(3)
+                    .filteredOn(softwareModule -> softwareModule.getModuleId().equals(module.getId()))
+                    .singleElement()
+                    .satisfies(softwareModule -> assertThat(softwareModule.getArtifacts()).isNotEmpty()
+                            .allSatisfy(artifact -> assertThat(artifact.getUrls()).containsEntry("http", "http://mockurl")));
+        });
+        // tenant metadata is needed for the artifact urls, but resolved once per assignment
+        Mockito.verify(systemManagement).getTenantMetadataWithoutDetails();
+    }
+
     /**
      * Verifies that sending update controller attributes event works.
      */
@@ -222,6 +260,44 @@ class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
         assertUpdateAttributesMessage(sendMessage);
     }
 
+    /**
+     * Verifies that a JSON client and a CBOR client are served at the same time - each with messages encoded as it sends them
+     */
+    @Test
+    void sendDownloadRequestsEncodedAsReceivedFromClients() {
+        final DmfMessageConverter messageConverter = new DmfMessageConverter(new AmqpProperties.Encoding());
+        when(rabbitTemplate.getMessageConverter()).thenReturn(messageConverter);
+        final AmqpMessageHandlerService amqpMessageHandlerService = new AmqpMessageHandlerService(
+                rabbitTemplate, amqpMessageDispatcherService, controllerManagement, entityFactory, systemSecurityContext,
+                tenantConfigurationManagement, confirmationManagement);
+        final Map<String, String> clients = Map.of(
+                "jsonClient", MessageProperties.CONTENT_TYPE_JSON,
+                "cborClient", DmfMessageConverter.CONTENT_TYPE_CBOR);
+
+        // the clients register their things, sending to hawkBit with their encoding
+        clients.forEach((controllerId, contentType) -> {
+            final MessageProperties messageProperties = new MessageProperties();
+            messageProperties.setContentType(contentType);
+            messageProperties.setReplyTo(controllerId);
+            messageProperties.setHeader(MessageHeaderKey.THING_ID, controllerId);
+            amqpMessageHandlerService.onMessage(
+                    messageConverter.toMessage(new DmfCreateThing(controllerId, null, null), messageProperties),
+                    MessageType.THING_CREATED.name(), TENANT, "vHost");
+        });
+
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet(UUID.randomUUID().toString());
+        clients.forEach((controllerId, contentType) -> {
+            final Target target = targetManagement.getByControllerID(controllerId).orElseThrow();
+            final Action action = getFirstAssignedAction(assignDistributionSet(distributionSet, target));
+            amqpMessageDispatcherService.targetAssignDistributionSet(new TargetAssignDistributionSetEvent(action));
+
+            final Message sendMessage = createArgumentCapture(IpUtil.createAmqpUri("vHost", controllerId));
+            assertThat(sendMessage.getMessageProperties().getContentType()).isEqualTo(contentType);
+            assertThat(sendMessage.getMessageProperties().<String> getHeader(MessageHeaderKey.CONTENT_TYPE)).isEqualTo(contentType);
+            assertThat(convertMessage(sendMessage, DmfDownloadAndUpdateRequest.class).getActionId()).isEqualTo(action.getId());
+        });
+    }
+
     /**
      * Verifies that send cancel event works
      */
@@ -15,17 +15,21 @@ import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationPrope
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.lang.reflect.Field;
 import java.net.URI;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
+import org.eclipse.hawkbit.amqp.AmqpMessageHandlerService.ActionStatusUpdate;
 import org.eclipse.hawkbit.dmf.amqp.api.EventTopic;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
 import org.eclipse.hawkbit.dmf.amqp.api.MessageType;
@@ -63,6 +67,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Captor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpException;
 import org.springframework.amqp.AmqpRejectAndDontRequeueException;
 import org.springframework.amqp.core.Message;
 import org.springframework.amqp.core.MessageProperties;
@@ -494,6 +499,74 @@ class AmqpMessageHandlerServiceTest {
         assertThat(actionProperties.getId()).as("event has wrong action id").isEqualTo(22L);
     }
 
+    /**
+     * Verifies that the action status updates are added in bulk and the next update is sent once per target
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateActionStatusesInBulk() throws IllegalAccessException {
+        final Action action = createActionWithTarget(22L);
+        when(controllerManagementMock.addUpdateActionStatuses(any())).thenReturn(List.of(action, action));
+        final ActionStatusBuilder builder = mock(ActionStatusBuilder.class);
+        final ActionStatusCreate create = mock(ActionStatusCreate.class);
+        when(builder.create(22L)).thenReturn(create);
+        when(create.status(any())).thenReturn(create);
+        when(create.messages(any())).thenReturn(create);
+        when(entityFactoryMock.actionStatus()).thenReturn(builder);
+        when(controllerManagementMock.findActiveActionWithHighestWeight(any())).thenReturn(Optional.of(action));
+
+        final MessageProperties messageProperties = createMessageProperties(MessageType.EVENT);
+        messageProperties.setHeader(MessageHeaderKey.TOPIC, EventTopic.UPDATE_ACTION_STATUS.name());
+        final DmfActionUpdateStatus running = createActionUpdateStatus(DmfActionStatus.RUNNING, 22L);
+        final DmfActionUpdateStatus finished = createActionUpdateStatus(DmfActionStatus.FINISHED, 22L);
+        final List<Target> targets = amqpMessageHandlerService.updateActionStatuses(TENANT, List.of(
+                new ActionStatusUpdate(createMessage(running, messageProperties), running),
+                new ActionStatusUpdate(createMessage(finished, messageProperties), finished)));
+
+        final ArgumentCaptor<List<ActionStatusCreate>> createsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(controllerManagementMock).addUpdateActionStatuses(createsCaptor.capture());
+        assertThat(createsCaptor.getValue()).hasSize(2);
+        verify(controllerManagementMock, never()).addUpdateActionStatus(any());
+        assertThat(targets).containsExactly(action.getTarget());
+
+        amqpMessageHandlerService.sendUpdateCommandToTargets(TENANT, targets);
+        verify(amqpMessageDispatcherServiceMock, times(1))
+                .sendUpdateMessageToTarget(any(ActionProperties.class), any(Target.class), any(Map.class));
+    }
+
+    /**
+     * Verifies that a failure to send the update command to a target doesn't fail the update commands of the other targets
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    void failingUpdateCommandDoesNotFailTheOtherTargets() throws IllegalAccessException {
+        final Action action1 = createActionWithTarget(22L);
+        final Action action2 = createActionWithTarget(23L);
+        when(controllerManagementMock.findActiveActionWithHighestWeight(any()))
+                .thenReturn(Optional.of(action1))
+                .thenReturn(Optional.of(action2));
+        doThrow(new AmqpException("send failed")).doNothing()
+                .when(amqpMessageDispatcherServiceMock).sendUpdateMessageToTarget(any(ActionProperties.class), any(Target.class), any(Map.class));
+
+        amqpMessageHandlerService.sendUpdateCommandToTargets(TENANT, List.of(action1.getTarget(), action2.getTarget()));
+
+        verify(amqpMessageDispatcherServiceMock, times(2))
+                .sendUpdateMessageToTarget(any(ActionProperties.class), any(Target.class), any(Map.class));
+    }
+
+    /**
+     * Verifies that the action status updates which have to be handled separately are not added in bulk
+     */
+    @Test
+    void updateActionStatusesInBulkRejectsSeparateStatuses() {
+        final DmfActionUpdateStatus confirmed = createActionUpdateStatus(DmfActionStatus.CONFIRMED);
+        final List<ActionStatusUpdate> updates = List.of(
+                new ActionStatusUpdate(createMessage(confirmed, createMessageProperties(MessageType.EVENT)), confirmed));
+        assertThatExceptionOfType(IllegalArgumentException.class)
+                .isThrownBy(() -> amqpMessageHandlerService.updateActionStatuses(TENANT, updates));
+        verify(controllerManagementMock, never()).addUpdateActionStatuses(any());
+    }
+
     /**
      * Test feedback code is persisted in messages when provided with DmfActionUpdateStatus
      */
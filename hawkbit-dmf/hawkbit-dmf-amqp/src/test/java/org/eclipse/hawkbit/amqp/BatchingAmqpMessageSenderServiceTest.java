@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.connection.CorrelationData.Confirm;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitOperations.OperationsCallback;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+/**
+ * Feature: Unit Tests - Device Management Federation API<br/>
+ * Story: Batching Amqp Message Sender Service
+ */
+@ExtendWith(MockitoExtension.class)
+class BatchingAmqpMessageSenderServiceTest {
+
+    private static final URI SEND_TO = URI.create("amqp://vhost/dmf.exchange");
+
+    @Mock
+    private RabbitTemplate rabbitTemplate;
+    @Mock
+    private ConnectionFactory connectionFactory;
+    @Mock
+    private RabbitOperations operations;
+
+    private final List<CorrelationData> published = new CopyOnWriteArrayList<>();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AmqpProperties.Sender sender = new AmqpProperties.Sender();
+    private BatchingAmqpMessageSenderService senderService;
+
+    @BeforeEach
+    void setup() {
+        when(rabbitTemplate.getConnectionFactory()).thenReturn(connectionFactory);
+        when(connectionFactory.isPublisherConfirms()).thenReturn(true);
+        when(rabbitTemplate.invoke(anyOperationsCallback())).thenAnswer(
+                invocation -> invocation.<OperationsCallback<?>> getArgument(0).doInRabbit(operations));
+        doAnswer(invocation -> published.add(invocation.getArgument(3)))
+                .when(operations).send(eq("dmf.exchange"), eq(""), any(Message.class), any(CorrelationData.class));
+
+        sender.setBatchSize(3);
+        sender.setBatchLatency(Duration.ofHours(1)); // flushed by size or explicitly only
+        sender.setMaxInFlight(10);
+        sender.setMaxRetries(1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        // confirm whatever is still in-flight, so that the shutdown doesn't wait
+        published.forEach(correlationData -> correlationData.getFuture().complete(new Confirm(true, null)));
+        senderService.shutdown();
+    }
+
+    /**
+     * Verifies that the messages are published in batches of the configured size on a dedicated channel
+     */
+    @Test
+    void publishesBatchWhenBatchSizeReached() {
+        senderService = new BatchingAmqpMessageSenderService(rabbitTemplate, sender, Optional.of(meterRegistry));
+
+        senderService.sendMessage(createMessage(), SEND_TO);
+        senderService.sendMessage(createMessage(), SEND_TO);
+        assertThat(published).isEmpty();
+
+        senderService.sendMessage(createMessage(), SEND_TO);
+        await().untilAsserted(() -> assertThat(published).hasSize(3));
+        verify(rabbitTemplate).invoke(anyOperationsCallback());
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        assertThat(published).allSatisfy(correlationData -> assertThat(correlationData.getId()).isNotEmpty());
+        assertThat(meterRegistry.get("hawkbit.dmf.sender.batch.size").summary().max()).isEqualTo(3);
+    }
+
+    /**
+     * Verifies that nacked messages are published again up to the configured number of retries
+     */
+    @Test
+    void retriesNackedMessages() {
+        senderService = new BatchingAmqpMessageSenderService(rabbitTemplate, sender, Optional.of(meterRegistry));
+
+        final Message message = createMessage();
+        senderService.sendMessage(message, SEND_TO);
+        senderService.flush();
+        assertThat(published).hasSize(1);
+
+        published.get(0).getFuture().complete(new Confirm(false, "nack"));
+        senderService.flush();
+        assertThat(published).hasSize(2);
+        assertThat(published.get(1).getId()).isEqualTo(message.getMessageProperties().getCorrelationId());
+
+        // retries exhausted - dropped
+        published.get(1).getFuture().complete(new Confirm(false, "nack"));
+        senderService.flush();
+        assertThat(published).hasSize(2);
+        assertThat(meterRegistry.get("hawkbit.dmf.sender.nacks").counter().count()).isEqualTo(2);
+    }
+
+    /**
+     * Verifies that a retried message is published before the messages accumulated while it was waiting for its confirm
+     */
+    @Test
+    void retriesBeforeAccumulatedMessages() {
+        senderService = new BatchingAmqpMessageSenderService(rabbitTemplate, sender, Optional.of(meterRegistry));
+
+        final Message nacked = createMessage();
+        senderService.sendMessage(nacked, SEND_TO);
+        senderService.flush();
+        final Message accumulated = createMessage();
+        senderService.sendMessage(accumulated, SEND_TO);
+
+        published.get(0).getFuture().complete(new Confirm(false, "nack"));
+        senderService.flush();
+        assertThat(published).extracting(CorrelationData::getId).containsExactly(
+                nacked.getMessageProperties().getCorrelationId(), nacked.getMessageProperties().getCorrelationId(),
+                accumulated.getMessageProperties().getCorrelationId());
+    }
+
+    /**
+     * Verifies that the in-flight window is bounded and released by the confirms
+     */
+    @Test
+    void boundsInFlightMessages() throws InterruptedException {
+        sender.setMaxInFlight(2);
+        senderService = new BatchingAmqpMessageSenderService(rabbitTemplate, sender, Optional.of(meterRegistry));
+
+        senderService.sendMessage(createMessage(), SEND_TO);
+        senderService.sendMessage(createMessage(), SEND_TO);
+        senderService.flush();
+        assertThat(published).hasSize(2);
+
+        // window full - waits for the confirms
+        final Thread sending = new Thread(() -> senderService.sendMessage(createMessage(), SEND_TO));
+        sending.start();
+        await().until(() -> sending.getState() == Thread.State.TIMED_WAITING);
+        published.forEach(correlationData -> correlationData.getFuture().complete(new Confirm(true, null)));
+        sending.join(10_000);
+
+        senderService.flush();
+        assertThat(published).hasSize(3);
+        verify(rabbitTemplate, never()).send(anyString(), anyString(), any(Message.class), any(CorrelationData.class));
+        assertThat(meterRegistry.get("hawkbit.dmf.sender.confirm.latency").timer().count()).isEqualTo(2);
+    }
+
+    /**
+     * Verifies that a message sent directly, because the in-flight window is still full after the confirm timeout, is sent after
+     * the messages accumulated for the exchange
+     */
+    @Test
+    void sendsDirectlyAfterAccumulatedMessages() {
+        sender.setMaxInFlight(2);
+        sender.setConfirmTimeout(Duration.ofMillis(100));
+        senderService = new BatchingAmqpMessageSenderService(rabbitTemplate, sender, Optional.of(meterRegistry));
+
+        final Message download = createMessage();
+        senderService.sendMessage(download, SEND_TO);
+        senderService.sendMessage(createMessage(), SEND_TO);
+        final Message cancel = createMessage();
+        senderService.sendMessage(cancel, SEND_TO);
+
+        final InOrder inOrder = inOrder(operations, rabbitTemplate);
+        inOrder.verify(operations).send(eq("dmf.exchange"), eq(""), eq(download), any(CorrelationData.class));
+        inOrder.verify(rabbitTemplate).send(eq("dmf.exchange"), eq(""), eq(cancel), any(CorrelationData.class));
+        assertThat(published).hasSize(2);
+    }
+
+    private static OperationsCallback<Object> anyOperationsCallback() {
+        return any();
+    }
+
+    private static Message createMessage() {
+        return new Message("{}".getBytes(), new MessageProperties());
+    }
+}
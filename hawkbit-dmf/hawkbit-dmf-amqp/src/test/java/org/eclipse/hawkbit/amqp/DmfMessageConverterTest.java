@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.hawkbit.dmf.amqp.api.MessageHeaderKey;
+import org.eclipse.hawkbit.dmf.json.model.DmfActionStatus;
+import org.eclipse.hawkbit.dmf.json.model.DmfActionUpdateStatus;
+import org.eclipse.hawkbit.dmf.json.model.DmfArtifact;
+import org.eclipse.hawkbit.dmf.json.model.DmfArtifactHash;
+import org.eclipse.hawkbit.dmf.json.model.DmfDownloadAndUpdateRequest;
+import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
+import org.eclipse.hawkbit.util.IpUtil;
+import org.junit.jupiter.api.Test;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+/**
+ * Feature: Unit Tests - Device Management Federation API<br/>
+ * Story: DMF Message Converter
+ */
+class DmfMessageConverterTest {
+
+    /**
+     * Verifies that the sent messages are JSON encoded by default and decoded again
+     */
+    @Test
+    void jsonRoundTrip() {
+        final DmfMessageConverter converter = new DmfMessageConverter(new AmqpProperties.Encoding());
+
+        final Message message = converter.toMessage(createDownloadAndUpdateRequest(), createJsonProperties());
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(message.getMessageProperties().<String> getHeader(MessageHeaderKey.CONTENT_TYPE))
+                .isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(new String(message.getBody(), StandardCharsets.UTF_8)).contains("\"actionId\":1");
+        assertThat(converter.fromMessage(message)).usingRecursiveComparison().isEqualTo(createDownloadAndUpdateRequest());
+    }
+
+    /**
+     * Verifies that the sent messages are CBOR encoded if the content type is CBOR, gzip compressed if configured, and decoded again
+     */
+    @Test
+    void cborCompressedRoundTrip() {
+        final AmqpProperties.Encoding encoding = new AmqpProperties.Encoding();
+        encoding.setCompressionThreshold(0);
+        final DmfMessageConverter converter = new DmfMessageConverter(encoding);
+
+        final Message message = converter.toMessage(createDownloadAndUpdateRequest(), createCborProperties());
+        assertThat(message.getMessageProperties().getContentType()).isEqualTo(DmfMessageConverter.CONTENT_TYPE_CBOR);
+        assertThat(message.getMessageProperties().<String> getHeader(MessageHeaderKey.CONTENT_TYPE))
+                .isEqualTo(DmfMessageConverter.CONTENT_TYPE_CBOR);
+        assertThat(message.getMessageProperties().getContentEncoding()).startsWith("gzip");
+        assertThat(converter.fromMessage(message)).usingRecursiveComparison().isEqualTo(createDownloadAndUpdateRequest());
+    }
+
+    /**
+     * Verifies that received messages are decoded according to their content type
+     */
+    @Test
+    void decodesByContentType() {
+        final DmfMessageConverter converter = new DmfMessageConverter(new AmqpProperties.Encoding());
+        final DmfActionUpdateStatus status = new DmfActionUpdateStatus(2L, DmfActionStatus.RUNNING, 0L, null, List.of("running"), 0);
+
+        final Message json = converter.toMessage(status, createJsonProperties());
+        assertThat(converter.fromMessage(json)).usingRecursiveComparison().isEqualTo(status);
+
+        final Message cbor = converter.toMessage(status, createCborProperties());
+        assertThat(cbor.getBody()).hasSizeLessThan(json.getBody().length);
+        assertThat(converter.fromMessage(cbor)).usingRecursiveComparison().isEqualTo(status);
+    }
+
+    /**
+     * Verifies that the messages sent to a client are encoded as the last message received from it, JSON by default
+     */
+    @Test
+    void encodesAsReceivedFromClient() {
+        final DmfMessageConverter converter = new DmfMessageConverter(new AmqpProperties.Encoding());
+        final URI jsonClient = IpUtil.createAmqpUri("vHost", "json-client");
+        final URI cborClient = IpUtil.createAmqpUri("vHost", "cbor-client");
+        final URI unknownClient = IpUtil.createAmqpUri("vHost", "unknown-client");
+
+        converter.rememberContentType(jsonClient, MessageProperties.CONTENT_TYPE_JSON);
+        converter.rememberContentType(cborClient, DmfMessageConverter.CONTENT_TYPE_CBOR);
+        assertThat(contentTypeSentTo(converter, jsonClient)).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(contentTypeSentTo(converter, cborClient)).isEqualTo(DmfMessageConverter.CONTENT_TYPE_CBOR);
+        assertThat(contentTypeSentTo(converter, unknownClient)).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+
+        // unsupported content types (e.g. of ping messages) don't change the encoding
+        converter.rememberContentType(cborClient, MessageProperties.CONTENT_TYPE_TEXT_PLAIN);
+        assertThat(contentTypeSentTo(converter, cborClient)).isEqualTo(DmfMessageConverter.CONTENT_TYPE_CBOR);
+
+        converter.rememberContentType(jsonClient, DmfMessageConverter.CONTENT_TYPE_CBOR);
+        converter.rememberContentType(cborClient, MessageProperties.CONTENT_TYPE_JSON);
+        assertThat(contentTypeSentTo(converter, jsonClient)).isEqualTo(DmfMessageConverter.CONTENT_TYPE_CBOR);
+        assertThat(contentTypeSentTo(converter, cborClient)).isEqualTo(MessageProperties.CONTENT_TYPE_JSON);
+    }
+
+    /**
+     * Verifies that unsupported content types are detected
+     */
+    @Test
+    void detectsUnsupportedContentType() {
+        assertThat(DmfMessageConverter.isSupported(MessageProperties.CONTENT_TYPE_JSON)).isTrue();
+        assertThat(DmfMessageConverter.isSupported(DmfMessageConverter.CONTENT_TYPE_CBOR)).isTrue();
+        assertThat(DmfMessageConverter.isSupported("application/xml")).isFalse();
+        assertThat(DmfMessageConverter.isSupported(null)).isFalse();
+    }
+
+    private static String contentTypeSentTo(final DmfMessageConverter converter, final URI address) {
+        final Message message = converter.toMessage(createDownloadAndUpdateRequest(), createJsonProperties(), address);
+        assertThat(converter.fromMessage(message)).usingRecursiveComparison().isEqualTo(createDownloadAndUpdateRequest());
+        return message.getMessageProperties().getContentType();
+    }
+
+    private static MessageProperties createJsonProperties() {
+        final MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        messageProperties.setHeader(MessageHeaderKey.CONTENT_TYPE, MessageProperties.CONTENT_TYPE_JSON);
+        return messageProperties;
+    }
+
+    private static MessageProperties createCborProperties() {
+        final MessageProperties messageProperties = new MessageProperties();
+        messageProperties.setContentType(DmfMessageConverter.CONTENT_TYPE_CBOR);
+        messageProperties.setHeader(MessageHeaderKey.CONTENT_TYPE, DmfMessageConverter.CONTENT_TYPE_CBOR);
+        return messageProperties;
+    }
+
+    private static DmfDownloadAndUpdateRequest createDownloadAndUpdateRequest() {
+        final DmfArtifact artifact = new DmfArtifact(
+                "firmware.bin", new DmfArtifactHash("sha1", "md5"), 1024L, 1_700_000_000_000L,
+                Map.of("HTTP", "http://localhost/firmware.bin", "HTTPS", "https://localhost/firmware.bin"));
+        final DmfSoftwareModule softwareModule = new DmfSoftwareModule(3L, "os", "1.0.0", null, List.of(artifact), null);
+        return new DmfDownloadAndUpdateRequest(1L, "token", List.of(softwareModule));
+    }
+}
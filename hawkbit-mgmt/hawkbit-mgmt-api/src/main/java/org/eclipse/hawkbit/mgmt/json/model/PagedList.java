@@ -40,8 +40,23 @@ import org.springframework.hateoas.RepresentationModel;
 public class PagedList<T> extends RepresentationModel<PagedList<T>> {
 
     private final List<T> content;
-    private final long total;
+    /**
+     * The total amount of elements. Always present for the default total mode ({@code exact}) and for {@code estimate}, only omitted if
+     * requested with the total mode {@code none}. Hence, it's a {@link Long} - clients which may request {@code none} have to handle
+     * {@code null}.
+     */
+    private final Long total;
     private final int size;
+    /**
+     * Present and {@code true} if requested to estimate the total and there are at least {@link #total} elements, i.e. the total is a
+     * lower bound.
+     */
+    private Boolean totalEstimated;
+    /**
+     * The cursor to get the page after this one via keyset pagination. Only present if requested with a cursor and there may be
+     * more entries.
+     */
+    private String nextCursor;
 
     /**
      * creates a new paged list with the given {@code content} and {@code total}
@@ -51,8 +66,19 @@ public class PagedList<T> extends RepresentationModel<PagedList<T>> {
      * @param total the total amount of elements
      * @throws NullPointerException in case {@code content} is {@code null}.
      */
+    public PagedList(@NotNull final List<T> content, final long total) {
+        this(content, Long.valueOf(total));
+    }
+
+    /**
+     * creates a new paged list with the given {@code content} and {@code total}, which might not be determined.
+     *
+     * @param content the actual content of the list
+     * @param total the total amount of elements, {@code null} if not determined
+     * @throws NullPointerException in case {@code content} is {@code null}.
+     */
     @JsonCreator
-    public PagedList(@JsonProperty("content") @NotNull final List<T> content, @JsonProperty("total") final long total) {
+    public PagedList(@JsonProperty("content") @NotNull final List<T> content, @JsonProperty("total") final Long total) {
         this.size = content.size();
         this.total = total;
         this.content = content;
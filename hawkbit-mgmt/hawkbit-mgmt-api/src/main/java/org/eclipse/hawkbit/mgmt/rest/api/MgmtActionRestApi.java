@@ -47,6 +47,8 @@ public interface MgmtActionRestApi {
      *         be applied
      * @param pagingLimitParam the limit of the paged request, might not be present in the rest request then default value will be applied
      * @param sortParam the sorting parameter in the request URL, syntax {@code field:direction, field:direction}
+     * @param pagingCursorParam the cursor for keyset pagination, empty for the first page, then the next cursor of the previous page
+     * @param pagingTotalParam the mode to determine the total, {@code exact}, {@code estimate} or {@code none}
      * @param representationModeParam the representation mode parameter specifying whether a compact or a full representation shall be returned
      * @return a list of all actions for a defined or default page request with status OK. The response is always paged. In any failure the
      *         JsonResponseExceptionHandler is handling the response.
@@ -92,6 +94,71 @@ public interface MgmtActionRestApi {
                     The sequence of the sort criteria (multiple can be used) defines the sort order of the entities
                     in the result.""")
             String sortParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, required = false)
+            @Schema(description = """
+                    The paging cursor for keyset pagination - empty for the first page, then the nextCursor of the previous
+                    page. The cursor is bound to the sort, which must consist of non-null fields, and can't be combined with
+                    an offset. In contrast to the offset, the latency doesn't grow with the page depth.""")
+            String pagingCursorParam,
+            @RequestParam(
+                    value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_TOTAL,
+                    defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_TOTAL_DEFAULT)
+            @Schema(description = """
+                    How the total is determined - exact (default) counts all matching entities, estimate counts them up to
+                    ten pages beyond the requested one (if there are more, the total is a lower bound and totalEstimated is
+                    true) and none omits the total. Without the count query, filtered pages of large tenants are served
+                    faster.""")
+            String pagingTotalParam,
+            @RequestParam(
+                    value = MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE,
+                    defaultValue = MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE_DEFAULT)
+            @Schema(description = """
+                    The representation mode. Can be "full" or "compact". Defaults to "compact"
+                    """)
+            String representationModeParam);
+
+    /**
+     * Handles the GET request of exporting all actions as newline delimited JSON (NDJSON) - one action per line. In contrast to
+     * {@link #getActions}, the actions are streamed without count and without loading them all, so the memory doesn't grow with
+     * the number of actions.
+     *
+     * @param rsqlParam the search parameter in the request URL, syntax {@code q=distributionSet.id==1}
+     * @param sortParam the sorting parameter in the request URL, syntax {@code field:direction, field:direction}
+     * @param representationModeParam the representation mode parameter specifying whether a compact or a full representation shall be returned
+     * @return status OK, the actions are written directly to the (if accepted, gzip compressed) response. In any failure before the
+     *         first action the JsonResponseExceptionHandler is handling the response.
+     */
+    @Operation(summary = "Export actions", description = "Handles the GET request (with Accept: application/x-ndjson) of streaming " +
+            "all actions as newline delimited JSON, gzip compressed if accepted by the client.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Bad Request - e.g. invalid parameters",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+            @ApiResponse(responseCode = "401", description = "The request requires user authentication.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403", description = "Insufficient permissions, entity is not allowed to be " +
+                    "changed (i.e. read-only) or data volume restriction applies.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "405", description = "The http request method is not allowed on the resource.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "429", description = "Too many requests. The server will refuse further attempts " +
+                    "and the client has to wait another second.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @GetMapping(value = MgmtRestConstants.ACTION_V1_REQUEST_MAPPING, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<Void> exportActions(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false)
+            @Schema(description = """
+                    Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for
+                    available fields.""")
+            String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SORTING, required = false)
+            @Schema(description = """
+                    The query parameter sort allows to define the sort order for the result of a query. A sort criteria
+                    consists of the name of a field and the sort direction (ASC for ascending and DESC descending).
+                    The sequence of the sort criteria (multiple can be used) defines the sort order of the entities
+                    in the result.""")
+            String sortParam,
             @RequestParam(
                     value = MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE,
                     defaultValue = MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE_DEFAULT)
@@ -69,6 +69,7 @@ public interface MgmtDistributionSetRestApi {
      *         be applied
      * @param pagingLimitParam the limit of the paged request, might not be present in the rest request then default value will be applied
      * @param sortParam the sorting parameter in the request URL, syntax {@code field:direction, field:direction}
+     * @param pagingTotalParam the mode to determine the total, {@code exact}, {@code estimate} or {@code none}
      * @return a list of all set for a defined or default page request with status OK. The response is always paged. In any failure the
      *         JsonResponseExceptionHandler is handling the response.
      */
@@ -114,7 +115,16 @@ public interface MgmtDistributionSetRestApi {
                     consists of the name of a field and the sort direction (ASC for ascending and DESC descending).
                     The sequence of the sort criteria (multiple can be used) defines the sort order of the entities
                     in the result.""")
-            String sortParam);
+            String sortParam,
+            @RequestParam(
+                    value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_TOTAL,
+                    defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_TOTAL_DEFAULT)
+            @Schema(description = """
+                    How the total is determined - exact (default) counts all matching entities, estimate counts them up to
+                    ten pages beyond the requested one (if there are more, the total is a lower bound and totalEstimated is
+                    true) and none omits the total. Without the count query, filtered pages of large tenants are served
+                    faster.""")
+            String pagingTotalParam);
 
     /**
      * Handles the GET request of retrieving a single DistributionSet .
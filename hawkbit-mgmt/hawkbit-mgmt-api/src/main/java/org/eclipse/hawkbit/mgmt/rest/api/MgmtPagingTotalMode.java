@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.rest.api;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Enumeration of the supported modes to determine the total of a paged list.
+ */
+public enum MgmtPagingTotalMode {
+
+    /**
+     * The total is counted.
+     */
+    EXACT("exact"),
+
+    /**
+     * The total is counted up to a limit, above it's a lower bound and marked as estimated.
+     */
+    ESTIMATE("estimate"),
+
+    /**
+     * The total is not counted and not returned.
+     */
+    NONE("none");
+
+    private final String mode;
+
+    MgmtPagingTotalMode(final String mode) {
+        this.mode = mode;
+    }
+
+    public static Optional<MgmtPagingTotalMode> fromValue(final String value) {
+        return Arrays.stream(MgmtPagingTotalMode.values()).filter(v -> v.mode.equalsIgnoreCase(value)).findFirst();
+    }
+
+    @Override
+    public String toString() {
+        return mode;
+    }
+}
@@ -186,6 +186,20 @@ public final class MgmtRestConstants {
      * Paging http parameter for the offset for a paged request.
      */
     public static final String REQUEST_PARAMETER_PAGING_OFFSET = "offset";
+    /**
+     * Paging http parameter for the cursor of a keyset paged request. The empty cursor requests the first page, the next pages are
+     * requested with the cursor returned with the previous page.
+     */
+    public static final String REQUEST_PARAMETER_PAGING_CURSOR = "cursor";
+    /**
+     * Paging http parameter for the mode to determine the total of a paged request. The value of this parameter can either be "exact",
+     * "estimate" or "none".
+     */
+    public static final String REQUEST_PARAMETER_PAGING_TOTAL = "total";
+    /**
+     * The default mode to determine the total of a paged request.
+     */
+    public static final String REQUEST_PARAMETER_PAGING_TOTAL_DEFAULT = "exact";
     /**
      * The request parameter for sorting. The value of the sort parameter must be in the following pattern. Example:
      * http://www.bosch.com/iap/sp/rest/targets?sort=field_1:ASC,field_2:DESC,field_3:ASC
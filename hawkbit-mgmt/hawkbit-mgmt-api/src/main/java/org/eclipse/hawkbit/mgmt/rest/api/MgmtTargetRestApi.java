@@ -104,6 +104,8 @@ public interface MgmtTargetRestApi {
      *         be applied
      * @param pagingLimitParam the limit of the paged request, might not be present in the rest request then default value will be applied
      * @param sortParam the sorting parameter in the request URL, syntax {@code field:direction, field:direction}
+     * @param pagingCursorParam the cursor for keyset pagination, empty for the first page, then the next cursor of the previous page
+     * @param pagingTotalParam the mode to determine the total, {@code exact}, {@code estimate} or {@code none}
      * @return a list of all targets for a defined or default page request with status OK. The response is always paged. In any failure the
      *         JsonResponseExceptionHandler is handling the response.
      */
@@ -144,6 +146,64 @@ public interface MgmtTargetRestApi {
             @Schema(description = "The maximum number of entries in a page (default is 50)")
             int pagingLimitParam,
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SORTING, required = false)
+            @Schema(description = """
+                    The query parameter sort allows to define the sort order for the result of a query. A sort criteria
+                    consists of the name of a field and the sort direction (ASC for ascending and DESC descending).
+                    The sequence of the sort criteria (multiple can be used) defines the sort order of the entities
+                    in the result.""")
+            String sortParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, required = false)
+            @Schema(description = """
+                    The paging cursor for keyset pagination - empty for the first page, then the nextCursor of the previous
+                    page. The cursor is bound to the sort, which must consist of non-null fields, and can't be combined with
+                    an offset. In contrast to the offset, the latency doesn't grow with the page depth.""")
+            String pagingCursorParam,
+            @RequestParam(
+                    value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_TOTAL,
+                    defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_TOTAL_DEFAULT)
+            @Schema(description = """
+                    How the total is determined - exact (default) counts all matching entities, estimate counts them up to
+                    ten pages beyond the requested one (if there are more, the total is a lower bound and totalEstimated is
+                    true) and none omits the total. Without the count query, filtered pages of large tenants are served
+                    faster.""")
+            String pagingTotalParam);
+
+    /**
+     * Handles the GET request of exporting all targets as newline delimited JSON (NDJSON) - one target per line. In contrast to
+     * {@link #getTargets}, the targets are streamed without count and without loading them all, so the memory doesn't grow with
+     * the number of targets.
+     *
+     * @param rsqlParam the search parameter in the request URL, syntax {@code q=name==abc}
+     * @param sortParam the sorting parameter in the request URL, syntax {@code field:direction, field:direction}
+     * @return status OK, the targets are written directly to the (if accepted, gzip compressed) response. In any failure before the
+     *         first target the JsonResponseExceptionHandler is handling the response.
+     */
+    @Operation(summary = "Export targets", description = "Handles the GET request (with Accept: application/x-ndjson) of streaming " +
+            "all targets as newline delimited JSON, gzip compressed if accepted by the client. Required permission: READ_TARGET")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Bad Request - e.g. invalid parameters",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+            @ApiResponse(responseCode = "401", description = "The request requires user authentication.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403",
+                    description = "Insufficient permissions, entity is not allowed to be changed (i.e. read-only) or " +
+                            "data volume restriction applies.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "405", description = "The http request method is not allowed on the resource.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "429", description = "Too many requests. The server will refuse further attempts " +
+                    "and the client has to wait another second.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @GetMapping(value = MgmtRestConstants.TARGET_V1_REQUEST_MAPPING, produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<Void> exportTargets(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false)
+            @Schema(description = """
+                    Query fields based on the Feed Item Query Language (FIQL). See Entity Definitions for
+                    available fields.""")
+            String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SORTING, required = false)
             @Schema(description = """
                     The query parameter sort allows to define the sort order for the result of a query. A sort criteria
                     consists of the name of a field and the sort direction (ASC for ascending and DESC descending).
@@ -598,6 +658,43 @@ public interface MgmtTargetRestApi {
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, defaultValue = MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_LIMIT) int pagingLimitParam,
             @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SORTING, required = false) String sortParam);
 
+    /**
+     * Handles the GET request of exporting the ActionStatus of a specific target and action as newline delimited JSON (NDJSON) - one
+     * status per line, streamed without count and without loading them all.
+     *
+     * @param targetId of the action
+     * @param actionId of the status we are intend to load
+     * @param sortParam the sorting parameter in the request URL, syntax {@code field:direction, field:direction}
+     * @return status OK, the status entries are written directly to the (if accepted, gzip compressed) response. In any failure before
+     *         the first entry the JsonResponseExceptionHandler is handling the response.
+     */
+    @Operation(summary = "Export status of a specific action on a specific target", description = "Handles the GET request (with " +
+            "Accept: application/x-ndjson) of streaming the status of a specific action on a specific target as newline delimited JSON, " +
+            "gzip compressed if accepted by the client. Required Permission: READ_TARGET")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Successfully retrieved"),
+            @ApiResponse(responseCode = "400", description = "Bad Request - e.g. invalid parameters",
+                    content = @Content(mediaType = "application/json", schema = @Schema(implementation = ExceptionInfo.class))),
+            @ApiResponse(responseCode = "401", description = "The request requires user authentication.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "403",
+                    description = "Insufficient permissions, entity is not allowed to be changed (i.e. read-only) or " +
+                            "data volume restriction applies.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "404", description = "Target not found.", content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "405", description = "The http request method is not allowed on the resource.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true))),
+            @ApiResponse(responseCode = "429", description = "Too many requests. The server will refuse further attempts " +
+                    "and the client has to wait another second.",
+                    content = @Content(mediaType = "application/json", schema = @Schema(hidden = true)))
+    })
+    @GetMapping(value = MgmtRestConstants.TARGET_V1_REQUEST_MAPPING + "/{targetId}/actions/{actionId}/status",
+            produces = MediaType.APPLICATION_NDJSON_VALUE)
+    ResponseEntity<Void> exportActionStatusList(
+            @PathVariable("targetId") String targetId,
+            @PathVariable("actionId") Long actionId,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SORTING, required = false) String sortParam);
+
     /**
      * Handles the GET request of retrieving the assigned distribution set of a specific target.
      *
@@ -10,7 +10,9 @@
 package org.eclipse.hawkbit.mgmt.rest.resource;
 
 import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitizeActionSortParam;
+import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitizePagingTotalParam;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.mgmt.json.model.PagedList;
 import org.eclipse.hawkbit.mgmt.json.model.action.MgmtAction;
@@ -21,9 +23,12 @@ import org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.rest.util.NdjsonStreamingUtil;
+import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.mediatype.hal.HalMediaTypeConfiguration;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -33,29 +38,45 @@ import org.springframework.web.bind.annotation.RestController;
 public class MgmtActionResource implements MgmtActionRestApi {
 
     private final DeploymentManagement deploymentManagement;
+    private final ObjectMapper objectMapper;
 
-    MgmtActionResource(final DeploymentManagement deploymentManagement) {
+    MgmtActionResource(
+            final DeploymentManagement deploymentManagement,
+            final ObjectMapper objectMapper, final HalMediaTypeConfiguration halMediaTypeConfiguration) {
         this.deploymentManagement = deploymentManagement;
+        // exported entities shall be serialized like the HAL ones of the paged lists
+        this.objectMapper = halMediaTypeConfiguration.configureObjectMapper(objectMapper.copy());
     }
 
     @Override
     public ResponseEntity<PagedList<MgmtAction>> getActions(
             final String rsqlParam, final int pagingOffsetParam, final int pagingLimitParam, final String sortParam,
-            final String representationModeParam) {
-        final Pageable pageable = PagingUtility.toPageable(pagingOffsetParam, pagingLimitParam, sanitizeActionSortParam(sortParam));
+            final String pagingCursorParam, final String pagingTotalParam, final String representationModeParam) {
+        final Pageable pageable = PagingUtility.toPageable(
+                pagingOffsetParam, pagingLimitParam, sanitizeActionSortParam(sortParam), pagingCursorParam);
 
         final Slice<Action> actions;
-        final long totalActionCount;
         if (rsqlParam != null) {
             actions = this.deploymentManagement.findActions(rsqlParam, pageable);
-            totalActionCount = this.deploymentManagement.countActions(rsqlParam);
         } else {
             actions = this.deploymentManagement.findActionsAll(pageable);
-            totalActionCount = this.deploymentManagement.countActionsAll();
         }
 
         final MgmtRepresentationMode repMode = getRepresentationModeFromString(representationModeParam);
-        return ResponseEntity.ok(new PagedList<>(MgmtActionMapper.toResponse(actions.getContent(), repMode), totalActionCount));
+        return ResponseEntity.ok(PagingUtility.toPagedList(
+                MgmtActionMapper.toResponse(actions.getContent(), repMode), actions, sanitizePagingTotalParam(pagingTotalParam),
+                () -> rsqlParam != null ? deploymentManagement.countActions(rsqlParam) : deploymentManagement.countActionsAll(),
+                limit -> deploymentManagement.countActionsUpTo(rsqlParam, limit)));
+    }
+
+    @Override
+    public ResponseEntity<Void> exportActions(final String rsqlParam, final String sortParam, final String representationModeParam) {
+        final MgmtRepresentationMode repMode = getRepresentationModeFromString(representationModeParam);
+        return NdjsonStreamingUtil.<MgmtAction> writeNdjsonResponse(
+                objectMapper,
+                consumer -> deploymentManagement.streamActions(rsqlParam, sanitizeActionSortParam(sortParam),
+                        action -> consumer.accept(MgmtActionMapper.toResponse(action, repMode))),
+                RequestResponseContextHolder.getHttpServletResponse(), RequestResponseContextHolder.getHttpServletRequest());
     }
 
     @Override
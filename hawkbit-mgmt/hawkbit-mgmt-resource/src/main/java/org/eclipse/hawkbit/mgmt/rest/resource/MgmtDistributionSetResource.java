@@ -10,6 +10,7 @@
 package org.eclipse.hawkbit.mgmt.rest.resource;
 
 import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitizeDistributionSetSortParam;
+import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitizePagingTotalParam;
 
 import java.text.MessageFormat;
 import java.util.AbstractMap.SimpleEntry;
@@ -40,6 +41,7 @@ import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleAssi
 import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTarget;
 import org.eclipse.hawkbit.mgmt.json.model.targetfilter.MgmtTargetFilterQuery;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtDistributionSetRestApi;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtPagingTotalMode;
 import org.eclipse.hawkbit.mgmt.rest.resource.mapper.MgmtDeploymentRequestMapper;
 import org.eclipse.hawkbit.mgmt.rest.resource.mapper.MgmtDistributionSetMapper;
 import org.eclipse.hawkbit.mgmt.rest.resource.mapper.MgmtRestModelMapper;
@@ -118,20 +120,25 @@ public class MgmtDistributionSetResource implements MgmtDistributionSetRestApi {
 
     @Override
     public ResponseEntity<PagedList<MgmtDistributionSet>> getDistributionSets(
-            final String rsqlParam, final int pagingOffsetParam, final int pagingLimitParam, final String sortParam) {
+            final String rsqlParam, final int pagingOffsetParam, final int pagingLimitParam, final String sortParam,
+            final String pagingTotalParam) {
         final Pageable pageable = PagingUtility.toPageable(pagingOffsetParam, pagingLimitParam, sanitizeDistributionSetSortParam(sortParam));
+        final MgmtPagingTotalMode totalMode = sanitizePagingTotalParam(pagingTotalParam);
         final Slice<DistributionSet> findDsPage;
-        final long countModulesAll;
-        if (rsqlParam != null) {
+        if (rsqlParam == null) {
+            findDsPage = distributionSetManagement.findAll(pageable);
+        } else if (totalMode == MgmtPagingTotalMode.EXACT) {
+            // counted with the page
             findDsPage = distributionSetManagement.findByRsql(rsqlParam, pageable);
-            countModulesAll = ((Page<DistributionSet>) findDsPage).getTotalElements();
         } else {
-            findDsPage = distributionSetManagement.findAll(pageable);
-            countModulesAll = distributionSetManagement.count();
+            findDsPage = distributionSetManagement.findByRsqlWithoutCount(rsqlParam, pageable);
         }
 
         final List<MgmtDistributionSet> rest = MgmtDistributionSetMapper.toResponseFromDsList(findDsPage.getContent());
-        return ResponseEntity.ok(new PagedList<>(rest, countModulesAll));
+        return ResponseEntity.ok(PagingUtility.toPagedList(
+                rest, findDsPage, totalMode,
+                () -> rsqlParam != null ? ((Page<DistributionSet>) findDsPage).getTotalElements() : distributionSetManagement.count(),
+                limit -> distributionSetManagement.countByRsqlUpTo(rsqlParam, limit)));
     }
 
     @Override
@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.mgmt.rest.resource;
 
+import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitizePagingTotalParam;
 import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitizeSoftwareModuleSortParam;
 
 import java.io.IOException;
@@ -30,6 +31,7 @@ import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleMeta
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleMetadataBodyPut;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleRequestBodyPost;
 import org.eclipse.hawkbit.mgmt.json.model.softwaremodule.MgmtSoftwareModuleRequestBodyPut;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtPagingTotalMode;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRepresentationMode;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtSoftwareModuleRestApi;
 import org.eclipse.hawkbit.mgmt.rest.resource.mapper.MgmtSoftwareModuleMapper;
@@ -157,20 +159,25 @@ public class MgmtSoftwareModuleResource implements MgmtSoftwareModuleRestApi {
 
     @Override
     public ResponseEntity<PagedList<MgmtSoftwareModule>> getSoftwareModules(
-            final String rsqlParam, final int pagingOffsetParam, final int pagingLimitParam, final String sortParam) {
+            final String rsqlParam, final int pagingOffsetParam, final int pagingLimitParam, final String sortParam,
+            final String pagingTotalParam) {
         final Pageable pageable = PagingUtility.toPageable(pagingOffsetParam, pagingLimitParam, sanitizeSoftwareModuleSortParam(sortParam));
+        final MgmtPagingTotalMode totalMode = sanitizePagingTotalParam(pagingTotalParam);
         final Slice<SoftwareModule> findModulesAll;
-        final long countModulesAll;
-        if (rsqlParam != null) {
+        if (rsqlParam == null) {
+            findModulesAll = softwareModuleManagement.findAll(pageable);
+        } else if (totalMode == MgmtPagingTotalMode.EXACT) {
+            // counted with the page
             findModulesAll = softwareModuleManagement.findByRsql(rsqlParam, pageable);
-            countModulesAll = ((Page<SoftwareModule>) findModulesAll).getTotalElements();
         } else {
-            findModulesAll = softwareModuleManagement.findAll(pageable);
-            countModulesAll = softwareModuleManagement.count();
+            findModulesAll = softwareModuleManagement.findByRsqlWithoutCount(rsqlParam, pageable);
         }
 
         final List<MgmtSoftwareModule> rest = MgmtSoftwareModuleMapper.toResponse(findModulesAll.getContent());
-        return ResponseEntity.ok(new PagedList<>(rest, countModulesAll));
+        return ResponseEntity.ok(PagingUtility.toPagedList(
+                rest, findModulesAll, totalMode,
+                () -> rsqlParam != null ? ((Page<SoftwareModule>) findModulesAll).getTotalElements() : softwareModuleManagement.count(),
+                limit -> softwareModuleManagement.countByRsqlUpTo(rsqlParam, limit)));
     }
 
     @Override
@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.mgmt.rest.resource;
 
 import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitizeActionSortParam;
 import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitizeActionStatusSortParam;
+import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitizePagingTotalParam;
 import static org.eclipse.hawkbit.mgmt.rest.resource.util.PagingUtility.sanitizeTargetSortParam;
 
 import java.util.AbstractMap.SimpleEntry;
@@ -26,6 +27,7 @@ import java.util.stream.Collectors;
 
 import jakarta.validation.ValidationException;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.audit.AuditLog;
 import org.eclipse.hawkbit.mgmt.json.model.MgmtId;
@@ -63,13 +65,17 @@ import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.DeploymentRequest;
 import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
+import org.eclipse.hawkbit.repository.model.PollStatus;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetTag;
+import org.eclipse.hawkbit.rest.util.NdjsonStreamingUtil;
+import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.eclipse.hawkbit.utils.TenantConfigHelper;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.hateoas.mediatype.hal.HalMediaTypeConfiguration;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
@@ -88,17 +94,21 @@ public class MgmtTargetResource implements MgmtTargetRestApi {
     private final DeploymentManagement deploymentManagement;
     private final EntityFactory entityFactory;
     private final TenantConfigHelper tenantConfigHelper;
+    private final ObjectMapper objectMapper;
 
     MgmtTargetResource(
             final TargetManagement targetManagement, final DeploymentManagement deploymentManagement,
             final ConfirmationManagement confirmationManagement, final EntityFactory entityFactory,
             final SystemSecurityContext systemSecurityContext,
-            final TenantConfigurationManagement tenantConfigurationManagement) {
+            final TenantConfigurationManagement tenantConfigurationManagement,
+            final ObjectMapper objectMapper, final HalMediaTypeConfiguration halMediaTypeConfiguration) {
         this.targetManagement = targetManagement;
         this.deploymentManagement = deploymentManagement;
         this.confirmationManagement = confirmationManagement;
         this.entityFactory = entityFactory;
         this.tenantConfigHelper = TenantConfigHelper.usingContext(systemSecurityContext, tenantConfigurationManagement);
+        // exported entities shall be serialized like the HAL ones of the paged lists
+        this.objectMapper = halMediaTypeConfiguration.configureObjectMapper(objectMapper.copy());
     }
 
     @Override
@@ -113,20 +123,32 @@ public class MgmtTargetResource implements MgmtTargetRestApi {
 
     @Override
     public ResponseEntity<PagedList<MgmtTarget>> getTargets(
-            final String rsqlParam, final int pagingOffsetParam, final int pagingLimitParam, final String sortParam) {
-        final Pageable pageable = PagingUtility.toPageable(pagingOffsetParam, pagingLimitParam, sanitizeTargetSortParam(sortParam));
+            final String rsqlParam, final int pagingOffsetParam, final int pagingLimitParam, final String sortParam,
+            final String pagingCursorParam, final String pagingTotalParam) {
+        final Pageable pageable = PagingUtility.toPageable(
+                pagingOffsetParam, pagingLimitParam, sanitizeTargetSortParam(sortParam), pagingCursorParam);
         final Slice<Target> findTargetsAll;
-        final long countTargetsAll;
         if (rsqlParam != null) {
             findTargetsAll = targetManagement.findByRsql(rsqlParam, pageable);
-            countTargetsAll = targetManagement.countByRsql(rsqlParam);
         } else {
             findTargetsAll = targetManagement.findAll(pageable);
-            countTargetsAll = targetManagement.count();
         }
 
         final List<MgmtTarget> rest = MgmtTargetMapper.toResponse(findTargetsAll.getContent(), tenantConfigHelper);
-        return ResponseEntity.ok(new PagedList<>(rest, countTargetsAll));
+        return ResponseEntity.ok(PagingUtility.toPagedList(
+                rest, findTargetsAll, sanitizePagingTotalParam(pagingTotalParam),
+                () -> rsqlParam != null ? targetManagement.countByRsql(rsqlParam) : targetManagement.count(),
+                limit -> targetManagement.countByRsqlUpTo(rsqlParam, limit)));
+    }
+
+    @Override
+    public ResponseEntity<Void> exportTargets(final String rsqlParam, final String sortParam) {
+        final Function<Target, PollStatus> pollStatusResolver = tenantConfigHelper.pollStatusResolver();
+        return NdjsonStreamingUtil.<MgmtTarget> writeNdjsonResponse(
+                objectMapper,
+                consumer -> targetManagement.streamByRsql(rsqlParam, sanitizeTargetSortParam(sortParam),
+                        target -> consumer.accept(MgmtTargetMapper.toResponse(target, tenantConfigHelper, pollStatusResolver))),
+                RequestResponseContextHolder.getHttpServletResponse(), RequestResponseContextHolder.getHttpServletRequest());
     }
 
     @Override
@@ -347,6 +369,24 @@ public class MgmtTargetResource implements MgmtTargetRestApi {
                 statusList.getTotalElements()));
     }
 
+    @Override
+    public ResponseEntity<Void> exportActionStatusList(final String targetId, final Long actionId, final String sortParam) {
+        final Target target = findTargetWithExceptionIfNotFound(targetId);
+
+        final Action action = deploymentManagement.findAction(actionId)
+                .orElseThrow(() -> new EntityNotFoundException(Action.class, actionId));
+
+        if (!action.getTarget().getId().equals(target.getId())) {
+            log.warn(ACTION_TARGET_MISSING_ASSIGN_WARN, action.getId(), target.getId());
+            return ResponseEntity.notFound().build();
+        }
+        return NdjsonStreamingUtil.<MgmtActionStatus> writeNdjsonResponse(
+                objectMapper,
+                consumer -> deploymentManagement.streamActionStatusByAction(action.getId(), sanitizeActionStatusSortParam(sortParam),
+                        (status, messages) -> consumer.accept(MgmtTargetMapper.toResponse(status, messages))),
+                RequestResponseContextHolder.getHttpServletResponse(), RequestResponseContextHolder.getHttpServletRequest());
+    }
+
     @Override
     public ResponseEntity<MgmtDistributionSet> getAssignedDistributionSet(final String targetId) {
         final MgmtDistributionSet distributionSetRest = deploymentManagement.getAssignedDistributionSet(targetId)
@@ -0,0 +1,33 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource.exception;
+
+import java.io.Serial;
+
+import org.eclipse.hawkbit.exception.AbstractServerRtException;
+import org.eclipse.hawkbit.exception.SpServerError;
+
+/**
+ * Exception used by the REST API in case of an unsupported paging total mode.
+ */
+public class PagingTotalParameterUnsupportedException extends AbstractServerRtException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new PagingTotalParameterUnsupportedException with {@link SpServerError#SP_REST_PAGING_TOTAL_INVALID} error.
+     *
+     * @param message the detail message
+     */
+    public PagingTotalParameterUnsupportedException(final String message) {
+        super(message, SpServerError.SP_REST_PAGING_TOTAL_INVALID);
+    }
+}
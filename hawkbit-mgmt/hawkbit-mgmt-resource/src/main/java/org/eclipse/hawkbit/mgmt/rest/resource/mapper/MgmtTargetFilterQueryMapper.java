@@ -74,7 +74,7 @@ public final class MgmtTargetFilterQueryMapper {
             targetRest.add(
                     linkTo(methodOn(MgmtDistributionSetRestApi.class).getDistributionSets(
                             "name==" + distributionSet.getName() + ";version==" + distributionSet.getVersion(), Integer.parseInt(MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_OFFSET),
-                            Integer.parseInt(MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_LIMIT), null
+                            Integer.parseInt(MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_LIMIT), null, null
                     )).withRel("DS").expand());
         }
 
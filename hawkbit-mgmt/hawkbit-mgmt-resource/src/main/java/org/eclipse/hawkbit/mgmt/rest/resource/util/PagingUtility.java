@@ -9,13 +9,29 @@
  */
 package org.eclipse.hawkbit.mgmt.rest.resource.util;
 
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.eclipse.hawkbit.mgmt.json.model.PagedList;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtPagingTotalMode;
 import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
+import org.eclipse.hawkbit.mgmt.rest.resource.exception.PagingTotalParameterUnsupportedException;
 import org.eclipse.hawkbit.repository.ActionFields;
 import org.eclipse.hawkbit.repository.ActionStatusFields;
 import org.eclipse.hawkbit.repository.DistributionSetFields;
 import org.eclipse.hawkbit.repository.DistributionSetTypeFields;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
 import org.eclipse.hawkbit.repository.OffsetBasedPageRequest;
 import org.eclipse.hawkbit.repository.RolloutFields;
 import org.eclipse.hawkbit.repository.RolloutGroupFields;
@@ -25,7 +41,11 @@ import org.eclipse.hawkbit.repository.TagFields;
 import org.eclipse.hawkbit.repository.TargetFields;
 import org.eclipse.hawkbit.repository.TargetFilterQueryFields;
 import org.eclipse.hawkbit.repository.TargetTypeFields;
+import org.eclipse.hawkbit.repository.exception.PagingCursorInvalidException;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 
@@ -35,6 +55,9 @@ import org.springframework.data.domain.Sort.Direction;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class PagingUtility {
 
+    // the estimated total is counted up to the entities of that many pages after the requested one
+    private static final int ESTIMATE_PAGES = 10;
+
     public static Sort sanitizeTargetSortParam(final String sortParam) {
         if (sortParam == null) {
             // default
@@ -139,6 +162,131 @@ public final class PagingUtility {
         return new OffsetBasedPageRequest(sanitizedOffsetParam, sanitizedLimitParam, sort);
     }
 
+    /**
+     * Creates the page request for the paging parameters. If a cursor is given (the empty cursor for the first page) the page
+     * request is a {@link KeysetPageRequest} which seeks to the entries after the cursor, otherwise it is offset based.
+     *
+     * @param pagingOffsetParam the offset, must not be used together with a not empty cursor
+     * @param pagingLimitParam the limit
+     * @param sort the sort
+     * @param pagingCursorParam the cursor returned with the previous page, the empty cursor for the first page or {@code null}
+     * @return the page request
+     * @throws PagingCursorInvalidException if the cursor is not well formed or doesn't fit to the sort
+     */
+    public static Pageable toPageable(final int pagingOffsetParam, final int pagingLimitParam, final Sort sort, final String pagingCursorParam) {
+        if (pagingCursorParam == null) {
+            return toPageable(pagingOffsetParam, pagingLimitParam, sort);
+        }
+
+        final KeysetPageRequest firstPage = new KeysetPageRequest(sanitizePageLimitParam(pagingLimitParam), sort, null);
+        if (pagingCursorParam.isEmpty()) {
+            return firstPage;
+        } else if (pagingOffsetParam > 0) {
+            throw new PagingCursorInvalidException("The paging cursor can't be combined with an offset");
+        }
+        final List<String> cursor = decodeCursor(pagingCursorParam);
+        if (cursor.isEmpty() || !cursor.get(0).equals(firstPage.getSort().toString())) {
+            throw new PagingCursorInvalidException("The paging cursor doesn't match the sort " + firstPage.getSort());
+        }
+        return new KeysetPageRequest(firstPage.getPageSize(), firstPage.getSort(), cursor.subList(1, cursor.size()));
+    }
+
+    /**
+     * Returns the cursor for the page after the given slice if it was requested with a {@link KeysetPageRequest} and there may be
+     * more entries. The cursor is an opaque token which encodes the sort and the sort key (including the id) of the last entry.
+     *
+     * @param slice the slice of entities
+     * @return the cursor for the next page or {@code null}
+     */
+    public static String nextCursor(final Slice<?> slice) {
+        if (!(slice.getPageable() instanceof KeysetPageRequest pageRequest) || slice.getNumberOfElements() < pageRequest.getPageSize()) {
+            return null;
+        }
+
+        final BeanWrapper last = PropertyAccessorFactory.forBeanPropertyAccess(slice.getContent().get(slice.getNumberOfElements() - 1));
+        final List<String> cursor = new ArrayList<>();
+        cursor.add(pageRequest.getSort().toString());
+        pageRequest.getSort().forEach(order -> {
+            final Object value = last.isReadableProperty(order.getProperty()) ? last.getPropertyValue(order.getProperty()) : null;
+            if (value == null) {
+                throw new PagingCursorInvalidException("Sort property " + order.getProperty() + " is not supported by the paging cursor");
+            }
+            cursor.add(value instanceof Enum<?> enumValue ? enumValue.name() : String.valueOf(value));
+        });
+        return encodeCursor(cursor);
+    }
+
+    public static MgmtPagingTotalMode sanitizePagingTotalParam(final String pagingTotalParam) {
+        if (pagingTotalParam == null) {
+            // default
+            return MgmtPagingTotalMode.EXACT;
+        }
+        return MgmtPagingTotalMode.fromValue(pagingTotalParam)
+                .orElseThrow(() -> new PagingTotalParameterUnsupportedException("The paging total mode " + pagingTotalParam
+                        + " is not supported, supported are " + Arrays.toString(MgmtPagingTotalMode.values())));
+    }
+
+    /**
+     * Creates the paged list of a slice with the total determined as requested. As for the spring data pages, the total is not counted
+     * if it follows from the slice - an offset based page which is not full.
+     *
+     * @param content the (mapped) content of the slice
+     * @param slice the slice of entities
+     * @param totalMode how to determine the total
+     * @param count counts all entities, for the {@link MgmtPagingTotalMode#EXACT} total
+     * @param countUpTo counts the entities up to the given limit, for the {@link MgmtPagingTotalMode#ESTIMATE} total
+     * @param <T> type of the content
+     * @return the paged list, with the next cursor if requested with a cursor
+     */
+    public static <T> PagedList<T> toPagedList(
+            final List<T> content, final Slice<?> slice, final MgmtPagingTotalMode totalMode,
+            final LongSupplier count, final IntToLongFunction countUpTo) {
+        final PagedList<T> pagedList;
+        final OptionalLong total = totalOf(slice);
+        if (totalMode == MgmtPagingTotalMode.NONE) {
+            pagedList = new PagedList<>(content, null);
+        } else if (total.isPresent()) {
+            pagedList = new PagedList<>(content, total.getAsLong());
+        } else if (totalMode == MgmtPagingTotalMode.EXACT) {
+            pagedList = new PagedList<>(content, count.getAsLong());
+        } else {
+            final Pageable pageable = slice.getPageable();
+            final int limit = (int) Math.min(Integer.MAX_VALUE, pageable.getOffset() + (long) pageable.getPageSize() * (1 + ESTIMATE_PAGES));
+            final long counted = countUpTo.applyAsLong(limit);
+            pagedList = new PagedList<>(content, counted);
+            if (counted >= limit) {
+                pagedList.setTotalEstimated(true);
+            }
+        }
+        return pagedList.setNextCursor(nextCursor(slice));
+    }
+
+    private static OptionalLong totalOf(final Slice<?> slice) {
+        final Pageable pageable = slice.getPageable();
+        if (pageable.isUnpaged() || pageable instanceof KeysetPageRequest || slice.getNumberOfElements() >= pageable.getPageSize()
+                || (slice.getNumberOfElements() == 0 && pageable.getOffset() > 0)) {
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(pageable.getOffset() + slice.getNumberOfElements());
+    }
+
+    // url encoded (so without ',') elements joined with ',' and base64 encoded to be opaque
+    private static String encodeCursor(final List<String> cursor) {
+        final String joined = cursor.stream()
+                .map(element -> URLEncoder.encode(element, StandardCharsets.UTF_8))
+                .collect(Collectors.joining(","));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> decodeCursor(final String cursor) {
+        try {
+            final String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            return Arrays.stream(joined.split(",", -1)).map(element -> URLDecoder.decode(element, StandardCharsets.UTF_8)).toList();
+        } catch (final IllegalArgumentException e) {
+            throw new PagingCursorInvalidException("The paging cursor is not well formed", e);
+        }
+    }
+
     private static int sanitizeOffsetParam(final int offset) {
         if (offset < 0) {
             return MgmtRestConstants.REQUEST_PARAMETER_PAGING_DEFAULT_OFFSET_VALUE;
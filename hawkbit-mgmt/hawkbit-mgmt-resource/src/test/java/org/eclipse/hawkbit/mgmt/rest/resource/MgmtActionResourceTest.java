@@ -16,6 +16,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -34,7 +35,10 @@ import org.eclipse.hawkbit.repository.model.DistributionSetAssignmentResult;
 import org.eclipse.hawkbit.repository.model.Rollout;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.rest.util.MockMvcResultPrinter;
+import org.json.JSONArray;
+import org.json.JSONObject;
 import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.ResultActions;
 
 /**
@@ -397,6 +401,64 @@ class MgmtActionResourceTest extends AbstractManagementApiIntegrationTest {
                 .andExpect(jsonPath(JSON_PATH_PAGED_LIST_CONTENT, hasSize(2)));
     }
 
+    /**
+     * Verifies that the actions could be paged through with the paging cursor (keyset pagination) in the default order.
+     */
+    @Test
+    void getActionsWithPagingCursor() throws Exception {
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final List<Long> actionIds = assignDistributionSet(ds, testdataFactory.createTargets("cursor", 5)).getAssignedEntity().stream()
+                .map(Action::getId)
+                .sorted(Collections.reverseOrder())
+                .toList();
+
+        final List<Long> pagedActionIds = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            final JSONObject page = new JSONObject(mvc.perform(get(MgmtRestConstants.ACTION_V1_REQUEST_MAPPING)
+                            .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, "2")
+                            .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, cursor))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath(JSON_PATH_PAGED_LIST_TOTAL, equalTo(actionIds.size())))
+                    .andReturn().getResponse().getContentAsString());
+            final JSONArray content = page.getJSONArray("content");
+            for (int i = 0; i < content.length(); i++) {
+                pagedActionIds.add(content.getJSONObject(i).getLong("id"));
+            }
+            cursor = page.optString("nextCursor", null);
+        }
+        assertThat(pagedActionIds).containsExactlyElementsOf(actionIds);
+    }
+
+    /**
+     * Verifies that the actions are exported as newline delimited JSON, filtered, sorted and in the requested representation mode.
+     */
+    @Test
+    void exportActions() throws Exception {
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final List<Long> actionIds = assignDistributionSet(ds, testdataFactory.createTargets("exported", 3)).getAssignedEntity().stream()
+                .map(Action::getId)
+                .sorted()
+                .toList();
+        assignDistributionSet(testdataFactory.createDistributionSet("other"), testdataFactory.createTargets("other", 2));
+
+        final String ndjson = mvc.perform(get(MgmtRestConstants.ACTION_V1_REQUEST_MAPPING)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_SEARCH, "distributionSet.id==" + ds.getId())
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "id:ASC")
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_REPRESENTATION_MODE, MgmtRepresentationMode.FULL.toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        final List<Long> exportedActionIds = new ArrayList<>();
+        for (final String line : ndjson.split("\n")) {
+            final JSONObject action = new JSONObject(line);
+            exportedActionIds.add(action.getLong("id"));
+            assertThat(action.getJSONObject("_links").has("distributionset")).isTrue();
+        }
+        assertThat(exportedActionIds).containsExactlyElementsOf(actionIds);
+    }
+
     /**
      * Verifies that the get request for actions returns an empty collection if no assignments have been done yet.
      */
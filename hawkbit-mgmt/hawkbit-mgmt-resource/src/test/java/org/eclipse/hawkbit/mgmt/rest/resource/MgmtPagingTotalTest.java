@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.stream.IntStream;
+
+import org.eclipse.hawkbit.exception.SpServerError;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtPagingTotalMode;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
+import org.eclipse.hawkbit.mgmt.rest.resource.util.SqlStatementCounter;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+/**
+ * Feature: Component Tests - Management API<br/>
+ * Story: Paged List Total
+ */
+@Import(SqlStatementCounter.class)
+class MgmtPagingTotalTest extends AbstractManagementApiIntegrationTest {
+
+    private static final int ENTITIES = 12;
+
+    /**
+     * Ensures that the total of the target list is counted, estimated or omitted as requested and that the count query is skipped
+     * if not needed.
+     */
+    @Test
+    void targetsTotal() throws Exception {
+        testdataFactory.createTargets("paged", ENTITIES);
+        testdataFactory.createTargets("other", 3);
+
+        verifyTotal(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING, "controllerId==paged*");
+    }
+
+    /**
+     * Ensures that the total of the distribution set list is counted, estimated or omitted as requested and that the count query is
+     * skipped if not needed.
+     */
+    @Test
+    void distributionSetsTotal() throws Exception {
+        testdataFactory.createDistributionSets("paged", ENTITIES);
+        testdataFactory.createDistributionSets("other", 3);
+
+        verifyTotal(MgmtRestConstants.DISTRIBUTIONSET_V1_REQUEST_MAPPING, "name==paged*");
+    }
+
+    /**
+     * Ensures that the total of the software module list is counted, estimated or omitted as requested and that the count query is
+     * skipped if not needed.
+     */
+    @Test
+    void softwareModulesTotal() throws Exception {
+        IntStream.range(0, ENTITIES).forEach(i -> testdataFactory.createSoftwareModuleApp("paged" + i));
+        IntStream.range(0, 3).forEach(i -> testdataFactory.createSoftwareModuleApp("other" + i));
+
+        verifyTotal(MgmtRestConstants.SOFTWAREMODULE_V1_REQUEST_MAPPING, "name==paged*");
+    }
+
+    /**
+     * Ensures that the total of the action list is counted, estimated or omitted as requested and that the count query is skipped
+     * if not needed.
+     */
+    @Test
+    void actionsTotal() throws Exception {
+        final DistributionSet ds = testdataFactory.createDistributionSet("paged");
+        assignDistributionSet(ds, testdataFactory.createTargets("paged", ENTITIES));
+        assignDistributionSet(testdataFactory.createDistributionSet("other"), testdataFactory.createTargets("other", 3));
+
+        verifyTotal(MgmtRestConstants.ACTION_V1_REQUEST_MAPPING, "distributionSet.id==" + ds.getId());
+    }
+
+    /**
+     * Ensures that the total of a page with deep offset is estimated with at most two statements more than the page itself, counted
+     * up to the entities of ten more pages.
+     */
+    @Test
+    void estimatedTotalWithDeepOffset() throws Exception {
+        testdataFactory.createTargets("paged", ENTITIES);
+        testdataFactory.createTargets("other", 3);
+        final String url = MgmtRestConstants.TARGET_V1_REQUEST_MAPPING;
+        final String rsql = "controllerId==paged*";
+
+        final int noneStatements = countStatements(request(url, rsql, ENTITIES - 2, 1, MgmtPagingTotalMode.NONE.toString()));
+
+        // less than ten more pages - counted
+        final int estimateStatements = countStatements(request(url, rsql, ENTITIES - 2, 1, MgmtPagingTotalMode.ESTIMATE.toString()));
+        mvc.perform(request(url, rsql, ENTITIES - 2, 1, MgmtPagingTotalMode.ESTIMATE.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size", equalTo(1)))
+                .andExpect(jsonPath("$.total", equalTo(ENTITIES)))
+                .andExpect(jsonPath("$.totalEstimated").doesNotExist());
+        assertThat(estimateStatements).as("statements with limited count query").isLessThanOrEqualTo(noneStatements + 2);
+
+        // ten more pages - estimated
+        mvc.perform(request(url, rsql, 1, 1, MgmtPagingTotalMode.ESTIMATE.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size", equalTo(1)))
+                .andExpect(jsonPath("$.total", equalTo(ENTITIES)))
+                .andExpect(jsonPath("$.totalEstimated", equalTo(true)));
+    }
+
+    /**
+     * Ensures that an unknown total mode is rejected as bad request.
+     */
+    @Test
+    void unknownTotalModeIsRejected() throws Exception {
+        testdataFactory.createTargets("paged", ENTITIES);
+
+        mvc.perform(request(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING, "controllerId==paged*", 0, 1, "unknown"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode", equalTo(SpServerError.SP_REST_PAGING_TOTAL_INVALID.getKey())));
+    }
+
+    private void verifyTotal(final String url, final String rsql) throws Exception {
+        // full page - the total doesn't follow from the page, so it's counted if requested
+        final int exactStatements = countStatements(request(url, rsql, 0, 1, MgmtPagingTotalMode.EXACT.toString()));
+        mvc.perform(request(url, rsql, 0, 1, MgmtPagingTotalMode.EXACT.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size", equalTo(1)))
+                .andExpect(jsonPath("$.total", equalTo(ENTITIES)))
+                .andExpect(jsonPath("$.totalEstimated").doesNotExist());
+
+        final int noneStatements = countStatements(request(url, rsql, 0, 1, MgmtPagingTotalMode.NONE.toString()));
+        mvc.perform(request(url, rsql, 0, 1, MgmtPagingTotalMode.NONE.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size", equalTo(1)))
+                .andExpect(jsonPath("$.total").doesNotExist())
+                .andExpect(jsonPath("$.totalEstimated").doesNotExist());
+        assertThat(noneStatements).as("statements without count query").isEqualTo(exactStatements - 1);
+
+        // counted up to the entities of ten more pages (of size 1)
+        final int estimateStatements = countStatements(request(url, rsql, 0, 1, MgmtPagingTotalMode.ESTIMATE.toString()));
+        mvc.perform(request(url, rsql, 0, 1, MgmtPagingTotalMode.ESTIMATE.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(11)))
+                .andExpect(jsonPath("$.totalEstimated", equalTo(true)));
+        assertThat(estimateStatements).as("statements with limited count query").isEqualTo(exactStatements);
+        mvc.perform(request(url, rsql, 0, 2, MgmtPagingTotalMode.ESTIMATE.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", equalTo(ENTITIES)))
+                .andExpect(jsonPath("$.totalEstimated").doesNotExist());
+
+        // last, not full page - the total follows from the page, so it's never counted
+        final int lastPageNoneStatements = countStatements(request(url, rsql, ENTITIES - 2, 5, MgmtPagingTotalMode.NONE.toString()));
+        for (final MgmtPagingTotalMode totalMode : new MgmtPagingTotalMode[] { MgmtPagingTotalMode.EXACT, MgmtPagingTotalMode.ESTIMATE }) {
+            final int lastPageStatements = countStatements(request(url, rsql, ENTITIES - 2, 5, totalMode.toString()));
+            mvc.perform(request(url, rsql, ENTITIES - 2, 5, totalMode.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.size", equalTo(2)))
+                    .andExpect(jsonPath("$.total", equalTo(ENTITIES)))
+                    .andExpect(jsonPath("$.totalEstimated").doesNotExist());
+            assertThat(lastPageStatements).as("statements of last page with total %s", totalMode).isEqualTo(lastPageNoneStatements);
+        }
+    }
+
+    private static MockHttpServletRequestBuilder request(
+            final String url, final String rsql, final int offset, final int limit, final String totalMode) {
+        return get(url)
+                .param(MgmtRestConstants.REQUEST_PARAMETER_SEARCH, rsql)
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_OFFSET, String.valueOf(offset))
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, String.valueOf(limit))
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_TOTAL, totalMode);
+    }
+
+    // performed twice, counted only the second time, so that lazily loaded and then cached data doesn't make a difference
+    private int countStatements(final MockHttpServletRequestBuilder request) throws Exception {
+        mvc.perform(request).andExpect(status().isOk());
+        final int statements;
+        SqlStatementCounter.start();
+        try {
+            mvc.perform(request).andExpect(status().isOk());
+        } finally {
+            statements = SqlStatementCounter.stop();
+        }
+        return statements;
+    }
+}
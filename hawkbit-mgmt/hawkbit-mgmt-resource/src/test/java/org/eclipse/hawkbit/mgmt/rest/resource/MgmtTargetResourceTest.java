@@ -27,9 +27,13 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -40,6 +44,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
 
 import jakarta.validation.ConstraintViolationException;
 
@@ -92,10 +97,12 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort.Direction;
 import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 
 /**
  * Spring MVC Tests against the MgmtTargetResource.
@@ -869,6 +876,159 @@ class MgmtTargetResourceTest extends AbstractManagementApiIntegrationTest {
                 .andExpect(jsonPath("$.content.[?(@.name=='" + idE + "')].updateStatus", contains("registered")));
     }
 
+    /**
+     * Ensures that the targets could be paged through with the paging cursor (keyset pagination), also for the custom sort orders.
+     */
+    @Test
+    void getTargetsWithPagingCursor() throws Exception {
+        final List<Target> targets = testdataFactory.createTargets("cursor", 25);
+
+        assertThat(getTargetsWithPagingCursor(null, 10))
+                .containsExactlyElementsOf(targets.stream().map(Target::getControllerId).sorted().toList());
+        assertThat(getTargetsWithPagingCursor("name:DESC", 7))
+                .containsExactlyElementsOf(targets.stream().map(Target::getControllerId).sorted(Comparator.reverseOrder()).toList());
+        assertThat(getTargetsWithPagingCursor("updateStatus:ASC", 10))
+                .containsExactlyElementsOf(targets.stream().sorted(Comparator.comparing(Target::getId)).map(Target::getControllerId).toList());
+    }
+
+    /**
+     * Ensures that invalid paging cursors and sort orders not supported by the keyset pagination lead to bad request.
+     */
+    @Test
+    void getTargetsWithInvalidPagingCursor() throws Exception {
+        testdataFactory.createTargets("cursor", 3);
+        final String cursor = new JSONObject(mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, "1")
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, ""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nextCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString()).getString("nextCursor");
+
+        // not well formed
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, "not a cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode", equalTo(SpServerError.SP_REST_PAGING_CURSOR_INVALID.getKey())));
+        // other sort order
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "name:DESC")
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, cursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode", equalTo(SpServerError.SP_REST_PAGING_CURSOR_INVALID.getKey())));
+        // combined with offset
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_OFFSET, "1")
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, cursor))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode", equalTo(SpServerError.SP_REST_PAGING_CURSOR_INVALID.getKey())));
+        // nullable sort field
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "description:ASC")
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, ""))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode", equalTo(SpServerError.SP_REST_PAGING_CURSOR_INVALID.getKey())));
+    }
+
+    /**
+     * Ensures that the targets are exported as newline delimited JSON, filtered and sorted, and gzip compressed if accepted.
+     */
+    @Test
+    void exportTargets() throws Exception {
+        final List<String> exported = testdataFactory.createTargets("exported", 5).stream()
+                .map(Target::getControllerId)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        testdataFactory.createTargets("other", 3);
+
+        final MockHttpServletRequestBuilder request = get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .param(MgmtRestConstants.REQUEST_PARAMETER_SEARCH, "controllerId==exported*")
+                .param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, "controllerId:DESC");
+        final String ndjson = mvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(ndjson).endsWith("\n");
+        final List<String> controllerIds = new ArrayList<>();
+        for (final String line : ndjson.split("\n")) {
+            final JSONObject target = new JSONObject(line);
+            controllerIds.add(target.getString("controllerId"));
+            assertThat(target.getJSONObject("_links").getJSONObject("self").getString("href"))
+                    .isEqualTo("http://localhost/rest/v1/targets/" + target.getString("controllerId"));
+        }
+        assertThat(controllerIds).containsExactlyElementsOf(exported);
+
+        final byte[] gzipped = mvc.perform(request.header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (final InputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            assertThat(new String(in.readAllBytes(), StandardCharsets.UTF_8)).isEqualTo(ndjson);
+        }
+
+        // errors before the first target are responded as usual
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                        .accept(MediaType.APPLICATION_NDJSON)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip")
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_SEARCH, "unknown==value"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(jsonPath("$.errorCode", equalTo(SpServerError.SP_REST_RSQL_PARAM_INVALID_FIELD.getKey())));
+    }
+
+    /**
+     * Ensures that the status entries of an action are exported as newline delimited JSON, latest first.
+     */
+    @Test
+    void exportActionStatus() throws Exception {
+        final Target target = testdataFactory.createTarget("exported");
+        final Action action = getFirstAssignedAction(
+                assignDistributionSet(testdataFactory.createDistributionSet(), Collections.singletonList(target)));
+        controllerManagement.addUpdateActionStatus(
+                entityFactory.actionStatus().create(action.getId()).status(Status.DOWNLOAD).message("downloading"));
+        controllerManagement.addUpdateActionStatus(
+                entityFactory.actionStatus().create(action.getId()).status(Status.DOWNLOADED).messages(List.of("downloaded", "verified")));
+        final List<Long> statusIds = deploymentManagement.findActionStatusByAction(action.getId(), PAGE).getContent().stream()
+                .map(ActionStatus::getId)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        final String ndjson = mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING + "/" + target.getControllerId() + "/"
+                        + MgmtRestConstants.TARGET_V1_ACTIONS + "/" + action.getId() + "/" + MgmtRestConstants.TARGET_V1_ACTION_STATUS)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        final List<Long> exportedStatusIds = new ArrayList<>();
+        final List<List<String>> exportedMessages = new ArrayList<>();
+        for (final String line : ndjson.split("\n")) {
+            final JSONObject status = new JSONObject(line);
+            exportedStatusIds.add(status.getLong("id"));
+            final List<String> messages = new ArrayList<>();
+            final JSONArray messagesArray = status.optJSONArray("messages");
+            for (int i = 0; messagesArray != null && i < messagesArray.length(); i++) {
+                messages.add(messagesArray.getString(i));
+            }
+            // the messages are loaded for all entries at once, each entry has to get its own
+            assertThat(messages).containsExactlyElementsOf(
+                    deploymentManagement.findMessagesByActionStatusId(status.getLong("id"), PAGE).getContent());
+            exportedMessages.add(messages);
+        }
+        assertThat(exportedStatusIds).containsExactlyElementsOf(statusIds);
+        assertThat(exportedMessages.get(0)).containsExactly("downloaded", "verified");
+        assertThat(exportedMessages.get(1)).containsExactly("downloading");
+
+        // action of another target
+        testdataFactory.createTarget("other");
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING + "/other/"
+                        + MgmtRestConstants.TARGET_V1_ACTIONS + "/" + action.getId() + "/" + MgmtRestConstants.TARGET_V1_ACTION_STATUS)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(status().isNotFound());
+    }
+
     /**
      * Ensures that the get request for a target works.
      */
@@ -3091,4 +3251,26 @@ class MgmtTargetResourceTest extends AbstractManagementApiIntegrationTest {
 
         return controllerManagement.addUpdateActionStatus(actionStatus);
     }
+
+    private List<String> getTargetsWithPagingCursor(final String sort, final int limit) throws Exception {
+        final List<String> controllerIds = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            final MockHttpServletRequestBuilder request = get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                    .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, String.valueOf(limit))
+                    .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, cursor);
+            if (sort != null) {
+                request.param(MgmtRestConstants.REQUEST_PARAMETER_SORTING, sort);
+            }
+            final JSONObject page = new JSONObject(mvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            final JSONArray content = page.getJSONArray("content");
+            for (int i = 0; i < content.length(); i++) {
+                controllerIds.add(content.getJSONObject(i).getString("controllerId"));
+            }
+            cursor = page.optString("nextCursor", null);
+        }
+        return controllerIds;
+    }
 }
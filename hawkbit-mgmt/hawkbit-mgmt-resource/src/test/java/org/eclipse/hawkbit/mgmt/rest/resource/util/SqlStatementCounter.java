@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource.util;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * Counts the SQL statements prepared by the current thread, e.g. to verify the number of queries of a request. To be imported into the
+ * test context, which wraps the data source for counting, independent of the JPA vendor.
+ */
+public class SqlStatementCounter {
+
+    private static final ThreadLocal<AtomicInteger> COUNTER = new ThreadLocal<>();
+
+    @Bean
+    static BeanPostProcessor sqlStatementCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                return bean instanceof DataSource dataSource ? counting(dataSource) : bean;
+            }
+        };
+    }
+
+    /**
+     * Starts counting the statements of the current thread.
+     */
+    public static void start() {
+        COUNTER.set(new AtomicInteger());
+    }
+
+    /**
+     * Stops counting the statements of the current thread.
+     *
+     * @return the number of statements since {@link #start()}
+     */
+    public static int stop() {
+        final AtomicInteger counter = COUNTER.get();
+        COUNTER.remove();
+        return counter == null ? 0 : counter.get();
+    }
+
+    private static DataSource counting(final DataSource dataSource) {
+        return new DelegatingDataSource(dataSource) {
+
+            @Override
+            public Connection getConnection() throws SQLException {
+                return counting(super.getConnection());
+            }
+
+            @Override
+            public Connection getConnection(final String username, final String password) throws SQLException {
+                return counting(super.getConnection(username, password));
+            }
+        };
+    }
+
+    private static Connection counting(final Connection connection) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(), new Class<?>[] { Connection.class }, (proxy, method, args) -> {
+                    final AtomicInteger counter = COUNTER.get();
+                    if (counter != null && (method.getName().startsWith("prepare") || "createStatement".equals(method.getName()))) {
+                        counter.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (final InvocationTargetException e) {
+                        throw e.getCause();
+                    }
+                });
+    }
+}
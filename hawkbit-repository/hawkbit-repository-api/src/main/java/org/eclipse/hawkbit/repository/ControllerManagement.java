@@ -27,6 +27,7 @@ import org.eclipse.hawkbit.repository.exception.CancelActionNotAllowedException;
 import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.InvalidTargetAttributeException;
+import org.eclipse.hawkbit.repository.exception.TooManyTargetUpdatesException;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Action.Status;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
@@ -103,6 +104,19 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Action addUpdateActionStatus(@NotNull @Valid ActionStatusCreate create);
 
+    /**
+     * Bulk variant of {@link #addUpdateActionStatus(ActionStatusCreate)} - adds the {@link ActionStatus} entries (in the given order)
+     * in one transaction. If one of the entries fails, none is added.
+     *
+     * @param creates to be added, could contain multiple entries for the same action
+     * @return the updated {@link Action}s in the order of the entries
+     * @throws AssignmentQuotaExceededException if more than the allowed number of status entries or messages per entry are inserted
+     * @throws EntityNotFoundException if an action does not exist
+     * @throws ConstraintViolationException if fields are not filled as specified. Check {@link ActionStatusCreate} for field constraints.
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    List<Action> addUpdateActionStatuses(@NotNull @Valid List<ActionStatusCreate> creates);
+
     /**
      * Retrieves active {@link Action} with the highest priority that is assigned to a {@link Target}.
      * <p/>
@@ -153,6 +167,7 @@ public interface ControllerManagement {
      * @param controllerId reference
      * @param address the client IP address of the target, might be {@code null}
      * @return target reference
+     * @throws TooManyTargetUpdatesException if the target update cannot be queued, to be retried later
      */
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Target findOrRegisterTargetIfItDoesNotExist(@NotEmpty String controllerId, @NotNull URI address);
@@ -170,10 +185,22 @@ public interface ControllerManagement {
      * @param name the name of the target
      * @param type the target type name of the target
      * @return target reference
+     * @throws TooManyTargetUpdatesException if the target update cannot be queued, to be retried later
      */
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Target findOrRegisterTargetIfItDoesNotExist(@NotEmpty String controllerId, @NotNull URI address, String name, String type);
 
+    /**
+     * Registers a poll of an already known target, i.e. updates its {@link Target#getLastTargetQuery()} without loading the
+     * target. Other target properties (e.g. {@link Target#getAddress()}) are not touched, so the caller has to ensure that
+     * they haven't changed - otherwise {@link #findOrRegisterTargetIfItDoesNotExist(String, URI)} shall be used.
+     *
+     * @param controllerId reference
+     * @throws TooManyTargetUpdatesException if the target update cannot be queued, to be retried later
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    void registerPoll(@NotEmpty String controllerId);
+
     /**
      * Retrieves last {@link Action} for a download of an artifact of given module and target if exists and is not canceled.
      *
@@ -297,6 +324,30 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER + SpringEvalExpressions.HAS_AUTH_OR + SpringEvalExpressions.IS_SYSTEM_CODE)
     Optional<Target> get(long targetId);
 
+    /**
+     * Verifies that the {@link Target} with the given controller ID has the given security token. Might be served from a near
+     * cache of target snapshots, so it should be preferred over loading the target if just the security token has to be verified.
+     *
+     * @param controllerId of the target
+     * @param securityToken the presented security token
+     * @return the controller ID of the target if it exists and has the given security token, empty otherwise
+     * @see Target#getSecurityToken()
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_SYSTEM_CODE)
+    Optional<String> verifySecurityToken(@NotEmpty String controllerId, @NotEmpty String securityToken);
+
+    /**
+     * Verifies that the {@link Target} with the given ID has the given security token. Might be served from a near cache of
+     * target snapshots, so it should be preferred over loading the target if just the security token has to be verified.
+     *
+     * @param targetId of the target
+     * @param securityToken the presented security token
+     * @return the controller ID of the target if it exists and has the given security token, empty otherwise
+     * @see Target#getSecurityToken()
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_SYSTEM_CODE)
+    Optional<String> verifySecurityToken(long targetId, @NotEmpty String securityToken);
+
     /**
      * Retrieves the specified number of messages from action history of the given {@link Action} based on messageCount. Regardless of the
      * value of messageCount, in order to restrict resource utilisation by controllers, maximum number of messages that are retrieved from
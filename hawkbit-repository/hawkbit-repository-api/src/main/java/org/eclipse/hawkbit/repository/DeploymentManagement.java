@@ -14,6 +14,8 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
@@ -43,6 +45,8 @@ import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 /**
@@ -169,6 +173,17 @@ public interface DeploymentManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     long countActions(@NotNull String rsql);
 
+    /**
+     * Counts the actions which match the given query, but at most up to the limit.<p/>
+     * No access control applied.
+     *
+     * @param rsql RSQL query, {@code null} to count all actions
+     * @param limit the maximum to count
+     * @return the number of actions matching the given RSQL query, the limit if there are at least as many
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    long countActionsUpTo(@Nullable String rsql, int limit);
+
     /**
      * Counts all actions associated to a specific target.
      *
@@ -210,6 +225,18 @@ public interface DeploymentManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     Slice<Action> findActions(@NotNull String rsql, @NotNull Pageable pageable);
 
+    /**
+     * Passes all {@link Action}s which match the given RSQL query one by one to the consumer, e.g. to export them. The actions are
+     * streamed from the database within an own read-only transaction and are detached after they have been consumed. As for the
+     * other action queries, only the actions of the targets the caller has read access to are streamed.
+     *
+     * @param rsql RSQL query string, {@code null} for all actions
+     * @param sort order of the actions
+     * @param consumer of the actions, called within the transaction
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    void streamActions(@Nullable String rsql, @NotNull Sort sort, @NotNull Consumer<Action> consumer);
+
     /**
      * Retrieves all {@link Action}s assigned to a specific {@link Target} and a given specification.
      *
@@ -245,6 +272,19 @@ public interface DeploymentManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     Page<ActionStatus> findActionStatusByAction(long actionId, @NotNull Pageable pageable);
 
+    /**
+     * Passes all the {@link ActionStatus} entries of the given {@link Action} one by one, together with their messages, to the
+     * consumer, e.g. to export them. The entries are streamed from the database within an own read-only transaction and are detached
+     * after they have been consumed. The messages are loaded for a chunk of entries at once.
+     *
+     * @param actionId to be filtered on
+     * @param sort order of the entries
+     * @param consumer of the entries and their messages, called within the transaction
+     * @throws EntityNotFoundException if action with given ID does not exist
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    void streamActionStatusByAction(long actionId, @NotNull Sort sort, @NotNull BiConsumer<ActionStatus, List<String>> consumer);
+
     /**
      * Counts all the {@link ActionStatus} entries of the given {@link Action}.
      *
@@ -405,6 +445,16 @@ public interface DeploymentManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     boolean hasPendingCancellations(@NotNull Long targetId);
 
+    /**
+     * Bulk variant of {@link #hasPendingCancellations(Long)} - returns the IDs of those of the given targets which have an action in
+     * the {@link Action.Status#CANCELING} state. Not existing or not accessible targets are ignored.
+     *
+     * @param targetIds of the targets to check
+     * @return the IDs of the targets with actions in CANCELING state
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    Set<Long> findTargetIdsWithPendingCancellations(@NotNull Collection<Long> targetIds);
+
     /**
      * Cancels all actions that refer to a given distribution set. This method is called when a distribution set is invalidated.
      *
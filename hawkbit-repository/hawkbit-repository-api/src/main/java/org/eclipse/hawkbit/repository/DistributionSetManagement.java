@@ -37,6 +37,7 @@ import org.eclipse.hawkbit.repository.model.Statistic;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.lang.Nullable;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 /**
@@ -275,6 +276,19 @@ public interface DistributionSetManagement extends RepositoryManagement<Distribu
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_REPOSITORY)
     Page<DistributionSet> findByRsqlAndTag(@NotNull String rsql, long tagId, @NotNull Pageable pageable);
 
+    /**
+     * Retrieves the {@link DistributionSet}s matching the given query without counting them, see {@link #findByRsql(String, Pageable)}.
+     *
+     * @param rsql filter definition in RSQL syntax
+     * @param pageable page parameter
+     * @return the found {@link DistributionSet}s
+     * @throws RSQLParameterUnsupportedFieldException if a field in the RSQL string is used but not provided by the
+     *         given {@code fieldNameProvider}
+     * @throws RSQLParameterSyntaxException if the RSQL syntax is wrong
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_REPOSITORY)
+    Slice<DistributionSet> findByRsqlWithoutCount(@NotNull String rsql, @NotNull Pageable pageable);
+
     /**
      * Counts all {@link DistributionSet}s based on completeness.
      *
@@ -294,6 +308,16 @@ public interface DistributionSetManagement extends RepositoryManagement<Distribu
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_REPOSITORY)
     long countByDistributionSetFilter(@NotNull DistributionSetFilter distributionSetFilter);
 
+    /**
+     * Counts the {@link DistributionSet}s matching the given query that are not marked as deleted, but at most up to the limit.
+     *
+     * @param rsql filter definition in RSQL syntax, {@code null} to count all
+     * @param limit the maximum to count
+     * @return count of {@link DistributionSet}s, the limit if there are at least as many
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_REPOSITORY)
+    long countByRsqlUpTo(@Nullable String rsql, int limit);
+
     /**
      * Count all {@link DistributionSet}s in the repository that are not marked
      * as deleted.
@@ -0,0 +1,70 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.eclipse.hawkbit.repository.exception.PagingCursorInvalidException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
+
+/**
+ * An implementation of the {@link PageRequest} for keyset (seek) pagination. In contrast to the {@link OffsetBasedPageRequest} the
+ * preceding entries are not skipped, but the page starts after the given sort key - the values of the sort properties of the last
+ * entry of the previous page. So the database could seek to the start of the page and the latency doesn't grow with the page depth.
+ * <p/>
+ * The {@link #ID id} is appended to the sort as tiebreaker (if not sorted by id already), so the sort key is unique. The sort
+ * properties must be non-null attributes of the entity.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public final class KeysetPageRequest extends PageRequest {
+
+    public static final String ID = "id";
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> after;
+
+    /**
+     * Creates a new {@link KeysetPageRequest}.
+     *
+     * @param limit the limit of the page to be returned.
+     * @param sort the sort, the {@link #ID id} is appended as tiebreaker if not contained.
+     * @param after the string values of the sort properties (including the id) of the last entry of the previous page,
+     *         {@code null} for the first page.
+     * @throws PagingCursorInvalidException if the number of the after values doesn't match the sort
+     */
+    public KeysetPageRequest(final int limit, final Sort sort, @Nullable final List<String> after) {
+        super(0, limit, withIdTiebreaker(sort));
+        if (after != null && after.size() != getSort().toList().size()) {
+            throw new PagingCursorInvalidException("The paging cursor doesn't match the sort " + getSort());
+        }
+        this.after = after == null ? null : Collections.unmodifiableList(new ArrayList<>(after));
+    }
+
+    private static Sort withIdTiebreaker(final Sort sort) {
+        if (sort.getOrderFor(ID) != null) {
+            return sort;
+        }
+        final List<Sort.Order> orders = sort.toList();
+        final Sort.Direction direction = orders.isEmpty() ? Sort.Direction.ASC : orders.get(orders.size() - 1).getDirection();
+        return sort.and(Sort.by(direction, ID));
+    }
+}
@@ -42,6 +42,14 @@ public class RepositoryProperties {
      */
     private boolean publishTargetPollEvent = true;
 
+    /**
+     * Set to <code>false</code> if the listeners are interested in the
+     * {@link org.eclipse.hawkbit.repository.event.remote.TargetPollBatchEvent}s
+     * of the queued polls only. Otherwise, every node fans them out into
+     * (node local) {@link TargetPollEvent}s.
+     */
+    private boolean targetPollEventFanOut = true;
+
     /**
      * Maximum number of poll operations queued before flush.
      */
@@ -52,6 +60,12 @@ public class RepositoryProperties {
      */
     private long pollPersistenceFlushTime = TimeUnit.SECONDS.toMillis(10);
 
+    /**
+     * Maximum time a controller request waits for room in the full queue in {@link TimeUnit#MILLISECONDS}. If there is no room
+     * then, the request is rejected, to be retried by the controller.
+     */
+    private long pollPersistenceBackpressureTime = TimeUnit.SECONDS.toMillis(1);
+
     /**
      * Set to true to persist polls immediately.
      */
@@ -78,4 +92,40 @@ public class RepositoryProperties {
      * new targets
      */
     private long dynamicRolloutsMinInvolvePeriodMS = 60_000;
+
+    /**
+     * Set to <code>false</code> to find and assign the targets of the rollout groups one by one instead of set based, with a
+     * single INSERT ... SELECT statement per chunk. The targets are always assigned one by one if the set based assignment is
+     * not supported by the JPA vendor or the rollout is a retried one.
+     */
+    private boolean rolloutGroupSetBasedAssignment = true;
+
+    /**
+     * The period (in milli-seconds) on which the action status counters of the running rollout groups are reconciled with the
+     * actual action counts, in order to correct the drift caused by changes which bypass the counting (e.g. bulk updates).
+     */
+    private long rolloutGroupStatusCountReconciliationPeriodMS = 60_000;
+
+    /**
+     * Maximum number of target snapshots (used e.g. for the target security token authentication) cached per node.
+     * Set to 0 to disable the cache.
+     */
+    private long targetSnapshotCacheSize = 100_000;
+
+    /**
+     * Maximum time a target snapshot is cached in {@link TimeUnit#MILLISECONDS}. Bounds the staleness of a snapshot if an
+     * invalidation event is missed.
+     */
+    private long targetSnapshotCacheTtl = TimeUnit.MINUTES.toMillis(5);
+
+    /**
+     * Maximum number of tenant configuration values cached per node. Set to 0 to disable the cache.
+     */
+    private long tenantConfigurationCacheSize = 10_000;
+
+    /**
+     * Maximum time a tenant configuration value is cached in {@link TimeUnit#MILLISECONDS}. Bounds the staleness of a value if
+     * an invalidation event is missed.
+     */
+    private long tenantConfigurationCacheTtl = TimeUnit.MINUTES.toMillis(5);
 }
\ No newline at end of file
@@ -33,6 +33,7 @@ import org.eclipse.hawkbit.repository.model.SoftwareModuleType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.lang.Nullable;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 /**
@@ -186,6 +187,16 @@ public interface SoftwareModuleManagement extends RepositoryManagement<SoftwareM
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_REPOSITORY)
     Slice<SoftwareModule> findByType(long typeId, @NotNull Pageable pageable);
 
+    /**
+     * Retrieves the {@link SoftwareModule}s matching the given query without counting them, see {@link #findByRsql(String, Pageable)}.
+     *
+     * @param rsql filter definition in RSQL syntax
+     * @param pageable page parameters
+     * @return the found {@link SoftwareModule}s
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_REPOSITORY)
+    Slice<SoftwareModule> findByRsqlWithoutCount(@NotNull String rsql, @NotNull Pageable pageable);
+
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_REPOSITORY)
     Map<Long, List<SoftwareModuleMetadata>> findMetaDataBySoftwareModuleIdsAndTargetVisible(Collection<Long> moduleIds);
 
@@ -198,4 +209,14 @@ public interface SoftwareModuleManagement extends RepositoryManagement<SoftwareM
      */
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_REPOSITORY)
     long countByAssignedTo(long distributionSetId);
+
+    /**
+     * Counts the {@link SoftwareModule}s matching the given query that are not marked as deleted, but at most up to the limit.
+     *
+     * @param rsql filter definition in RSQL syntax, {@code null} to count all
+     * @param limit the maximum to count
+     * @return count of {@link SoftwareModule}s, the limit if there are at least as many
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_REPOSITORY)
+    long countByRsqlUpTo(@Nullable String rsql, int limit);
 }
\ No newline at end of file
@@ -41,6 +41,8 @@ import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.lang.Nullable;
 import org.springframework.security.access.prepost.PreAuthorize;
 
 /**
@@ -104,6 +106,16 @@ public interface TargetManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     long countByRsql(@NotEmpty String rsql);
 
+    /**
+     * Counts the {@link Target}s matching the given query, but at most up to the limit.
+     *
+     * @param rsql filter definition in RSQL syntax, {@code null} to count all targets
+     * @param limit the maximum to count
+     * @return the found number of {@link Target}s, the limit if there are at least as many
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    long countByRsqlUpTo(@Nullable String rsql, int limit);
+
     /**
      * Count {@link TargetFilterQuery}s for given target filter query with UPDATE permission.
      *
@@ -256,6 +268,24 @@ public interface TargetManagement {
             @NotEmpty Collection<Long> groups, @NotNull String rsql, @NotNull DistributionSetType distributionSetType,
             @NotNull Pageable pageable);
 
+    /**
+     * Assigns up to limit targets for all the given parameter {@link TargetFilterQuery} and that are not assigned to one of the
+     * {@link RolloutGroup}s and are compatible with the passed {@link DistributionSetType} to the given {@link RolloutGroup}. The
+     * targets are assigned set based, with a single INSERT ... SELECT statement, i.e. without loading them.
+     *
+     * @param rolloutGroupId the id of the {@link RolloutGroup} to assign the targets to
+     * @param groups the list of {@link RolloutGroup}s
+     * @param rsql filter definition in RSQL syntax
+     * @param distributionSetType type of the {@link DistributionSet} the targets must be compatible with
+     * @param limit the maximum number of targets to assign
+     * @return the number of assigned targets, empty if the set based assignment is not supported (e.g. by the JPA vendor) and
+     *         the targets have to be found ({@link #findByRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable}) and assigned one by one
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_ROLLOUT_MANAGEMENT_READ_AND_TARGET_READ)
+    Optional<Integer> assignToRolloutGroupByRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable(
+            long rolloutGroupId, @NotEmpty Collection<Long> groups, @NotNull String rsql,
+            @NotNull DistributionSetType distributionSetType, int limit);
+
     /**
      * Counts all targets for all the given parameter {@link TargetFilterQuery} and
      * that are not assigned to one of the {@link RolloutGroup}s and are compatible
@@ -461,6 +491,21 @@ public interface TargetManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     Slice<Target> findByRsql(@NotNull String rsql, @NotNull Pageable pageable);
 
+    /**
+     * Passes all targets matching the RSQL query one by one to the consumer, e.g. to export them. The targets are streamed from the
+     * database within an own read-only transaction and are detached after they have been consumed, so the memory doesn't grow with
+     * the number of targets.
+     *
+     * @param rsql in RSQL notation, {@code null} for all targets
+     * @param sort order of the targets
+     * @param consumer of the targets, called within the transaction
+     * @throws RSQLParameterUnsupportedFieldException if a field in the RSQL string is used but not provided by the
+     *         given {@code fieldNameProvider}
+     * @throws RSQLParameterSyntaxException if the RSQL syntax is wrong
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    void streamByRsql(@Nullable String rsql, @NotNull Sort sort, @NotNull Consumer<Target> consumer);
+
     /**
      * Retrieves all target based on {@link TargetFilterQuery}.
      *
@@ -34,6 +34,11 @@ public class RemoteTenantAwareEvent extends RemoteApplicationEvent implements Te
     @Serial
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Suffix of the origin service of events which are created node locally out of other remote events.
+     */
+    protected static final String LOCAL_ORIGIN_SUFFIX = ":local";
+
     private String tenant;
 
     public RemoteTenantAwareEvent(final String tenant, final Object source) {
@@ -41,6 +46,19 @@ public class RemoteTenantAwareEvent extends RemoteApplicationEvent implements Te
         this.tenant = tenant;
     }
 
+    /**
+     * Creates an event with the given origin service. If the origin doesn't match the bus id of any node (e.g. it has an
+     * additional {@link #LOCAL_ORIGIN_SUFFIX}), the event is not sent to the bus.
+     *
+     * @param tenant the tenant
+     * @param source the source of the event
+     * @param originService the origin service
+     */
+    protected RemoteTenantAwareEvent(final String tenant, final Object source, final String originService) {
+        super(source, originService, DEFAULT_DESTINATION_FACTORY.getDestination(null));
+        this.tenant = tenant;
+    }
+
     private static String getApplicationId() {
         return EventPublisherHolder.getInstance().getApplicationId();
     }
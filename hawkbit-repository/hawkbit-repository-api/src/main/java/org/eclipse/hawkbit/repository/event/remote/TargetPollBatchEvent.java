@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Event is sent once per tenant when the queued polls of targets are persisted, instead of a {@link TargetPollEvent} per
+ * target. If the compatibility fan-out is enabled, the event is fanned out into (node local) {@link TargetPollEvent}s
+ * on every node (see {@link #toTargetPollEvents()}).
+ */
+@NoArgsConstructor // for serialization libs like jackson
+@Getter
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class TargetPollBatchEvent extends RemoteTenantAwareEvent implements Iterable<String> {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> controllerIds = new ArrayList<>();
+
+    public TargetPollBatchEvent(final String tenant, final Collection<String> controllerIds) {
+        super(tenant, null);
+        this.controllerIds.addAll(controllerIds);
+    }
+
+    @Override
+    public Iterator<String> iterator() {
+        return controllerIds.iterator();
+    }
+
+    /**
+     * @return a {@link TargetPollEvent} per polled target, which are not sent to the other nodes again
+     */
+    public List<TargetPollEvent> toTargetPollEvents() {
+        return controllerIds.stream().map(controllerId -> new TargetPollEvent(controllerId, this)).toList();
+    }
+}
@@ -41,4 +41,10 @@ public class TargetPollEvent extends RemoteTenantAwareEvent {
         this(target.getControllerId(), target.getTenant());
         this.targetAddress = target.getAddress().toString();
     }
+
+    // fan-out of a batch event, with an origin of a node local event in order to not be sent to the other nodes again
+    TargetPollEvent(final String controllerId, final TargetPollBatchEvent batchEvent) {
+        super(batchEvent.getTenant(), controllerId, batchEvent.getOriginService() + LOCAL_ORIGIN_SUFFIX);
+        this.controllerId = controllerId;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.exception;
+
+import java.io.Serial;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+import org.eclipse.hawkbit.exception.AbstractServerRtException;
+import org.eclipse.hawkbit.exception.SpServerError;
+
+/**
+ * Exception used by the REST API in case of a paging cursor which is not well formed, doesn't fit to the sort order or in case of
+ * a sort order which is not supported by the keyset pagination.
+ */
+@ToString(callSuper = true)
+@EqualsAndHashCode(callSuper = true)
+public class PagingCursorInvalidException extends AbstractServerRtException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new PagingCursorInvalidException with {@link SpServerError#SP_REST_PAGING_CURSOR_INVALID} error.
+     *
+     * @param message the message of the exception
+     */
+    public PagingCursorInvalidException(final String message) {
+        super(message, SpServerError.SP_REST_PAGING_CURSOR_INVALID);
+    }
+
+    /**
+     * Creates a new PagingCursorInvalidException with {@link SpServerError#SP_REST_PAGING_CURSOR_INVALID} error.
+     *
+     * @param message the message of the exception
+     * @param cause the cause (which is saved for later retrieval by the getCause() method). (A null value is permitted, and indicates
+     *         that the cause is nonexistent or unknown.)
+     */
+    public PagingCursorInvalidException(final String message, final Throwable cause) {
+        super(message, SpServerError.SP_REST_PAGING_CURSOR_INVALID, cause);
+    }
+}
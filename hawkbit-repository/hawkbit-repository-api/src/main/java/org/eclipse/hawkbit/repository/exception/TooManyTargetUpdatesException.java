@@ -0,0 +1,31 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.exception;
+
+import java.io.Serial;
+
+import org.eclipse.hawkbit.exception.AbstractServerRtException;
+import org.eclipse.hawkbit.exception.SpServerError;
+
+/**
+ * Thrown if a controller request is rejected because the queue of the pending target updates stays full. The request
+ * shall be retried later.
+ */
+public class TooManyTargetUpdatesException extends AbstractServerRtException {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    private static final SpServerError THIS_ERROR = SpServerError.SP_REPO_TOO_MANY_TARGET_UPDATES;
+
+    public TooManyTargetUpdatesException(final String controllerId) {
+        super("Update of target " + controllerId + " rejected, too many target updates are pending", THIS_ERROR);
+    }
+}
@@ -12,12 +12,23 @@ package org.eclipse.hawkbit.repository.jpa;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaQuery;
 
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.queries.CursoredStream;
 
 @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 @Slf4j
@@ -50,6 +61,64 @@ public class Jpa {
         }
     }
 
+    /**
+     * Inserts the tuples selected by the given query into the given entity set based, with a single INSERT ... SELECT statement.
+     * <p/>
+     * Not supported by EclipseLink, which has no INSERT ... SELECT criteria or JPQL statements - the entities have to be inserted
+     * one by one.
+     *
+     * @param entityManager the entity manager the select query has been created with
+     * @param entityClass the entity to insert into
+     * @param attributes the attributes of the entity to insert the selected tuple elements into (in the same order)
+     * @param select the query selecting the tuples to insert
+     * @param limit the maximum number of tuples to insert
+     * @return always empty, the statement is not supported
+     */
+    @SuppressWarnings("java:S1172") // intentionally - it shall follow the common "interface"/signature of the method for all JPA providers
+    public static <T> Optional<Integer> insertSelect(
+            final EntityManager entityManager, final Class<T> entityClass, final List<String> attributes,
+            final CriteriaQuery<Tuple> select, final int limit) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns the result of the query as stream, without loading it all at once.
+     * <p/>
+     * EclipseLink doesn't override {@link TypedQuery#getResultStream()}, which reads the whole result list. So the query is executed
+     * as {@link CursoredStream} instead and the already read entities are released from the cursor after each page of the fetch size.
+     * The streamed entities are read-only. The stream has to be closed, which closes the cursor.
+     *
+     * @param query the query to stream the result of
+     * @param fetchSize the JDBC fetch size and the page size of the cursor
+     * @return the result stream
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Stream<T> stream(final TypedQuery<T> query, final int fetchSize) {
+        query.setHint(QueryHints.CURSOR, true);
+        query.setHint(QueryHints.CURSOR_PAGE_SIZE, fetchSize);
+        query.setHint(QueryHints.JDBC_FETCH_SIZE, fetchSize);
+        query.setHint(QueryHints.READ_ONLY, true);
+        final CursoredStream cursor = (CursoredStream) query.getSingleResult();
+        final Iterator<T> iterator = new Iterator<>() {
+
+            private int read;
+
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (read++ % fetchSize == 0) {
+                    cursor.releasePrevious();
+                }
+                return (T) cursor.next();
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false).onClose(cursor::close);
+    }
+
     private static String formatEclipseLinkNativeQueryInClause(final Collection<String> elements) {
         return "?" + String.join(",?", elements);
     }
@@ -0,0 +1,26 @@
+create table sp_rollout_group_status_count
+(
+    rollout_group bigint  not null,
+    status        integer not null,
+    slot          integer not null,
+    action_count  bigint  not null,
+    constraint pk_rollout_group_status_count primary key (rollout_group, status, slot)
+);
+
+alter table sp_rollout_group_status_count
+    add constraint fk_rollout_group_status_count_rollout_group
+        foreign key (rollout_group)
+            references sp_rollout_group (id)
+            on delete cascade;
+
+-- initialize the counters (of all action statuses and slots) of the existing rollout groups, the actual count in the first slot
+insert into sp_rollout_group_status_count (rollout_group, status, slot, action_count)
+select g.id, s.status, sl.slot,
+    case when sl.slot = 0
+        then (select count(a.id) from sp_action a where a.rollout_group = g.id and a.status = s.status)
+        else 0 end
+from sp_rollout_group g
+    cross join (select 0 as status union all select 1 union all select 2 union all select 3 union all select 4
+        union all select 5 union all select 6 union all select 7 union all select 8 union all select 9
+        union all select 10 union all select 11) s
+    cross join (select 0 as slot union all select 1 union all select 2 union all select 3) sl;
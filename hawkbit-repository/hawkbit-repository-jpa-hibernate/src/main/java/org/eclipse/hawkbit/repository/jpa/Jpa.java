@@ -11,11 +11,22 @@ package org.eclipse.hawkbit.repository.jpa;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaQuery;
 
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.MutationQuery;
+import org.hibernate.query.criteria.JpaCriteriaInsertSelect;
+import org.hibernate.query.criteria.JpaCriteriaQuery;
 
 @NoArgsConstructor(access = lombok.AccessLevel.PRIVATE)
 @Slf4j
@@ -45,4 +56,46 @@ public class Jpa {
     public static <T> void setNativeQueryInParameter(final Query query, final String name, final Collection<T> collection) {
         query.setParameter(name, collection);
     }
-}
\ No newline at end of file
+
+    /**
+     * Inserts the tuples selected by the given query into the given entity set based, with a single INSERT ... SELECT statement.
+     *
+     * @param entityManager the entity manager the select query has been created with
+     * @param entityClass the entity to insert into
+     * @param attributes the attributes of the entity to insert the selected tuple elements into (in the same order)
+     * @param select the query selecting the tuples to insert
+     * @param limit the maximum number of tuples to insert
+     * @return the number of inserted entities, empty if the statement is not supported
+     */
+    public static <T> Optional<Integer> insertSelect(
+            final EntityManager entityManager, final Class<T> entityClass, final List<String> attributes,
+            final CriteriaQuery<Tuple> select, final int limit) {
+        final Session session = entityManager.unwrap(Session.class);
+        final JpaCriteriaInsertSelect<T> insert = session.getCriteriaBuilder().createCriteriaInsertSelect(entityClass);
+        insert.setInsertionTargetPaths(attributes.stream().map(attribute -> insert.getTarget().get(attribute)).toList());
+        insert.select(((JpaCriteriaQuery<Tuple>) select).fetch(limit));
+        final MutationQuery query;
+        try {
+            query = session.createMutationQuery(insert);
+        } catch (final IllegalArgumentException e) {
+            // the select could not be translated into an INSERT ... SELECT statement, the transaction is still usable
+            log.debug("Could not create INSERT ... SELECT statement for {}", entityClass.getSimpleName(), e);
+            return Optional.empty();
+        }
+        return Optional.of(query.executeUpdate());
+    }
+
+    /**
+     * Returns the result of the query as stream, without loading it all at once. Hibernate streams the result via scrollable
+     * results with the given fetch size. The streamed entities are read-only. The stream has to be closed.
+     *
+     * @param query the query to stream the result of
+     * @param fetchSize the JDBC fetch size
+     * @return the result stream
+     */
+    public static <T> Stream<T> stream(final TypedQuery<T> query, final int fetchSize) {
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return query.getResultStream();
+    }
+}
@@ -0,0 +1,467 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.ql;
+
+import static org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator.EQ;
+import static org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator.GT;
+import static org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator.GTE;
+import static org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator.IN;
+import static org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator.LIKE;
+import static org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator.LT;
+import static org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator.LTE;
+import static org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator.NE;
+import static org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator.NOT_IN;
+import static org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator.NOT_LIKE;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison;
+import org.eclipse.hawkbit.repository.jpa.ql.Node.Comparison.Operator;
+import org.eclipse.hawkbit.repository.jpa.ql.Node.Logical;
+
+/**
+ * Entity matcher that matches entity objects of a given type against a filter {@link Node}. In contrast to the {@link EntityMatcher},
+ * the node is compiled once to a predicate tree - the getters are resolved to {@link MethodHandle}s, the values are converted to
+ * the field types and the like patterns are compiled upfront. So, the matcher could be reused for evaluating many entities.
+ * <p/>
+ * If created to ignore case, the string values are compared case-insensitive - as the queries are done by
+ * {@link SpecificationBuilder} if the ignore case is configured. The range comparisons of strings are never case-insensitive, as
+ * by the {@link SpecificationBuilder}.
+ * <p/>
+ * If created as {@link #compilePrefilter prefilter}, the comparisons which depend on the collation of the database are not
+ * evaluated in-memory but considered as matching - so, the prefilter never rejects an entity which the database would match.
+ *
+ * @param <T> the entity type
+ */
+public final class CompiledEntityMatcher<T> {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Predicate<Object> root;
+
+    private CompiledEntityMatcher(final Predicate<Object> root) {
+        this.root = root;
+    }
+
+    /**
+     * Compiles the filter node to a matcher for the given entity type.
+     *
+     * @param node the filter node
+     * @param type the entity type
+     * @param ignoreCase if the string values shall be compared case-insensitive
+     * @return the matcher
+     * @throws IllegalArgumentException if the node refers fields or values which could not be resolved for the entity type, or
+     *         contains virtual properties (e.g. <em>${OVERDUE_TS}</em>) which are resolved at query time
+     */
+    public static <T> CompiledEntityMatcher<T> compile(final Node node, final Class<T> type, final boolean ignoreCase) {
+        return new CompiledEntityMatcher<>(new Compiler(ignoreCase, false, false).compile(node, type));
+    }
+
+    /**
+     * Compiles the filter node to a prefilter for the given entity type. The prefilter could match entities which the database
+     * wouldn't, but never rejects an entity which the database would match. The string comparisons which depend on the collation
+     * of the database are considered as matching:
+     * <ul>
+     *     <li>the range comparisons (e.g. <em>=gt=</em>) of strings (and all other non-numbers)</li>
+     *     <li>all comparisons of strings (and the map keys) if the database is case-insensitive - its collation might ignore
+     *     accents or trailing spaces as well</li>
+     *     <li>the case-insensitive comparisons of non-ASCII strings, whose upper case could differ in the database</li>
+     * </ul>
+     *
+     * @param node the filter node
+     * @param type the entity type
+     * @param ignoreCase if the string values are compared case-insensitive by the queries
+     * @param caseInsensitiveDB if the database is case-insensitive
+     * @return the prefilter
+     * @throws IllegalArgumentException if the node refers fields or values which could not be resolved for the entity type, or
+     *         contains virtual properties (e.g. <em>${OVERDUE_TS}</em>) which are resolved at query time
+     */
+    public static <T> CompiledEntityMatcher<T> compilePrefilter(
+            final Node node, final Class<T> type, final boolean ignoreCase, final boolean caseInsensitiveDB) {
+        return new CompiledEntityMatcher<>(new Compiler(ignoreCase || caseInsensitiveDB, true, caseInsensitiveDB).compile(node, type));
+    }
+
+    /**
+     * @param t the entity
+     * @return {@code true} if the entity matches
+     */
+    public boolean match(final T t) {
+        return root.test(t);
+    }
+
+    private record Getter(Function<Object, Object> get, Class<?> type, Type genericType) {}
+
+    // prefilter - the comparisons which can't be decided in-memory match MAYBE, and so the entity matches as long as the node isn't
+    // decided to NO. Since there are no negated logical nodes, MAYBE could be treated as matching already by the comparisons
+    private record Compiler(boolean ignoreCase, boolean prefilter, boolean caseInsensitiveDB) {
+
+        private Predicate<Object> compile(final Node node, final Class<?> type) {
+            if (node instanceof Comparison comparison) {
+                return compile(comparison, type);
+            } else if (node instanceof Logical logical) {
+                @SuppressWarnings("unchecked")
+                final Predicate<Object>[] children = logical.getChildren().stream()
+                        .map(child -> compile(child, type))
+                        .toArray(Predicate[]::new);
+                return switch (logical.getOp()) {
+                    case AND -> t -> {
+                        for (final Predicate<Object> child : children) {
+                            if (!child.test(t)) {
+                                return false;
+                            }
+                        }
+                        return true;
+                    };
+                    case OR -> t -> {
+                        for (final Predicate<Object> child : children) {
+                            if (child.test(t)) {
+                                return true;
+                            }
+                        }
+                        return false;
+                    };
+                };
+            } else {
+                throw new IllegalArgumentException("Unsupported node type: " + node.getClass());
+            }
+        }
+
+        @SuppressWarnings("java:S3776") // java:S3776 - easier to read at one place, follows EntityMatcher
+        private Predicate<Object> compile(final Comparison comparison, final Class<?> type) {
+            final String[] split = comparison.getKey().split("\\.", 2);
+            final Getter fieldGetter = getter(type, split[0]);
+            final Operator op = comparison.getOp();
+            if (Map.class.isAssignableFrom(fieldGetter.type())) {
+                if (split.length < 2) {
+                    throw new IllegalArgumentException("No key for the map field " + split[0]);
+                }
+                final String key = split[1];
+                final Matcher matcher = matcher(op, comparison.getValue(), typeArgument(fieldGetter.genericType(), 1));
+                if (prefilter && (caseInsensitiveDB || (ignoreCase && nonAscii(key)))) {
+                    // the map key is found by the collation (or the upper case) of the database
+                    return t -> true;
+                }
+                final boolean not = op == NE || op == NOT_IN || op == NOT_LIKE;
+                return t -> {
+                    final Map<?, ?> map = (Map<?, ?>) fieldGetter.get().apply(t);
+                    final Object mapKey = map == null ? null : mapKey(map, key);
+                    if (not && mapKey == null) {
+                        return false;
+                    }
+                    return matcher.match(mapKey == null ? null : map.get(mapKey)) != Match.NO;
+                };
+            } else if (Collection.class.isAssignableFrom(fieldGetter.type())) { // Set / List
+                final Function<Object, Object> elementGetter;
+                final Class<?> elementType;
+                if (split.length == 1) {
+                    elementGetter = Function.identity();
+                    elementType = fieldGetter.type();
+                } else {
+                    final Getter valueGetter = getter(typeArgument(fieldGetter.genericType(), 0), split[1]);
+                    elementGetter = e -> e == null ? null : valueGetter.get().apply(e);
+                    elementType = valueGetter.type();
+                }
+                final boolean not = op == NE || op == NOT_IN || op == NOT_LIKE;
+                final Matcher matcher = matcher(not ? (op == NE ? EQ : op == NOT_IN ? IN : LIKE) : op, comparison.getValue(), elementType);
+                return t -> {
+                    final Collection<?> collection = (Collection<?>) fieldGetter.get().apply(t);
+                    Match any = Match.NO;
+                    if (collection != null) {
+                        for (final Object element : collection) {
+                            final Match match = matcher.match(elementGetter.apply(element));
+                            if (match == Match.YES) {
+                                any = Match.YES;
+                                break;
+                            } else if (match == Match.MAYBE) {
+                                any = Match.MAYBE;
+                            }
+                        }
+                    }
+                    return (not ? any.not() : any) != Match.NO;
+                };
+            } else {
+                Function<Object, Object> valueGetter = fieldGetter.get();
+                Class<?> valueType = fieldGetter.type();
+                if (split.length > 1) {
+                    // sub attribute, could be nested
+                    for (final String subAttribute : split[1].split("\\.")) {
+                        final Getter subGetter = getter(valueType, subAttribute);
+                        final Function<Object, Object> parentGetter = valueGetter;
+                        valueGetter = t -> {
+                            final Object parent = parentGetter.apply(t);
+                            return parent == null ? null : subGetter.get().apply(parent);
+                        };
+                        valueType = subGetter.type();
+                    }
+                }
+                final Function<Object, Object> getter = valueGetter;
+                final Matcher matcher = matcher(op, comparison.getValue(), valueType);
+                return t -> matcher.match(getter.apply(t)) != Match.NO;
+            }
+        }
+
+        private Object mapKey(final Map<?, ?> map, final String key) {
+            if (map.containsKey(key)) {
+                return key;
+            } else if (ignoreCase) {
+                return map.keySet().stream()
+                        .filter(mapKey -> mapKey instanceof String strKey && strKey.equalsIgnoreCase(key))
+                        .findFirst()
+                        .orElse(null);
+            } else {
+                return null;
+            }
+        }
+
+        private Matcher matcher(final Operator op, final Object value, final Class<?> type) {
+            final boolean range = op == GT || op == GTE || op == LT || op == LTE;
+            if (prefilter && ((type == String.class && caseInsensitiveDB) || (range && !isNumber(type)))) {
+                // depends on the collation (or the column type) in the database
+                return fieldValue -> Match.MAYBE;
+            }
+
+            if (op == LIKE || op == NOT_LIKE) {
+                if (!(value instanceof String pattern)) {
+                    throw new IllegalArgumentException("LIKE pattern must be String. Found: " + (value == null ? null : value.getClass()));
+                }
+                // upper cased as the value, if ignore case - as by the specification builder
+                final Pattern regex = likePattern((String) normalize(pattern));
+                final boolean nonAsciiPattern = nonAscii(pattern);
+                return fieldValue -> {
+                    if (fieldValue == null) {
+                        return Match.of(op == NOT_LIKE); // null value cannot match any pattern
+                    } else if (fieldValue instanceof String strValue) {
+                        return caseUncertain(nonAsciiPattern, strValue)
+                                ? Match.MAYBE
+                                : Match.of(regex.matcher((String) normalize(strValue)).matches() == (op == LIKE));
+                    } else {
+                        throw new IllegalArgumentException("LIKE value must be String. Found: " + fieldValue.getClass());
+                    }
+                };
+            }
+
+            if (range) {
+                // compared as is, also if ignore case - as by the specification builder
+                final Object mapped = map(value, type);
+                return switch (op) {
+                    case GT -> fieldValue -> Match.of(comparable(fieldValue, mapped) && compare(fieldValue, mapped) > 0);
+                    case GTE -> fieldValue -> Match.of(comparable(fieldValue, mapped) && compare(fieldValue, mapped) >= 0);
+                    case LT -> fieldValue -> Match.of(comparable(fieldValue, mapped) && compare(fieldValue, mapped) < 0);
+                    default -> fieldValue -> Match.of(comparable(fieldValue, mapped) && compare(fieldValue, mapped) <= 0);
+                };
+            }
+
+            final Object mapped = normalize(map(value, type));
+            final boolean nonAsciiValue = nonAscii(mapped);
+            final Matcher matcher = switch (op) {
+                case EQ -> fieldValue -> Match.of(Objects.equals(normalize(fieldValue), mapped));
+                case NE -> fieldValue -> Match.of(!Objects.equals(normalize(fieldValue), mapped));
+                case IN -> fieldValue -> Match.of(in(normalize(fieldValue), mapped));
+                case NOT_IN -> fieldValue -> Match.of(!in(normalize(fieldValue), mapped));
+                default -> throw new IllegalArgumentException("Unsupported operator: " + op);
+            };
+            return fieldValue -> caseUncertain(nonAsciiValue, fieldValue) ? Match.MAYBE : matcher.match(fieldValue);
+        }
+
+        // the upper case of non-ASCII strings (e.g. 'ß') could differ in the database
+        private boolean caseUncertain(final boolean nonAsciiValue, final Object fieldValue) {
+            return prefilter && ignoreCase && (nonAsciiValue || nonAscii(fieldValue));
+        }
+
+        private static boolean isNumber(final Class<?> type) {
+            return Number.class.isAssignableFrom(type) || (type.isPrimitive() && type != boolean.class && type != char.class);
+        }
+
+        private static boolean nonAscii(final Object value) {
+            if (value instanceof String strValue) {
+                for (int i = 0; i < strValue.length(); i++) {
+                    if (strValue.charAt(i) > 0x7F) {
+                        return true;
+                    }
+                }
+            } else if (value instanceof Collection<?> collection) {
+                for (final Object element : collection) {
+                    if (nonAscii(element)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        // like pattern with '*' as wildcard and '\*' as escaped '*', all the rest are literals
+        private static Pattern likePattern(final String pattern) {
+            final StringBuilder regex = new StringBuilder();
+            final StringBuilder literal = new StringBuilder();
+            for (int i = 0; i < pattern.length(); i++) {
+                final char c = pattern.charAt(i);
+                if (c == '\\' && i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+                    literal.append('*');
+                    i++;
+                } else if (c == '*') {
+                    if (!literal.isEmpty()) {
+                        regex.append(Pattern.quote(literal.toString()));
+                        literal.setLength(0);
+                    }
+                    regex.append(".*");
+                } else {
+                    literal.append(c);
+                }
+            }
+            if (!literal.isEmpty()) {
+                regex.append(Pattern.quote(literal.toString()));
+            }
+            return Pattern.compile(regex.toString(), Pattern.DOTALL);
+        }
+
+        private Object normalize(final Object value) {
+            if (!ignoreCase) {
+                return value;
+            } else if (value instanceof String strValue) {
+                return strValue.toUpperCase(Locale.ROOT);
+            } else if (value instanceof Collection<?> collection) {
+                return collection.stream().map(this::normalize).toList();
+            } else {
+                return value;
+            }
+        }
+
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Object map(final Object value, final Class<?> type) {
+            if (value instanceof Collection<?> collection) { // in / out
+                return collection.stream().map(e -> map(e, type)).toList();
+            }
+
+            if (value instanceof String strValue && strValue.contains("${")) {
+                throw new IllegalArgumentException("Virtual properties are resolved at query time: " + strValue);
+            }
+
+            if (value == null) {
+                return null;
+            } else if (type.isInstance(value)) {
+                return value;
+            } else if (type.isEnum()) {
+                final String name = value.toString();
+                return Arrays.stream(((Class<Enum>) type).getEnumConstants())
+                        .filter(constant -> ignoreCase ? constant.name().equalsIgnoreCase(name) : constant.name().equals(name))
+                        .findFirst()
+                        .orElseThrow(() -> new IllegalArgumentException("No enum constant " + type.getName() + "." + name));
+            } else if (type == Boolean.class || type == boolean.class) {
+                return Boolean.parseBoolean(value.toString());
+            } else if (type == Integer.class || type == int.class) {
+                return Integer.parseInt(value.toString());
+            } else if (type == Long.class || type == long.class) {
+                return Long.parseLong(value.toString());
+            } else if (type == Float.class || type == float.class) {
+                return Float.parseFloat(value.toString());
+            } else if (type == Double.class || type == double.class) {
+                return Double.parseDouble(value.toString());
+            } else if (type == String.class) {
+                return String.valueOf(value);
+            } else {
+                throw new IllegalArgumentException("Unsupported type: " + type);
+            }
+        }
+
+        private static Getter getter(final Class<?> type, final String fieldName) {
+            final String getterLowercase = "get" + fieldName.toLowerCase();
+            final Method method = Arrays.stream(type.getMethods())
+                    .filter(m -> m.getParameterCount() == 0 && getterLowercase.equals(m.getName().toLowerCase()))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("No getter found for field: " + fieldName + " in class: " + type.getName()));
+            final MethodHandle handle;
+            try {
+                method.setAccessible(true);
+                handle = LOOKUP.unreflect(method).asType(GETTER_TYPE);
+            } catch (final IllegalAccessException | RuntimeException e) {
+                throw new IllegalArgumentException("Getter for field: " + fieldName + " in class: " + type.getName() + " is not accessible", e);
+            }
+            return new Getter(t -> invoke(handle, t), method.getReturnType(), method.getGenericReturnType());
+        }
+
+        @SuppressWarnings("java:S1181") // method handles could throw any throwable, errors are rethrown
+        private static Object invoke(final MethodHandle handle, final Object t) {
+            try {
+                return (Object) handle.invokeExact(t);
+            } catch (final RuntimeException | Error e) {
+                throw e;
+            } catch (final Throwable e) {
+                throw new IllegalArgumentException(e);
+            }
+        }
+
+        private static Class<?> typeArgument(final Type genericType, final int index) {
+            if (genericType instanceof ParameterizedType parameterizedType
+                    && parameterizedType.getActualTypeArguments()[index] instanceof Class<?> typeArgument) {
+                return typeArgument;
+            }
+            throw new IllegalArgumentException("Can't resolve type argument " + index + " of " + genericType);
+        }
+
+        private static boolean comparable(final Object o1, final Object o2) {
+            return o1 != null && o2 != null; // null is not comparable!
+        }
+
+        @SuppressWarnings("unchecked")
+        private static int compare(final Object o1, final Object o2) {
+            return toComparable(o1).compareTo(toComparable(o2));
+        }
+
+        @SuppressWarnings("rawtypes")
+        private static Comparable toComparable(final Object o) {
+            if (o instanceof Comparable<?> comparable) {
+                return comparable;
+            } else {
+                throw new IllegalArgumentException("Can't cast " + o.getClass() + " to Comparable");
+            }
+        }
+
+        private static boolean in(final Object o, final Object elementOrCollection) {
+            if (elementOrCollection instanceof Collection<?> collection) {
+                return collection.contains(o);
+            } else {
+                return Objects.equals(o, elementOrCollection);
+            }
+        }
+    }
+
+    private enum Match {
+
+        YES, NO, MAYBE;
+
+        private static Match of(final boolean match) {
+            return match ? YES : NO;
+        }
+
+        private Match not() {
+            return this == MAYBE ? MAYBE : of(this == NO);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Matcher {
+
+        Match match(Object fieldValue);
+    }
+}
@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.eclipse.hawkbit.repository.RsqlQueryField;
+import org.eclipse.hawkbit.repository.jpa.ql.Node;
+
+/**
+ * Bounded cache of the parsed RSQL queries - the {@link Node} trees with the RSQL fields already validated and resolved to the
+ * JPA entity field names, keyed by the query and the {@link RsqlQueryField} enum type. Target filter queries, auto assignment
+ * filters and rollout group conditions are a limited set of queries which are evaluated again and again, so they don't need to
+ * be parsed each time.
+ * <p/>
+ * The nodes are immutable and don't depend on the tenant - the virtual properties (e.g. <em>${OVERDUE_TS}</em>) are resolved
+ * when the specification is applied. So, the nodes are shared by all tenants. Invalid queries are not cached.
+ * <p/>
+ * Hit and miss counts are exposed as {@code cache.gets} metrics and the hit ratio as {@code cache.hit.ratio} metric of the
+ * {@code rsql.node} cache if a {@link MeterRegistry} is available.
+ */
+@SuppressWarnings("java:S6548") // singleton holder ensures static access to the cache from the RSQL utility
+public final class RsqlNodeCache {
+
+    public static final long DEFAULT_SIZE = 1_000;
+
+    private static final String CACHE_NAME = "rsql.node";
+
+    private static volatile RsqlNodeCache instance = new RsqlNodeCache(DEFAULT_SIZE, Optional.empty());
+
+    private final boolean enabled;
+    // (query, rsql query field type) -> node
+    private final Cache<CacheKey, Node> nodes;
+
+    private RsqlNodeCache(final long size, final Optional<MeterRegistry> meterRegistry) {
+        enabled = size > 0;
+        nodes = Caffeine.newBuilder().maximumSize(Math.max(size, 0)).recordStats().build();
+        meterRegistry.ifPresent(registry -> {
+            CaffeineCacheMetrics.monitor(registry, nodes, CACHE_NAME);
+            Gauge.builder("cache.hit.ratio", nodes, cache -> cache.stats().hitRate())
+                    .tag("cache", CACHE_NAME)
+                    .description("The ratio of cache requests which were hits")
+                    .register(registry);
+        });
+    }
+
+    /**
+     * (Re)initializes the singleton cache.
+     *
+     * @param size the maximum number of cached queries, {@code 0} disables the cache
+     * @param meterRegistry to expose the cache metrics, if available
+     * @return the new singleton instance
+     */
+    public static RsqlNodeCache init(final long size, final Optional<MeterRegistry> meterRegistry) {
+        instance = new RsqlNodeCache(size, meterRegistry);
+        return instance;
+    }
+
+    /**
+     * @return The cache singleton instance.
+     */
+    public static RsqlNodeCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns the cached node of the given query or parses and caches it.
+     *
+     * @param rsql the (normalized) RSQL query
+     * @param rsqlQueryFieldType the enum class type which implements the {@link RsqlQueryField}
+     * @param parser parses the query, expected to throw an exception if the query is invalid
+     * @return the node of the query
+     */
+    public <A extends Enum<A> & RsqlQueryField> Node get(final String rsql, final Class<A> rsqlQueryFieldType, final Supplier<Node> parser) {
+        if (!enabled) {
+            return parser.get();
+        }
+        return nodes.get(new CacheKey(rsql, rsqlQueryFieldType), key -> parser.get());
+    }
+
+    private record CacheKey(String rsql, Class<?> rsqlQueryFieldType) {}
+}
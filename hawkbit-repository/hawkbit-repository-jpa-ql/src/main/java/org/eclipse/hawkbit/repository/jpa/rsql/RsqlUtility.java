@@ -11,6 +11,8 @@ package org.eclipse.hawkbit.repository.jpa.rsql;
 
 import static org.eclipse.hawkbit.repository.jpa.rsql.RsqlConfigHolder.RsqlToSpecBuilder.G3;
 
+import java.util.Optional;
+
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
@@ -23,6 +25,8 @@ import org.apache.commons.lang3.text.StrLookup;
 import org.eclipse.hawkbit.repository.RsqlQueryField;
 import org.eclipse.hawkbit.repository.exception.RSQLParameterSyntaxException;
 import org.eclipse.hawkbit.repository.exception.RSQLParameterUnsupportedFieldException;
+import org.eclipse.hawkbit.repository.jpa.ql.CompiledEntityMatcher;
+import org.eclipse.hawkbit.repository.jpa.ql.Node;
 import org.eclipse.hawkbit.repository.jpa.ql.SpecificationBuilder;
 import org.eclipse.hawkbit.repository.jpa.rsql.legacy.SpecificationBuilderLegacy;
 import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
@@ -69,7 +73,7 @@ public final class RsqlUtility {
 
     /**
      * Builds a JPA {@link Specification} which corresponds with the given RSQL query. The specification can be used to filter for JPA entities
-     * with the given RSQL query.
+     * with the given RSQL query. The parsed queries are cached by the {@link RsqlNodeCache}.
      *
      * @param rsql the rsql query to be parsed
      * @param rsqlQueryFieldType the enum class type which implements the {@link RsqlQueryField}
@@ -84,19 +88,53 @@ public final class RsqlUtility {
             final String rsql, final Class<A> rsqlQueryFieldType,
             final VirtualPropertyReplacer virtualPropertyReplacer, final Database database) {
         if (RsqlConfigHolder.getInstance().getRsqlToSpecBuilder() == G3) {
+            final String query = RsqlConfigHolder.getInstance().isCaseInsensitiveDB() || RsqlConfigHolder.getInstance().isIgnoreCase()
+                    ? rsql.toLowerCase() : rsql;
             return new SpecificationBuilder<T>(
                     virtualPropertyReplacer,
                     !RsqlConfigHolder.getInstance().isCaseInsensitiveDB() && RsqlConfigHolder.getInstance().isIgnoreCase(),
                     database)
-                    .specification(RsqlParser.parse(
-                            RsqlConfigHolder.getInstance().isCaseInsensitiveDB() || RsqlConfigHolder.getInstance().isIgnoreCase()
-                                    ? rsql.toLowerCase() : rsql,
-                            rsqlQueryFieldType));
+                    .specification(RsqlNodeCache.getInstance().get(
+                            query, rsqlQueryFieldType, () -> RsqlParser.parse(query, rsqlQueryFieldType)));
         } else {
             return new SpecificationBuilderLegacy<A, T>(rsqlQueryFieldType, virtualPropertyReplacer, database).specification(rsql);
         }
     }
 
+    /**
+     * Builds an in-memory {@link CompiledEntityMatcher#compilePrefilter prefilter} which corresponds with the given RSQL query. The
+     * prefilter could be used to skip the query of entities which are already loaded. It never rejects an entity which would be found
+     * by the {@link #buildRsqlSpecification specification} - the comparisons which depend on the collation of the database (the range
+     * comparisons of strings, and all comparisons of strings if the database is case-insensitive) are left to the database. The parsed
+     * queries are cached by the {@link RsqlNodeCache}.
+     *
+     * @param rsql the rsql query to be parsed
+     * @param rsqlQueryFieldType the enum class type which implements the {@link RsqlQueryField}
+     * @param entityType the JPA entity type
+     * @return an in-memory matcher of the entities, empty if the legacy specification builder is configured or the query can't be
+     *         matched in-memory (e.g. contains virtual properties)
+     * @throws RSQLParameterUnsupportedFieldException if a field in the RSQL string is used but not provided by the
+     *         given {@code fieldNameProvider}
+     * @throws RSQLParameterSyntaxException if the RSQL syntax is wrong
+     */
+    public static <A extends Enum<A> & RsqlQueryField, T> Optional<CompiledEntityMatcher<T>> buildEntityMatcher(
+            final String rsql, final Class<A> rsqlQueryFieldType, final Class<T> entityType) {
+        if (RsqlConfigHolder.getInstance().getRsqlToSpecBuilder() != G3) {
+            return Optional.empty();
+        }
+        final boolean caseInsensitiveDB = RsqlConfigHolder.getInstance().isCaseInsensitiveDB();
+        final boolean ignoreCase = RsqlConfigHolder.getInstance().isIgnoreCase();
+        // parsed as by buildRsqlSpecification
+        final String query = caseInsensitiveDB || ignoreCase ? rsql.toLowerCase() : rsql;
+        final Node node = RsqlNodeCache.getInstance().get(query, rsqlQueryFieldType, () -> RsqlParser.parse(query, rsqlQueryFieldType));
+        try {
+            return Optional.of(CompiledEntityMatcher.compilePrefilter(node, entityType, ignoreCase, caseInsensitiveDB));
+        } catch (final IllegalArgumentException e) {
+            log.debug("RSQL query {} can't be matched in-memory: {}", rsql, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
     /**
      * Validates the RSQL string
      *
@@ -0,0 +1,79 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.eclipse.hawkbit.repository.DistributionSetFields;
+import org.eclipse.hawkbit.repository.RsqlQueryField;
+import org.eclipse.hawkbit.repository.TargetFields;
+import org.eclipse.hawkbit.repository.exception.RSQLParameterUnsupportedFieldException;
+import org.eclipse.hawkbit.repository.jpa.ql.Node;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class RsqlNodeCacheTest {
+
+    private final AtomicInteger parsed = new AtomicInteger();
+
+    @AfterEach
+    void resetCache() {
+        RsqlNodeCache.init(RsqlNodeCache.DEFAULT_SIZE, Optional.empty());
+    }
+
+    @Test
+    void cachesParsedQueryPerFieldType() {
+        final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final RsqlNodeCache cache = RsqlNodeCache.init(10, Optional.of(meterRegistry));
+
+        final Node node = parse(cache, "name==target*", TargetFields.class);
+        assertThat(parse(cache, "name==target*", TargetFields.class)).isSameAs(node);
+        assertThat(parsed).hasValue(1);
+
+        // same query, but different fields - parsed and resolved again
+        assertThat(parse(cache, "name==target*", DistributionSetFields.class)).isNotSameAs(node);
+        assertThat(parsed).hasValue(2);
+
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "rsql.node").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("cache.hit.ratio").tag("cache", "rsql.node").gauge().value()).isEqualTo(1.0 / 3);
+    }
+
+    @Test
+    void invalidQueryIsNotCached() {
+        final RsqlNodeCache cache = RsqlNodeCache.getInstance();
+        for (int i = 0; i < 2; i++) {
+            assertThatExceptionOfType(RSQLParameterUnsupportedFieldException.class)
+                    .isThrownBy(() -> parse(cache, "unknown==value", TargetFields.class));
+        }
+        assertThat(parsed).hasValue(2);
+    }
+
+    @Test
+    void disabledCacheParsesEachTime() {
+        final RsqlNodeCache cache = RsqlNodeCache.init(0, Optional.empty());
+        parse(cache, "name==target*", TargetFields.class);
+        parse(cache, "name==target*", TargetFields.class);
+        assertThat(parsed).hasValue(2);
+    }
+
+    private <A extends Enum<A> & RsqlQueryField> Node parse(
+            final RsqlNodeCache cache, final String rsql, final Class<A> rsqlQueryFieldType) {
+        return cache.get(rsql, rsqlQueryFieldType, () -> {
+            parsed.incrementAndGet();
+            return RsqlParser.parse(rsql, rsqlQueryFieldType);
+        });
+    }
+}
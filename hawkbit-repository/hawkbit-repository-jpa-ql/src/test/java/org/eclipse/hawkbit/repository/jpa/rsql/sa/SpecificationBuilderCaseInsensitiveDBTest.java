@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql.sa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.hawkbit.repository.jpa.ql.CompiledEntityMatcher;
+import org.eclipse.hawkbit.repository.jpa.ql.Node;
+import org.eclipse.hawkbit.repository.jpa.ql.SpecificationBuilder;
+import org.eclipse.hawkbit.repository.jpa.rsql.RsqlParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.orm.jpa.vendor.Database;
+
+/**
+ * Verifies the in-memory prefilter against the queries of the {@link SpecificationBuilder} for a case-insensitive database.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database=H2",
+        "spring.datasource.url=jdbc:h2:mem:case-insensitive;IGNORECASE=TRUE"
+}, excludeAutoConfiguration = { FlywayAutoConfiguration.class })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnableAutoConfiguration
+class SpecificationBuilderCaseInsensitiveDBTest {
+
+    // the database ignores the case, so the queries don't
+    private final SpecificationBuilder<Root> builder = new SpecificationBuilder<>(null, false, Database.H2);
+
+    @Autowired
+    private RootRepository rootRepository;
+
+    @BeforeEach
+    void createRoots() {
+        SpecificationBuilderIgnoreCaseTest.createRoots(rootRepository);
+    }
+
+    /**
+     * Verifies that the prefilter matches at least as the database.
+     */
+    @Test
+    void prefilterMatchesAtLeastAsDatabase() {
+        for (final String rsql : SpecificationBuilderIgnoreCaseTest.QUERIES) {
+            final Node node = RsqlParser.parse(rsql);
+            final List<Root> result = rootRepository.findAll(builder.specification(node));
+
+            assertThat(filter(CompiledEntityMatcher.compilePrefilter(node, Root.class, false, true)))
+                    .as("Prefilter result for RSQL: %s", rsql)
+                    .containsAll(result);
+        }
+    }
+
+    /**
+     * Verifies that the prefilter still rejects by the comparisons which don't depend on the collation of the database.
+     */
+    @Test
+    void prefilterRejectsByNonStringComparisons() {
+        final List<Root> result = filter(CompiledEntityMatcher.compilePrefilter(
+                RsqlParser.parse("intValue=gt=0 and strValue==a"), Root.class, false, true));
+        assertThat(result).extracting(Root::getStrValue).containsExactlyInAnyOrder("a", "rootX");
+    }
+
+    private List<Root> filter(final CompiledEntityMatcher<Root> matcher) {
+        return StreamSupport.stream(rootRepository.findAll().spliterator(), false).filter(matcher::match).toList();
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql.sa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.StreamSupport;
+
+import org.eclipse.hawkbit.repository.jpa.ql.CompiledEntityMatcher;
+import org.eclipse.hawkbit.repository.jpa.ql.Node;
+import org.eclipse.hawkbit.repository.jpa.ql.SpecificationBuilder;
+import org.eclipse.hawkbit.repository.jpa.rsql.RsqlParser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.flyway.FlywayAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.orm.jpa.vendor.Database;
+
+/**
+ * Verifies the in-memory matchers against the queries of the {@link SpecificationBuilder} if the ignore case is configured for a
+ * case-sensitive database.
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.database=H2"
+}, excludeAutoConfiguration = { FlywayAutoConfiguration.class })
+@EnableAutoConfiguration
+class SpecificationBuilderIgnoreCaseTest {
+
+    // the values are lower case, as the queries are lower cased if the ignore case is configured
+    static final List<String> QUERIES = List.of(
+            "strValue==a", "strValue!=a", "strValue==rootx", "strValue=in=(a, rootx)", "strValue=out=(a, rootx)",
+            "strValue==root*", "strValue!=*x", "strValue==straße", "strValue==strasse", "strValue==*ß*",
+            "strValue=gt=_", "strValue=lt=b", "strValue=ge=rootx", "strValue=le=a",
+            "subMap.key==value", "subMap.key!=value", "subMap.kéy==valué", "subMap.key==val*",
+            "intValue=gt=0 and strValue==a", "intValue==0 or strValue==rootx");
+
+    private final SpecificationBuilder<Root> builder = new SpecificationBuilder<>(null, true, Database.H2);
+
+    @Autowired
+    private RootRepository rootRepository;
+
+    @BeforeEach
+    void createRoots() {
+        createRoots(rootRepository);
+    }
+
+    /**
+     * Verifies that the matcher compiled to ignore case matches exactly as the database, and the prefilter matches at least as
+     * the database.
+     */
+    @Test
+    void matchersCorrespondWithDatabase() {
+        for (final String rsql : QUERIES) {
+            final Node node = RsqlParser.parse(rsql);
+            final List<Root> result = rootRepository.findAll(builder.specification(node));
+
+            assertThat(filter(CompiledEntityMatcher.compile(node, Root.class, true)))
+                    .as("Compiled matcher result for RSQL: %s", rsql)
+                    .containsExactlyInAnyOrderElementsOf(result);
+            assertThat(filter(CompiledEntityMatcher.compilePrefilter(node, Root.class, true, false)))
+                    .as("Prefilter result for RSQL: %s", rsql)
+                    .containsAll(result);
+        }
+    }
+
+    /**
+     * Verifies that the string range comparisons are compared as they are by the database, not ignoring the case.
+     */
+    @Test
+    void stringRangeIsNotComparedIgnoringCase() {
+        final Node node = RsqlParser.parse("strValue=gt=_");
+        assertThat(filter(CompiledEntityMatcher.compile(node, Root.class, true)))
+                .extracting(Root::getStrValue)
+                .contains("a", "rootX")
+                .doesNotContain("A", "STRASSE");
+    }
+
+    static void createRoots(final RootRepository rootRepository) {
+        rootRepository.save(new Root().setStrValue("a").setIntValue(1).setSubMap(Map.of("key", "value")));
+        rootRepository.save(new Root().setStrValue("A").setSubMap(Map.of("KEY", "VALUE")));
+        rootRepository.save(new Root().setStrValue("b").setSubMap(Map.of("Kéy", "Valué")));
+        rootRepository.save(new Root().setStrValue("rootx").setSubMap(Map.of("kÉy", "VALUÉ")));
+        rootRepository.save(new Root().setStrValue("rootX").setIntValue(1));
+        rootRepository.save(new Root().setStrValue("Straße"));
+        rootRepository.save(new Root().setStrValue("STRASSE"));
+        rootRepository.save(new Root().setStrValue("x "));
+        rootRepository.save(new Root());
+    }
+
+    private List<Root> filter(final CompiledEntityMatcher<Root> matcher) {
+        return StreamSupport.stream(rootRepository.findAll().spliterator(), false).filter(matcher::match).toList();
+    }
+}
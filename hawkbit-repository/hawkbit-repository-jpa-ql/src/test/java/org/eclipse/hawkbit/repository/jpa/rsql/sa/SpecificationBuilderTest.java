@@ -22,6 +22,7 @@ import java.util.stream.StreamSupport;
 import jakarta.persistence.EntityManager;
 
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.repository.jpa.ql.CompiledEntityMatcher;
 import org.eclipse.hawkbit.repository.jpa.ql.EntityMatcher;
 import org.eclipse.hawkbit.repository.jpa.ql.utils.HawkbitQlToSql;
 import org.eclipse.hawkbit.repository.jpa.rsql.RsqlParser;
@@ -473,7 +474,17 @@ class SpecificationBuilderTest {
         // reference / auto filter (using elements and reflection)
         final EntityMatcher matcher = EntityMatcher.forRsql(rsql);
         final List<Root> refResult = StreamSupport.stream(rootRepository.findAll().spliterator(), false).filter(matcher::match).toList();
+        // compiled matcher shall match exactly as the reference
+        final CompiledEntityMatcher<Root> compiledMatcher = CompiledEntityMatcher.compile(RsqlParser.parse(rsql), Root.class, false);
+        assertThat(StreamSupport.stream(rootRepository.findAll().spliterator(), false).filter(compiledMatcher::match).toList())
+                .as("Compiled matcher result for RSQL: %s", rsql)
+                .containsExactlyInAnyOrder(refResult.toArray(Root[]::new));
         final List<Root> result = rootRepository.findAll(getSpecification(rsql));
+        // prefilter shall never reject an entity which the database matches
+        final CompiledEntityMatcher<Root> prefilter = CompiledEntityMatcher.compilePrefilter(RsqlParser.parse(rsql), Root.class, false, false);
+        assertThat(StreamSupport.stream(rootRepository.findAll().spliterator(), false).filter(prefilter::match).toList())
+                .as("Prefilter result for RSQL: %s", rsql)
+                .containsAll(result);
         // auto check with reference result
         try {
             assertThat(result).containsExactlyInAnyOrder(refResult.toArray(Root[]::new));
@@ -9,14 +9,18 @@
  */
 package org.eclipse.hawkbit.repository.jpa;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import jakarta.persistence.EntityManager;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity;
 import org.eclipse.hawkbit.repository.jpa.repository.NoCountSliceRepository;
 import org.eclipse.hawkbit.repository.jpa.specifications.SpecificationsBuilder;
@@ -24,6 +28,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.repository.CrudRepository;
@@ -74,6 +79,39 @@ public final class JpaManagementHelper {
         return new PageImpl<>(Collections.unmodifiableList(jpaAll.getContent()), pageable, 0);
     }
 
+    /**
+     * Passes all entities matching the specs one by one to the consumer, without loading them all at once. See
+     * {@link #forEachChunkBySpec(EntityManager, NoCountSliceRepository, List, Sort, Consumer)}.
+     */
+    public static <T, J extends T> void forEachBySpec(
+            final EntityManager entityManager, final NoCountSliceRepository<J> repository, final List<Specification<J>> specList,
+            final Sort sort, final Consumer<T> consumer) {
+        forEachChunkBySpec(entityManager, repository, specList, sort, chunk -> chunk.forEach(consumer));
+    }
+
+    /**
+     * Passes all entities matching the specs in chunks of {@link Constants#STREAM_FETCH_SIZE} entities to the consumer, without loading
+     * them all at once. So the consumer could load related data for a whole chunk with a single query. The persistence context is
+     * cleared after each chunk has been consumed, so the memory doesn't grow with the number of entities, but the caller has to run it
+     * in an own transaction.
+     */
+    public static <T, J extends T> void forEachChunkBySpec(
+            final EntityManager entityManager, final NoCountSliceRepository<J> repository, final List<Specification<J>> specList,
+            final Sort sort, final Consumer<List<T>> consumer) {
+        final List<T> chunk = new ArrayList<>(Constants.STREAM_FETCH_SIZE);
+        try (final Stream<J> stream = repository.findAllAsStream(combineWithAnd(specList), sort, Constants.STREAM_FETCH_SIZE)) {
+            stream.forEach(entity -> {
+                chunk.add(entity);
+                if (chunk.size() == Constants.STREAM_FETCH_SIZE) {
+                    consumeChunk(entityManager, chunk, consumer);
+                }
+            });
+        }
+        if (!chunk.isEmpty()) {
+            consumeChunk(entityManager, chunk, consumer);
+        }
+    }
+
     public static <J> long countBySpec(final JpaSpecificationExecutor<J> repository, final List<Specification<J>> specList) {
         if (CollectionUtils.isEmpty(specList)) {
             return repository.count(Specification.where(null));
@@ -82,6 +120,10 @@ public final class JpaManagementHelper {
         return repository.count(combineWithAnd(specList));
     }
 
+    public static <J> long countBySpecUpTo(final NoCountSliceRepository<J> repository, final List<Specification<J>> specList, final int limit) {
+        return repository.countUpTo(combineWithAnd(specList), limit);
+    }
+
     public static <J extends AbstractJpaBaseEntity> J touch(
             final EntityManager entityManager, final CrudRepository<J, ?> repository, final J entity) {
         // merge base entity so optLockRevision gets updated and audit
@@ -104,4 +146,11 @@ public final class JpaManagementHelper {
 
         return new String[] { ObjectUtils.isEmpty(filterName) ? "%" : filterName, filterVersion };
     }
-}
\ No newline at end of file
+
+    private static <T> void consumeChunk(final EntityManager entityManager, final List<T> chunk, final Consumer<List<T>> consumer) {
+        consumer.accept(Collections.unmodifiableList(chunk));
+        chunk.clear();
+        // the consumed entities (and their lazily loaded relations) are not needed anymore
+        entityManager.clear();
+    }
+}
@@ -17,8 +17,11 @@ import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import jakarta.persistence.EntityManager;
@@ -48,6 +51,7 @@ import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutTargetGroupRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.EvaluatorNotConfiguredException;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupEvaluationManager;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
@@ -113,9 +117,11 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     private final EntityManager entityManager;
     private final PlatformTransactionManager txManager;
     private final AfterTransactionCommitExecutor afterCommit;
+    private final RolloutGroupStatusCounters rolloutGroupStatusCounters;
     private final TenantAware tenantAware;
     private final RepositoryProperties repositoryProperties;
     private final Map<Long, AtomicLong> lastDynamicGroupFill = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> lastStatusCountReconciliation = new ConcurrentHashMap<>();
 
     @SuppressWarnings("java:S107")
     public JpaRolloutExecutor(
@@ -126,7 +132,7 @@ public class JpaRolloutExecutor implements RolloutExecutor {
             final RolloutManagement rolloutManagement, final QuotaManagement quotaManagement,
             final RolloutGroupEvaluationManager evaluationManager, final RolloutApprovalStrategy rolloutApprovalStrategy,
             final EntityManager entityManager, final PlatformTransactionManager txManager,
-            final AfterTransactionCommitExecutor afterCommit,
+            final AfterTransactionCommitExecutor afterCommit, final RolloutGroupStatusCounters rolloutGroupStatusCounters,
             final TenantAware tenantAware, final RepositoryProperties repositoryProperties) {
         this.actionRepository = actionRepository;
         this.rolloutGroupRepository = rolloutGroupRepository;
@@ -142,6 +148,7 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         this.entityManager = entityManager;
         this.txManager = txManager;
         this.afterCommit = afterCommit;
+        this.rolloutGroupStatusCounters = rolloutGroupStatusCounters;
         this.tenantAware = tenantAware;
         this.repositoryProperties = repositoryProperties;
     }
@@ -280,6 +287,7 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         rollout.setStatus(RolloutStatus.DELETED);
         rollout.setDeleted(true);
         rolloutRepository.save(rollout);
+        evict(rollout);
     }
 
     private void handleStopRollout(final JpaRollout rollout) {
@@ -305,6 +313,7 @@ public class JpaRolloutExecutor implements RolloutExecutor {
 
         rollout.setStatus(RolloutStatus.FINISHED);
         rolloutRepository.save(rollout);
+        onFinished(rollout);
 
         final List<Long> groupIds = rollout.getRolloutGroups().stream().map(RolloutGroup::getId).toList();
         afterCommit.afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher().publishEvent(new RolloutStoppedEvent(
@@ -349,6 +358,7 @@ public class JpaRolloutExecutor implements RolloutExecutor {
             executeLatestRolloutGroup(rollout);
         } else {
             log.debug("Rollout {} has {} running groups", rollout.getId(), runningGroups.size());
+            reconcileStatusCounters(rollout, runningGroups);
             executeRunningGroups(rollout, runningGroups, rollout.getRolloutGroups().get(rollout.getRolloutGroups().size() - 1));
         }
 
@@ -356,11 +366,29 @@ public class JpaRolloutExecutor implements RolloutExecutor {
             log.info("Rollout {} is finished, setting FINISHED status", rollout);
             rollout.setStatus(RolloutStatus.FINISHED);
             rolloutRepository.save(rollout);
+            onFinished(rollout);
         }
     }
 
     private void hardDeleteRollout(final JpaRollout rollout) {
         rolloutRepository.delete(rollout);
+        evict(rollout);
+    }
+
+    private void onFinished(final JpaRollout rollout) {
+        // the counters of the groups which finished before the rollout are not reconciled while the rollout is running
+        final int corrected = rolloutGroupStatusCounters.reconcile(
+                rollout.getRolloutGroups().stream().map(RolloutGroup::getId).toList());
+        if (corrected > 0) {
+            log.info("Corrected {} action status counters of the groups of finished rollout {}", corrected, rollout.getId());
+        }
+        evict(rollout);
+    }
+
+    // the rollout is not handled anymore
+    private void evict(final JpaRollout rollout) {
+        lastDynamicGroupFill.remove(rollout.getId());
+        lastStatusCountReconciliation.remove(rollout.getId());
     }
 
     private void deleteScheduledActions(final JpaRollout rollout, final Slice<JpaAction> scheduledActions) {
@@ -372,6 +400,8 @@ public class JpaRolloutExecutor implements RolloutExecutor {
                         .map(Action::getId)
                         .toList();
                 actionRepository.deleteByIdIn(actionIds);
+                // the bulk delete bypasses the entity life cycle, so the status counters of the rollout groups have to be adapted explicitly
+                scheduledActions.forEach(action -> rolloutGroupStatusCounters.add(action.getRolloutGroup().getId(), Status.SCHEDULED, -1));
                 afterCommit.afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher()
                         .publishEvent(new RolloutUpdatedEvent(rollout)));
             } catch (final RuntimeException e) {
@@ -435,6 +465,8 @@ public class JpaRolloutExecutor implements RolloutExecutor {
             final long targetCount = countTargetsFrom(rolloutGroup);
             if (rolloutGroup.getTotalTargets() != targetCount) {
                 updateTotalTargetCount(rolloutGroup, targetCount);
+                // the actions of the deleted targets could be deleted without being counted
+                rolloutGroupStatusCounters.reconcile(List.of(rolloutGroup.getId()));
             }
 
             final RolloutGroup evalProxy = rolloutGroup == runningGroups.get(runningGroups.size() - 1) ? evalProxy(rolloutGroup) : rolloutGroup;
@@ -480,12 +512,25 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     }
 
     private boolean isRolloutGroupComplete(final JpaRollout rollout, final JpaRolloutGroup rolloutGroup) {
-        final Long actionsLeftForRollout =
-                actionRepository.countByRolloutAndRolloutGroupAndStatusNotIn(
-                        rollout, rolloutGroup,
-                        ActionType.DOWNLOAD_ONLY == rollout.getActionType() ?
-                                DOWNLOAD_ONLY_ACTION_TERMINATION_STATUSES : DEFAULT_ACTION_TERMINATION_STATUSES);
-        return actionsLeftForRollout == 0;
+        final List<Status> terminationStatuses = ActionType.DOWNLOAD_ONLY == rollout.getActionType()
+                ? DOWNLOAD_ONLY_ACTION_TERMINATION_STATUSES
+                : DEFAULT_ACTION_TERMINATION_STATUSES;
+        return rolloutGroupStatusCounters.getStatusCounts(rolloutGroup.getId()).entrySet().stream()
+                .noneMatch(statusCount -> !terminationStatuses.contains(statusCount.getKey()) && statusCount.getValue() > 0);
+    }
+
+    private void reconcileStatusCounters(final JpaRollout rollout, final List<JpaRolloutGroup> runningGroups) {
+        final AtomicLong lastReconciliation = lastStatusCountReconciliation.computeIfAbsent(rollout.getId(), id -> new AtomicLong(0));
+        final long now = System.currentTimeMillis();
+        if (now - lastReconciliation.get() < repositoryProperties.getRolloutGroupStatusCountReconciliationPeriodMS()) {
+            return;
+        }
+
+        final int corrected = rolloutGroupStatusCounters.reconcile(runningGroups.stream().map(JpaRolloutGroup::getId).toList());
+        if (corrected > 0) {
+            log.info("Corrected {} action status counters of the running groups of rollout {}", corrected, rollout.getId());
+        }
+        lastReconciliation.set(now);
     }
 
     private boolean checkErrorState(final Rollout rollout, final RolloutGroup rolloutGroup) {
@@ -611,6 +656,17 @@ public class JpaRolloutExecutor implements RolloutExecutor {
             final PageRequest pageRequest = PageRequest.of(0, Math.toIntExact(limit));
             final List<Long> readyGroups = RolloutHelper.getGroupsByStatusIncludingGroup(
                     rollout.getRolloutGroups(), RolloutGroupStatus.READY, group);
+            if (repositoryProperties.isRolloutGroupSetBasedAssignment()
+                    && !RolloutHelper.isRolloutRetried(rollout.getTargetFilterQuery())) {
+                // assign without loading the targets, if supported
+                final Optional<Integer> assigned = targetManagement
+                        .assignToRolloutGroupByRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable(
+                                group.getId(), readyGroups, targetFilter, rollout.getDistributionSet().getType(), Math.toIntExact(limit));
+                if (assigned.isPresent()) {
+                    return assigned.get();
+                }
+            }
+
             final Slice<Target> targets;
             if (!RolloutHelper.isRolloutRetried(rollout.getTargetFilterQuery())) {
                 targets = targetManagement.findByRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable(
@@ -789,6 +845,10 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     /**
      * Creates an action entry into the action repository. In case of existing scheduled actions the scheduled actions gets canceled.
      * A scheduled action is created in-active for static and running for dynamic groups.
+     * <p/>
+     * The actions per target quota is checked with one grouped count query per statement chunk (instead of one per target) and the
+     * actions are persisted with a single saveAll call. Their ids are generated by the database (IDENTITY), so the inserts are still
+     * executed one by one - only the per-entity repository calls and quota lookups are saved.
      */
     private List<Action> createActions(
             final Collection<Target> targets, final DistributionSet distributionSet, final ActionType actionType, final Long forcedTime,
@@ -797,10 +857,12 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         // then cancel the current scheduled action to cancel. E.g. a new scheduled action is created.
         final List<Long> targetIds = targets.stream().map(Target::getId).toList();
         deploymentManagement.cancelInactiveScheduledActionsForTargets(targetIds);
-        return targets.stream()
-                .map(target -> {
-                    assertActionsPerTargetQuota(target, 1);
+        QuotaHelper.assertAssignmentQuota(
+                targetIds.stream().collect(Collectors.groupingBy(Function.identity(), Collectors.counting())),
+                quotaManagement.getMaxActionsPerTarget(), Action.class, Target.class, actionRepository::countByTargetIdIn);
 
+        final List<JpaAction> actions = targets.stream()
+                .map(target -> {
                     final JpaAction action = new JpaAction();
                     action.setTarget(target);
                     action.setActive(false);
@@ -812,22 +874,10 @@ public class JpaRolloutExecutor implements RolloutExecutor {
                     action.setRolloutGroup(rolloutGroup);
                     action.setInitiatedBy(rollout.getCreatedBy());
                     rollout.getWeight().ifPresent(action::setWeight);
-                    actionRepository.save(action);
-
                     return action;
                 })
-                .map(Action.class::cast)
                 .toList();
+        return actionRepository.saveAll(actions).stream().map(Action.class::cast).toList();
     }
 
-    /**
-     * Enforces the quota defining the maximum number of {@link Action}s per {@link Target}.
-     *
-     * @param target the target
-     * @param requested number of actions to check
-     */
-    private void assertActionsPerTargetQuota(final Target target, final int requested) {
-        final int quota = quotaManagement.getMaxActionsPerTarget();
-        QuotaHelper.assertAssignmentQuota(target.getId(), requested, quota, Action.class, Target.class, actionRepository::countByTargetId);
-    }
-}
\ No newline at end of file
+}
@@ -11,27 +11,55 @@ package org.eclipse.hawkbit.repository.jpa;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.ContextAware;
 import org.eclipse.hawkbit.repository.RolloutExecutor;
 import org.eclipse.hawkbit.repository.RolloutHandler;
 import org.eclipse.hawkbit.repository.RolloutManagement;
+import org.eclipse.hawkbit.repository.jpa.rollout.BlockWhenFullPolicy;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.eclipse.hawkbit.tenancy.TenantMetricsConfiguration;
 import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
 import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * JPA implementation of {@link RolloutHandler}.
+ * <p/>
+ * In {@link Mode#TENANT} mode (default) the rollouts of a tenant are handled sequentially by the node which holds the tenant
+ * rollout lock. In {@link Mode#ROLLOUT} mode every rollout is claimed with its own lock (lease) and the rollouts are handled in
+ * parallel on a bounded executor - so the rollouts of a tenant are distributed over the threads and the nodes of the cluster.
+ * All nodes of a cluster have to use the same mode.
  */
 @Slf4j
 public class JpaRolloutHandler implements RolloutHandler {
 
+    /**
+     * The unit of work distribution of the rollout handling.
+     */
+    public enum Mode {
+        /**
+         * The rollouts of a tenant are handled sequentially by a single node.
+         */
+        TENANT,
+        /**
+         * Every rollout is claimed separately and the rollouts are handled in parallel.
+         */
+        ROLLOUT
+    }
+
+    // the maximum time to wait for the rollouts being handled on shutdown
+    private static final int SHUTDOWN_AWAIT_TERMINATION_SECONDS = 30;
+
     private final TenantAware tenantAware;
     private final RolloutManagement rolloutManagement;
     private final RolloutExecutor rolloutExecutor;
@@ -39,6 +67,8 @@ public class JpaRolloutHandler implements RolloutHandler {
     private final PlatformTransactionManager txManager;
     private final ContextAware contextAware;
     private final Optional<MeterRegistry> meterRegistry;
+    // null in TENANT mode
+    private final ThreadPoolTaskExecutor rolloutTaskExecutor;
 
     /**
      * Constructor
@@ -53,6 +83,28 @@ public class JpaRolloutHandler implements RolloutHandler {
             final RolloutExecutor rolloutExecutor, final LockRegistry lockRegistry,
             final PlatformTransactionManager txManager,
             final ContextAware contextAware, final Optional<MeterRegistry> meterRegistry) {
+        this(tenantAware, rolloutManagement, rolloutExecutor, lockRegistry, txManager, contextAware, meterRegistry, Mode.TENANT, 0, 0);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param tenantAware the {@link TenantAware} bean holding the tenant information
+     * @param rolloutManagement to fetch rollout related information from the datasource
+     * @param rolloutExecutor to trigger executions for a specific rollout
+     * @param lockRegistry to lock processes
+     * @param txManager transaction manager interface
+     * @param mode the unit of work distribution
+     * @param threadPoolSize the number of threads handling the rollouts in parallel, used in {@link Mode#ROLLOUT} mode only
+     * @param queueCapacity the maximum number of rollouts waiting for a thread, used in {@link Mode#ROLLOUT} mode only. If the queue
+     *         is full, the submitting (scheduler) thread is blocked until there is room.
+     */
+    @SuppressWarnings("java:S107")
+    public JpaRolloutHandler(final TenantAware tenantAware, final RolloutManagement rolloutManagement,
+            final RolloutExecutor rolloutExecutor, final LockRegistry lockRegistry,
+            final PlatformTransactionManager txManager,
+            final ContextAware contextAware, final Optional<MeterRegistry> meterRegistry,
+            final Mode mode, final int threadPoolSize, final int queueCapacity) {
         this.tenantAware = tenantAware;
         this.rolloutManagement = rolloutManagement;
         this.rolloutExecutor = rolloutExecutor;
@@ -60,6 +112,7 @@ public class JpaRolloutHandler implements RolloutHandler {
         this.txManager = txManager;
         this.contextAware = contextAware;
         this.meterRegistry = meterRegistry;
+        rolloutTaskExecutor = mode == Mode.ROLLOUT ? threadPoolTaskExecutor(threadPoolSize, queueCapacity) : null;
     }
 
     @Override
@@ -70,6 +123,11 @@ public class JpaRolloutHandler implements RolloutHandler {
         }
 
         final String handlerId = createRolloutLockKey(tenantAware.getCurrentTenant());
+        if (rolloutTaskExecutor != null) {
+            handleAllInParallel(rollouts, handlerId);
+            return;
+        }
+
         final Lock lock = lockRegistry.obtain(handlerId);
         if (!lock.tryLock()) {
             if (log.isTraceEnabled()) {
@@ -102,10 +160,91 @@ public class JpaRolloutHandler implements RolloutHandler {
         }
     }
 
+    /**
+     * Stops the executor of the {@link Mode#ROLLOUT} mode - waits (for a limited time) until the submitted rollouts are handled.
+     * Called on shutdown.
+     */
+    public void shutdown() {
+        if (rolloutTaskExecutor != null) {
+            rolloutTaskExecutor.shutdown();
+        }
+    }
+
     private static String createRolloutLockKey(final String tenant) {
         return tenant + "-rollout";
     }
 
+    private void handleAllInParallel(final List<Long> rollouts, final String handlerId) {
+        log.debug("Trigger parallel handling of {} rollouts.", rollouts.size());
+
+        final long startNano = System.nanoTime();
+        // the security (tenant) context of the submitting thread is propagated to the executing one
+        final List<Future<?>> handled = rollouts.stream()
+                .<Future<?>> map(rolloutId -> rolloutTaskExecutor.submit(
+                        new DelegatingSecurityContextRunnable(() -> handleRolloutWithLease(rolloutId, handlerId))))
+                .toList();
+        for (final Future<?> future : handled) {
+            try {
+                future.get();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Interrupted while waiting for the handling of the rollouts.");
+                return;
+            } catch (final ExecutionException e) {
+                log.error("Failed to process rollout", e.getCause());
+            }
+        }
+        meterRegistry
+                .map(mReg -> mReg.timer("hawkbit.rollout.handler", TenantMetricsConfiguration.TENANT_TAG, tenantAware.getCurrentTenant()))
+                .ifPresent(timer -> timer.record(System.nanoTime() - startNano, TimeUnit.NANOSECONDS));
+
+        log.debug("Finished parallel handling of the rollouts.");
+    }
+
+    private void handleRolloutWithLease(final long rolloutId, final String handlerId) {
+        final Lock lock = lockRegistry.obtain(handlerId + "-" + rolloutId);
+        if (!lock.tryLock()) {
+            // handled by another thread or node
+            if (log.isTraceEnabled()) {
+                log.trace("Could not perform lock {}", lock);
+            }
+            return;
+        }
+
+        try {
+            handleRolloutInNewTransaction(rolloutId, handlerId);
+        } catch (final Throwable throwable) {
+            log.error("Failed to process rollout with id {}", rolloutId, throwable);
+        } finally {
+            if (log.isTraceEnabled()) {
+                log.trace("Unlock lock {}", lock);
+            }
+            lock.unlock();
+        }
+    }
+
+    private ThreadPoolTaskExecutor threadPoolTaskExecutor(final int threadPoolSize, final int queueCapacity) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(Math.max(threadPoolSize, 1));
+        executor.setMaxPoolSize(Math.max(threadPoolSize, 1));
+        executor.setQueueCapacity(Math.max(queueCapacity, 1));
+        // blocks the submitter until there is room in the queue
+        executor.setRejectedExecutionHandler(new BlockWhenFullPolicy());
+        executor.setThreadNamePrefix("rollout-handler-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(SHUTDOWN_AWAIT_TERMINATION_SECONDS);
+        executor.initialize();
+        meterRegistry.ifPresent(mReg -> {
+            Gauge.builder("hawkbit.rollout.handler.queue", executor, ThreadPoolTaskExecutor::getQueueSize)
+                    .description("The number of rollouts waiting to be handled")
+                    .register(mReg);
+            Gauge.builder("hawkbit.rollout.handler.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                    .description("The number of rollouts being handled")
+                    .register(mReg);
+        });
+        return executor;
+    }
+
     // run in a tenant context, i.e. contextAware.getCurrentTenant() returns the tenant the rollout is made for
     private void handleRolloutInNewTransaction(final long rolloutId, final String handlerId) {
         final long startNano = System.nanoTime();
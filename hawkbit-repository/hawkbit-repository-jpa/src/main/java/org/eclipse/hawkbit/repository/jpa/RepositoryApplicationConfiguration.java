@@ -9,6 +9,7 @@
  */
 package org.eclipse.hawkbit.repository.jpa;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ScheduledExecutorService;
@@ -65,6 +66,7 @@ import org.eclipse.hawkbit.repository.builder.TargetTypeBuilder;
 import org.eclipse.hawkbit.repository.event.ApplicationEventFilter;
 import org.eclipse.hawkbit.repository.event.remote.EventEntityManager;
 import org.eclipse.hawkbit.repository.event.remote.EventEntityManagerHolder;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollBatchEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.aspects.ExceptionMappingAspectHandler;
@@ -84,6 +86,7 @@ import org.eclipse.hawkbit.repository.jpa.builder.JpaTargetTypeBuilder;
 import org.eclipse.hawkbit.repository.jpa.cluster.LockProperties;
 import org.eclipse.hawkbit.repository.jpa.cluster.DistributedLockRepository;
 import org.eclipse.hawkbit.repository.jpa.event.JpaEventEntityManager;
+import org.eclipse.hawkbit.repository.jpa.event.TargetPollEventFanOut;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitDefaultServiceExecutor;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
 import org.eclipse.hawkbit.repository.jpa.management.JpaArtifactManagement;
@@ -105,6 +108,8 @@ import org.eclipse.hawkbit.repository.jpa.management.JpaTargetTagManagement;
 import org.eclipse.hawkbit.repository.jpa.management.JpaTargetTypeManagement;
 import org.eclipse.hawkbit.repository.jpa.management.JpaTenantConfigurationManagement;
 import org.eclipse.hawkbit.repository.jpa.management.JpaTenantStatsManagement;
+import org.eclipse.hawkbit.repository.jpa.management.TargetSnapshotCache;
+import org.eclipse.hawkbit.repository.jpa.management.TenantConfigurationCache;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaArtifact;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
@@ -136,6 +141,7 @@ import org.eclipse.hawkbit.repository.jpa.repository.TargetTagRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetTypeRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TenantConfigurationRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TenantMetaDataRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rollout.RolloutScheduler;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.PauseRolloutGroupAction;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupActionEvaluator;
@@ -155,6 +161,7 @@ import org.eclipse.hawkbit.repository.model.TargetType;
 import org.eclipse.hawkbit.repository.model.helper.SystemSecurityContextHolder;
 import org.eclipse.hawkbit.repository.model.helper.TenantConfigurationManagementHolder;
 import org.eclipse.hawkbit.repository.jpa.rsql.RsqlConfigHolder;
+import org.eclipse.hawkbit.repository.jpa.rsql.RsqlNodeCache;
 import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
 import org.eclipse.hawkbit.security.HawkbitSecurityProperties;
 import org.eclipse.hawkbit.security.SecurityTokenGenerator;
@@ -173,8 +180,8 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
-import org.springframework.cache.CacheManager;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -300,15 +307,27 @@ public class RepositoryApplicationConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    ThresholdRolloutGroupErrorCondition thresholdRolloutGroupErrorCondition(final ActionRepository actionRepository) {
-        return new ThresholdRolloutGroupErrorCondition(actionRepository);
+    ThresholdRolloutGroupErrorCondition thresholdRolloutGroupErrorCondition(final RolloutGroupStatusCounters rolloutGroupStatusCounters) {
+        return new ThresholdRolloutGroupErrorCondition(rolloutGroupStatusCounters);
     }
 
     @Bean
     @ConditionalOnMissingBean
     ThresholdRolloutGroupSuccessCondition thresholdRolloutGroupSuccessCondition(
-            final ActionRepository actionRepository) {
-        return new ThresholdRolloutGroupSuccessCondition(actionRepository);
+            final RolloutGroupStatusCounters rolloutGroupStatusCounters) {
+        return new ThresholdRolloutGroupSuccessCondition(rolloutGroupStatusCounters);
+    }
+
+    /**
+     * {@link RolloutGroupStatusCounters} bean, maintains the action status counters of the rollout groups.
+     *
+     * @return a new {@link RolloutGroupStatusCounters}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    RolloutGroupStatusCounters rolloutGroupStatusCounters(
+            final EntityManager entityManager, final ActionRepository actionRepository, final PlatformTransactionManager txManager) {
+        return new RolloutGroupStatusCounters(entityManager, actionRepository, txManager);
     }
 
     @Bean
@@ -348,7 +367,14 @@ public class RepositoryApplicationConfiguration {
     @Bean
     @ConditionalOnMissingBean
     ApplicationEventFilter applicationEventFilter(final RepositoryProperties repositoryProperties) {
-        return e -> e instanceof TargetPollEvent && !repositoryProperties.isPublishTargetPollEvent();
+        return e -> (e instanceof TargetPollEvent || e instanceof TargetPollBatchEvent) && !repositoryProperties.isPublishTargetPollEvent();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.server.repository", name = "target-poll-event-fan-out", matchIfMissing = true)
+    TargetPollEventFanOut targetPollEventFanOut(final ApplicationEventPublisher eventPublisher) {
+        return new TargetPollEventFanOut(eventPublisher);
     }
 
     /**
@@ -513,13 +539,15 @@ public class RepositoryApplicationConfiguration {
             final TenantStatsManagement systemStatsManagement, final SystemManagementCacheKeyGenerator currentTenantCacheKeyGenerator,
             final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware, final PlatformTransactionManager txManager,
             final TenancyCacheManager cacheManager, final RolloutStatusCache rolloutStatusCache,
+            final TenantConfigurationCache tenantConfigurationCache,
             final EntityManager entityManager, final RepositoryProperties repositoryProperties,
             final JpaProperties properties) {
         return new JpaSystemManagement(targetRepository, targetTypeRepository, targetTagRepository,
                 targetFilterQueryRepository, softwareModuleRepository, softwareModuleTypeRepository, distributionSetRepository,
                 distributionSetTypeRepository, distributionSetTagRepository, rolloutRepository, tenantConfigurationRepository,
                 tenantMetaDataRepository, systemStatsManagement, currentTenantCacheKeyGenerator, systemSecurityContext,
-                tenantAware, txManager, cacheManager, rolloutStatusCache, entityManager, repositoryProperties, properties);
+                tenantAware, txManager, cacheManager, rolloutStatusCache, tenantConfigurationCache, entityManager,
+                repositoryProperties, properties);
     }
 
     /**
@@ -604,10 +632,25 @@ public class RepositoryApplicationConfiguration {
     TenantConfigurationManagement tenantConfigurationManagement(
             final TenantConfigurationRepository tenantConfigurationRepository,
             final TenantConfigurationProperties tenantConfigurationProperties,
-            final CacheManager cacheManager, final AfterTransactionCommitExecutor afterCommitExecutor,
-            final ApplicationContext applicationContext) {
+            final TenantConfigurationCache tenantConfigurationCache, final TenantAware tenantAware,
+            final AfterTransactionCommitExecutor afterCommitExecutor, final ApplicationContext applicationContext) {
         return new JpaTenantConfigurationManagement(tenantConfigurationRepository, tenantConfigurationProperties,
-                cacheManager, afterCommitExecutor, applicationContext);
+                tenantConfigurationCache, tenantAware, afterCommitExecutor, applicationContext);
+    }
+
+    /**
+     * {@link TenantConfigurationCache} bean.
+     *
+     * @return a new {@link TenantConfigurationCache}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    TenantConfigurationCache tenantConfigurationCache(
+            final RepositoryProperties repositoryProperties, final Optional<MeterRegistry> meterRegistry) {
+        return new TenantConfigurationCache(
+                repositoryProperties.getTenantConfigurationCacheSize(),
+                Duration.ofMillis(repositoryProperties.getTenantConfigurationCacheTtl()),
+                meterRegistry);
     }
 
     /**
@@ -724,12 +767,18 @@ public class RepositoryApplicationConfiguration {
                 virtualPropertyReplacer, softwareModuleRepository, properties.getDatabase());
     }
 
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     @ConditionalOnMissingBean
+    @SuppressWarnings("java:S107")
     RolloutHandler rolloutHandler(final TenantAware tenantAware, final RolloutManagement rolloutManagement,
             final RolloutExecutor rolloutExecutor, final LockRegistry lockRegistry,
-            final PlatformTransactionManager txManager, final ContextAware contextAware, final Optional<MeterRegistry> meterRegistry) {
-        return new JpaRolloutHandler(tenantAware, rolloutManagement, rolloutExecutor, lockRegistry, txManager, contextAware, meterRegistry);
+            final PlatformTransactionManager txManager, final ContextAware contextAware, final Optional<MeterRegistry> meterRegistry,
+            @Value("${hawkbit.rollout.handler.mode:TENANT}") final JpaRolloutHandler.Mode mode,
+            @Value("${hawkbit.rollout.handler.thread-pool.size:4}") final int threadPoolSize,
+            @Value("${hawkbit.rollout.handler.queue-capacity:1000}") final int queueCapacity) {
+        return new JpaRolloutHandler(
+                tenantAware, rolloutManagement, rolloutExecutor, lockRegistry, txManager, contextAware, meterRegistry,
+                mode, threadPoolSize, queueCapacity);
     }
 
     @Bean
@@ -742,12 +791,12 @@ public class RepositoryApplicationConfiguration {
             final RolloutManagement rolloutManagement, final QuotaManagement quotaManagement,
             final RolloutGroupEvaluationManager evaluationManager, final RolloutApprovalStrategy rolloutApprovalStrategy,
             final EntityManager entityManager, final PlatformTransactionManager txManager,
-            final AfterTransactionCommitExecutor afterCommit,
+            final AfterTransactionCommitExecutor afterCommit, final RolloutGroupStatusCounters rolloutGroupStatusCounters,
             final TenantAware tenantAware, final RepositoryProperties repositoryProperties) {
         return new JpaRolloutExecutor(actionRepository, rolloutGroupRepository, rolloutTargetGroupRepository,
                 rolloutRepository, targetManagement, deploymentManagement, rolloutGroupManagement, rolloutManagement,
                 quotaManagement, evaluationManager, rolloutApprovalStrategy, entityManager, txManager, afterCommit,
-                tenantAware, repositoryProperties);
+                rolloutGroupStatusCounters, tenantAware, repositoryProperties);
     }
 
     @Bean
@@ -758,7 +807,7 @@ public class RepositoryApplicationConfiguration {
             final RolloutApprovalStrategy rolloutApprovalStrategy,
             final StartNextGroupRolloutGroupSuccessAction startNextRolloutGroupAction,
             final RolloutStatusCache rolloutStatusCache,
-            final ActionRepository actionRepository,
+            final RolloutGroupStatusCounters rolloutGroupStatusCounters,
             final TargetManagement targetManagement,
             final DistributionSetManagement distributionSetManagement,
             final TenantConfigurationManagement tenantConfigurationManagement,
@@ -768,7 +817,7 @@ public class RepositoryApplicationConfiguration {
             final SystemSecurityContext systemSecurityContext, final ContextAware contextAware, final JpaProperties properties,
             final RepositoryProperties repositoryProperties) {
         return new JpaRolloutManagement(rolloutRepository, rolloutGroupRepository, rolloutApprovalStrategy,
-                startNextRolloutGroupAction, rolloutStatusCache, actionRepository, targetManagement,
+                startNextRolloutGroupAction, rolloutStatusCache, rolloutGroupStatusCounters, targetManagement,
                 distributionSetManagement, tenantConfigurationManagement, quotaManagement, afterCommit,
                 virtualPropertyReplacer, systemSecurityContext, contextAware, properties.getDatabase(),
                 repositoryProperties);
@@ -796,12 +845,11 @@ public class RepositoryApplicationConfiguration {
     @Bean
     @ConditionalOnMissingBean
     RolloutGroupManagement rolloutGroupManagement(final RolloutGroupRepository rolloutGroupRepository,
-            final RolloutRepository rolloutRepository, final ActionRepository actionRepository,
-            final TargetRepository targetRepository, final EntityManager entityManager,
+            final RolloutRepository rolloutRepository, final TargetRepository targetRepository, final EntityManager entityManager,
             final VirtualPropertyReplacer virtualPropertyReplacer, final RolloutStatusCache rolloutStatusCache,
-            final JpaProperties properties) {
-        return new JpaRolloutGroupManagement(rolloutGroupRepository, rolloutRepository, actionRepository,
-                targetRepository, entityManager, virtualPropertyReplacer, rolloutStatusCache, properties.getDatabase());
+            final RolloutGroupStatusCounters rolloutGroupStatusCounters, final JpaProperties properties) {
+        return new JpaRolloutGroupManagement(rolloutGroupRepository, rolloutRepository, targetRepository, entityManager,
+                virtualPropertyReplacer, rolloutStatusCache, rolloutGroupStatusCounters, properties.getDatabase());
     }
 
     /**
@@ -819,11 +867,13 @@ public class RepositoryApplicationConfiguration {
             final VirtualPropertyReplacer virtualPropertyReplacer, final PlatformTransactionManager txManager,
             final TenantConfigurationManagement tenantConfigurationManagement, final QuotaManagement quotaManagement,
             final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware, final AuditorAware<String> auditorAware,
-            final JpaProperties properties, final RepositoryProperties repositoryProperties) {
+            final RolloutGroupStatusCounters rolloutGroupStatusCounters, final JpaProperties properties,
+            final RepositoryProperties repositoryProperties) {
         return new JpaDeploymentManagement(entityManager, actionRepository, distributionSetManagement, targetRepository, actionStatusRepository,
                 auditorProvider,
                 afterCommit, virtualPropertyReplacer, txManager, tenantConfigurationManagement,
-                quotaManagement, systemSecurityContext, tenantAware, auditorAware, properties.getDatabase(), repositoryProperties);
+                quotaManagement, systemSecurityContext, tenantAware, auditorAware, rolloutGroupStatusCounters, properties.getDatabase(),
+                repositoryProperties);
     }
 
     @Bean
@@ -841,7 +891,7 @@ public class RepositoryApplicationConfiguration {
      *
      * @return a new {@link ControllerManagement}
      */
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     @ConditionalOnMissingBean
     ControllerManagement controllerManagement(
             final ActionRepository actionRepository, final ActionStatusRepository actionStatusRepository, final QuotaManagement quotaManagement,
@@ -854,12 +904,26 @@ public class RepositoryApplicationConfiguration {
             final PlatformTransactionManager txManager, final EntityFactory entityFactory, final EntityManager entityManager,
             final AfterTransactionCommitExecutor afterCommit,
             final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware,
-            final ScheduledExecutorService executorService) {
+            final ScheduledExecutorService executorService, final TargetSnapshotCache targetSnapshotCache) {
         return new JpaControllerManagement(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties,
                 targetRepository, targetTypeManagement, deploymentManagement, confirmationManagement, softwareModuleRepository,
                 softwareModuleMetadataRepository, distributionSetManagement, tenantConfigurationManagement, txManager,
                 entityFactory, entityManager, afterCommit, systemSecurityContext, tenantAware,
-                executorService);
+                executorService, targetSnapshotCache);
+    }
+
+    /**
+     * {@link TargetSnapshotCache} bean.
+     *
+     * @return a new {@link TargetSnapshotCache}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    TargetSnapshotCache targetSnapshotCache(final RepositoryProperties repositoryProperties, final Optional<MeterRegistry> meterRegistry) {
+        return new TargetSnapshotCache(
+                repositoryProperties.getTargetSnapshotCacheSize(),
+                Duration.ofMillis(repositoryProperties.getTargetSnapshotCacheTtl()),
+                meterRegistry);
     }
 
     @Bean
@@ -996,6 +1060,7 @@ public class RepositoryApplicationConfiguration {
      *
      * @param systemManagement to find all tenants
      * @param rolloutHandler to run the rollout handler
+     * @param rolloutManagement to find the active rollouts, in adaptive mode
      * @param systemSecurityContext to run as system
      * @return a new {@link RolloutScheduler} bean.
      */
@@ -1003,10 +1068,19 @@ public class RepositoryApplicationConfiguration {
     @ConditionalOnMissingBean
     @Profile("!test")
     @ConditionalOnProperty(prefix = "hawkbit.rollout.scheduler", name = "enabled", matchIfMissing = true)
+    @SuppressWarnings("java:S107")
     RolloutScheduler rolloutScheduler(
-            final SystemManagement systemManagement, final RolloutHandler rolloutHandler, final SystemSecurityContext systemSecurityContext,
-            @Value("${hawkbit.rollout.executor.thread-pool.size:1}") final int threadPoolSize, final Optional<MeterRegistry> meterRegistry) {
-        return new RolloutScheduler(rolloutHandler, systemManagement, systemSecurityContext,  threadPoolSize, meterRegistry);
+            final SystemManagement systemManagement, final RolloutHandler rolloutHandler, final RolloutManagement rolloutManagement,
+            final SystemSecurityContext systemSecurityContext,
+            @Value("${hawkbit.rollout.executor.thread-pool.size:1}") final int threadPoolSize,
+            @Value("${hawkbit.rollout.scheduler.mode:FIXED}") final RolloutScheduler.Mode mode,
+            @Value("${hawkbit.rollout.scheduler.fixedDelay:2000}") final long minIdleBackoff,
+            @Value("${hawkbit.rollout.scheduler.max-idle-backoff:30000}") final long maxIdleBackoff,
+            @Value("${hawkbit.rollout.scheduler.full-scan-period:300000}") final long fullScanPeriod,
+            final Optional<MeterRegistry> meterRegistry) {
+        return new RolloutScheduler(
+                rolloutHandler, rolloutManagement, systemManagement, systemSecurityContext, threadPoolSize,
+                mode, minIdleBackoff, maxIdleBackoff, fullScanPeriod, meterRegistry);
     }
 
     /**
@@ -1019,6 +1093,20 @@ public class RepositoryApplicationConfiguration {
         return RsqlConfigHolder.getInstance();
     }
 
+    /**
+     * Initializes the {@link RsqlNodeCache} of the parsed RSQL queries.
+     *
+     * @param size the maximum number of cached queries, {@code 0} disables the cache
+     * @param meterRegistry to expose the cache metrics, if available
+     * @return The {@link RsqlNodeCache} singleton.
+     */
+    @Bean
+    RsqlNodeCache rsqlNodeCache(
+            @Value("${hawkbit.rsql.cache.size:" + RsqlNodeCache.DEFAULT_SIZE + "}") final long size,
+            final Optional<MeterRegistry> meterRegistry) {
+        return RsqlNodeCache.init(size, meterRegistry);
+    }
+
     /**
      * {@link JpaDistributionSetInvalidationManagement} bean.
      *
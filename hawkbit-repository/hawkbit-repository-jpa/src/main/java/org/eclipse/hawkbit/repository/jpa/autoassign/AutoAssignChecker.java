@@ -11,16 +11,24 @@ package org.eclipse.hawkbit.repository.jpa.autoassign;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import jakarta.persistence.PersistenceException;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
 import org.eclipse.hawkbit.ContextAware;
 import org.eclipse.hawkbit.exception.AbstractServerRtException;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.TargetFilterQueryManagement;
+import org.eclipse.hawkbit.repository.TargetFields;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.jpa.ql.CompiledEntityMatcher;
+import org.eclipse.hawkbit.repository.jpa.rsql.RsqlUtility;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetFilterQuery;
 import org.springframework.data.domain.PageRequest;
@@ -38,6 +46,13 @@ import org.springframework.transaction.annotation.Transactional;
 @Slf4j
 public class AutoAssignChecker extends AbstractAutoAssignExecutor {
 
+    private static final int MATCHERS_CACHE_SIZE = 1_000;
+
+    // compiled target filter queries for the in-memory check of single targets, empty if the query can't be matched in-memory
+    private final Cache<String, Optional<CompiledEntityMatcher<JpaTarget>>> matchers = Caffeine.newBuilder()
+            .maximumSize(MATCHERS_CACHE_SIZE)
+            .build();
+
     private final TargetManagement targetManagement;
 
     /**
@@ -64,10 +79,18 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
         log.debug("Auto assign check call for tenant {} finished", getContextAware().getCurrentTenant());
     }
 
+    /**
+     * Checks the target against all target filter queries with auto assign DS. The target is loaded once and prefiltered in-memory
+     * by the compiled filter queries, so only the matching filters are checked (and the DS assigned) via the database.
+     *
+     * @param controllerId of the target to check
+     */
     @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void checkSingleTarget(String controllerId) {
         log.debug("Auto assign check call for tenant {} and device {} started", getContextAware().getCurrentTenant(), controllerId);
-        forEachFilterWithAutoAssignDS(filter -> checkForDevice(controllerId, filter));
+        final AtomicReference<JpaTarget> target = new AtomicReference<>(loadTarget(controllerId));
+        forEachFilterWithAutoAssignDS(filter -> checkForDevice(controllerId, target, filter));
         log.debug("Auto assign check call for tenant {} and device {} finished", getContextAware().getCurrentTenant(), controllerId);
     }
 
@@ -106,16 +129,20 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
                 getContextAware().getCurrentTenant(), targetFilterQuery.getId());
     }
 
-    private void checkForDevice(final String controllerId, final TargetFilterQuery targetFilterQuery) {
+    private void checkForDevice(
+            final String controllerId, final AtomicReference<JpaTarget> target, final TargetFilterQuery targetFilterQuery) {
         log.debug("Auto assign check call for tenant {} and target filter query id {} for device {} started",
                 getContextAware().getCurrentTenant(), targetFilterQuery.getId(), controllerId);
         try {
-            final boolean controllerIdMatches = targetManagement.isTargetMatchingQueryAndDSNotAssignedAndCompatibleAndUpdatable(
-                    controllerId, targetFilterQuery.getAutoAssignDistributionSet().getId(),
-                    targetFilterQuery.getQuery());
+            // the in-memory check only sorts out the not matching filters, the matching ones are confirmed via the database
+            final boolean controllerIdMatches = mayMatch(target.get(), targetFilterQuery)
+                    && targetManagement.isTargetMatchingQueryAndDSNotAssignedAndCompatibleAndUpdatable(
+                            controllerId, targetFilterQuery.getAutoAssignDistributionSet().getId(), targetFilterQuery.getQuery());
 
             if (controllerIdMatches) {
                 runTransactionalAssignment(targetFilterQuery, Collections.singletonList(controllerId));
+                // the loaded target is stale after the assignment, so the next filters are checked only via the database
+                target.set(null);
             }
 
         } catch (final PersistenceException | AbstractServerRtException e) {
@@ -124,4 +151,26 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
         log.debug("Auto assign check call for tenant {} and target filter query id {} for device {} finished",
                 getContextAware().getCurrentTenant(), targetFilterQuery.getId(), controllerId);
     }
+
+    private JpaTarget loadTarget(final String controllerId) {
+        try {
+            return targetManagement.getByControllerID(controllerId)
+                    .filter(JpaTarget.class::isInstance)
+                    .map(JpaTarget.class::cast)
+                    .orElse(null);
+        } catch (final RuntimeException e) {
+            log.debug("Device {} couldn't be loaded for in-memory auto assign check", controllerId, e);
+            return null;
+        }
+    }
+
+    // returns false only if the target is loaded and doesn't match the filter query, otherwise the database shall be checked
+    private boolean mayMatch(final JpaTarget target, final TargetFilterQuery targetFilterQuery) {
+        if (target == null) {
+            return true;
+        }
+        return matchers.get(targetFilterQuery.getQuery(), query -> RsqlUtility.buildEntityMatcher(query, TargetFields.class, JpaTarget.class))
+                .map(matcher -> matcher.match(target))
+                .orElse(true);
+    }
 }
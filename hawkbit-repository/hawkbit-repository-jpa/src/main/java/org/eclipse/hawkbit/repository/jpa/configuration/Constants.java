@@ -28,6 +28,12 @@ public final class Constants {
      * number.
      */
     public static final int MAX_ENTRIES_IN_STATEMENT = 999;
+    /**
+     * Defines the JDBC fetch size when entities are streamed (e.g. exported)
+     * instead of being read in pages. It is also the number of streamed
+     * entities after which the persistence context is cleared.
+     */
+    public static final int STREAM_FETCH_SIZE = 500;
     /**
      * @see Retryable#maxAttempts()
      */
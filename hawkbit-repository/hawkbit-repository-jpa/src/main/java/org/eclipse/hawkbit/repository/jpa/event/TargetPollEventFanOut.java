@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.event;
+
+import org.eclipse.hawkbit.repository.event.remote.TargetPollBatchEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Compatibility fan-out of the {@link TargetPollBatchEvent}s into {@link TargetPollEvent}s for the listeners which are
+ * interested in the polls of the single targets. The fanned out events are published node locally only, i.e. every node
+ * fans out the batch events it receives.
+ */
+public class TargetPollEventFanOut implements ApplicationListener<TargetPollBatchEvent> {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Constructor.
+     *
+     * @param eventPublisher to publish the fanned out events
+     */
+    public TargetPollEventFanOut(final ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @Override
+    public void onApplicationEvent(final TargetPollBatchEvent event) {
+        event.toTargetPollEvents().forEach(eventPublisher::publishEvent);
+    }
+}
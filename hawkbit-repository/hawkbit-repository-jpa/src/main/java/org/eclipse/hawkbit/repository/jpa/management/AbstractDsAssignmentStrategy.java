@@ -11,10 +11,13 @@ package org.eclipse.hawkbit.repository.jpa.management;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import jakarta.persistence.criteria.JoinType;
 
@@ -83,34 +86,66 @@ public abstract class AbstractDsAssignmentStrategy {
         this.repositoryProperties = repositoryProperties;
     }
 
-    public JpaAction createTargetAction(
-            final String initiatedBy, final TargetWithActionType targetWithActionType,
+    /**
+     * Creates the (not yet persisted) actions of the targets of a distribution set assignment. The targets are looked up by controller
+     * id.
+     *
+     * @param initiatedBy the user who initiated the assignment
+     * @param targetsWithActionType the requested targets
+     * @param targets the existing targets
+     * @param set the assigned distribution set
+     * @return the actions of the existing targets, in the order of the request
+     */
+    public Map<TargetWithActionType, JpaAction> createTargetActions(
+            final String initiatedBy, final Collection<TargetWithActionType> targetsWithActionType,
             final List<JpaTarget> targets, final JpaDistributionSet set) {
-        final Optional<JpaTarget> optTarget = targets.stream()
-                .filter(t -> t.getControllerId().equals(targetWithActionType.getControllerId())).findFirst();
+        final Map<String, JpaTarget> targetsByControllerId = targets.stream()
+                .collect(Collectors.toMap(JpaTarget::getControllerId, Function.identity(), (first, second) -> first));
+        final Map<TargetWithActionType, JpaAction> actions = new LinkedHashMap<>();
+        for (final TargetWithActionType twt : targetsWithActionType) {
+            final JpaAction targetAction = createTargetAction(initiatedBy, twt, targetsByControllerId, set);
+            if (targetAction != null) {
+                actions.put(twt, targetAction);
+            }
+        }
+        return actions;
+    }
 
-        // create the action
-        return optTarget.map(target -> {
-            assertActionsPerTargetQuota(target, 1);
-            final JpaAction actionForTarget = new JpaAction();
-            actionForTarget.setActionType(targetWithActionType.getActionType());
-            actionForTarget.setForcedTime(targetWithActionType.getForceTime());
-            actionForTarget.setWeight(
-                    targetWithActionType.getWeight() == null
-                            ? repositoryProperties.getActionWeightIfAbsent()
-                            : targetWithActionType.getWeight());
-            actionForTarget.setActive(true);
-            actionForTarget.setTarget(target);
-            actionForTarget.setDistributionSet(set);
-            actionForTarget.setMaintenanceWindowSchedule(targetWithActionType.getMaintenanceSchedule());
-            actionForTarget.setMaintenanceWindowDuration(targetWithActionType.getMaintenanceWindowDuration());
-            actionForTarget.setMaintenanceWindowTimeZone(targetWithActionType.getMaintenanceWindowTimeZone());
-            actionForTarget.setInitiatedBy(initiatedBy);
-            return actionForTarget;
-        }).orElseGet(() -> {
+    public JpaAction createTargetAction(
+            final String initiatedBy, final TargetWithActionType targetWithActionType,
+            final Map<String, JpaTarget> targets, final JpaDistributionSet set) {
+        final JpaTarget target = targets.get(targetWithActionType.getControllerId());
+        if (target == null) {
             log.warn("Cannot find target for targetWithActionType '{}'.", targetWithActionType.getControllerId());
             return null;
-        });
+        }
+
+        // create the action
+        final JpaAction actionForTarget = new JpaAction();
+        actionForTarget.setActionType(targetWithActionType.getActionType());
+        actionForTarget.setForcedTime(targetWithActionType.getForceTime());
+        actionForTarget.setWeight(
+                targetWithActionType.getWeight() == null
+                        ? repositoryProperties.getActionWeightIfAbsent()
+                        : targetWithActionType.getWeight());
+        actionForTarget.setActive(true);
+        actionForTarget.setTarget(target);
+        actionForTarget.setDistributionSet(set);
+        actionForTarget.setMaintenanceWindowSchedule(targetWithActionType.getMaintenanceSchedule());
+        actionForTarget.setMaintenanceWindowDuration(targetWithActionType.getMaintenanceWindowDuration());
+        actionForTarget.setMaintenanceWindowTimeZone(targetWithActionType.getMaintenanceWindowTimeZone());
+        actionForTarget.setInitiatedBy(initiatedBy);
+        return actionForTarget;
+    }
+
+    /**
+     * Enforces the quota defining the maximum number of {@link Action}s per {@link Target}.
+     *
+     * @param requestedPerTarget target id to the number of actions to be created for the target
+     */
+    public void assertActionsPerTargetQuota(final Map<Long, Long> requestedPerTarget) {
+        QuotaHelper.assertAssignmentQuota(
+                requestedPerTarget, quotaManagement.getMaxActionsPerTarget(), Action.class, Target.class, actionRepository::countByTargetIdIn);
     }
 
     public JpaActionStatus createActionStatus(final JpaAction action, final String actionMessage) {
@@ -291,9 +326,4 @@ public abstract class AbstractDsAssignmentStrategy {
         afterCommit.afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher()
                 .publishEvent(new CancelTargetAssignmentEvent(tenant, actions)));
     }
-
-    private void assertActionsPerTargetQuota(final Target target, final int requested) {
-        final int quota = quotaManagement.getMaxActionsPerTarget();
-        QuotaHelper.assertAssignmentQuota(target.getId(), requested, quota, Action.class, Target.class, actionRepository::countByTargetId);
-    }
-}
\ No newline at end of file
+}
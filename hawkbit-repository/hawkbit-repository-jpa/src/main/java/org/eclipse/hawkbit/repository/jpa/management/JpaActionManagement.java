@@ -13,15 +13,23 @@ import static org.eclipse.hawkbit.repository.model.Action.ActionType.DOWNLOAD_ON
 import static org.eclipse.hawkbit.repository.model.Action.Status.ERROR;
 import static org.eclipse.hawkbit.repository.model.Action.Status.FINISHED;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
 import org.eclipse.hawkbit.repository.QuotaManagement;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaActionStatusCreate;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
@@ -83,6 +91,59 @@ public class JpaActionManagement {
         return action;
     }
 
+    /**
+     * Bulk variant of {@link #addActionStatus(JpaActionStatusCreate)} - the actions and the status entry counts (for the quota)
+     * are loaded with one query each, and the status entries are persisted together.
+     *
+     * @param statusCreates the status entries to add, could contain multiple entries for the same action
+     * @return the (updated) actions in the order of the status entries
+     */
+    protected List<Action> addActionStatuses(final List<JpaActionStatusCreate> statusCreates) {
+        final List<List<Long>> actionIdChunks = ListUtils.partition(
+                statusCreates.stream().map(JpaActionStatusCreate::getActionId).distinct().toList(), Constants.MAX_ENTRIES_IN_STATEMENT);
+        final Map<Long, JpaAction> actions = new HashMap<>();
+        final Map<Long, Long> statusCounts = new HashMap<>();
+        actionIdChunks.forEach(chunk -> {
+            actionRepository.findAll(ActionSpecifications.byIdIn(chunk), JpaAction_.GRAPH_ACTION_ALL)
+                    .forEach(action -> actions.put(action.getId(), action));
+            chunk.stream().filter(actionId -> !actions.containsKey(actionId)).findFirst().ifPresent(actionId -> {
+                throw new EntityNotFoundException(Action.class, actionId);
+            });
+            actionStatusRepository.countByActionIdIn(chunk).forEach(count -> statusCounts.put((Long) count[0], (Long) count[1]));
+        });
+
+        final List<JpaActionStatus> actionStatuses = new ArrayList<>(statusCreates.size());
+        final List<Action> updatedActions = new ArrayList<>(statusCreates.size());
+        for (final JpaActionStatusCreate statusCreate : statusCreates) {
+            final JpaActionStatus actionStatus = statusCreate.build();
+            final JpaAction action = actions.get(statusCreate.getActionId());
+            if (isUpdatingActionStatusAllowed(action, actionStatus)) {
+                if (isIntermediateStatus(actionStatus)) {
+                    QuotaHelper.assertAssignmentQuota(action.getId(), 1, quotaManagement.getMaxStatusEntriesPerAction(),
+                            ActionStatus.class, Action.class, actionId -> statusCounts.getOrDefault(actionId, 0L));
+                }
+                assertActionStatusMessageQuota(actionStatus);
+                statusCounts.merge(action.getId(), 1L, Long::sum);
+                actionStatus.setAction(action);
+
+                onActionStatusUpdate(actionStatus, action);
+
+                actionStatuses.add(actionStatus);
+                action.setLastActionStatusCode(actionStatus.getCode().orElse(null));
+            } else {
+                log.debug(
+                        "Update of actionStatus {} for action {} not possible since action not active anymore and not allowed as an action terminating.",
+                        actionStatus.getStatus(), action.getId());
+            }
+            updatedActions.add(action);
+        }
+
+        actionStatusRepository.saveAll(actionStatuses);
+        final Map<Long, JpaAction> savedActions = actionRepository.saveAll(new LinkedHashSet<>(actions.values())).stream()
+                .collect(Collectors.toMap(JpaAction::getId, Function.identity()));
+        return updatedActions.stream().map(action -> (Action) savedActions.get(action.getId())).toList();
+    }
+
     protected JpaAction getActionAndThrowExceptionIfNotFound(final Long actionId) {
         return actionRepository.findById(actionId).orElseThrow(() -> new EntityNotFoundException(Action.class, actionId));
     }
@@ -22,15 +22,11 @@ import java.time.temporal.TemporalUnit;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -42,9 +38,9 @@ import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.Root;
 import jakarta.validation.constraints.NotEmpty;
 
-import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.ListUtils;
+import org.eclipse.hawkbit.cache.TenantGenerations;
 import org.eclipse.hawkbit.repository.ConfirmationManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
@@ -61,16 +57,21 @@ import org.eclipse.hawkbit.repository.builder.ActionStatusCreate;
 import org.eclipse.hawkbit.repository.event.EventPublisherHolder;
 import org.eclipse.hawkbit.repository.event.remote.CancelTargetAssignmentEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollBatchEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
 import org.eclipse.hawkbit.repository.exception.CancelActionNotAllowedException;
 import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.InvalidTargetAttributeException;
+import org.eclipse.hawkbit.repository.exception.TooManyTargetUpdatesException;
 import org.eclipse.hawkbit.repository.jpa.Jpa;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaActionStatusCreate;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
+import org.eclipse.hawkbit.repository.jpa.management.TargetSnapshotCache.TargetSnapshot;
+import org.eclipse.hawkbit.repository.jpa.management.TargetWriteBehindQueue.TargetUpdate;
 import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
@@ -78,6 +79,7 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget.TargetUpdateStatusConverter;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget_;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionStatusRepository;
@@ -114,6 +116,7 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.transaction.support.TransactionCallback;
 import org.springframework.util.StringUtils;
@@ -128,8 +131,9 @@ import org.springframework.validation.annotation.Validated;
 public class JpaControllerManagement extends JpaActionManagement implements ControllerManagement {
 
     private static final Pattern PATTERN = Pattern.compile("[a-zA-Z0-9_\\-!@#$%^&*()+=\\[\\]{}|;:'\",.<>/\\\\?\\s]*");
+    private static final TargetUpdateStatusConverter UPDATE_STATUS_CONVERTER = new TargetUpdateStatusConverter();
 
-    private final BlockingDeque<TargetPoll> queue;
+    private final TargetWriteBehindQueue queue;
 
     // TODO - make it final
     private TargetRepository targetRepository;
@@ -146,6 +150,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     private final AfterTransactionCommitExecutor afterCommit;
     private final SystemSecurityContext systemSecurityContext;
     private final TenantAware tenantAware;
+    private final TargetSnapshotCache targetSnapshotCache;
 
     @SuppressWarnings("squid:S00107")
     public JpaControllerManagement(
@@ -159,7 +164,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
             final PlatformTransactionManager txManager, final EntityFactory entityFactory, final EntityManager entityManager,
             final AfterTransactionCommitExecutor afterCommit,
             final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware,
-            final ScheduledExecutorService executorService) {
+            final ScheduledExecutorService executorService, final TargetSnapshotCache targetSnapshotCache) {
         super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties);
 
         this.targetRepository = targetRepository;
@@ -176,12 +181,12 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         this.afterCommit = afterCommit;
         this.systemSecurityContext = systemSecurityContext;
         this.tenantAware = tenantAware;
+        this.targetSnapshotCache = targetSnapshotCache;
 
         if (!repositoryProperties.isEagerPollPersistence()) {
-            executorService.scheduleWithFixedDelay(this::flushUpdateQueue,
-                    repositoryProperties.getPollPersistenceFlushTime(),
-                    repositoryProperties.getPollPersistenceFlushTime(), TimeUnit.MILLISECONDS);
-            queue = new LinkedBlockingDeque<>(repositoryProperties.getPollPersistenceQueueSize());
+            queue = new TargetWriteBehindQueue(
+                    repositoryProperties.getPollPersistenceQueueSize(), repositoryProperties.getPollPersistenceFlushTime(),
+                    this::flushTargetUpdates, executorService);
         } else {
             queue = null;
         }
@@ -296,6 +301,17 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return addActionStatus((JpaActionStatusCreate) statusCreate);
     }
 
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @Retryable(retryFor = { ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX,
+            backoff = @Backoff(delay = Constants.TX_RT_DELAY))
+    public List<Action> addUpdateActionStatuses(final List<ActionStatusCreate> statusCreates) {
+        if (statusCreates.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return addActionStatuses(statusCreates.stream().map(JpaActionStatusCreate.class::cast).toList());
+    }
+
     @Override
     public Optional<Action> findActiveActionWithHighestWeight(final String controllerId) {
         return Stream.concat(
@@ -332,26 +348,91 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return actionStatusRepository.findByActionId(pageable, actionId);
     }
 
+    // the transactions are started after the room for the target updates is reserved, see runWithTargetUpdateRoom
     @Override
-    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Retryable(retryFor = ConcurrencyFailureException.class, noRetryFor = EntityAlreadyExistsException.class, maxAttempts = Constants.TX_RT_MAX, backoff = @Backoff(delay = Constants.TX_RT_DELAY))
     public Target findOrRegisterTargetIfItDoesNotExist(final String controllerId, final URI address) {
-        return findOrRegisterTargetIfItDoesNotExist0(controllerId, address, null, null);
+        return runWithTargetUpdateRoom(controllerId, "findOrRegisterTargetIfItDoesNotExist", Isolation.READ_COMMITTED,
+                status -> findOrRegisterTargetIfItDoesNotExist0(controllerId, address, null, null));
     }
 
     @Override
-    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     @Retryable(retryFor = ConcurrencyFailureException.class, noRetryFor = EntityAlreadyExistsException.class, maxAttempts = Constants.TX_RT_MAX, backoff = @Backoff(delay = Constants.TX_RT_DELAY))
     public Target findOrRegisterTargetIfItDoesNotExist(final String controllerId, final URI address, final String name, final String type) {
-        return findOrRegisterTargetIfItDoesNotExist0(controllerId, address, name, type);
+        return runWithTargetUpdateRoom(controllerId, "findOrRegisterTargetIfItDoesNotExist", Isolation.READ_COMMITTED,
+                status -> findOrRegisterTargetIfItDoesNotExist0(controllerId, address, name, type));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @Retryable(retryFor = ConcurrencyFailureException.class, maxAttempts = Constants.TX_RT_MAX, backoff = @Backoff(delay = Constants.TX_RT_DELAY))
+    public void registerPoll(final String controllerId) {
+        runWithTargetUpdateRoom(controllerId, "registerPoll", Isolation.DEFAULT, status -> {
+            final TargetUpdate poll = TargetUpdate.poll(TenantGenerations.normalize(tenantAware.getCurrentTenant()), controllerId);
+            if (queue == null || !queue.offer(poll)) {
+                persistTargetUpdates(poll.tenant(), List.of(poll));
+                afterCommit.afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher()
+                        .publishEvent(new TargetPollEvent(controllerId, poll.tenant())));
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Persists the pending target updates (polls, address and status changes) of the write-behind queue.
+     * Called on shutdown.
+     */
+    public void shutdown() {
+        if (queue != null) {
+            queue.shutdown();
+        }
+    }
+
+    /**
+     * Runs the request of a controller in a new transaction. Before, room for the update of the target is reserved in the
+     * write-behind queue, waiting at most {@link RepositoryProperties#getPollPersistenceBackpressureTime()} for the flush of
+     * the full queue - without holding a DB connection. If there is no room, the request is rejected.
+     */
+    private <T> T runWithTargetUpdateRoom(
+            final String controllerId, final String transactionName, final Isolation isolation, final TransactionCallback<T> action) {
+        if (queue == null) {
+            return DeploymentHelper.runInNewTransaction(txManager, transactionName, isolation.value(), action);
+        }
+
+        if (!queue.reserve(repositoryProperties.getPollPersistenceBackpressureTime())) {
+            throw new TooManyTargetUpdatesException(controllerId);
+        }
+        try {
+            return DeploymentHelper.runInNewTransaction(txManager, transactionName, isolation.value(), action);
+        } finally {
+            queue.release();
+        }
     }
+
     private Target findOrRegisterTargetIfItDoesNotExist0(final String controllerId, final URI address, final String name, final String type) {
+        final String tenant = tenantAware.getCurrentTenant();
+        final long snapshotGeneration = targetSnapshotCache.generation(tenant);
         final Specification<JpaTarget> spec = (targetRoot, query, cb) -> cb.equal(targetRoot.get(JpaTarget_.controllerId), controllerId);
         return targetRepository.findOne(spec)
-                .map(target -> updateTarget(target, address, name, type))
+                .map(target -> {
+                    final boolean storeEager = isStoreEager(target, name, type);
+                    final Target updated = updateTarget(target, address, name, type);
+                    if (!storeEager) {
+                        // not stored eagerly - refresh the snapshot, so that the next authentication of the target doesn't need to load it
+                        systemSecurityContext.runAsSystem(() -> targetSnapshotCache.put(tenant, updated, snapshotGeneration));
+                    }
+                    return updated;
+                })
                 .orElseGet(() -> createTarget(controllerId, address, name, type));
     }
 
+    private Optional<TargetSnapshot> loadTargetSnapshot(final String tenant, final Supplier<Optional<JpaTarget>> loader) {
+        final long generation = targetSnapshotCache.generation(tenant);
+        return loader.get().map(target -> targetSnapshotCache.put(tenant, target, generation));
+    }
+
     @Override
     public Optional<Action> getActionForDownloadByTargetAndSoftwareModule(final String controllerId, final long moduleId) {
         throwExceptionIfTargetDoesNotExist(controllerId);
@@ -481,6 +562,24 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return targetRepository.findById(targetId).map(Target.class::cast);
     }
 
+    @Override
+    public Optional<String> verifySecurityToken(final String controllerId, final String securityToken) {
+        final String tenant = tenantAware.getCurrentTenant();
+        return targetSnapshotCache.getByControllerId(tenant, controllerId)
+                .or(() -> loadTargetSnapshot(tenant, () -> targetRepository.findByControllerId(controllerId)))
+                .filter(snapshot -> snapshot.hasSecurityToken(securityToken))
+                .map(TargetSnapshot::controllerId);
+    }
+
+    @Override
+    public Optional<String> verifySecurityToken(final long targetId, final String securityToken) {
+        final String tenant = tenantAware.getCurrentTenant();
+        return targetSnapshotCache.get(tenant, targetId)
+                .or(() -> loadTargetSnapshot(tenant, () -> targetRepository.findById(targetId)))
+                .filter(snapshot -> snapshot.hasSecurityToken(securityToken))
+                .map(TargetSnapshot::controllerId);
+    }
+
     @Override
     public List<String> getActionHistoryMessages(final long actionId, final int messageCount) {
         // Just return empty list in case messageCount is zero.
@@ -682,119 +781,188 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     }
 
     /**
-     * Flush the update queue by means to persisting
-     * {@link Target#getLastTargetQuery()}.
+     * Persists the target updates of a tenant flushed by the write-behind queue in a new transaction. The polls are
+     * published as one {@link TargetPollBatchEvent}.
      */
-    private void flushUpdateQueue() {
-        log.debug("Run flushUpdateQueue.");
-
-        final int size = queue.size();
-        if (size == 0) {
-            return;
+    private void flushTargetUpdates(final String tenant, final List<TargetUpdate> updates) {
+        systemSecurityContext.runAsSystemAsTenant(() -> DeploymentHelper.runInNewTransaction(
+                txManager, "flushTargetUpdates", status -> {
+                    persistTargetUpdates(tenant, updates);
+                    final List<String> controllerIds = updates.stream().map(TargetUpdate::controllerId).toList();
+                    afterCommit.afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher()
+                            .publishEvent(new TargetPollBatchEvent(tenant, controllerIds)));
+                    return null;
+                }), tenant);
+    }
+
+    private void persistTargetUpdates(final String tenant, final List<TargetUpdate> updates) {
+        log.debug("Persist {} target updates.", updates.size());
+
+        // every poll takes three parameters (in the CASE and the IN clause)
+        ListUtils.partition(updates, Constants.MAX_ENTRIES_IN_STATEMENT / 3).forEach(chunk -> setLastTargetQuery(tenant, chunk));
+
+        final long currentTimeMillis = System.currentTimeMillis();
+
+        final List<TargetUpdate> changes = updates.stream().filter(update -> !update.isPollOnly()).toList();
+        if (!changes.isEmpty()) {
+            // every address takes three parameters (in the CASE and the IN clause)
+            ListUtils.partition(changes.stream().filter(TargetUpdate::addressChanged).toList(), Constants.MAX_ENTRIES_IN_STATEMENT / 3)
+                    .forEach(chunk -> setAddresses(tenant, currentTimeMillis, chunk));
+            ListUtils.partition(changes.stream().filter(TargetUpdate::registered).map(TargetUpdate::controllerId).toList(),
+                    Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk -> setRegistered(tenant, currentTimeMillis, chunk));
+
+            // the targets are changed by native SQL, so the entity events have to be published explicitly
+            ListUtils.partition(changes.stream().map(TargetUpdate::controllerId).toList(), Constants.MAX_ENTRIES_IN_STATEMENT)
+                    .forEach(chunk -> targetRepository.findAll(TargetSpecifications.hasControllerIdIn(chunk))
+                            .forEach(target -> afterCommit.afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher()
+                                    .publishEvent(new TargetUpdatedEvent(target)))));
         }
+    }
 
-        log.debug("{} events in flushUpdateQueue.", size);
-
-        final Set<TargetPoll> events = new HashSet<>(queue.size());
-        final int drained = queue.drainTo(events);
+    /**
+     * Sets {@link Target#getLastTargetQuery()} of the targets to the time of their (last) polls by one native SQL statement, in order
+     * to avoid raising opt lock revision as this update is not mission-critical and in fact only written by {@link ControllerManagement},
+     * i.e. the target itself.
+     */
+    private void setLastTargetQuery(final String tenant, final List<TargetUpdate> chunk) {
+        final List<String> controllerIds = chunk.stream().map(TargetUpdate::controllerId).toList();
+        final Query updateQuery = entityManager.createNativeQuery(
+                "UPDATE sp_target SET last_target_query = " + caseOfControllerId("last_target_query", chunk.size()) + " " +
+                        "WHERE controller_id IN (" + Jpa.formatNativeQueryInClause("cid", controllerIds) + ")" +
+                        " AND tenant = " + Jpa.nativeQueryParamPrefix() + "tenant");
 
-        if (drained <= 0) {
-            return;
+        for (int i = 0; i < chunk.size(); i++) {
+            updateQuery.setParameter("case_cid_" + i, chunk.get(i).controllerId());
+            updateQuery.setParameter("last_target_query_" + i, chunk.get(i).lastTargetQuery());
         }
+        Jpa.setNativeQueryInParameter(updateQuery, "cid", controllerIds);
+        updateQuery.setParameter("tenant", tenant);
 
-        try {
-            events.stream().collect(Collectors.groupingBy(TargetPoll::getTenant)).forEach((tenant, polls) -> {
-                final TransactionCallback<Void> createTransaction = status -> updateLastTargetQueries(tenant, polls);
-                tenantAware.runAsTenant(tenant,
-                        () -> DeploymentHelper.runInNewTransaction(txManager, "flushUpdateQueue", createTransaction));
-            });
-        } catch (final RuntimeException ex) {
-            log.error("Failed to persist UpdateQueue content.", ex);
-            return;
+        final int updated = updateQuery.executeUpdate();
+        if (updated < chunk.size()) {
+            log.error("Targets polls could not be applied completely ({} instead of {}).", updated, chunk.size());
         }
-
-        log.debug("{} events persisted.", drained);
     }
 
-    private Void updateLastTargetQueries(final String tenant, final List<TargetPoll> polls) {
-        log.debug("Persist {} targetqueries.", polls.size());
+    /**
+     * Sets {@link Target#getAddress()} of the targets by one native SQL statement. Unlike the poll, the change raises the opt lock
+     * revision, so that concurrent (management) updates of the targets, which would overwrite it, fail.
+     */
+    private void setAddresses(final String tenant, final long currentTimeMillis, final List<TargetUpdate> chunk) {
+        final List<String> controllerIds = chunk.stream().map(TargetUpdate::controllerId).toList();
+        final Query updateQuery = entityManager.createNativeQuery(
+                "UPDATE sp_target SET address = " + caseOfControllerId("address", chunk.size()) + ", " +
+                        "optlock_revision = optlock_revision + 1, last_modified_at = " + Jpa.nativeQueryParamPrefix() + "last_modified_at " +
+                        "WHERE controller_id IN (" + Jpa.formatNativeQueryInClause("cid", controllerIds) + ")" +
+                        " AND tenant = " + Jpa.nativeQueryParamPrefix() + "tenant");
 
-        final List<List<String>> pollChunks = ListUtils.partition(
-                polls.stream().map(TargetPoll::getControllerId).toList(),
-                Constants.MAX_ENTRIES_IN_STATEMENT);
+        for (int i = 0; i < chunk.size(); i++) {
+            updateQuery.setParameter("case_cid_" + i, chunk.get(i).controllerId());
+            updateQuery.setParameter("address_" + i, chunk.get(i).address());
+        }
+        updateQuery.setParameter("last_modified_at", currentTimeMillis);
+        Jpa.setNativeQueryInParameter(updateQuery, "cid", controllerIds);
+        updateQuery.setParameter("tenant", tenant);
 
-        pollChunks.forEach(chunk -> {
-            setLastTargetQuery(tenant, System.currentTimeMillis(), chunk);
-            chunk.forEach(controllerId -> afterCommit.afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher()
-                    .publishEvent(new TargetPollEvent(controllerId, tenant))));
-        });
+        final int updated = updateQuery.executeUpdate();
+        if (updated < chunk.size()) {
+            log.warn("Addresses of targets could not be updated completely ({} instead of {}).", updated, chunk.size());
+        }
+    }
 
-        return null;
+    // CASE selecting the value parameter (<column>_<i>) of the target with the controller id parameter case_cid_<i>
+    private static String caseOfControllerId(final String column, final int count) {
+        final StringBuilder caseOfControllerId = new StringBuilder("CASE controller_id");
+        for (int i = 0; i < count; i++) {
+            caseOfControllerId.append(" WHEN ").append(Jpa.nativeQueryParamPrefix()).append("case_cid_").append(i)
+                    .append(" THEN ").append(Jpa.nativeQueryParamPrefix()).append(column).append('_').append(i);
+        }
+        return caseOfControllerId.append(" ELSE ").append(column).append(" END").toString();
     }
 
     /**
-     * Sets {@link Target#getLastTargetQuery()} by native SQL in order to avoid raising opt lock revision as this update is not mission-critical
-     * and in fact only written by {@link ControllerManagement}, i.e. the target itself.
+     * Sets {@link Target#getUpdateStatus()} of the targets which are still in status {@link TargetUpdateStatus#UNKNOWN} to
+     * {@link TargetUpdateStatus#REGISTERED} by native SQL.
      */
-    private void setLastTargetQuery(final String tenant, final long currentTimeMillis, final List<String> chunk) {
+    private void setRegistered(final String tenant, final long currentTimeMillis, final List<String> chunk) {
         final Query updateQuery = entityManager.createNativeQuery(
-                "UPDATE sp_target SET last_target_query = " + Jpa.nativeQueryParamPrefix() + "last_target_query " +
+                "UPDATE sp_target SET update_status = " + Jpa.nativeQueryParamPrefix() + "registered, " +
+                        "optlock_revision = optlock_revision + 1, last_modified_at = " + Jpa.nativeQueryParamPrefix() + "last_modified_at " +
                         "WHERE controller_id IN (" + Jpa.formatNativeQueryInClause("cid", chunk) + ")" +
+                        " AND update_status = " + Jpa.nativeQueryParamPrefix() + "unknown" +
                         " AND tenant = " + Jpa.nativeQueryParamPrefix() + "tenant");
 
-        updateQuery.setParameter("last_target_query", currentTimeMillis);
+        updateQuery.setParameter("registered", UPDATE_STATUS_CONVERTER.convertToDatabaseColumn(TargetUpdateStatus.REGISTERED));
+        updateQuery.setParameter("unknown", UPDATE_STATUS_CONVERTER.convertToDatabaseColumn(TargetUpdateStatus.UNKNOWN));
+        updateQuery.setParameter("last_modified_at", currentTimeMillis);
         Jpa.setNativeQueryInParameter(updateQuery, "cid", chunk);
         updateQuery.setParameter("tenant", tenant);
 
-        final int updated = updateQuery.executeUpdate();
-        if (updated < chunk.size()) {
-            log.error("Targets polls could not be applied completely ({} instead of {}).", updated, chunk.size());
-        }
+        updateQuery.executeUpdate();
     }
 
     /**
-     * Stores target directly to DB in case either {@link Target#getAddress()}
-     * or {@link Target#getUpdateStatus()} or {@link Target#getName()} changes
-     * or the buffer queue is full.
+     * Defers the update of the target to the write-behind queue unless {@link Target#getName()} or {@link Target#getTargetType()}
+     * changes, or the queue is shut down. The address and status changes are applied to the returned (then detached) target.
+     * The room in the queue is reserved by the caller, see {@link #runWithTargetUpdateRoom}. If stored directly, the pending
+     * update of the target is dropped from the queue, as it is superseded.
      */
     private Target updateTarget(final JpaTarget toUpdate, final URI address, final String name, final String type) {
-        if (isStoreEager(toUpdate, address, name, type) || !queue.offer(new TargetPoll(toUpdate))) {
-            if (isAddressChanged(toUpdate.getAddress(), address)) {
-                toUpdate.setAddress(address.toString());
-            }
-            if (isNameChanged(toUpdate.getName(), name)) {
-                toUpdate.setName(name);
+        if (!isStoreEager(toUpdate, name, type)) {
+            final boolean addressChanged = isAddressChanged(toUpdate.getAddress(), address);
+            final TargetUpdate update = new TargetUpdate(
+                    toUpdate.getTenant(), toUpdate.getControllerId(), System.currentTimeMillis(),
+                    Optional.ofNullable(address).map(URI::toString).orElse(null), addressChanged, isStatusUnknown(toUpdate.getUpdateStatus()));
+            if (queue.offer(update)) {
+                if (!update.isPollOnly()) {
+                    // the changes are persisted by the queue - the entity mustn't be flushed with them
+                    entityManager.detach(toUpdate);
+                    if (addressChanged) {
+                        toUpdate.setAddress(update.address());
+                    }
+                    if (update.registered()) {
+                        toUpdate.setUpdateStatus(TargetUpdateStatus.REGISTERED);
+                    }
+                }
+                return toUpdate;
             }
+        } else if (queue != null) {
+            // a pending (older) address change would overwrite the one stored now on the next flush
+            queue.remove(toUpdate.getTenant(), toUpdate.getControllerId());
+        }
 
-            if (isTypeChanged(toUpdate.getTargetType(), type)) {
-                if (StringUtils.hasText(type)) {
-                    var targetTypeOptional = getTargetType(type);
-                    if (targetTypeOptional.isPresent()) {
-                        log.debug("Updating target type for thing ID \"{}\" to \"{}\".", toUpdate.getControllerId(), type);
-                        toUpdate.setTargetType(targetTypeOptional.get());
-                    } else {
-                        log.error("Target type with the provided name \"{}\" was not found. Target type for thing ID" +
-                                " \"{}\" will not be updated", type, toUpdate.getControllerId());
-                    }
+        if (isAddressChanged(toUpdate.getAddress(), address)) {
+            toUpdate.setAddress(address.toString());
+        }
+        if (isNameChanged(toUpdate.getName(), name)) {
+            toUpdate.setName(name);
+        }
+
+        if (isTypeChanged(toUpdate.getTargetType(), type)) {
+            if (StringUtils.hasText(type)) {
+                var targetTypeOptional = getTargetType(type);
+                if (targetTypeOptional.isPresent()) {
+                    log.debug("Updating target type for thing ID \"{}\" to \"{}\".", toUpdate.getControllerId(), type);
+                    toUpdate.setTargetType(targetTypeOptional.get());
                 } else {
-                    log.debug("Removing target type assignment for thing ID \"{}\".", toUpdate.getControllerId());
-                    toUpdate.setTargetType(null); //unassign target type if "" target type name was provided
+                    log.error("Target type with the provided name \"{}\" was not found. Target type for thing ID" +
+                            " \"{}\" will not be updated", type, toUpdate.getControllerId());
                 }
+            } else {
+                log.debug("Removing target type assignment for thing ID \"{}\".", toUpdate.getControllerId());
+                toUpdate.setTargetType(null); //unassign target type if "" target type name was provided
             }
-            if (isStatusUnknown(toUpdate.getUpdateStatus())) {
-                toUpdate.setUpdateStatus(TargetUpdateStatus.REGISTERED);
-            }
-            toUpdate.setLastTargetQuery(System.currentTimeMillis());
-            afterCommit.afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher().publishEvent(new TargetPollEvent(toUpdate)));
-            return targetRepository.save(toUpdate);
         }
-        return toUpdate;
+        if (isStatusUnknown(toUpdate.getUpdateStatus())) {
+            toUpdate.setUpdateStatus(TargetUpdateStatus.REGISTERED);
+        }
+        toUpdate.setLastTargetQuery(System.currentTimeMillis());
+        afterCommit.afterCommit(() -> EventPublisherHolder.getInstance().getEventPublisher().publishEvent(new TargetPollEvent(toUpdate)));
+        return targetRepository.save(toUpdate);
     }
 
-    private boolean isStoreEager(final JpaTarget toUpdate, final URI address, final String name, final String type) {
-        return repositoryProperties.isEagerPollPersistence() || isAddressChanged(toUpdate.getAddress(), address)
-                || isNameChanged(toUpdate.getName(), name) || isTypeChanged(toUpdate.getTargetType(), type)
-                || isStatusUnknown(toUpdate.getUpdateStatus());
+    private boolean isStoreEager(final JpaTarget toUpdate, final String name, final String type) {
+        return queue == null || isNameChanged(toUpdate.getName(), name) || isTypeChanged(toUpdate.getTargetType(), type);
     }
 
     private void handleFinishedCancelation(final JpaActionStatus actionStatus, final JpaAction action) {
@@ -1013,16 +1181,4 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
                     currentIntervalDuration.toMinutes() % 60, currentIntervalDuration.getSeconds() % 60);
         }
     }
-
-    @Data
-    private static class TargetPoll {
-
-        private final String tenant;
-        private final String controllerId;
-
-        TargetPoll(final Target target) {
-            this.tenant = target.getTenant();
-            this.controllerId = target.getControllerId();
-        }
-    }
-}
\ No newline at end of file
+}
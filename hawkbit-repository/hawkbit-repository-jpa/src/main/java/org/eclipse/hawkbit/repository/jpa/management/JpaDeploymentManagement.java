@@ -16,7 +16,9 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -24,11 +26,12 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.JoinType;
@@ -52,7 +55,6 @@ import org.eclipse.hawkbit.repository.exception.IncompatibleTargetTypeException;
 import org.eclipse.hawkbit.repository.exception.IncompleteDistributionSetException;
 import org.eclipse.hawkbit.repository.exception.InsufficientPermissionException;
 import org.eclipse.hawkbit.repository.exception.MultiAssignmentIsNotEnabledException;
-import org.eclipse.hawkbit.repository.jpa.Jpa;
 import org.eclipse.hawkbit.repository.jpa.JpaManagementHelper;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
@@ -60,12 +62,14 @@ import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecuto
 import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
+import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget_;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.ActionStatusRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rsql.RsqlUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.ActionSpecifications;
 import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
@@ -97,6 +101,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.jpa.vendor.Database;
 import org.springframework.retry.RetryCallback;
@@ -107,6 +112,7 @@ import org.springframework.retry.policy.SimpleRetryPolicy;
 import org.springframework.retry.support.RetryTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
 
@@ -122,29 +128,6 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
      * Maximum amount of Actions that are started at once.
      */
     private static final int ACTION_PAGE_LIMIT = 1000;
-    private static final String QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED_DEFAULT =
-            "DELETE FROM sp_action " +
-                    "WHERE tenant=" + Jpa.nativeQueryParamPrefix() + "tenant" +
-                    " AND status IN (%s)" +
-                    " AND last_modified_at<" + Jpa.nativeQueryParamPrefix() + "last_modified_at LIMIT " + ACTION_PAGE_LIMIT;
-    private static final EnumMap<Database, String> QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED;
-
-    static {
-        QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED = new EnumMap<>(Database.class);
-        QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED.put(
-                Database.SQL_SERVER,
-                "DELETE TOP (" + ACTION_PAGE_LIMIT + ") FROM sp_action " +
-                        "WHERE tenant=" + Jpa.nativeQueryParamPrefix() + "tenant" +
-                        " AND status IN (%s)" +
-                        " AND last_modified_at<" + Jpa.nativeQueryParamPrefix() + "last_modified_at ");
-        QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED.put(
-                Database.POSTGRESQL,
-                "DELETE FROM sp_action " +
-                        "WHERE id IN (SELECT id FROM sp_action " +
-                        "WHERE tenant=" + Jpa.nativeQueryParamPrefix() + "tenant" +
-                        " AND status IN (%s)" +
-                        " AND last_modified_at<" + Jpa.nativeQueryParamPrefix() + "last_modified_at LIMIT " + ACTION_PAGE_LIMIT + ")");
-    }
 
     private final EntityManager entityManager;
     private final DistributionSetManagement distributionSetManagement;
@@ -158,6 +141,7 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
     private final SystemSecurityContext systemSecurityContext;
     private final TenantAware tenantAware;
     private final AuditorAware<String> auditorAware;
+    private final RolloutGroupStatusCounters rolloutGroupStatusCounters;
     private final Database database;
     private final RetryTemplate retryTemplate;
 
@@ -170,7 +154,8 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
             final VirtualPropertyReplacer virtualPropertyReplacer, final PlatformTransactionManager txManager,
             final TenantConfigurationManagement tenantConfigurationManagement, final QuotaManagement quotaManagement,
             final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware, final AuditorAware<String> auditorAware,
-            final Database database, final RepositoryProperties repositoryProperties) {
+            final RolloutGroupStatusCounters rolloutGroupStatusCounters, final Database database,
+            final RepositoryProperties repositoryProperties) {
         super(actionRepository, actionStatusRepository, quotaManagement, repositoryProperties);
         this.entityManager = entityManager;
         this.distributionSetManagement = distributionSetManagement;
@@ -188,6 +173,7 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         this.systemSecurityContext = systemSecurityContext;
         this.tenantAware = tenantAware;
         this.auditorAware = auditorAware;
+        this.rolloutGroupStatusCounters = rolloutGroupStatusCounters;
         this.database = database;
         this.retryTemplate = createRetryTemplate();
     }
@@ -292,6 +278,13 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         return JpaManagementHelper.countBySpec(actionRepository, specList);
     }
 
+    @Override
+    public long countActionsUpTo(final String rsql, final int limit) {
+        final List<Specification<JpaAction>> specList = rsql == null ? Collections.emptyList()
+                : List.of(RsqlUtility.buildRsqlSpecification(rsql, ActionFields.class, virtualPropertyReplacer, database));
+        return JpaManagementHelper.countBySpecUpTo(actionRepository, specList, limit);
+    }
+
     @Override
     public long countActionsByTarget(final String controllerId) {
         assertTargetReadAllowed(controllerId);
@@ -317,6 +310,16 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         return JpaManagementHelper.findAllWithoutCountBySpec(actionRepository, specList, pageable);
     }
 
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void streamActions(final String rsql, final Sort sort, final Consumer<Action> consumer) {
+        JpaManagementHelper.forEachBySpec(
+                entityManager, actionRepository,
+                rsql == null ? Collections.emptyList()
+                        : List.of(RsqlUtility.buildRsqlSpecification(rsql, ActionFields.class, virtualPropertyReplacer, database)),
+                sort, consumer);
+    }
+
     @Override
     public Page<Action> findActionsByTarget(final String rsql, final String controllerId, final Pageable pageable) {
         assertTargetReadAllowed(controllerId);
@@ -342,6 +345,21 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         return actionStatusRepository.findByActionId(pageable, actionId);
     }
 
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void streamActionStatusByAction(final long actionId, final Sort sort, final BiConsumer<ActionStatus, List<String>> consumer) {
+        assertActionExistsAndAccessible(actionId);
+
+        final Specification<JpaActionStatus> byActionId = (root, query, cb) ->
+                cb.equal(root.get(JpaActionStatus_.action).get(AbstractJpaBaseEntity_.id), actionId);
+        JpaManagementHelper.<ActionStatus, JpaActionStatus> forEachChunkBySpec(
+                entityManager, actionStatusRepository, List.of(byActionId), sort, chunk -> {
+                    final Map<Long, List<String>> messages = findMessagesByActionStatusIds(
+                            chunk.stream().map(ActionStatus::getId).toList());
+                    chunk.forEach(status -> consumer.accept(status, messages.getOrDefault(status.getId(), Collections.emptyList())));
+                });
+    }
+
     @Override
     public long countActionStatusByAction(final long actionId) {
         assertActionExistsAndAccessible(actionId);
@@ -368,6 +386,20 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         return new PageImpl<>(result, pageable, result.size());
     }
 
+    private Map<Long, List<String>> findMessagesByActionStatusIds(final List<Long> actionStatusIds) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+        final CriteriaQuery<Object[]> msgQuery = cb.createQuery(Object[].class);
+        final Root<JpaActionStatus> as = msgQuery.from(JpaActionStatus.class);
+        final ListJoin<JpaActionStatus, String> join = as.joinList("messages");
+        msgQuery.multiselect(as.get(AbstractJpaBaseEntity_.id), join).where(as.get(AbstractJpaBaseEntity_.id).in(actionStatusIds));
+
+        final Map<Long, List<String>> result = new HashMap<>();
+        entityManager.createQuery(msgQuery).getResultList()
+                .forEach(row -> result.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]));
+        return result;
+    }
+
     @Override
     public Optional<Action> findActionWithDetails(final long actionId) {
         return actionRepository.findWithDetailsById(actionId)
@@ -455,6 +487,13 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
                     throw new EntityNotFoundException(Target.class, targetIds);
                 }
             });
+            // the bulk update bypasses the entity life cycle, so the status counters of the rollout groups have to be adapted explicitly
+            actionRepository.countRolloutGroupActionsToSwitchStatus(targetIds, false, Status.SCHEDULED).forEach(rolloutGroupCount -> {
+                final long rolloutGroupId = (Long) rolloutGroupCount[0];
+                final long count = (Long) rolloutGroupCount[1];
+                rolloutGroupStatusCounters.add(rolloutGroupId, Status.SCHEDULED, -count);
+                rolloutGroupStatusCounters.add(rolloutGroupId, Status.CANCELED, count);
+            });
             actionRepository.switchStatus(Status.CANCELED, targetIds, false, Status.SCHEDULED);
         } else {
             log.debug("The Multi Assignments feature is enabled: No need to cancel inactive scheduled actions.");
@@ -524,21 +563,29 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
             return 0;
         }
 
-        // We use a native query here because Spring JPA does not support to specify a LIMIT clause on a DELETE statement.
-        // However, for this specific use case (action cleanup), we must specify a row limit to reduce the overall load of
-        // the database.
-        final List<Integer> statusList = status.stream().map(Status::ordinal).toList();
-
-        final Query deleteQuery = entityManager.createNativeQuery(String.format(
-                getQueryForDeleteActionsByStatusAndLastModifiedBeforeString(database),
-                Jpa.formatNativeQueryInClause("status", statusList)));
-
-        deleteQuery.setParameter("tenant", tenantAware.getCurrentTenant().toUpperCase());
-        Jpa.setNativeQueryInParameter(deleteQuery, "status", statusList);
-        deleteQuery.setParameter("last_modified_at", lastModified);
+        // The number of the deleted actions is limited in order to reduce the overall load of the database. Since Spring JPA does not
+        // support a LIMIT clause on a DELETE statement the actions are selected first. No lock is needed - the actions to clean up are
+        // in a final status, and the rollout group status counters are decremented for the selected actions which are deleted.
+        final List<Long> actionIds = entityManager.createQuery(
+                        "SELECT a.id FROM JpaAction a WHERE a.status IN :status AND a.lastModifiedAt < :lastModified", Long.class)
+                .setParameter("status", status)
+                .setParameter("lastModified", lastModified)
+                .setMaxResults(ACTION_PAGE_LIMIT)
+                .getResultList();
+        if (actionIds.isEmpty()) {
+            return 0;
+        }
 
-        log.debug("Action cleanup: Executing the following (native) query: {}", deleteQuery);
-        return deleteQuery.executeUpdate();
+        // the inner join skips the actions without rollout group
+        final List<Object[]> rolloutGroupStatusCounts = entityManager.createQuery(
+                        "SELECT g.id, a.status, COUNT(a.id) FROM JpaAction a JOIN a.rolloutGroup g " +
+                                "WHERE a.id IN :ids GROUP BY g.id, a.status", Object[].class)
+                .setParameter("ids", actionIds)
+                .getResultList();
+        actionRepository.deleteByIdIn(actionIds);
+        rolloutGroupStatusCounts.forEach(count ->
+                rolloutGroupStatusCounters.add((Long) count[0], (Status) count[1], -((Number) count[2]).longValue()));
+        return actionIds.size();
     }
 
     @Override
@@ -549,6 +596,22 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
                 .exists(ActionSpecifications.byTargetIdAndIsActiveAndStatus(targetId, Action.Status.CANCELING));
     }
 
+    @Override
+    public Set<Long> findTargetIdsWithPendingCancellations(final Collection<Long> targetIds) {
+        final Set<Long> pendingCancellations = new HashSet<>();
+        ListUtils.partition(new ArrayList<>(new HashSet<>(targetIds)), Constants.MAX_ENTRIES_IN_STATEMENT).forEach(ids -> {
+            final List<Long> canceling = actionRepository.findTargetIdsByActiveAndStatus(ids, Action.Status.CANCELING);
+            if (canceling.isEmpty() || targetRepository.getAccessController().isEmpty()) {
+                pendingCancellations.addAll(canceling);
+            } else {
+                // target access is checked only for the (usually few) targets with pending cancellations
+                targetRepository.findAll(AccessController.Operation.READ, TargetSpecifications.hasIdIn(canceling))
+                        .forEach(target -> pendingCancellations.add(target.getId()));
+            }
+        });
+        return pendingCancellations;
+    }
+
     @Override
     @Transactional
     public void cancelActionsForDistributionSet(final CancelationType cancelationType, final DistributionSet distributionSet) {
@@ -613,11 +676,6 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         return new DistributionSetAssignmentResult(distributionSet, alreadyAssignedTargetsCount, assignedActions);
     }
 
-    private static String getQueryForDeleteActionsByStatusAndLastModifiedBeforeString(final Database database) {
-        return QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED.getOrDefault(database,
-                QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED_DEFAULT);
-    }
-
     private static RetryTemplate createRetryTemplate() {
         final RetryTemplate template = new RetryTemplate();
 
@@ -741,9 +799,9 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
                 .distinct()
                 .toList();
 
-        final List<String> found = targetRepository
+        final Set<String> found = targetRepository
                 .findAll(AccessController.Operation.UPDATE, TargetSpecifications.hasControllerIdIn(controllerIds))
-                .stream().map(JpaTarget::getControllerId).toList();
+                .stream().map(JpaTarget::getControllerId).collect(Collectors.toSet());
         if (found.size() != controllerIds.size()) {
             return deploymentRequests.stream()
                     .filter(deploymentRequest -> found.contains(deploymentRequest.getControllerId())).toList();
@@ -811,8 +869,9 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
             return allTargetsAlreadyAssignedResult(distributionSet, existingTargetIds.size());
         }
 
+        final Set<String> existingTargetIdsLookup = new HashSet<>(existingTargetIds);
         final List<TargetWithActionType> existingTargetsWithActionType = targetsWithActionType.stream()
-                .filter(target -> existingTargetIds.contains(target.getControllerId()))
+                .filter(target -> existingTargetIdsLookup.contains(target.getControllerId()))
                 .toList();
 
         final List<JpaAction> assignedActions = doAssignDistributionSetToTargets(
@@ -859,14 +918,11 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
     }
 
     private void enforceMaxActionsPerTarget(final Collection<DeploymentRequest> deploymentRequests) {
-        final int quota = quotaManagement.getMaxActionsPerTarget();
-
         final Map<String, Long> countOfTargetInRequest = deploymentRequests.stream()
                 .map(DeploymentRequest::getControllerId)
                 .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
-
-        countOfTargetInRequest.forEach((controllerId, count) -> QuotaHelper.assertAssignmentQuota(controllerId, count,
-                quota, Action.class, Target.class, actionRepository::countByTargetControllerId));
+        QuotaHelper.assertAssignmentQuota(countOfTargetInRequest, quotaManagement.getMaxActionsPerTarget(), Action.class, Target.class,
+                actionRepository::countByTargetControllerIdIn);
     }
 
     private void closeOrCancelActiveActions(final AbstractDsAssignmentStrategy assignmentStrategy, final List<List<Long>> targetIdsChunks) {
@@ -887,13 +943,14 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
     private Map<TargetWithActionType, JpaAction> createActions(
             final Collection<TargetWithActionType> targetsWithActionType, final List<JpaTarget> targets, final JpaDistributionSet set,
             final AbstractDsAssignmentStrategy assignmentStrategy, final String initiatedBy) {
+        final Map<TargetWithActionType, JpaAction> actions = assignmentStrategy.createTargetActions(
+                initiatedBy, targetsWithActionType, targets, set);
+        assignmentStrategy.assertActionsPerTargetQuota(actions.values().stream()
+                .collect(Collectors.groupingBy(action -> action.getTarget().getId(), Collectors.counting())));
+
+        final Iterator<JpaAction> persistedActionsIterator = actionRepository.saveAll(actions.values()).iterator();
         final Map<TargetWithActionType, JpaAction> persistedActions = new LinkedHashMap<>();
-        for (final TargetWithActionType twt : targetsWithActionType) {
-            final JpaAction targetAction = assignmentStrategy.createTargetAction(initiatedBy, twt, targets, set);
-            if (targetAction != null) {
-                persistedActions.put(twt, actionRepository.save(targetAction));
-            }
-        }
+        actions.keySet().forEach(twt -> persistedActions.put(twt, persistedActionsIterator.next()));
         return persistedActions;
     }
 
@@ -1007,14 +1064,16 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
     }
 
     private void setAssignmentOnTargets(final List<JpaAction> actions) {
-        final List<JpaTarget> assignedDsTargets = actions.stream().map(savedAction -> {
-            final JpaTarget mergedTarget = (JpaTarget) entityManager.merge(savedAction.getTarget());
-            mergedTarget.setAssignedDistributionSet((JpaDistributionSet) savedAction.getDistributionSet());
-            mergedTarget.setUpdateStatus(TargetUpdateStatus.PENDING);
-            return mergedTarget;
-        }).toList();
-
-        targetRepository.saveAll(assignedDsTargets);
+        // the actions of a rollout group share the distribution set - still, group them in order to not rely on it
+        final Map<JpaDistributionSet, List<JpaTarget>> targetsBySet = actions.stream().collect(Collectors.groupingBy(
+                JpaAction::getDistributionSet, LinkedHashMap::new, Collectors.mapping(JpaAction::getTarget, Collectors.toList())));
+        targetsBySet.forEach((set, targets) -> {
+            // single JPQL update per chunk instead of merging and updating the targets one by one
+            setAssignedDistributionSetAndTargetUpdateStatus(onlineDsAssignmentStrategy, set, getTargetEntitiesAsChunks(targets));
+            // detaching as the entities have been updated by the JPQL query above
+            targets.forEach(entityManager::detach);
+            onlineDsAssignmentStrategy.sendTargetUpdatedEvents(set, targets);
+        });
     }
 
     private void setSkipActionStatus(final JpaAction action) {
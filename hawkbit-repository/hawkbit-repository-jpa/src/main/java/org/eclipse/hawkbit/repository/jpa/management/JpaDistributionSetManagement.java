@@ -286,6 +286,23 @@ public class JpaDistributionSetManagement implements DistributionSetManagement {
                 DistributionSetSpecification.isNotDeleted()), pageable);
     }
 
+    @Override
+    public Slice<DistributionSet> findByRsqlWithoutCount(final String rsql, final Pageable pageable) {
+        return JpaManagementHelper.findAllWithoutCountBySpec(distributionSetRepository, List.of(
+                RsqlUtility.buildRsqlSpecification(rsql, DistributionSetFields.class, virtualPropertyReplacer, database),
+                DistributionSetSpecification.isNotDeleted()), pageable);
+    }
+
+    @Override
+    public long countByRsqlUpTo(final String rsql, final int limit) {
+        final List<Specification<JpaDistributionSet>> specList = rsql == null
+                ? List.of(DistributionSetSpecification.isNotDeleted())
+                : List.of(
+                        RsqlUtility.buildRsqlSpecification(rsql, DistributionSetFields.class, virtualPropertyReplacer, database),
+                        DistributionSetSpecification.isNotDeleted());
+        return JpaManagementHelper.countBySpecUpTo(distributionSetRepository, specList, limit);
+    }
+
     @Override
     public Optional<DistributionSet> getWithDetails(final long id) {
         return distributionSetRepository
@@ -36,10 +36,10 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget_;
 import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup;
 import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup_;
-import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rsql.RsqlUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
 import org.eclipse.hawkbit.repository.model.Rollout;
@@ -67,26 +67,25 @@ public class JpaRolloutGroupManagement implements RolloutGroupManagement {
 
     private final RolloutGroupRepository rolloutGroupRepository;
     private final RolloutRepository rolloutRepository;
-    private final ActionRepository actionRepository;
     private final TargetRepository targetRepository;
     private final EntityManager entityManager;
     private final VirtualPropertyReplacer virtualPropertyReplacer;
     private final RolloutStatusCache rolloutStatusCache;
+    private final RolloutGroupStatusCounters rolloutGroupStatusCounters;
     private final Database database;
 
     @SuppressWarnings("java:S107")
     public JpaRolloutGroupManagement(final RolloutGroupRepository rolloutGroupRepository,
-            final RolloutRepository rolloutRepository, final ActionRepository actionRepository,
-            final TargetRepository targetRepository, final EntityManager entityManager,
+            final RolloutRepository rolloutRepository, final TargetRepository targetRepository, final EntityManager entityManager,
             final VirtualPropertyReplacer virtualPropertyReplacer, final RolloutStatusCache rolloutStatusCache,
-            final Database database) {
+            final RolloutGroupStatusCounters rolloutGroupStatusCounters, final Database database) {
         this.rolloutGroupRepository = rolloutGroupRepository;
         this.rolloutRepository = rolloutRepository;
-        this.actionRepository = actionRepository;
         this.targetRepository = targetRepository;
         this.entityManager = entityManager;
         this.virtualPropertyReplacer = virtualPropertyReplacer;
         this.rolloutStatusCache = rolloutStatusCache;
+        this.rolloutGroupStatusCounters = rolloutGroupStatusCounters;
         this.database = database;
     }
 
@@ -211,7 +210,7 @@ public class JpaRolloutGroupManagement implements RolloutGroupManagement {
                 .getRolloutGroupStatus(rolloutGroupId);
 
         if (CollectionUtils.isEmpty(rolloutStatusCountItems)) {
-            rolloutStatusCountItems = actionRepository.getStatusCountByRolloutGroupId(rolloutGroupId);
+            rolloutStatusCountItems = rolloutGroupStatusCounters.getStatusCountByRolloutGroupIds(List.of(rolloutGroupId));
             rolloutStatusCache.putRolloutGroupStatus(rolloutGroupId, rolloutStatusCountItems);
         }
 
@@ -250,7 +249,7 @@ public class JpaRolloutGroupManagement implements RolloutGroupManagement {
 
         final List<Long> rolloutGroupIds = groupIds.stream().filter(id -> !fromCache.containsKey(id)).toList();
         if (!rolloutGroupIds.isEmpty()) {
-            final List<TotalTargetCountActionStatus> resultList = actionRepository
+            final List<TotalTargetCountActionStatus> resultList = rolloutGroupStatusCounters
                     .getStatusCountByRolloutGroupIds(rolloutGroupIds);
             final Map<Long, List<TotalTargetCountActionStatus>> fromDb = resultList.stream()
                     .collect(Collectors.groupingBy(TotalTargetCountActionStatus::getId));
@@ -59,9 +59,9 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRollout;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRollout_;
-import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.StartNextGroupRolloutGroupSuccessAction;
 import org.eclipse.hawkbit.repository.jpa.rsql.RsqlUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.RolloutSpecification;
@@ -114,7 +114,7 @@ public class JpaRolloutManagement implements RolloutManagement {
     private final RolloutApprovalStrategy rolloutApprovalStrategy;
     private final StartNextGroupRolloutGroupSuccessAction startNextRolloutGroupAction;
     private final RolloutStatusCache rolloutStatusCache;
-    private final ActionRepository actionRepository;
+    private final RolloutGroupStatusCounters rolloutGroupStatusCounters;
     private final TargetManagement targetManagement;
     private final DistributionSetManagement distributionSetManagement;
     private final TenantConfigurationManagement tenantConfigurationManagement;
@@ -133,7 +133,7 @@ public class JpaRolloutManagement implements RolloutManagement {
             final RolloutApprovalStrategy rolloutApprovalStrategy,
             final StartNextGroupRolloutGroupSuccessAction startNextRolloutGroupAction,
             final RolloutStatusCache rolloutStatusCache,
-            final ActionRepository actionRepository,
+            final RolloutGroupStatusCounters rolloutGroupStatusCounters,
             final TargetManagement targetManagement,
             final DistributionSetManagement distributionSetManagement,
             final TenantConfigurationManagement tenantConfigurationManagement,
@@ -147,7 +147,7 @@ public class JpaRolloutManagement implements RolloutManagement {
         this.rolloutApprovalStrategy = rolloutApprovalStrategy;
         this.startNextRolloutGroupAction = startNextRolloutGroupAction;
         this.rolloutStatusCache = rolloutStatusCache;
-        this.actionRepository = actionRepository;
+        this.rolloutGroupStatusCounters = rolloutGroupStatusCounters;
         this.targetManagement = targetManagement;
         this.distributionSetManagement = distributionSetManagement;
         this.tenantConfigurationManagement = tenantConfigurationManagement;
@@ -312,7 +312,7 @@ public class JpaRolloutManagement implements RolloutManagement {
         List<TotalTargetCountActionStatus> rolloutStatusCountItems = rolloutStatusCache.getRolloutStatus(rolloutId);
 
         if (CollectionUtils.isEmpty(rolloutStatusCountItems)) {
-            rolloutStatusCountItems = actionRepository.getStatusCountByRolloutId(rolloutId);
+            rolloutStatusCountItems = rolloutGroupStatusCounters.getStatusCountByRolloutIds(List.of(rolloutId));
             rolloutStatusCache.putRolloutStatus(rolloutId, rolloutStatusCountItems);
         }
 
@@ -723,7 +723,7 @@ public class JpaRolloutManagement implements RolloutManagement {
 
         final List<Long> rolloutIds = rollouts.stream().filter(id -> !fromCache.containsKey(id)).toList();
         if (!rolloutIds.isEmpty()) {
-            final List<TotalTargetCountActionStatus> resultList = actionRepository.getStatusCountByRolloutIds(rolloutIds);
+            final List<TotalTargetCountActionStatus> resultList = rolloutGroupStatusCounters.getStatusCountByRolloutIds(rolloutIds);
             final Map<Long, List<TotalTargetCountActionStatus>> fromDb = resultList.stream()
                     .collect(Collectors.groupingBy(TotalTargetCountActionStatus::getId));
 
@@ -266,6 +266,23 @@ public class JpaSoftwareModuleManagement implements SoftwareModuleManagement {
                 SoftwareModuleSpecification.isNotDeleted()), pageable);
     }
 
+    @Override
+    public Slice<SoftwareModule> findByRsqlWithoutCount(final String rsql, final Pageable pageable) {
+        return JpaManagementHelper.findAllWithoutCountBySpec(softwareModuleRepository, List.of(
+                RsqlUtility.buildRsqlSpecification(rsql, SoftwareModuleFields.class, virtualPropertyReplacer, database),
+                SoftwareModuleSpecification.isNotDeleted()), pageable);
+    }
+
+    @Override
+    public long countByRsqlUpTo(final String rsql, final int limit) {
+        final List<Specification<JpaSoftwareModule>> specList = rsql == null
+                ? List.of(SoftwareModuleSpecification.isNotDeleted())
+                : List.of(
+                        RsqlUtility.buildRsqlSpecification(rsql, SoftwareModuleFields.class, virtualPropertyReplacer, database),
+                        SoftwareModuleSpecification.isNotDeleted());
+        return JpaManagementHelper.countBySpecUpTo(softwareModuleRepository, specList, limit);
+    }
+
     @Override
     @Transactional
     @Retryable(retryFor = { ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX,
@@ -95,6 +95,7 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
     private final PlatformTransactionManager txManager;
     private final TenancyCacheManager cacheManager;
     private final RolloutStatusCache rolloutStatusCache;
+    private final TenantConfigurationCache tenantConfigurationCache;
     private final EntityManager entityManager;
     private final RepositoryProperties repositoryProperties;
 
@@ -112,7 +113,7 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
             final TenantStatsManagement systemStatsManagement, final SystemManagementCacheKeyGenerator currentTenantCacheKeyGenerator,
             final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware, final PlatformTransactionManager txManager,
             final TenancyCacheManager cacheManager, final RolloutStatusCache rolloutStatusCache,
-            final EntityManager entityManager, final RepositoryProperties repositoryProperties,
+            final TenantConfigurationCache tenantConfigurationCache, final EntityManager entityManager, final RepositoryProperties repositoryProperties,
             final JpaProperties properties) {
         this.targetRepository = targetRepository;
         this.targetTypeRepository = targetTypeRepository;
@@ -133,6 +134,7 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
         this.txManager = txManager;
         this.cacheManager = cacheManager;
         this.rolloutStatusCache = rolloutStatusCache;
+        this.tenantConfigurationCache = tenantConfigurationCache;
         this.entityManager = entityManager;
         this.repositoryProperties = repositoryProperties;
 
@@ -163,6 +165,7 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
         final String tenant = t.toUpperCase();
         cacheManager.evictCaches(tenant);
         rolloutStatusCache.evictCaches(tenant);
+        tenantConfigurationCache.evictCaches(tenant);
         tenantAware.runAsTenant(tenant, () -> DeploymentHelper.runInNewTransaction(txManager, "deleteTenant", status -> {
             tenantMetaDataRepository.deleteByTenantIgnoreCase(tenant);
             tenantConfigurationRepository.deleteByTenant(tenant);
@@ -26,6 +26,7 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
 import jakarta.persistence.criteria.MapJoin;
@@ -46,15 +47,20 @@ import org.eclipse.hawkbit.repository.event.EventPublisherHolder;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
 import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
 import org.eclipse.hawkbit.repository.jpa.JpaManagementHelper;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaTargetCreate;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaTargetUpdate;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity_;
+import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTargetTag;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTargetType;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget_;
+import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup;
+import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup_;
 import org.eclipse.hawkbit.repository.jpa.model.helper.AfterTransactionCommitExecutorHolder;
 import org.eclipse.hawkbit.repository.jpa.repository.RolloutGroupRepository;
 import org.eclipse.hawkbit.repository.jpa.repository.TargetFilterQueryRepository;
@@ -80,10 +86,12 @@ import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.jpa.vendor.Database;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.ObjectUtils;
 import org.springframework.validation.annotation.Validated;
@@ -160,6 +168,15 @@ public class JpaTargetManagement implements TargetManagement {
                 List.of(RsqlUtility.buildRsqlSpecification(rsql, TargetFields.class, virtualPropertyReplacer, database)));
     }
 
+    @Override
+    public long countByRsqlUpTo(final String rsql, final int limit) {
+        return JpaManagementHelper.countBySpecUpTo(
+                targetRepository,
+                rsql == null ? Collections.emptyList()
+                        : List.of(RsqlUtility.buildRsqlSpecification(rsql, TargetFields.class, virtualPropertyReplacer, database)),
+                limit);
+    }
+
     @Override
     public long countByRsqlAndUpdatable(String rsql) {
         final List<Specification<JpaTarget>> specList = List.of(
@@ -287,6 +304,30 @@ public class JpaTargetManagement implements TargetManagement {
                 .map(Target.class::cast);
     }
 
+    @Override
+    @Transactional
+    public Optional<Integer> assignToRolloutGroupByRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable(
+            final long rolloutGroupId, final Collection<Long> groups, final String rsql, final DistributionSetType dsType,
+            final int limit) {
+        final Specification<JpaTarget> spec = targetRepository.withAccessRules(AccessController.Operation.UPDATE,
+                combineWithAnd(List.of(
+                        RsqlUtility.buildRsqlSpecification(rsql, TargetFields.class, virtualPropertyReplacer, database),
+                        TargetSpecifications.isNotInRolloutGroups(groups),
+                        TargetSpecifications.isCompatibleWithDistributionSetType(dsType.getId()))));
+
+        // INSERT INTO sp_rollout_target_group (rollout_group, target) SELECT DISTINCT :rolloutGroupId, t.id FROM sp_target t ...
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        final Root<JpaTarget> targetRoot = query.from(JpaTarget.class);
+        final Root<JpaRolloutGroup> rolloutGroupRoot = query.from(JpaRolloutGroup.class);
+        query.multiselect(rolloutGroupRoot, targetRoot).distinct(true).where(
+                cb.equal(rolloutGroupRoot.get(AbstractJpaBaseEntity_.id), rolloutGroupId),
+                Objects.requireNonNull(spec).toPredicate(targetRoot, query, cb));
+        return Jpa.insertSelect(
+                entityManager, RolloutTargetGroup.class,
+                List.of(RolloutTargetGroup_.ROLLOUT_GROUP, RolloutTargetGroup_.TARGET), query, limit);
+    }
+
     @Override
     public long countByRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable(
             final String rsql, final Collection<Long> groups, final DistributionSetType dsType) {
@@ -420,6 +461,16 @@ public class JpaTargetManagement implements TargetManagement {
         );
     }
 
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.REQUIRES_NEW)
+    public void streamByRsql(final String rsql, final Sort sort, final Consumer<Target> consumer) {
+        JpaManagementHelper.forEachBySpec(
+                entityManager, targetRepository,
+                rsql == null ? Collections.emptyList()
+                        : List.of(RsqlUtility.buildRsqlSpecification(rsql, TargetFields.class, virtualPropertyReplacer, database)),
+                sort, consumer);
+    }
+
     @Override
     public Slice<Target> findByTargetFilterQuery(final long targetFilterQueryId, final Pageable pageable) {
         final TargetFilterQuery targetFilterQuery = targetFilterQueryRepository.findById(targetFilterQueryId)
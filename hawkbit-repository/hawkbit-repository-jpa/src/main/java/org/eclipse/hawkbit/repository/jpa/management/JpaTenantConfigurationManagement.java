@@ -41,13 +41,10 @@ import org.eclipse.hawkbit.repository.model.TenantConfiguration;
 import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
 import org.eclipse.hawkbit.repository.model.helper.SystemSecurityContextHolder;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.eclipse.hawkbit.tenancy.configuration.DurationHelper;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
-import org.springframework.cache.Cache;
-import org.springframework.cache.CacheManager;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.convert.support.ConfigurableConversionService;
 import org.springframework.core.convert.support.DefaultConversionService;
@@ -70,28 +67,30 @@ public class JpaTenantConfigurationManagement implements TenantConfigurationMana
     private final TenantConfigurationRepository tenantConfigurationRepository;
     private final TenantConfigurationProperties tenantConfigurationProperties;
     private final ApplicationContext applicationContext;
-    private final CacheManager cacheManager;
+    private final TenantConfigurationCache tenantConfigurationCache;
+    private final TenantAware tenantAware;
     private final AfterTransactionCommitExecutor afterCommitExecutor;
 
     public JpaTenantConfigurationManagement(
             final TenantConfigurationRepository tenantConfigurationRepository,
             final TenantConfigurationProperties tenantConfigurationProperties,
-            final CacheManager cacheManager, final AfterTransactionCommitExecutor afterCommitExecutor,
-            final ApplicationContext applicationContext) {
+            final TenantConfigurationCache tenantConfigurationCache, final TenantAware tenantAware,
+            final AfterTransactionCommitExecutor afterCommitExecutor, final ApplicationContext applicationContext) {
         this.tenantConfigurationRepository = tenantConfigurationRepository;
         this.tenantConfigurationProperties = tenantConfigurationProperties;
-        this.cacheManager = cacheManager;
+        this.tenantConfigurationCache = tenantConfigurationCache;
+        this.tenantAware = tenantAware;
         this.afterCommitExecutor = afterCommitExecutor;
         this.applicationContext = applicationContext;
     }
 
     @Override
-    @CacheEvict(value = "tenantConfiguration", key = "#configurationKeyName")
     @Transactional
     @Retryable(retryFor = { ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX,
             backoff = @Backoff(delay = Constants.TX_RT_DELAY))
     public <T extends Serializable> TenantConfigurationValue<T> addOrUpdateConfiguration(
             final String configurationKeyName, final T value) {
+        evictCacheAfterCommit();
         return addOrUpdateConfiguration0(Collections.singletonMap(configurationKeyName, value)).values().iterator().next();
     }
 
@@ -100,29 +99,20 @@ public class JpaTenantConfigurationManagement implements TenantConfigurationMana
     @Retryable(retryFor = { ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX,
             backoff = @Backoff(delay = Constants.TX_RT_DELAY))
     public <T extends Serializable> Map<String, TenantConfigurationValue<T>> addOrUpdateConfiguration(final Map<String, T> configurations) {
-        // Register a callback to be invoked after the transaction is committed - for cache eviction
-        afterCommitExecutor.afterCommit(() -> {
-            final Cache cache = cacheManager.getCache("tenantConfiguration");
-            if (cache != null) {
-                configurations.keySet().forEach(cache::evict);
-            }
-        });
-
+        evictCacheAfterCommit();
         return addOrUpdateConfiguration0(configurations);
     }
 
     @Override
-    @CacheEvict(value = "tenantConfiguration", key = "#configurationKeyName")
     @Transactional
     @Retryable(retryFor = { ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX,
             backoff = @Backoff(delay = Constants.TX_RT_DELAY))
     public void deleteConfiguration(final String configurationKeyName) {
+        evictCacheAfterCommit();
         tenantConfigurationRepository.deleteByKey(configurationKeyName);
     }
 
     @Override
-// TODO - check if cache works
-//    @Cacheable(value = "tenantConfiguration", key = "#configurationKeyName")
     public <T extends Serializable> TenantConfigurationValue<T> getConfigurationValue(final String configurationKeyName) {
         checkAccess(configurationKeyName);
 
@@ -132,7 +122,6 @@ public class JpaTenantConfigurationManagement implements TenantConfigurationMana
     }
 
     @Override
-    @Cacheable(value = "tenantConfiguration", key = "#configurationKeyName")
     public <T extends Serializable> TenantConfigurationValue<T> getConfigurationValue(
             final String configurationKeyName, final Class<T> propertyType) {
         checkAccess(configurationKeyName);
@@ -141,9 +130,23 @@ public class JpaTenantConfigurationManagement implements TenantConfigurationMana
 
         validateTenantConfigurationDataType(configurationKey, propertyType);
 
-        final TenantConfiguration tenantConfiguration = tenantConfigurationRepository.findByKey(configurationKey.getKeyName());
+        final String tenant = tenantAware.getCurrentTenant();
+        if (tenant == null) {
+            return loadConfigurationValue(configurationKey, propertyType);
+        }
 
-        return buildTenantConfigurationValueByKey(configurationKey, propertyType, tenantConfiguration);
+        // cached converted to the data type of the key, the property type could be a subtype only
+        @SuppressWarnings("unchecked") final Class<T> dataType = (Class<T>) configurationKey.getDataType();
+        final TenantConfigurationValue<T> value = tenantConfigurationCache.get(
+                tenant, configurationKey.getKeyName(), () -> loadConfigurationValue(configurationKey, dataType));
+        if (value == null || value.getValue() == null || propertyType.isInstance(value.getValue())) {
+            return value;
+        }
+        return TenantConfigurationValue.<T> builder().global(value.isGlobal()).createdBy(value.getCreatedBy())
+                .createdAt(value.getCreatedAt())
+                .lastModifiedAt(value.getLastModifiedAt())
+                .lastModifiedBy(value.getLastModifiedBy())
+                .value(CONVERSION_SERVICE.convert(value.getValue(), propertyType)).build();
     }
 
     @Override
@@ -198,6 +201,20 @@ public class JpaTenantConfigurationManagement implements TenantConfigurationMana
         }
     }
 
+    private <T extends Serializable> TenantConfigurationValue<T> loadConfigurationValue(
+            final TenantConfigurationKey configurationKey, final Class<T> propertyType) {
+        final TenantConfiguration tenantConfiguration = tenantConfigurationRepository.findByKey(configurationKey.getKeyName());
+        return buildTenantConfigurationValueByKey(configurationKey, propertyType, tenantConfiguration);
+    }
+
+    // the (remote) tenant configuration events evict the caches as well - the local one is evicted independent of the event delivery
+    private void evictCacheAfterCommit() {
+        final String tenant = tenantAware.getCurrentTenant();
+        if (tenant != null) {
+            afterCommitExecutor.afterCommit(() -> tenantConfigurationCache.evictCaches(tenant));
+        }
+    }
+
     private void checkAccess(final String configurationKeyName) {
         if (TenantConfigurationProperties.TenantConfigurationKey.AUTHENTICATION_MODE_GATEWAY_SECURITY_TOKEN_KEY
                 .equalsIgnoreCase(configurationKeyName)) {
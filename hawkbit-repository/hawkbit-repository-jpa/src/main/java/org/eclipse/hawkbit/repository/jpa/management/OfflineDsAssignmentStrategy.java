@@ -12,6 +12,7 @@ package org.eclipse.hawkbit.repository.jpa.management;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
 import java.util.function.Function;
@@ -57,7 +58,7 @@ public class OfflineDsAssignmentStrategy extends AbstractDsAssignmentStrategy {
 
     @Override
     public JpaAction createTargetAction(final String initiatedBy, final TargetWithActionType targetWithActionType,
-            final List<JpaTarget> targets, final JpaDistributionSet set) {
+            final Map<String, JpaTarget> targets, final JpaDistributionSet set) {
         final JpaAction result = super.createTargetAction(initiatedBy, targetWithActionType, targets, set);
         if (result != null) {
             result.setStatus(Status.FINISHED);
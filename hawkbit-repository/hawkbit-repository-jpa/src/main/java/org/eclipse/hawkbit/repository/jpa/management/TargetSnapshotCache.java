@@ -0,0 +1,178 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Optional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.eclipse.hawkbit.cache.TenantGenerations;
+import org.eclipse.hawkbit.repository.event.remote.RemoteIdEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Tenant aware near cache of lightweight {@link TargetSnapshot}s which allows the security token authentication of the
+ * controllers to skip loading the target as long as it isn't changed. The registration of a target (see
+ * {@link org.eclipse.hawkbit.repository.ControllerManagement#findOrRegisterTargetIfItDoesNotExist}) still loads the target,
+ * since its callers need the full target, but refreshes the snapshot.
+ * <p/>
+ * The snapshots are invalidated by the (remote) {@link TargetUpdatedEvent}s and {@link TargetDeletedEvent}s, and expire after
+ * the configured time to live, which bounds the staleness if an event is missed. In order to not cache a snapshot of a target
+ * which has been changed meanwhile, snapshots are put with the invalidation generation of the tenant, see
+ * {@link TenantGenerations}.
+ * <p/>
+ * Hit and miss counts are exposed as {@code cache.gets} metrics of the {@code target.snapshot} cache if a {@link MeterRegistry}
+ * is available.
+ */
+public class TargetSnapshotCache implements ApplicationListener<RemoteIdEvent> {
+
+    private static final String CACHE_NAME = "target.snapshot";
+
+    // (tenant, targetId) -> snapshot
+    private final Cache<TargetKey, TargetSnapshot> snapshots;
+    // (tenant, controllerId) -> targetId
+    private final Cache<ControllerKey, Long> targetIds;
+    private final TenantGenerations generations = new TenantGenerations();
+
+    /**
+     * @param size the maximum number of cached snapshots, {@code 0} disables the cache
+     * @param ttl the maximum time a snapshot is cached
+     * @param meterRegistry to expose the cache metrics, if available
+     */
+    public TargetSnapshotCache(final long size, final Duration ttl, final Optional<MeterRegistry> meterRegistry) {
+        snapshots = Caffeine.newBuilder().maximumSize(size).expireAfterWrite(ttl).recordStats().build();
+        targetIds = Caffeine.newBuilder().maximumSize(size).expireAfterWrite(ttl).build();
+        meterRegistry.ifPresent(registry -> CaffeineCacheMetrics.monitor(registry, snapshots, CACHE_NAME));
+    }
+
+    /**
+     * Returns the current invalidation generation of the given tenant. Shall be taken before loading the target, and passed to
+     * {@link #put(String, Target, long)}.
+     *
+     * @param tenant the tenant
+     * @return the invalidation generation
+     */
+    public long generation(final String tenant) {
+        return generations.get(tenant);
+    }
+
+    /**
+     * @param tenant the tenant of the target
+     * @param controllerId the controller id of the target
+     * @return the cached snapshot, if available
+     */
+    public Optional<TargetSnapshot> getByControllerId(final String tenant, final String controllerId) {
+        final String normalizedTenant = TenantGenerations.normalize(tenant);
+        return Optional.ofNullable(targetIds.getIfPresent(new ControllerKey(normalizedTenant, controllerId)))
+                .flatMap(targetId -> get0(normalizedTenant, targetId))
+                .filter(snapshot -> snapshot.controllerId().equals(controllerId));
+    }
+
+    /**
+     * @param tenant the tenant of the target
+     * @param targetId the id of the target
+     * @return the cached snapshot, if available
+     */
+    public Optional<TargetSnapshot> get(final String tenant, final long targetId) {
+        return get0(TenantGenerations.normalize(tenant), targetId);
+    }
+
+    /**
+     * Caches a snapshot of the given target if the tenant has not been invalidated since the given generation has been taken.
+     * Has to be called with permission to read the security token of the target.
+     *
+     * @param tenant the tenant of the target
+     * @param target the (loaded) target
+     * @param generation the invalidation generation taken (see {@link #generation(String)}) before loading the target
+     * @return the snapshot of the target
+     */
+    public TargetSnapshot put(final String tenant, final Target target, final long generation) {
+        final TargetSnapshot snapshot = TargetSnapshot.of(target);
+        final String normalizedTenant = TenantGenerations.normalize(tenant);
+        if (!generations.isCurrent(normalizedTenant, generation)) {
+            return snapshot;
+        }
+
+        final TargetKey key = new TargetKey(normalizedTenant, target.getId());
+        targetIds.put(new ControllerKey(normalizedTenant, target.getControllerId()), target.getId());
+        snapshots.put(key, snapshot);
+        // invalidated while putting - the invalidation could have been missed
+        if (!generations.isCurrent(normalizedTenant, generation)) {
+            snapshots.invalidate(key);
+        }
+        return snapshot;
+    }
+
+    @Override
+    public void onApplicationEvent(final RemoteIdEvent event) {
+        if (event instanceof TargetUpdatedEvent || event instanceof TargetDeletedEvent) {
+            final String normalizedTenant = TenantGenerations.normalize(event.getTenant());
+            generations.invalidate(normalizedTenant);
+            snapshots.invalidate(new TargetKey(normalizedTenant, event.getEntityId()));
+        }
+    }
+
+    /**
+     * Invalidated by the event publishing thread, so that a changed or revoked security token doesn't authenticate the
+     * controller anymore as soon as the change is committed.
+     */
+    @Override
+    public boolean supportsAsyncExecution() {
+        return false;
+    }
+
+    private Optional<TargetSnapshot> get0(final String tenant, final long targetId) {
+        return Optional.ofNullable(snapshots.getIfPresent(new TargetKey(tenant, targetId)));
+    }
+
+    /**
+     * Lightweight snapshot of the target properties needed for the security token authentication of the controllers. Contains
+     * only basic (eagerly loaded) properties, so taking it never triggers a lazy load. The security token is kept as hash only.
+     */
+    public record TargetSnapshot(long id, String controllerId, byte[] securityTokenHash) {
+
+        static TargetSnapshot of(final Target target) {
+            return new TargetSnapshot(target.getId(), target.getControllerId(), hash(target.getSecurityToken()));
+        }
+
+        /**
+         * @param securityToken the presented security token
+         * @return {@code true} if the target has the given security token
+         */
+        public boolean hasSecurityToken(final String securityToken) {
+            return securityTokenHash != null && securityToken != null
+                    && MessageDigest.isEqual(securityTokenHash, hash(securityToken));
+        }
+
+        private static byte[] hash(final String securityToken) {
+            if (securityToken == null) {
+                return null;
+            }
+            try {
+                return MessageDigest.getInstance("SHA-256").digest(securityToken.getBytes(StandardCharsets.UTF_8));
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not supported", e);
+            }
+        }
+    }
+
+    private record TargetKey(String tenant, long targetId) {}
+
+    private record ControllerKey(String tenant, String controllerId) {}
+}
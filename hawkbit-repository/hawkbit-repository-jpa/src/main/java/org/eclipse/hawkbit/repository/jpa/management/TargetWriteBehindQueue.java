@@ -0,0 +1,271 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiConsumer;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Coalescing write-behind queue of the target updates caused by the controllers (polls, address and status changes).
+ * <p/>
+ * The updates are keyed by tenant and controller id, i.e. multiple updates of the same target between two flushes are
+ * merged into one. The queue is flushed periodically, or as soon as it is full, by passing the updates of a tenant to the
+ * flush handler at once.
+ * <p/>
+ * The callers {@link #reserve(long) reserve} room before they start their transactions, so that they don't hold DB connections
+ * while waiting for the flush of the full queue. An update offered by a thread with reservation is always queued (unless
+ * shut down).
+ */
+@Slf4j
+class TargetWriteBehindQueue {
+
+    // (tenant, controllerId) -> merged update
+    private final Map<TargetKey, TargetUpdate> pending = new ConcurrentHashMap<>();
+    private final Semaphore capacity;
+    private final BiConsumer<String, List<TargetUpdate>> flushHandler;
+    private final ScheduledExecutorService executorService;
+    private final ScheduledFuture<?> scheduledFlush;
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final Lock flushLock = new ReentrantLock();
+    private final ThreadLocal<Boolean> reserved = new ThreadLocal<>();
+    private volatile boolean shutdown;
+
+    /**
+     * @param capacity the maximum number of (distinct) targets with pending updates
+     * @param flushTime the time between two scheduled flushes in {@link TimeUnit#MILLISECONDS}
+     * @param flushHandler persists the updates of a tenant
+     * @param executorService executes the flushes
+     */
+    TargetWriteBehindQueue(final int capacity, final long flushTime,
+            final BiConsumer<String, List<TargetUpdate>> flushHandler, final ScheduledExecutorService executorService) {
+        this.capacity = new Semaphore(capacity);
+        this.flushHandler = flushHandler;
+        this.executorService = executorService;
+        scheduledFlush = executorService.scheduleWithFixedDelay(this::flush, flushTime, flushTime, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Reserves room for one update offered by the calling thread, waiting for a flush if the queue is full. The reservation
+     * is consumed by the next {@link #offer(TargetUpdate)} of a new target, and has to be released by {@link #release()}
+     * in any case.
+     *
+     * @param timeout the maximum time to wait in {@link TimeUnit#MILLISECONDS}
+     * @return {@code true} if reserved, {@code false} if the queue is still full after the timeout or shut down
+     */
+    boolean reserve(final long timeout) {
+        if (shutdown) {
+            return false;
+        }
+
+        if (!capacity.tryAcquire()) {
+            requestFlush();
+            try {
+                if (!capacity.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                    return false;
+                }
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        reserved.set(Boolean.TRUE);
+        return true;
+    }
+
+    /**
+     * Releases the reservation of the calling thread, if not consumed.
+     */
+    void release() {
+        if (reserved.get() != null) {
+            reserved.remove();
+            capacity.release();
+        }
+    }
+
+    /**
+     * Queues the update, merged with an already pending update of the same target.
+     *
+     * @param update the update
+     * @return {@code true} if the update has been queued, {@code false} if the queue is full (and the calling thread has no
+     *         reservation) or shut down
+     */
+    boolean offer(final TargetUpdate update) {
+        if (shutdown) {
+            return false;
+        }
+
+        final TargetKey key = new TargetKey(update.tenant(), update.controllerId());
+        if (pending.computeIfPresent(key, (k, queued) -> queued.merge(update)) != null) {
+            return true;
+        }
+
+        if (!consumeReservation() && !acquire()) {
+            return false;
+        }
+        final AtomicBoolean merged = new AtomicBoolean();
+        pending.merge(key, update, (queued, added) -> {
+            merged.set(true);
+            return queued.merge(added);
+        });
+        if (merged.get()) {
+            // queued concurrently - doesn't take additional room
+            capacity.release();
+        } else if (capacity.availablePermits() == 0) {
+            requestFlush();
+        }
+        return true;
+    }
+
+    /**
+     * Removes the pending update of the target, e.g. because the target is about to be stored directly and the (older) update
+     * mustn't overwrite it on the next flush.
+     *
+     * @param tenant the tenant of the target (upper case)
+     * @param controllerId the controller id of the target
+     * @return the removed update, {@code null} if there was none pending
+     */
+    TargetUpdate remove(final String tenant, final String controllerId) {
+        final TargetUpdate removed = pending.remove(new TargetKey(tenant, controllerId));
+        if (removed != null) {
+            capacity.release();
+        }
+        return removed;
+    }
+
+    /**
+     * @return the number of targets with pending updates
+     */
+    int size() {
+        return pending.size();
+    }
+
+    /**
+     * Persists all pending updates.
+     */
+    void flush() {
+        flushLock.lock();
+        try {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            final Map<String, List<TargetUpdate>> updatesByTenant = new HashMap<>();
+            for (final TargetKey key : pending.keySet()) {
+                final TargetUpdate update = pending.remove(key);
+                if (update != null) {
+                    updatesByTenant.computeIfAbsent(key.tenant(), tenant -> new ArrayList<>()).add(update);
+                }
+            }
+
+            log.debug("Flush target updates of {} tenants.", updatesByTenant.size());
+            updatesByTenant.forEach((tenant, updates) -> {
+                try {
+                    flushHandler.accept(tenant, updates);
+                    log.debug("{} target updates of tenant {} persisted.", updates.size(), tenant);
+                } catch (final RuntimeException e) {
+                    log.error("Failed to persist {} target updates of tenant {}.", updates.size(), tenant, e);
+                } finally {
+                    // release the room when the updates are persisted, so that the queue doesn't take more than the DB can persist
+                    capacity.release(updates.size());
+                }
+            });
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * Stops the scheduled flushes and persists the pending updates. Updates offered afterward are rejected.
+     */
+    void shutdown() {
+        shutdown = true;
+        scheduledFlush.cancel(false);
+        flush();
+    }
+
+    private boolean consumeReservation() {
+        if (reserved.get() == null) {
+            return false;
+        }
+
+        reserved.remove();
+        return true;
+    }
+
+    private boolean acquire() {
+        if (capacity.tryAcquire()) {
+            return true;
+        }
+
+        requestFlush();
+        return false;
+    }
+
+    private void requestFlush() {
+        if (flushRequested.compareAndSet(false, true)) {
+            try {
+                executorService.execute(() -> {
+                    flushRequested.set(false);
+                    flush();
+                });
+            } catch (final RejectedExecutionException e) {
+                flushRequested.set(false);
+                log.warn("Failed to request flush of the target updates.", e);
+            }
+        }
+    }
+
+    /**
+     * Pending update of a target.
+     *
+     * @param tenant the tenant of the target (upper case)
+     * @param controllerId the controller id of the target
+     * @param lastTargetQuery the time of the (last) poll
+     * @param address the address reported by the controller, {@code null} if not known (e.g. poll only)
+     * @param addressChanged {@code true} if the reported address differs from the persisted one
+     * @param registered {@code true} if the target status shall be changed from unknown to registered
+     */
+    record TargetUpdate(
+            String tenant, String controllerId, long lastTargetQuery, String address, boolean addressChanged, boolean registered) {
+
+        static TargetUpdate poll(final String tenant, final String controllerId) {
+            return new TargetUpdate(tenant, controllerId, System.currentTimeMillis(), null, false, false);
+        }
+
+        boolean isPollOnly() {
+            return !addressChanged && !registered;
+        }
+
+        // the latest reported address wins, the registration is kept until persisted
+        private TargetUpdate merge(final TargetUpdate other) {
+            final boolean otherKnowsAddress = other.address != null;
+            return new TargetUpdate(
+                    tenant, controllerId, Math.max(lastTargetQuery, other.lastTargetQuery),
+                    otherKnowsAddress ? other.address : address, otherKnowsAddress ? other.addressChanged : addressChanged,
+                    registered || other.registered);
+        }
+    }
+
+    private record TargetKey(String tenant, String controllerId) {}
+}
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.eclipse.hawkbit.cache.TenantGenerations;
+import org.eclipse.hawkbit.repository.event.remote.RemoteIdEvent;
+import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
+import org.springframework.context.ApplicationListener;
+
+/**
+ * Tenant aware near cache of the (typed) {@link TenantConfigurationValue}s, so that the frequent configuration lookups (e.g. if
+ * batch or multi assignments are enabled) don't query the database and convert the value each time.
+ * <p/>
+ * The values of a tenant are invalidated by the (remote) tenant configuration created, updated and deleted events, and expire
+ * after the configured time to live, which bounds the staleness if an event is missed. In order to not cache a value which has
+ * been changed meanwhile, values are put with the invalidation generation of the tenant, see {@link TenantGenerations}.
+ * <p/>
+ * Hit and miss counts are exposed as {@code cache.gets} metrics and the hit ratio as {@code cache.hit.ratio} metric of the
+ * {@code tenant.configuration} cache if a {@link MeterRegistry} is available.
+ */
+public class TenantConfigurationCache implements ApplicationListener<RemoteIdEvent> {
+
+    private static final String CACHE_NAME = "tenant.configuration";
+
+    // (tenant, key name) -> value
+    private final Cache<ConfigurationKey, CachedValue> values;
+    private final TenantGenerations generations = new TenantGenerations();
+
+    /**
+     * @param size the maximum number of cached values, {@code 0} disables the cache
+     * @param ttl the maximum time a value is cached
+     * @param meterRegistry to expose the cache metrics, if available
+     */
+    public TenantConfigurationCache(final long size, final Duration ttl, final Optional<MeterRegistry> meterRegistry) {
+        values = Caffeine.newBuilder().maximumSize(size).expireAfterWrite(ttl).recordStats().build();
+        meterRegistry.ifPresent(registry -> {
+            CaffeineCacheMetrics.monitor(registry, values, CACHE_NAME);
+            Gauge.builder("cache.hit.ratio", values, cache -> cache.stats().hitRate())
+                    .tag("cache", CACHE_NAME)
+                    .description("The ratio of cache requests which were hits")
+                    .register(registry);
+        });
+    }
+
+    /**
+     * Returns the cached value of the given configuration key or loads and caches it.
+     *
+     * @param tenant the tenant
+     * @param keyName the name of the configuration key
+     * @param loader loads the (typed) value, could return {@code null} if there is no value
+     * @return the value, {@code null} if there is no value
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Serializable> TenantConfigurationValue<T> get(
+            final String tenant, final String keyName, final Supplier<TenantConfigurationValue<T>> loader) {
+        final ConfigurationKey key = new ConfigurationKey(TenantGenerations.normalize(tenant), keyName);
+        final CachedValue cached = values.getIfPresent(key);
+        if (cached != null) {
+            return (TenantConfigurationValue<T>) cached.value();
+        }
+
+        final long generation = generations.get(key.tenant());
+        final TenantConfigurationValue<T> value = loader.get();
+        if (generations.isCurrent(key.tenant(), generation)) {
+            values.put(key, new CachedValue(value));
+            // invalidated while putting - the invalidation could have been missed
+            if (!generations.isCurrent(key.tenant(), generation)) {
+                values.invalidate(key);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public void onApplicationEvent(final RemoteIdEvent event) {
+        if (event instanceof TenantConfigurationCreatedEvent || event instanceof TenantConfigurationUpdatedEvent
+                || event instanceof TenantConfigurationDeletedEvent) {
+            // the events don't provide the key name without loading the entity - there are just a few values per tenant, evict all
+            evictCaches(event.getTenant());
+        }
+    }
+
+    /**
+     * Evicted by the event publishing thread, so that the configuration read right after the commit of a change (e.g. by the
+     * next assignment) gets the new value instead of the cached one.
+     */
+    @Override
+    public boolean supportsAsyncExecution() {
+        return false;
+    }
+
+    /**
+     * Evicts all cached values of the given tenant.
+     *
+     * @param tenant the tenant to evict caches
+     */
+    public void evictCaches(final String tenant) {
+        final String normalizedTenant = TenantGenerations.normalize(tenant);
+        generations.invalidate(normalizedTenant);
+        values.asMap().keySet().removeIf(key -> key.tenant().equals(normalizedTenant));
+    }
+
+    private record ConfigurationKey(String tenant, String keyName) {}
+
+    // wraps the value since caffeine doesn't cache null values
+    private record CachedValue(TenantConfigurationValue<?> value) {}
+}
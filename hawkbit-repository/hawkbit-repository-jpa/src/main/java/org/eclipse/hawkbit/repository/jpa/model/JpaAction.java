@@ -38,6 +38,7 @@ import jakarta.persistence.NamedEntityGraphs;
 import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
@@ -48,6 +49,7 @@ import org.eclipse.hawkbit.repository.MaintenanceScheduleHelper;
 import org.eclipse.hawkbit.repository.event.EventPublisherHolder;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounters;
 import org.eclipse.hawkbit.repository.jpa.utils.MapAttributeConverter;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
@@ -124,7 +126,6 @@ public class JpaAction extends AbstractJpaTenantAwareBaseEntity implements Actio
     @Max(Action.WEIGHT_MAX)
     private Integer weight;
 
-    @Setter
     @Getter
     @Column(name = "status", nullable = false)
     @Convert(converter = StatusConverter.class)
@@ -181,6 +182,12 @@ public class JpaAction extends AbstractJpaTenantAwareBaseEntity implements Actio
     @Column(name = "last_action_status_code", nullable = true, updatable = true)
     private Integer lastActionStatusCode;
 
+    // the status as (last) loaded from or written to the database - in order to track the status transitions of the action
+    @Setter
+    @Getter
+    @Transient
+    private transient Status persistedStatus;
+
     public void setDistributionSet(final DistributionSet distributionSet) {
         this.distributionSet = (JpaDistributionSet) distributionSet;
     }
@@ -194,6 +201,13 @@ public class JpaAction extends AbstractJpaTenantAwareBaseEntity implements Actio
         return Optional.ofNullable(weight);
     }
 
+    public void setStatus(final Status status) {
+        if (rolloutGroup != null && persistedStatus != null && persistedStatus != status) {
+            RolloutGroupStatusCounters.onStatusChange();
+        }
+        this.status = status;
+    }
+
     public void setRolloutGroup(final RolloutGroup rolloutGroup) {
         this.rolloutGroup = (JpaRolloutGroup) rolloutGroup;
     }
@@ -106,6 +106,18 @@ public interface ACMRepository<T> {
     Slice<T> findAllWithoutCount(
             @Nullable final AccessController.Operation operation, @Nullable Specification<T> spec, Pageable pageable);
 
+    /**
+     * Returns the specification restricted to the entries the operation is allowed for, e.g. to be used in a custom (set based)
+     * statement.
+     *
+     * @param operation access operation. If operation is <code>null</code> no access is checked! Should be used
+     *         only for tenant context.
+     * @param spec specification
+     * @return the specification combined with the access rules, <code>null</code> if there are neither
+     */
+    @Nullable
+    Specification<T> withAccessRules(@Nullable AccessController.Operation operation, @Nullable Specification<T> spec);
+
     @NonNull
     Class<T> getDomainClass();
 }
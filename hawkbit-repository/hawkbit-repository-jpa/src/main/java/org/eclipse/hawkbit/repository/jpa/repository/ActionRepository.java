@@ -75,6 +75,32 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction> {
             @Param("statusToSet") Action.Status statusToSet, @Param("targetsIds") List<Long> targetIds,
             @Param("active") boolean active, @Param("currentStatus") Action.Status currentStatus);
 
+    /**
+     * Counts the actions per rollout group which would be switched by {@link #switchStatus(Action.Status, List, boolean, Action.Status)}.
+     * <p/>
+     * No access control applied
+     *
+     * @param targetIds the IDs of the targets of the actions which are affected
+     * @param active the active flag of the actions which should be affected
+     * @param currentStatus the current status of the actions which are affected
+     * @return list of arrays - the rollout group id and the count of its actions
+     */
+    @Query("SELECT a.rolloutGroup.id, COUNT(a) FROM JpaAction a WHERE a.target.id IN :targetsIds AND a.active = :active AND a.status = :currentStatus AND a.distributionSet.requiredMigrationStep = false AND a.rolloutGroup IS NOT NULL GROUP BY a.rolloutGroup.id")
+    List<Object[]> countRolloutGroupActionsToSwitchStatus(
+            @Param("targetsIds") List<Long> targetIds, @Param("active") boolean active, @Param("currentStatus") Action.Status currentStatus);
+
+    /**
+     * Retrieves the IDs of those of the given targets which have an active action in the given status.
+     * <p/>
+     * No access control applied
+     *
+     * @param targetIds the IDs of the targets to check
+     * @param status the status of the actions
+     * @return the IDs of the targets having active actions in the given status
+     */
+    @Query("SELECT DISTINCT a.target.id FROM JpaAction a WHERE a.target.id IN :targetIds AND a.active = true AND a.status = :status")
+    List<Long> findTargetIdsByActiveAndStatus(@Param("targetIds") Collection<Long> targetIds, @Param("status") Action.Status status);
+
     /**
      * Retrieves an {@link Action} that matches the queried externalRef.
      *
@@ -93,6 +119,17 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction> {
      */
     Long countByTargetControllerId(String controllerId);
 
+    /**
+     * Counts all {@link Action}s referring to the given targets.
+     * <p/>
+     * No access control applied
+     *
+     * @param controllerIds the targets to count the {@link Action}s
+     * @return pairs of controller id and number of actions, targets without actions are omitted
+     */
+    @Query("SELECT a.target.controllerId, COUNT(a) FROM JpaAction a WHERE a.target.controllerId IN :controllerIds GROUP BY a.target.controllerId")
+    List<Object[]> countByTargetControllerIdIn(@Param("controllerIds") Collection<String> controllerIds);
+
     /**
      * Counts all {@link Action}s referring to the given targetId.
      * <p/>
@@ -103,6 +140,17 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction> {
      */
     Long countByTargetId(Long targetId);
 
+    /**
+     * Counts all {@link Action}s referring to the given targets.
+     * <p/>
+     * No access control applied
+     *
+     * @param targetIds the targets to count the {@link Action}s
+     * @return pairs of target id and number of actions, targets without actions are omitted
+     */
+    @Query("SELECT a.target.id, COUNT(a) FROM JpaAction a WHERE a.target.id IN :targetIds GROUP BY a.target.id")
+    List<Object[]> countByTargetIdIn(@Param("targetIds") Collection<Long> targetIds);
+
     /**
      * Counts all {@link Action}s referring to the given DistributionSet.
      * <p/>
@@ -9,6 +9,9 @@
  */
 package org.eclipse.hawkbit.repository.jpa.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
@@ -35,6 +38,17 @@ public interface ActionStatusRepository extends BaseEntityRepository<JpaActionSt
      */
     long countByActionId(Long actionId);
 
+    /**
+     * Counts {@link ActionStatus} entries of given {@link Action}s in repository.
+     * <p/>
+     * No access control applied
+     *
+     * @param actionIds of the actions to count status entries for
+     * @return pairs of action id and number of status entries, actions without status entries are omitted
+     */
+    @Query("SELECT actionstatus.action.id, COUNT(actionstatus) FROM JpaActionStatus actionstatus WHERE actionstatus.action.id IN :actionIds GROUP BY actionstatus.action.id")
+    List<Object[]> countByActionIdIn(@Param("actionIds") Collection<Long> actionIds);
+
     /**
      * Retrieves all {@link ActionStatus} entries from repository of given
      * ActionId.
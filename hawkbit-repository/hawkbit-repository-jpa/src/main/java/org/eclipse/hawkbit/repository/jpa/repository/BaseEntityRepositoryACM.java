@@ -18,6 +18,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import jakarta.transaction.Transactional;
 
@@ -231,6 +232,17 @@ public class BaseEntityRepositoryACM<T extends AbstractJpaTenantAwareBaseEntity>
                 accessController.appendAccessRules(AccessController.Operation.READ, spec), pageable);
     }
 
+    @Override
+    public Stream<T> findAllAsStream(final Specification<T> spec, final Sort sort, final int fetchSize) {
+        return repository.findAllAsStream(
+                accessController.appendAccessRules(AccessController.Operation.READ, spec), sort, fetchSize);
+    }
+
+    @Override
+    public long countUpTo(final Specification<T> spec, final int limit) {
+        return repository.countUpTo(accessController.appendAccessRules(AccessController.Operation.READ, spec), limit);
+    }
+
     @Override
     @Transactional
     @NonNull
@@ -306,6 +318,12 @@ public class BaseEntityRepositoryACM<T extends AbstractJpaTenantAwareBaseEntity>
         }
     }
 
+    @Override
+    @Nullable
+    public Specification<T> withAccessRules(@Nullable final AccessController.Operation operation, @Nullable final Specification<T> spec) {
+        return operation == null ? spec : accessController.appendAccessRules(operation, spec);
+    }
+
     @Override
     @NonNull
     public Class<T> getDomainClass() {
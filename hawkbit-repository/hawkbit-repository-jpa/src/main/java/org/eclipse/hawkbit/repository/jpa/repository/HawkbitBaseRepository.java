@@ -12,15 +12,23 @@ package org.eclipse.hawkbit.repository.jpa.repository;
 import java.io.Serializable;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import jakarta.persistence.EntityGraph;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import jakarta.transaction.Transactional;
 
 import org.eclipse.hawkbit.repository.BaseRepositoryTypeProvider;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
 import org.eclipse.hawkbit.repository.jpa.acm.AccessController;
+import org.eclipse.hawkbit.repository.jpa.specifications.KeysetSpecification;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
@@ -67,10 +75,44 @@ public class HawkbitBaseRepository<T, ID extends Serializable> extends SimpleJpa
 
     @Override
     public Slice<T> findAllWithoutCount(@Nullable final Specification<T> spec, final Pageable pageable) {
-        final TypedQuery<T> query = getQuery(spec, pageable);
+        final TypedQuery<T> query = getQuery(
+                pageable instanceof KeysetPageRequest keysetPageRequest
+                        ? Specification.where(spec).and(KeysetSpecification.after(keysetPageRequest))
+                        : spec,
+                pageable);
         return pageable.isUnpaged() ? new PageImpl<>(query.getResultList()) : readPageWithoutCount(query, pageable);
     }
 
+    @Override
+    public Stream<T> findAllAsStream(@Nullable final Specification<T> spec, final Sort sort, final int fetchSize) {
+        return Jpa.stream(getQuery(spec, sort), fetchSize);
+    }
+
+    @Override
+    public long countUpTo(@Nullable final Specification<T> spec, final int limit) {
+        if (limit <= 0) {
+            return 0;
+        }
+
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Object> query = cb.createQuery();
+        final Root<T> root = query.from(getDomainClass());
+        if (spec != null) {
+            final Predicate predicate = spec.toPredicate(root, query, cb);
+            if (predicate != null) {
+                query.where(predicate);
+            }
+        }
+        // probes for an entity at the limit - the database skips the entities before without returning them
+        final boolean limitReached = !entityManager.createQuery(query.select(root.get(KeysetPageRequest.ID)))
+                .setFirstResult(limit - 1)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+        // otherwise, less than limit entities match - so the count is bounded by the limit as well
+        return limitReached ? limit : count(spec);
+    }
+
     @Override
     @Transactional
     @NonNull
@@ -110,6 +152,12 @@ public class HawkbitBaseRepository<T, ID extends Serializable> extends SimpleJpa
         return count(spec);
     }
 
+    @Override
+    @Nullable
+    public Specification<T> withAccessRules(@Nullable final AccessController.Operation operation, @Nullable final Specification<T> spec) {
+        return spec;
+    }
+
     @Override
     public Optional<T> findOne(final Specification<T> spec, final String entityGraph) {
         try {
@@ -9,9 +9,12 @@
  */
 package org.eclipse.hawkbit.repository.jpa.repository;
 
+import java.util.stream.Stream;
+
 import org.eclipse.hawkbit.repository.model.BaseEntity;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.lang.Nullable;
 
@@ -39,4 +42,26 @@ public interface NoCountSliceRepository<T> {
      * @return {@link BaseEntity}
      */
     Slice<T> findAllWithoutCount(@Nullable Specification<T> spec, Pageable pageable);
+
+    /**
+     * Streams all {@link BaseEntity}s based on spec without count and without loading them all at once. The rows are fetched from
+     * the database in chunks of the fetch size, as far as supported by the JDBC driver. The stream is bound to the transaction, so
+     * it has to be consumed and closed within it.
+     *
+     * @param spec to search for
+     * @param sort order of the entities
+     * @param fetchSize the JDBC fetch size (hint)
+     * @return {@link BaseEntity}s stream
+     */
+    Stream<T> findAllAsStream(@Nullable Specification<T> spec, Sort sort, int fetchSize);
+
+    /**
+     * Counts the {@link BaseEntity}s based on spec, but at most up to the limit. In contrast to a full count, the database can stop
+     * as soon as the limit is reached.
+     *
+     * @param spec to search for
+     * @param limit the maximum to count
+     * @return the number of matching {@link BaseEntity}s, the limit if there are at least as many
+     */
+    long countUpTo(@Nullable Specification<T> spec, int limit);
 }
@@ -17,10 +17,13 @@ import java.util.concurrent.ThreadPoolExecutor;
 public class BlockWhenFullPolicy implements RejectedExecutionHandler {
     @Override
     public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+        if (executor.isShutdown()) {
+            // would never be executed
+            throw new RejectedExecutionException("Executor has been shut down");
+        }
         try {
-            // Because queueCapacity=0 => SynchronousQueue
-            // This put(...) call blocks if both threads are busy,
-            // until a thread is free
+            // rejected since all threads are busy and the work queue (synchronous or bounded) is full -
+            // this put(...) call blocks until the queue has room, i.e. a thread takes a task
             executor.getQueue().put(r);
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
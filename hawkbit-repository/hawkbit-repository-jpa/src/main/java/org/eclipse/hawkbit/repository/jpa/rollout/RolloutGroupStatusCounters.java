@@ -0,0 +1,423 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
+import org.eclipse.hawkbit.repository.jpa.EntityInterceptor;
+import org.eclipse.hawkbit.repository.jpa.Jpa;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
+import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
+import org.eclipse.hawkbit.repository.jpa.model.helper.EntityInterceptorHolder;
+import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Persistent counters of the actions per {@link RolloutGroup} and {@link Action.Status}, so that the rollout group conditions and
+ * the detailed rollout (group) status are read without counting the actions.
+ * <p/>
+ * The counters are maintained in the transaction which changes the actions - the status transitions of the rollout group actions
+ * are tracked as {@link EntityInterceptor} and applied as aggregated delta updates just before the transaction commits. The
+ * counters of a new rollout group are created (for all statuses) within the transaction which creates the group. Status transitions
+ * which are tracked too late for that (e.g. of an action which has been changed outside a transaction and is merged with the
+ * commit) are applied in an own transaction right after the commit.
+ * <p/>
+ * Every counter is split into {@value #SLOTS} slots (rows), summed up when read. A transaction applies its deltas to one randomly
+ * chosen slot, so that the concurrent status updates of the actions of a group don't serialize on the same rows.
+ * <p/>
+ * Changes which bypass the entity life cycle (e.g. bulk updates or deletes) have to add their deltas explicitly, see
+ * {@link #add(long, Action.Status, long)}. Any remaining drift is corrected by reconciling the counters with the actual action counts,
+ * see {@link #reconcile(List)}.
+ */
+@Slf4j
+public class RolloutGroupStatusCounters implements EntityInterceptor {
+
+    private static final int SLOTS = 4;
+    private static final JpaAction.StatusConverter STATUS_CONVERTER = new JpaAction.StatusConverter();
+    // all statuses as stored
+    private static final List<Integer> STATUSES = Arrays.stream(Action.Status.values())
+            .map(STATUS_CONVERTER::convertToDatabaseColumn)
+            .sorted()
+            .toList();
+
+    private final EntityManager entityManager;
+    private final ActionRepository actionRepository;
+    private final PlatformTransactionManager txManager;
+
+    public RolloutGroupStatusCounters(
+            final EntityManager entityManager, final ActionRepository actionRepository, final PlatformTransactionManager txManager) {
+        this.entityManager = entityManager;
+        this.actionRepository = actionRepository;
+        this.txManager = txManager;
+    }
+
+    /**
+     * Registers the counter changes of the current transaction in advance, on the status change of a loaded rollout group action. The
+     * status transition is tracked when the action is flushed - if that is the flush of the commit, the changes would be registered
+     * too late to be applied within the transaction.
+     */
+    public static void onStatusChange() {
+        for (final EntityInterceptor entityInterceptor : EntityInterceptorHolder.getInstance().getEntityInterceptors()) {
+            if (entityInterceptor instanceof RolloutGroupStatusCounters rolloutGroupStatusCounters) {
+                rolloutGroupStatusCounters.changes(true);
+            }
+        }
+    }
+
+    @Override
+    public void postLoad(final Object entity) {
+        if (entity instanceof JpaAction action) {
+            action.setPersistedStatus(action.getStatus());
+        }
+    }
+
+    @Override
+    public void prePersist(final Object entity) {
+        if (entity instanceof JpaAction || entity instanceof JpaRolloutGroup) {
+            changes(true);
+        }
+    }
+
+    @Override
+    public void postPersist(final Object entity) {
+        if (entity instanceof JpaAction action) {
+            onStatusTransition(action);
+        } else if (entity instanceof JpaRolloutGroup rolloutGroup) {
+            changes(true).ifPresent(changes -> changes.createdRolloutGroups.add(rolloutGroup.getId()));
+        }
+    }
+
+    @Override
+    public void postUpdate(final Object entity) {
+        if (entity instanceof JpaAction action) {
+            onStatusTransition(action);
+        }
+    }
+
+    @Override
+    public void postRemove(final Object entity) {
+        if (entity instanceof JpaAction action) {
+            if (action.getRolloutGroup() != null && action.getPersistedStatus() != null) {
+                add(action.getRolloutGroup().getId(), action.getPersistedStatus(), -1);
+            }
+        } else if (entity instanceof JpaRolloutGroup rolloutGroup) {
+            // the counters are deleted together with the rollout group
+            changes(false).ifPresent(changes -> changes.createdRolloutGroups.remove(rolloutGroup.getId()));
+        }
+    }
+
+    /**
+     * Adds the given delta to the counter of a rollout group and status, when the current transaction commits. Has to be used for the
+     * changes of the rollout group actions which bypass the entity life cycle, e.g. bulk updates.
+     *
+     * @param rolloutGroupId the id of the rollout group
+     * @param status the action status
+     * @param delta the delta to add
+     */
+    public void add(final long rolloutGroupId, final Action.Status status, final long delta) {
+        changes(true).ifPresent(changes -> changes.add(rolloutGroupId, STATUS_CONVERTER.convertToDatabaseColumn(status), delta));
+    }
+
+    /**
+     * Returns the counts of the actions of a rollout group per status, including the (flushed) changes of the current transaction.
+     *
+     * @param rolloutGroupId the id of the rollout group
+     * @return the action counts per status
+     */
+    public Map<Action.Status, Long> getStatusCounts(final long rolloutGroupId) {
+        final Map<Action.Status, Long> statusCounts = new EnumMap<>(Action.Status.class);
+        final Map<Integer, Long> counters = getCounters(List.of(rolloutGroupId)).get(rolloutGroupId);
+        if (counters == null) {
+            // e.g. created in the current transaction
+            actionRepository.getStatusCountByRolloutGroupId(rolloutGroupId)
+                    .forEach(statusCount -> statusCounts.put(statusCount.getStatus(), statusCount.getCount()));
+        } else {
+            counters.forEach((status, count) -> statusCounts.put(STATUS_CONVERTER.convertToEntityAttribute(status), count));
+            changes(false).map(changes -> changes.deltas.get(rolloutGroupId)).ifPresent(deltas -> deltas.forEach(
+                    (status, delta) -> statusCounts.merge(STATUS_CONVERTER.convertToEntityAttribute(status), delta, Long::sum)));
+        }
+        return statusCounts;
+    }
+
+    /**
+     * Returns the non-zero counts of the actions of the given rollout groups per status. The actions of the rollout groups without
+     * counters (not expected, since the counters are created together with the groups) are counted.
+     *
+     * @param rolloutGroupIds the ids of the rollout groups
+     * @return the action counts, with the rollout group id as id
+     */
+    public List<TotalTargetCountActionStatus> getStatusCountByRolloutGroupIds(final List<Long> rolloutGroupIds) {
+        final List<TotalTargetCountActionStatus> statusCounts = new ArrayList<>();
+        final Map<Long, Map<Integer, Long>> counters = getCounters(rolloutGroupIds);
+        counters.forEach((rolloutGroupId, groupCounters) -> groupCounters.forEach((status, count) -> {
+            if (count != 0) {
+                statusCounts.add(new TotalTargetCountActionStatus(rolloutGroupId, STATUS_CONVERTER.convertToEntityAttribute(status), count));
+            }
+        }));
+        final List<Long> withoutCounters = rolloutGroupIds.stream().filter(id -> !counters.containsKey(id)).distinct().toList();
+        if (!withoutCounters.isEmpty()) {
+            log.debug("Rollout groups {} have no action status counters, count their actions", withoutCounters);
+            statusCounts.addAll(actionRepository.getStatusCountByRolloutGroupIds(withoutCounters));
+        }
+        return statusCounts;
+    }
+
+    /**
+     * Returns the non-zero counts of the actions of the given rollouts per status, summed up from the counters of their groups.
+     *
+     * @param rolloutIds the ids of the rollouts
+     * @return the action counts, with the rollout id as id
+     */
+    public List<TotalTargetCountActionStatus> getStatusCountByRolloutIds(final List<Long> rolloutIds) {
+        final List<TotalTargetCountActionStatus> statusCounts = new ArrayList<>();
+        ListUtils.partition(rolloutIds, Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk -> {
+            final Query query = entityManager.createNativeQuery(
+                    "SELECT g.rollout, c.status, SUM(c.action_count) FROM sp_rollout_group_status_count c " +
+                            "INNER JOIN sp_rollout_group g ON g.id = c.rollout_group " +
+                            "WHERE g.rollout IN (" + Jpa.formatNativeQueryInClause("rollout", chunk) + ") " +
+                            "GROUP BY g.rollout, c.status HAVING SUM(c.action_count) <> 0");
+            Jpa.setNativeQueryInParameter(query, "rollout", chunk);
+            for (final Object[] row : resultList(query)) {
+                statusCounts.add(new TotalTargetCountActionStatus(
+                        ((Number) row[0]).longValue(),
+                        STATUS_CONVERTER.convertToEntityAttribute(((Number) row[1]).intValue()),
+                        ((Number) row[2]).longValue()));
+            }
+        });
+        return statusCounts;
+    }
+
+    /**
+     * Corrects the counters of the given rollout groups with the actual action counts (and creates missing counters). Runs in an own
+     * transaction, so that the counters are locked only while they are corrected - this way concurrent changes are neither lost nor
+     * counted twice. The (not yet committed) changes of the calling transaction are not counted, but applied to the corrected counters
+     * when it commits. The rollout groups created by the calling transaction are skipped.
+     *
+     * @param rolloutGroupIds the ids of the rollout groups
+     * @return the number of corrected counters
+     */
+    public int reconcile(final List<Long> rolloutGroupIds) {
+        final Set<Long> createdRolloutGroups = changes(false).map(changes -> changes.createdRolloutGroups).orElse(Set.of());
+        final List<Long> sortedRolloutGroupIds = rolloutGroupIds.stream()
+                .filter(rolloutGroupId -> !createdRolloutGroups.contains(rolloutGroupId))
+                .sorted()
+                .distinct()
+                .toList();
+        if (sortedRolloutGroupIds.isEmpty()) {
+            return 0;
+        }
+        return DeploymentHelper.runInNewTransaction(
+                txManager, "reconcileRolloutGroupStatusCounters", status -> reconcile0(sortedRolloutGroupIds));
+    }
+
+    private int reconcile0(final List<Long> sortedRolloutGroupIds) {
+        // lock the counters first - in the same order as the deltas are applied, in order to avoid deadlocks
+        final Map<Long, List<Counter>> counters = lockCounters(sortedRolloutGroupIds);
+        final Map<Long, Map<Integer, Long>> actualCounts = new HashMap<>();
+        ListUtils.partition(sortedRolloutGroupIds, Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk -> actionRepository
+                .getStatusCountByRolloutGroupIds(chunk)
+                .forEach(statusCount -> actualCounts
+                        .computeIfAbsent(statusCount.getId(), id -> new HashMap<>())
+                        .put(STATUS_CONVERTER.convertToDatabaseColumn(statusCount.getStatus()), statusCount.getCount())));
+
+        int corrected = 0;
+        for (final Long rolloutGroupId : sortedRolloutGroupIds) {
+            final Map<Integer, Long> actual = actualCounts.getOrDefault(rolloutGroupId, Map.of());
+            final List<Counter> groupCounters = counters.get(rolloutGroupId);
+            if (groupCounters == null) {
+                insert(rolloutGroupId, actual);
+                corrected += STATUSES.size();
+                continue;
+            }
+            // the actual count is put into the first slot, the others are reset
+            for (final Counter counter : groupCounters) {
+                final long actualCount = counter.slot() == 0 ? actual.getOrDefault(counter.status(), 0L) : 0L;
+                if (actualCount != counter.count()) {
+                    log.debug("Correct action status {} counter (slot {}) of rollout group {} from {} to {}",
+                            counter.status(), counter.slot(), rolloutGroupId, counter.count(), actualCount);
+                    update(rolloutGroupId, counter.status(), counter.slot(), "action_count = " + Jpa.nativeQueryParamPrefix() + "count",
+                            actualCount);
+                    corrected++;
+                }
+            }
+        }
+        return corrected;
+    }
+
+    // rollout group id -> status (as stored) -> count (sum of the slots)
+    private Map<Long, Map<Integer, Long>> getCounters(final List<Long> rolloutGroupIds) {
+        final Map<Long, Map<Integer, Long>> counters = new TreeMap<>();
+        ListUtils.partition(rolloutGroupIds, Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk -> {
+            final Query query = entityManager.createNativeQuery(
+                    "SELECT rollout_group, status, SUM(action_count) FROM sp_rollout_group_status_count " +
+                            "WHERE rollout_group IN (" + Jpa.formatNativeQueryInClause("rollout_group", chunk) + ") " +
+                            "GROUP BY rollout_group, status");
+            Jpa.setNativeQueryInParameter(query, "rollout_group", chunk);
+            for (final Object[] row : resultList(query)) {
+                counters.computeIfAbsent(((Number) row[0]).longValue(), id -> new TreeMap<>())
+                        .put(((Number) row[1]).intValue(), ((Number) row[2]).longValue());
+            }
+        });
+        return counters;
+    }
+
+    // rollout group id -> counters (of all statuses and slots), locked until the transaction ends
+    private Map<Long, List<Counter>> lockCounters(final List<Long> sortedRolloutGroupIds) {
+        final Map<Long, List<Counter>> counters = new HashMap<>();
+        ListUtils.partition(sortedRolloutGroupIds, Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk -> {
+            final Query query = entityManager.createNativeQuery(
+                    "SELECT rollout_group, status, slot, action_count FROM sp_rollout_group_status_count " +
+                            "WHERE rollout_group IN (" + Jpa.formatNativeQueryInClause("rollout_group", chunk) + ") " +
+                            "ORDER BY rollout_group, status, slot FOR UPDATE");
+            Jpa.setNativeQueryInParameter(query, "rollout_group", chunk);
+            for (final Object[] row : resultList(query)) {
+                final long rolloutGroupId = ((Number) row[0]).longValue();
+                counters.computeIfAbsent(rolloutGroupId, id -> new ArrayList<>()).add(new Counter(
+                        ((Number) row[1]).intValue(), ((Number) row[2]).intValue(), ((Number) row[3]).longValue()));
+            }
+        });
+        return counters;
+    }
+
+    private void onStatusTransition(final JpaAction action) {
+        final Action.Status persistedStatus = action.getPersistedStatus();
+        final Action.Status status = action.getStatus();
+        action.setPersistedStatus(status);
+        if (action.getRolloutGroup() != null && persistedStatus != status) {
+            if (persistedStatus != null) {
+                add(action.getRolloutGroup().getId(), persistedStatus, -1);
+            }
+            add(action.getRolloutGroup().getId(), status, 1);
+        }
+    }
+
+    private Optional<Changes> changes(final boolean create) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return Optional.empty();
+        }
+        for (final TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof Changes changes) {
+                return Optional.of(changes);
+            }
+        }
+        if (!create) {
+            return Optional.empty();
+        }
+        final Changes changes = new Changes();
+        TransactionSynchronizationManager.registerSynchronization(changes);
+        return Optional.of(changes);
+    }
+
+    // the counts are put into the first slot
+    private void insert(final long rolloutGroupId, final Map<Integer, Long> counts) {
+        final Query query = entityManager.createNativeQuery(
+                "INSERT INTO sp_rollout_group_status_count (rollout_group, status, slot, action_count) VALUES " +
+                        STATUSES.stream()
+                                .flatMap(status -> IntStream.range(0, SLOTS).mapToObj(slot ->
+                                        "(" + Jpa.nativeQueryParamPrefix() + "rollout_group, " + status + ", " + slot + ", " +
+                                                (slot == 0 ? counts.getOrDefault(status, 0L) : 0L) + ")"))
+                                .collect(Collectors.joining(", ")));
+        query.setParameter("rollout_group", rolloutGroupId);
+        query.executeUpdate();
+    }
+
+    private void update(final long rolloutGroupId, final int status, final int slot, final String set, final long value) {
+        final Query query = entityManager.createNativeQuery(
+                "UPDATE sp_rollout_group_status_count SET " + set +
+                        " WHERE rollout_group = " + Jpa.nativeQueryParamPrefix() + "rollout_group" +
+                        " AND status = " + Jpa.nativeQueryParamPrefix() + "status" +
+                        " AND slot = " + Jpa.nativeQueryParamPrefix() + "slot");
+        query.setParameter("count", value);
+        query.setParameter("rollout_group", rolloutGroupId);
+        query.setParameter("status", status);
+        query.setParameter("slot", slot);
+        query.executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object[]> resultList(final Query query) {
+        return query.getResultList();
+    }
+
+    private record Counter(int status, int slot, long count) {}
+
+    // the counter changes of a transaction, applied before it commits
+    private final class Changes implements TransactionSynchronization {
+
+        // the slot the deltas of the transaction are applied to
+        private final int slot = ThreadLocalRandom.current().nextInt(SLOTS);
+        private final Set<Long> createdRolloutGroups = new LinkedHashSet<>();
+        // rollout group id -> status (as stored) -> delta, sorted in order to update the counters in the same order
+        private final Map<Long, Map<Integer, Long>> deltas = new TreeMap<>();
+
+        private void add(final long rolloutGroupId, final int status, final long delta) {
+            deltas.computeIfAbsent(rolloutGroupId, id -> new TreeMap<>()).merge(status, delta, Long::sum);
+        }
+
+        @Override
+        public void beforeCommit(final boolean readOnly) {
+            if (readOnly) {
+                return;
+            }
+
+            // flush, so that the status transitions of the pending changes are tracked as well
+            entityManager.flush();
+            apply();
+        }
+
+        @Override
+        public void afterCommit() {
+            if (!createdRolloutGroups.isEmpty() || !deltas.isEmpty()) {
+                // tracked by the flush of the commit
+                log.debug("Apply the action status counter changes of rollout groups {} after commit", deltas.keySet());
+                DeploymentHelper.runInNewTransaction(txManager, "applyRolloutGroupStatusCounterChanges", status -> {
+                    apply();
+                    return null;
+                });
+            }
+        }
+
+        private void apply() {
+            createdRolloutGroups.forEach(rolloutGroupId -> insert(rolloutGroupId, Map.of()));
+            deltas.forEach((rolloutGroupId, statusDeltas) -> statusDeltas.forEach((status, delta) -> {
+                if (delta != 0) {
+                    update(rolloutGroupId, status, slot,
+                            "action_count = action_count + " + Jpa.nativeQueryParamPrefix() + "count", delta);
+                }
+            }));
+            createdRolloutGroups.clear();
+            deltas.clear();
+        }
+    }
+}
@@ -9,15 +9,30 @@
  */
 package org.eclipse.hawkbit.repository.jpa.rollout;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.eclipse.hawkbit.cache.TenantGenerations;
 import org.eclipse.hawkbit.repository.RolloutHandler;
+import org.eclipse.hawkbit.repository.RolloutManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.RolloutDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.RolloutGroupDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.RolloutStoppedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractRolloutGroupEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.RolloutCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.RolloutUpdatedEvent;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.eclipse.hawkbit.tenancy.TenantMetricsConfiguration;
+import org.springframework.context.ApplicationListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -25,27 +40,95 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
  * Scheduler to schedule the {@link RolloutHandler#handleAll()}. The
  * delay between the checks be configured using the property from
  * {#PROP_SCHEDULER_DELAY_PLACEHOLDER}.
+ * <p/>
+ * In {@link Mode#FIXED} mode (default) the rollouts of all tenants are handled on every check. In {@link Mode#ADAPTIVE} mode only
+ * the tenants with active rollouts are tracked and handled:
+ * <ul>
+ *     <li>a tenant is tracked (and handled on the next check) on rollout, rollout group and rollout action events</li>
+ *     <li>a tracked tenant is handled with a backoff growing up to the maximum idle backoff as long as there are no such events -
+ *     i.e. action status updates of the devices wake it up immediately</li>
+ *     <li>a tenant is not tracked anymore if it has no active rollouts</li>
+ *     <li>as safety net for missed events (e.g. rollouts created before the start of the node), all tenants are tracked again
+ *     periodically</li>
+ * </ul>
  */
 @Slf4j
-public class RolloutScheduler {
+public class RolloutScheduler implements ApplicationListener<RemoteTenantAwareEvent> {
 
     private static final String PROP_SCHEDULER_DELAY_PLACEHOLDER = "${hawkbit.rollout.scheduler.fixedDelay:2000}";
 
+    /**
+     * The mode of the scheduling.
+     */
+    public enum Mode {
+        /**
+         * Handles the rollouts of all tenants on every check.
+         */
+        FIXED,
+        /**
+         * Handles the rollouts of the tenants with active rollouts only, driven by the rollout events.
+         */
+        ADAPTIVE
+    }
+
     private final SystemManagement systemManagement;
     private final RolloutHandler rolloutHandler;
     private final SystemSecurityContext systemSecurityContext;
     private final Optional<MeterRegistry> meterRegistry;
     private final ThreadPoolTaskExecutor rolloutTaskExecutor;
 
+    // adaptive mode only
+    private final Mode mode;
+    private final RolloutManagement rolloutManagement;
+    private final long minIdleBackoff;
+    private final long maxIdleBackoff;
+    private final long fullScanPeriod;
+    // normalized tenant -> schedule
+    private final Map<String, TenantSchedule> tenantSchedules = new ConcurrentHashMap<>();
+    private long nextFullScan;
+
     public RolloutScheduler(
             final RolloutHandler rolloutHandler, final SystemManagement systemManagement, final SystemSecurityContext systemSecurityContext,
             final int threadPoolSize, final Optional<MeterRegistry> meterRegistry) {
+        this(rolloutHandler, null, systemManagement, systemSecurityContext, threadPoolSize, Mode.FIXED, 0, 0, 0, meterRegistry);
+    }
+
+    /**
+     * Constructor
+     *
+     * @param rolloutHandler to handle the rollouts
+     * @param rolloutManagement to find the active rollouts of a tenant, required in {@link Mode#ADAPTIVE} mode only
+     * @param systemManagement to find all tenants
+     * @param systemSecurityContext to run as system
+     * @param threadPoolSize the number of threads handling the tenants in parallel
+     * @param mode the scheduling mode
+     * @param minIdleBackoff the initial backoff (in milliseconds) of a tenant without rollout events
+     * @param maxIdleBackoff the maximum backoff (in milliseconds) of a tenant without rollout events
+     * @param fullScanPeriod the period (in milliseconds) on which all tenants are tracked again
+     * @param meterRegistry to record the metrics, if available
+     */
+    @SuppressWarnings("java:S107")
+    public RolloutScheduler(
+            final RolloutHandler rolloutHandler, final RolloutManagement rolloutManagement, final SystemManagement systemManagement,
+            final SystemSecurityContext systemSecurityContext, final int threadPoolSize,
+            final Mode mode, final long minIdleBackoff, final long maxIdleBackoff, final long fullScanPeriod,
+            final Optional<MeterRegistry> meterRegistry) {
         this.systemManagement = systemManagement;
         this.rolloutHandler = rolloutHandler;
         this.systemSecurityContext = systemSecurityContext;
         this.meterRegistry = meterRegistry;
         rolloutTaskExecutor = threadPoolTaskExecutor(threadPoolSize);
 
+        this.mode = mode;
+        this.rolloutManagement = rolloutManagement;
+        this.minIdleBackoff = minIdleBackoff;
+        this.maxIdleBackoff = Math.max(maxIdleBackoff, minIdleBackoff);
+        this.fullScanPeriod = fullScanPeriod;
+        if (mode == Mode.ADAPTIVE) {
+            meterRegistry.ifPresent(mReg -> Gauge.builder("hawkbit.rollout.scheduler.tenants", tenantSchedules, Map::size)
+                    .description("The number of tenants tracked as having active rollouts")
+                    .register(mReg));
+        }
     }
 
     /**
@@ -66,13 +149,17 @@ public class RolloutScheduler {
             // https://bugs.eclipse.org/bugs/show_bug.cgi?id=355458. So
             // iterate through all tenants and execute the rollout check for
             // each tenant separately.
-            systemManagement.forEachTenant(tenant -> {
-                if (rolloutTaskExecutor == null) {
-                    handleAll(tenant);
-                } else {
-                    handleAllAsync(tenant);
-                }
-            });
+            if (mode == Mode.ADAPTIVE) {
+                handleTrackedTenants();
+            } else {
+                systemManagement.forEachTenant(tenant -> {
+                    if (rolloutTaskExecutor == null) {
+                        handleAll(tenant);
+                    } else {
+                        handleAllAsync(tenant);
+                    }
+                });
+            }
             return null;
         });
 
@@ -81,6 +168,85 @@ public class RolloutScheduler {
                 .ifPresent(timer -> timer.record(System.nanoTime() - startNano, TimeUnit.NANOSECONDS));
     }
 
+    @Override
+    public void onApplicationEvent(final RemoteTenantAwareEvent event) {
+        if (mode != Mode.ADAPTIVE || event.getTenant() == null) {
+            return;
+        }
+
+        if (event instanceof AbstractActionEvent actionEvent) {
+            // action status updates could change the conditions of the rollout group
+            if (actionEvent.getRolloutId() != null) {
+                wakeup(event.getTenant());
+            }
+        } else if (event instanceof RolloutCreatedEvent || event instanceof RolloutUpdatedEvent || event instanceof RolloutStoppedEvent
+                || event instanceof RolloutDeletedEvent || event instanceof AbstractRolloutGroupEvent
+                || event instanceof RolloutGroupDeletedEvent) {
+            wakeup(event.getTenant());
+        }
+    }
+
+    /**
+     * Woken up by the event publishing thread, so that the wakeup is recorded before the next scheduler tick.
+     */
+    @Override
+    public boolean supportsAsyncExecution() {
+        return false;
+    }
+
+    /**
+     * Tracks the given tenant (if not tracked already) and handles its rollouts on the next check.
+     *
+     * @param tenant the tenant
+     */
+    public void wakeup(final String tenant) {
+        tenantSchedules.compute(TenantGenerations.normalize(tenant), (key, schedule) -> {
+            final TenantSchedule wokenUp = schedule == null ? new TenantSchedule(tenant) : schedule;
+            wokenUp.wakeup();
+            return wokenUp;
+        });
+    }
+
+    // runs as system
+    private void handleTrackedTenants() {
+        final long now = System.currentTimeMillis();
+        if (now >= nextFullScan) {
+            nextFullScan = now + fullScanPeriod;
+            systemManagement.forEachTenant(this::wakeup);
+        }
+
+        final List<TenantSchedule> dueSchedules = tenantSchedules.values().stream().filter(schedule -> schedule.claimIfDue(now)).toList();
+        log.trace("Handling rollouts of {} out of {} tracked tenants", dueSchedules.size(), tenantSchedules.size());
+        for (final TenantSchedule schedule : dueSchedules) {
+            if (rolloutTaskExecutor == null) {
+                handleTracked(schedule);
+            } else {
+                rolloutTaskExecutor.submit(() -> handleTracked(schedule));
+            }
+        }
+    }
+
+    private void handleTracked(final TenantSchedule schedule) {
+        final String tenant = schedule.tenant;
+        final long wakeups = schedule.getWakeups();
+        boolean active = true;
+        try {
+            active = systemSecurityContext.runAsSystemAsTenant(() -> {
+                if (rolloutManagement.findActiveRollouts().isEmpty()) {
+                    return false;
+                }
+                handleAll(tenant);
+                return true;
+            }, tenant);
+        } catch (final Exception e) {
+            log.error("Error processing rollout for tenant {}", tenant, e);
+        } finally {
+            final boolean tracked = active;
+            tenantSchedules.computeIfPresent(
+                    TenantGenerations.normalize(tenant), (key, current) -> current.handled(wakeups, tracked) ? current : null);
+        }
+    }
+
     private void handleAll(final String tenant) {
         log.trace("Handling rollout for tenant: {}", tenant);
         final long startNano = System.nanoTime();
@@ -105,6 +271,52 @@ public class RolloutScheduler {
         }, tenant));
     }
 
+    // the handling schedule of a tracked tenant
+    private final class TenantSchedule {
+
+        private final String tenant;
+        private long wakeups;
+        private long backoff;
+        private long nextRun;
+        private boolean running;
+
+        private TenantSchedule(final String tenant) {
+            this.tenant = tenant;
+        }
+
+        private synchronized long getWakeups() {
+            return wakeups;
+        }
+
+        private synchronized void wakeup() {
+            wakeups++;
+            backoff = 0;
+            nextRun = 0;
+        }
+
+        private synchronized boolean claimIfDue(final long now) {
+            if (running || nextRun > now) {
+                return false;
+            }
+            running = true;
+            return true;
+        }
+
+        // returns if the tenant is still tracked
+        private synchronized boolean handled(final long wakeupsBefore, final boolean active) {
+            running = false;
+            if (wakeups != wakeupsBefore) {
+                // woken up while handled
+                return true;
+            } else if (!active) {
+                return false;
+            }
+            backoff = backoff == 0 ? minIdleBackoff : Math.min(backoff * 2, maxIdleBackoff);
+            nextRun = System.currentTimeMillis() + backoff;
+            return true;
+        }
+    }
+
     private ThreadPoolTaskExecutor threadPoolTaskExecutor(final int threadPoolSize) {
         if (threadPoolSize <= 1) {
             return null;
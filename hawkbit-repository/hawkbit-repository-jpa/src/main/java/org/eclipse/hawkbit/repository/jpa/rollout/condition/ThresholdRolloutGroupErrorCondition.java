@@ -10,7 +10,7 @@
 package org.eclipse.hawkbit.repository.jpa.rollout.condition;
 
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounters;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Rollout;
 import org.eclipse.hawkbit.repository.model.RolloutGroup;
@@ -22,10 +22,10 @@ import org.eclipse.hawkbit.repository.model.RolloutGroup;
 public class ThresholdRolloutGroupErrorCondition
         implements RolloutGroupConditionEvaluator<RolloutGroup.RolloutGroupErrorCondition> {
 
-    private final ActionRepository actionRepository;
+    private final RolloutGroupStatusCounters rolloutGroupStatusCounters;
 
-    public ThresholdRolloutGroupErrorCondition(final ActionRepository actionRepository) {
-        this.actionRepository = actionRepository;
+    public ThresholdRolloutGroupErrorCondition(final RolloutGroupStatusCounters rolloutGroupStatusCounters) {
+        this.rolloutGroupStatusCounters = rolloutGroupStatusCounters;
     }
 
     @Override
@@ -36,8 +36,7 @@ public class ThresholdRolloutGroupErrorCondition
     @Override
     public boolean eval(final Rollout rollout, final RolloutGroup rolloutGroup, final String expression) {
         final long totalGroup = rolloutGroup.getTotalTargets();
-        final Long error = actionRepository.countByRolloutIdAndRolloutGroupIdAndStatus(rollout.getId(),
-                rolloutGroup.getId(), Action.Status.ERROR);
+        final long error = rolloutGroupStatusCounters.getStatusCounts(rolloutGroup.getId()).getOrDefault(Action.Status.ERROR, 0L);
         try {
             final int threshold = Integer.parseInt(expression);
 
@@ -10,7 +10,7 @@
 package org.eclipse.hawkbit.repository.jpa.rollout.condition;
 
 import lombok.extern.slf4j.Slf4j;
-import org.eclipse.hawkbit.repository.jpa.repository.ActionRepository;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounters;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Rollout;
 import org.eclipse.hawkbit.repository.model.RolloutGroup;
@@ -23,10 +23,10 @@ import org.eclipse.hawkbit.repository.model.RolloutGroup;
 public class ThresholdRolloutGroupSuccessCondition
         implements RolloutGroupConditionEvaluator<RolloutGroup.RolloutGroupSuccessCondition> {
 
-    private final ActionRepository actionRepository;
+    private final RolloutGroupStatusCounters rolloutGroupStatusCounters;
 
-    public ThresholdRolloutGroupSuccessCondition(final ActionRepository actionRepository) {
-        this.actionRepository = actionRepository;
+    public ThresholdRolloutGroupSuccessCondition(final RolloutGroupStatusCounters rolloutGroupStatusCounters) {
+        this.rolloutGroupStatusCounters = rolloutGroupStatusCounters;
     }
 
     @Override
@@ -46,8 +46,7 @@ public class ThresholdRolloutGroupSuccessCondition
         final Action.Status completeActionStatus = (Action.ActionType.DOWNLOAD_ONLY == rollout.getActionType())
                 ? Action.Status.DOWNLOADED
                 : Action.Status.FINISHED;
-        final long finished = this.actionRepository.countByRolloutIdAndRolloutGroupIdAndStatus(rollout.getId(),
-                rolloutGroup.getId(), completeActionStatus);
+        final long finished = rolloutGroupStatusCounters.getStatusCounts(rolloutGroup.getId()).getOrDefault(completeActionStatus, 0L);
         try {
             final int threshold = Integer.parseInt(expression);
             // calculate threshold
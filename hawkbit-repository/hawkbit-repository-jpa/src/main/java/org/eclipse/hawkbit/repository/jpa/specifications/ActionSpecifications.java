@@ -9,6 +9,8 @@
  */
 package org.eclipse.hawkbit.repository.jpa.specifications;
 
+import java.util.Collection;
+
 import jakarta.persistence.criteria.Join;
 import jakarta.persistence.criteria.ListJoin;
 import jakarta.persistence.criteria.SetJoin;
@@ -34,6 +36,10 @@ import org.springframework.data.jpa.domain.Specification;
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ActionSpecifications {
 
+    public static Specification<JpaAction> byIdIn(final Collection<Long> ids) {
+        return (root, query, cb) -> root.get(AbstractJpaBaseEntity_.id).in(ids);
+    }
+
     public static Specification<JpaAction> byTargetIdAndIsActive(final Long targetId) {
         return (root, query, cb) -> cb.and(
                 cb.equal(root.get(JpaAction_.target).get(AbstractJpaBaseEntity_.id), targetId),
@@ -0,0 +1,122 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.specifications;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.SingularAttribute;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
+import org.eclipse.hawkbit.repository.exception.PagingCursorInvalidException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specifications class for the keyset (seek) pagination of any entity. The class provides Spring Data JPQL Specifications.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class KeysetSpecification {
+
+    /**
+     * {@link Specification} for retrieving the entities after the sort key of the {@link KeysetPageRequest}. For the sort orders
+     * <em>(a, b, id)</em> and the sort key <em>(x, y, z)</em> it is <em>a &gt; x or (a = x and b &gt; y) or (a = x and b = y and
+     * id &gt; z)</em> (with &lt; for descending orders) and additionally <em>a &gt;= x</em>, so the database could use an index on
+     * the sort properties to seek to the start of the page. For the first page (no sort key) the sort is only validated.
+     *
+     * @param pageRequest the keyset page request
+     * @return the entity {@link Specification}
+     * @throws PagingCursorInvalidException if the sort contains properties which are not non-null attributes of the entity or if
+     *         the sort key values couldn't be converted to the property types
+     */
+    public static <T> Specification<T> after(final KeysetPageRequest pageRequest) {
+        return (root, query, cb) -> {
+            final List<Sort.Order> orders = pageRequest.getSort().toList();
+            final List<Path<Comparable<Object>>> paths = orders.stream().map(order -> path(root, order.getProperty())).toList();
+            if (pageRequest.getAfter() == null) {
+                return null;
+            }
+
+            final List<Predicate> alternatives = new ArrayList<>();
+            final List<Predicate> equals = new ArrayList<>();
+            Predicate firstRange = null;
+            for (int i = 0; i < orders.size(); i++) {
+                final Sort.Order order = orders.get(i);
+                final Path<Comparable<Object>> path = paths.get(i);
+                final Comparable<Object> value = value(path.getJavaType(), order.getProperty(), pageRequest.getAfter().get(i));
+                if (i == 0) {
+                    // redundant range on the first sort property, so the database could range scan the index even for the 'or'
+                    firstRange = order.isAscending() ? cb.greaterThanOrEqualTo(path, value) : cb.lessThanOrEqualTo(path, value);
+                }
+                final List<Predicate> alternative = new ArrayList<>(equals);
+                alternative.add(order.isAscending() ? cb.greaterThan(path, value) : cb.lessThan(path, value));
+                alternatives.add(and(cb, alternative));
+                if (KeysetPageRequest.ID.equals(order.getProperty())) {
+                    break; // the id is unique - the next orders have no effect
+                }
+                equals.add(cb.equal(path, value));
+            }
+            return alternatives.size() == 1 ? alternatives.get(0) : cb.and(firstRange, cb.or(alternatives.toArray(Predicate[]::new)));
+        };
+    }
+
+    private static Predicate and(final CriteriaBuilder cb, final List<Predicate> predicates) {
+        return predicates.size() == 1 ? predicates.get(0) : cb.and(predicates.toArray(Predicate[]::new));
+    }
+
+    private static <T> Path<Comparable<Object>> path(final Root<T> root, final String property) {
+        final Attribute<? super T, ?> attribute;
+        try {
+            attribute = root.getModel().getAttribute(property);
+        } catch (final IllegalArgumentException e) {
+            throw new PagingCursorInvalidException("Sort property " + property + " is not supported by the paging cursor", e);
+        }
+        if (!(attribute instanceof SingularAttribute<? super T, ?> singularAttribute)
+                || attribute.getPersistentAttributeType() != Attribute.PersistentAttributeType.BASIC
+                || (singularAttribute.isOptional() && !singularAttribute.isId())
+                || !(Comparable.class.isAssignableFrom(attribute.getJavaType()) || attribute.getJavaType().isPrimitive())) {
+            // nulls are sorted first or last depending on the database, so nullable properties could not be used as keys
+            throw new PagingCursorInvalidException("Sort property " + property + " is not supported by the paging cursor");
+        }
+        return root.get(property);
+    }
+
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Comparable<Object> value(final Class<?> type, final String property, final String value) {
+        if (value == null) {
+            throw new PagingCursorInvalidException("The paging cursor has no value for " + property);
+        }
+        try {
+            if (type == String.class) {
+                return (Comparable) value;
+            } else if (type == Long.class || type == long.class) {
+                return (Comparable) Long.valueOf(value);
+            } else if (type == Integer.class || type == int.class) {
+                return (Comparable) Integer.valueOf(value);
+            } else if (type == Short.class || type == short.class) {
+                return (Comparable) Short.valueOf(value);
+            } else if (type == Boolean.class || type == boolean.class) {
+                return (Comparable) Boolean.valueOf(value);
+            } else if (type.isEnum()) {
+                return (Comparable) Enum.valueOf((Class<? extends Enum>) type, value);
+            }
+        } catch (final IllegalArgumentException e) {
+            throw new PagingCursorInvalidException("The paging cursor value for " + property + " is invalid", e);
+        }
+        throw new PagingCursorInvalidException("Sort property " + property + " is not supported by the paging cursor");
+    }
+}
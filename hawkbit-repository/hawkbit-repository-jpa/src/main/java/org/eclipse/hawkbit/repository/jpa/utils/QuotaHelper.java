@@ -9,6 +9,11 @@
  */
 package org.eclipse.hawkbit.repository.jpa.utils;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.ToLongFunction;
 
 import jakarta.validation.constraints.NotNull;
@@ -16,7 +21,9 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.collections4.ListUtils;
 import org.eclipse.hawkbit.repository.exception.AssignmentQuotaExceededException;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 
 /**
  * Helper class to check quotas.
@@ -103,6 +110,34 @@ public final class QuotaHelper {
         }
     }
 
+    /**
+     * Asserts the specified assignment quota for multiple parent entities. The entities that are currently assigned are counted
+     * with one query per chunk of parent entities.
+     *
+     * @param requestedPerParent The number of entities that shall be assigned per ID of the parent entity.
+     * @param limit The maximum number of entities that may be assigned to a parent entity.
+     * @param type The type of the entities that shall be assigned.
+     * @param parentType The type of the parent entity.
+     * @param countFct Function to count the entities that are currently assigned to a chunk of parent entities, as pairs of parent
+     *         ID and count. Parent entities without assigned entities may be omitted.
+     * @throws AssignmentQuotaExceededException if the assignment operation would cause the quota to be exceeded
+     */
+    public static <T> void assertAssignmentQuota(
+            final Map<T, Long> requestedPerParent, final long limit,
+            @NotNull final Class<?> type, @NotNull final Class<?> parentType,
+            final Function<List<T>, List<Object[]>> countFct) {
+        if (limit <= 0 || requestedPerParent.isEmpty()) {
+            // unlimited, or nothing to check
+            return;
+        }
+
+        final Map<T, Long> currentCounts = new HashMap<>();
+        ListUtils.partition(new ArrayList<>(requestedPerParent.keySet()), Constants.MAX_ENTRIES_IN_STATEMENT).forEach(chunk ->
+                countFct.apply(chunk).forEach(count -> currentCounts.put(castParentId(count[0]), ((Number) count[1]).longValue())));
+        requestedPerParent.forEach((parentId, requested) -> assertAssignmentQuota(
+                parentId, requested, limit, type, parentType, id -> currentCounts.getOrDefault(id, 0L)));
+    }
+
     /**
      * Assert that the number of assignments in a request does not exceed the limit.
      *
@@ -116,4 +151,9 @@ public final class QuotaHelper {
             throw new AssignmentQuotaExceededException(message);
         }
     }
-}
\ No newline at end of file
+
+    @SuppressWarnings("unchecked")
+    private static <T> T castParentId(final Object parentId) {
+        return (T) parentId;
+    }
+}
@@ -67,6 +67,30 @@ class RemoteTenantAwareEventTest extends AbstractRemoteEventTest {
         assertThat(remoteCancelEventJackson.getControllerIds()).containsExactlyElementsOf(controllerIds);
     }
 
+    /**
+     * Verifies that a TargetPollBatchEvent can be properly serialized and deserialized, and is fanned out into node local
+     * TargetPollEvents
+     */
+    @Test
+    void testTargetPollBatchEvent() {
+        final List<String> controllerIds = List.of("id0", "id1", "id2");
+
+        final TargetPollBatchEvent batchEvent = new TargetPollBatchEvent(TENANT_DEFAULT, controllerIds);
+
+        final TargetPollBatchEvent remoteBatchEventProtoStuff = createProtoStuffEvent(batchEvent);
+        assertThat(batchEvent).isEqualTo(remoteBatchEventProtoStuff);
+        assertThat(remoteBatchEventProtoStuff.getControllerIds()).containsExactlyElementsOf(controllerIds);
+
+        final TargetPollBatchEvent remoteBatchEventJackson = createJacksonEvent(batchEvent);
+        assertThat(batchEvent).isEqualTo(remoteBatchEventJackson);
+        assertThat(remoteBatchEventJackson.getControllerIds()).containsExactlyElementsOf(controllerIds);
+
+        assertThat(remoteBatchEventProtoStuff.toTargetPollEvents()).allSatisfy(pollEvent -> {
+            assertThat(pollEvent.getTenant()).isEqualTo(TENANT_DEFAULT);
+            assertThat(pollEvent.getOriginService()).isNotEqualTo(batchEvent.getOriginService());
+        }).extracting(TargetPollEvent::getControllerId).containsExactlyElementsOf(controllerIds);
+    }
+
     /**
      * Verifies that a DownloadProgressEvent can be properly serialized and deserialized
      */
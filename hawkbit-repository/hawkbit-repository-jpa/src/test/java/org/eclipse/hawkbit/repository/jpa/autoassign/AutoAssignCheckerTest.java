@@ -10,14 +10,17 @@
 package org.eclipse.hawkbit.repository.jpa.autoassign;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
 
@@ -25,6 +28,8 @@ import org.eclipse.hawkbit.ContextAware;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.TargetFilterQueryManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.jpa.rsql.RsqlConfigHolder;
 import org.eclipse.hawkbit.repository.model.DeploymentRequest;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.TargetFilterQuery;
@@ -90,12 +95,50 @@ class AutoAssignCheckerTest {
         Mockito.verifyNoMoreInteractions(deploymentManagement);
     }
 
+    /**
+     * Single device check doesn't query the database for the auto assignment filters not matching the loaded device.
+     */
+    @Test
+    @SuppressWarnings("removal")
+    void checkForDeviceSkipsNotMatchingFiltersInMemory() {
+        final RsqlConfigHolder.RsqlToSpecBuilder defaultBuilder = RsqlConfigHolder.getInstance().getRsqlToSpecBuilder();
+        RsqlConfigHolder.getInstance().setRsqlToSpecBuilder(RsqlConfigHolder.RsqlToSpecBuilder.G3);
+        try {
+            mockRunningAsNonSystem();
+            final String target = getRandomString();
+            final long ds = getRandomLong();
+            final TargetFilterQuery matching = mockFilterQuery(ds, "controllerId==" + target);
+            final String notMatchingQuery = "controllerId==" + getRandomString();
+            final TargetFilterQuery notMatching = mock(TargetFilterQuery.class);
+            when(notMatching.getQuery()).thenReturn(notMatchingQuery);
+            when(targetFilterQueryManagement.findWithAutoAssignDS(any()))
+                    .thenReturn(new SliceImpl<>(Arrays.asList(notMatching, matching)));
+            when(targetManagement.getByControllerID(target)).thenReturn(Optional.of(new JpaTarget(target, getRandomString())));
+            when(targetManagement.isTargetMatchingQueryAndDSNotAssignedAndCompatibleAndUpdatable(target, ds, matching.getQuery()))
+                    .thenReturn(true);
+
+            sut.checkSingleTarget(target);
+
+            verify(targetManagement, never())
+                    .isTargetMatchingQueryAndDSNotAssignedAndCompatibleAndUpdatable(any(), anyLong(), eq(notMatchingQuery));
+            verify(deploymentManagement).assignDistributionSets(eq(matching.getAutoAssignInitiatedBy()),
+                    Mockito.argThat(deployReqMatcher(target, ds)), any());
+            Mockito.verifyNoMoreInteractions(deploymentManagement);
+        } finally {
+            RsqlConfigHolder.getInstance().setRsqlToSpecBuilder(defaultBuilder);
+        }
+    }
+
     private static TargetFilterQuery mockFilterQuery(final long dsId) {
+        return mockFilterQuery(dsId, getRandomString());
+    }
+
+    private static TargetFilterQuery mockFilterQuery(final long dsId, final String query) {
         final DistributionSet ds = mock(DistributionSet.class);
         when(ds.getId()).thenReturn(dsId);
         final TargetFilterQuery filter = mock(TargetFilterQuery.class);
         when(filter.getId()).thenReturn(getRandomLong());
-        when(filter.getQuery()).thenReturn(getRandomString());
+        when(filter.getQuery()).thenReturn(query);
         lenient().when(filter.getAutoAssignInitiatedBy()).thenReturn(getRandomString());
         when(filter.getAutoAssignDistributionSet()).thenReturn(ds);
         return filter;
@@ -71,6 +71,15 @@ class ControllerManagementSecurityTest extends AbstractJpaIntegrationTest {
                 List.of(SpPermission.SpringEvalExpressions.CONTROLLER_ROLE));
     }
 
+    /**
+     * Tests ControllerManagement#addUpdateActionStatuses() method
+     */
+    @Test
+    void addUpdateActionStatusesPermissionsCheck() {
+        assertPermissions(() -> controllerManagement.addUpdateActionStatuses(List.of(entityFactory.actionStatus().create(0L))),
+                List.of(SpPermission.SpringEvalExpressions.CONTROLLER_ROLE));
+    }
+
     /**
      * Tests ControllerManagement#findActiveActionWithHighestWeight() method
      */
@@ -831,6 +831,32 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
         assertThat(targetRepository.count()).as("Only 1 target should be registred").isEqualTo(1L);
     }
 
+    /**
+     * Verifies that the security token is verified against the cached target snapshot, and that a changed
+     * security token is taken into account immediately.
+     */
+    @Test
+    void verifySecurityTokenIsInvalidatedOnTargetUpdate() {
+        final Target target = targetManagement.create(
+                entityFactory.target().create().controllerId("targetWithSecurityToken").securityToken("token"));
+
+        assertThat(systemSecurityContext.runAsSystem(() -> controllerManagement.verifySecurityToken(target.getControllerId(), "token")))
+                .as("Security token should match").contains(target.getControllerId());
+        assertThat(systemSecurityContext.runAsSystem(() -> controllerManagement.verifySecurityToken(target.getId(), "token")))
+                .as("Security token should match").contains(target.getControllerId());
+        assertThat(systemSecurityContext.runAsSystem(() -> controllerManagement.verifySecurityToken(target.getControllerId(), "other")))
+                .as("Security token should not match").isEmpty();
+        assertThat(systemSecurityContext.runAsSystem(() -> controllerManagement.verifySecurityToken("unknown", "token")))
+                .as("Security token of unknown target should not match").isEmpty();
+
+        targetManagement.update(entityFactory.target().update(target.getControllerId()).securityToken("newToken"));
+
+        assertThat(systemSecurityContext.runAsSystem(() -> controllerManagement.verifySecurityToken(target.getControllerId(), "token")))
+                .as("Old security token should not match anymore").isEmpty();
+        assertThat(systemSecurityContext.runAsSystem(() -> controllerManagement.verifySecurityToken(target.getId(), "newToken")))
+                .as("New security token should match").contains(target.getControllerId());
+    }
+
     /**
      * Tries to register a target with an invalid controller id
      */
@@ -1710,6 +1736,42 @@ class ControllerManagementTest extends AbstractJpaIntegrationTest {
         assertLastActionStatusCodeInAction(actionId, 20);
     }
 
+    /**
+     * Verifies that the update action status entries added in bulk are applied in order, like added one by one
+     */
+    @Test
+    void addUpdateActionStatusesInBulk() {
+        final Long actionId1 = getFirstAssignedActionId(assignDistributionSet(
+                testdataFactory.createDistributionSet("ds1"), testdataFactory.createTargets(1, "t1")));
+        final Long actionId2 = getFirstAssignedActionId(assignDistributionSet(
+                testdataFactory.createDistributionSet("ds2"), testdataFactory.createTargets(1, "t2")));
+
+        final List<Action> updated = controllerManagement.addUpdateActionStatuses(List.of(
+                entityFactory.actionStatus().create(actionId1).status(Status.RUNNING).code(10),
+                entityFactory.actionStatus().create(actionId2).status(Status.DOWNLOAD),
+                entityFactory.actionStatus().create(actionId1).status(Status.FINISHED)));
+
+        assertThat(updated).extracting(Action::getId).containsExactly(actionId1, actionId2, actionId1);
+        assertActionStatus(actionId1, "t1-00000", TargetUpdateStatus.IN_SYNC, Action.Status.FINISHED, Action.Status.FINISHED, false);
+        assertActionStatus(actionId2, "t2-00000", TargetUpdateStatus.PENDING, Action.Status.RUNNING, Action.Status.DOWNLOAD, true);
+        assertThat(controllerManagement.findActionStatusByAction(actionId1, PAGE).getTotalElements()).isEqualTo(3);
+        assertThat(controllerManagement.findActionStatusByAction(actionId2, PAGE).getTotalElements()).isEqualTo(2);
+    }
+
+    /**
+     * Verifies that no update action status entry is added in bulk if one of the actions does not exist
+     */
+    @Test
+    void addUpdateActionStatusesInBulkFailsAsWhole() {
+        final Long actionId = createTargetAndAssignDs();
+        final List<ActionStatusCreate> statuses = List.of(
+                entityFactory.actionStatus().create(actionId).status(Status.RUNNING),
+                entityFactory.actionStatus().create(NOT_EXIST_IDL).status(Status.RUNNING));
+
+        verifyThrownExceptionBy(() -> controllerManagement.addUpdateActionStatuses(statuses), "Action");
+        assertThat(controllerManagement.findActionStatusByAction(actionId, PAGE).getTotalElements()).isEqualTo(1);
+    }
+
     private static void forNTimes(final int n, final IntConsumer consumer) {
         IntStream.range(0, n).forEach(consumer);
     }
@@ -284,6 +284,15 @@ class DeploymentManagementSecurityTest extends AbstractJpaIntegrationTest {
         assertPermissions(() -> deploymentManagement.hasPendingCancellations(1L), List.of(SpPermission.READ_TARGET));
     }
 
+    /**
+     * Tests ManagementAPI PreAuthorized method with correct and insufficient permissions.
+     */
+    @Test
+    void findTargetIdsWithPendingCancellationsPermissionsCheck() {
+        assertPermissions(() -> deploymentManagement.findTargetIdsWithPendingCancellations(List.of(1L)),
+                List.of(SpPermission.READ_TARGET));
+    }
+
     /**
      * Tests ManagementAPI PreAuthorized method with correct and insufficient permissions.
      */
@@ -335,6 +335,27 @@ class DeploymentManagementTest extends AbstractJpaIntegrationTest {
         assertThat(deploymentManagement.countActionsAll()).isEqualTo(2L * quotaManagement.getMaxTargetsPerAutoAssignment());
     }
 
+    /**
+     * Verifies that the targets with pending cancellations are found in bulk.
+     */
+    @Test
+    void findTargetIdsWithPendingCancellations() {
+        final List<Target> targets = testdataFactory.createTargets(3, "pendingCancellations");
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final List<Long> targetIds = targets.stream().map(Target::getId).toList();
+        assignDistributionSet(ds, targets);
+        assertThat(deploymentManagement.findTargetIdsWithPendingCancellations(targetIds)).isEmpty();
+
+        final Long canceledTargetId = targetIds.get(0);
+        deploymentManagement.findActiveActionsByTarget(targets.get(0).getControllerId(), PAGE)
+                .forEach(action -> deploymentManagement.cancelAction(action.getId()));
+
+        assertThat(deploymentManagement.findTargetIdsWithPendingCancellations(targetIds)).containsExactly(canceledTargetId);
+        assertThat(deploymentManagement.findTargetIdsWithPendingCancellations(List.of(targetIds.get(1), NOT_EXIST_IDL))).isEmpty();
+        assertThat(targetIds).allMatch(targetId ->
+                deploymentManagement.hasPendingCancellations(targetId) == targetId.equals(canceledTargetId));
+    }
+
     /**
      * Cancels multiple active actions on a target. Expected behaviour is that with two active 
      * After canceling the first one also the target goes back to IN_SYNC as no open action is left.
@@ -992,6 +1013,33 @@ class DeploymentManagementTest extends AbstractJpaIntegrationTest {
         assertThat(actionRepository.countByTargetControllerId(controllerId)).isZero();
     }
 
+    /**
+     * An assignment request for multiple targets is not accepted if it would lead to one of the targets exceeding the max actions per
+     * target quota - no action is created and no distribution set is assigned for any of the targets.
+     */
+    @Test
+    void maxActionsPerTargetIsCheckedForAllTargetsOfAnAssignment() {
+        enableMultiAssignments();
+        final List<Target> targets = testdataFactory.createTargets(3, "quota-");
+        final Long dsId = testdataFactory.createDistributionSet().getId();
+        final String exhaustedControllerId = targets.get(1).getControllerId();
+        for (int i = 0; i < quotaManagement.getMaxActionsPerTarget(); i++) {
+            deploymentManagement.offlineAssignedDistributionSets(List.of(new SimpleEntry<>(exhaustedControllerId, dsId)));
+        }
+        final long actionsBefore = actionRepository.count();
+
+        final Long otherDsId = testdataFactory.createDistributionSet().getId();
+        final List<DeploymentRequest> deploymentRequests = targets.stream()
+                .map(target -> DeploymentManagement.deploymentRequest(target.getControllerId(), otherDsId).setWeight(24).build())
+                .toList();
+        Assertions.assertThatExceptionOfType(AssignmentQuotaExceededException.class)
+                .isThrownBy(() -> deploymentManagement.assignDistributionSets(deploymentRequests));
+
+        assertThat(actionRepository.count()).isEqualTo(actionsBefore);
+        assertThat(deploymentManagement.getAssignedDistributionSet(targets.get(0).getControllerId())).isEmpty();
+        assertThat(deploymentManagement.getAssignedDistributionSet(targets.get(2).getControllerId())).isEmpty();
+    }
+
     /**
      * An assignment request without a weight is ok when multi assignment in enabled.
      */
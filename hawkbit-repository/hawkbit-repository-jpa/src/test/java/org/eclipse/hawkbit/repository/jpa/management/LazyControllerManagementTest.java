@@ -11,13 +11,19 @@ package org.eclipse.hawkbit.repository.jpa.management;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.net.URI;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 
 import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollBatchEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.repository.test.matcher.Expect;
 import org.eclipse.hawkbit.repository.test.matcher.ExpectEvents;
 import org.junit.jupiter.api.Test;
@@ -42,18 +48,104 @@ class LazyControllerManagementTest extends AbstractJpaIntegrationTest {
     @Test
     @ExpectEvents({
             @Expect(type = TargetCreatedEvent.class, count = 1),
-            @Expect(type = TargetPollEvent.class, count = 2) })
+            @Expect(type = TargetPollEvent.class, count = 2),
+            @Expect(type = TargetPollBatchEvent.class, count = 1) })
     void lazyFindOrRegisterTargetIfItDoesNotExist() throws InterruptedException {
         final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", LOCALHOST);
         assertThat(target).as("target should not be null").isNotNull();
 
         TimeUnit.MILLISECONDS.sleep(10);
+        final long pollStart = System.currentTimeMillis();
         controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", LOCALHOST);
+        final long pollEnd = System.currentTimeMillis();
         TimeUnit.MILLISECONDS.sleep(repositoryProperties.getPollPersistenceFlushTime() + 10);
 
         final Target updated = targetManagement.get(target.getId()).get();
 
         assertThat(updated.getOptLockRevision()).isEqualTo(target.getOptLockRevision());
         assertThat(updated.getLastTargetQuery()).isGreaterThan(target.getLastTargetQuery());
+        // the time of the poll is persisted, not the time of the flush
+        assertThat(updated.getLastTargetQuery()).isBetween(pollStart, pollEnd);
+    }
+
+    /**
+     * Verifies that address and status changes are written behind, coalesced with the polls of the same target.
+     */
+    @Test
+    @ExpectEvents({
+            @Expect(type = TargetCreatedEvent.class, count = 1),
+            @Expect(type = TargetPollEvent.class, count = 1),
+            @Expect(type = TargetPollBatchEvent.class, count = 1),
+            @Expect(type = TargetUpdatedEvent.class, count = 1) })
+    void lazyAddressAndStatusUpdate() throws InterruptedException {
+        final Target target = targetManagement.create(entityFactory.target().create().controllerId("AA").address("http://127.0.0.2"));
+        assertThat(target.getUpdateStatus()).isEqualTo(TargetUpdateStatus.UNKNOWN);
+
+        final URI address = URI.create("http://127.0.0.3");
+        final Target registered = controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", address);
+        assertThat(registered.getAddress()).as("registered target should reflect the new address").isEqualTo(address);
+        assertThat(registered.getUpdateStatus()).isEqualTo(TargetUpdateStatus.REGISTERED);
+        controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", address);
+
+        final Target notYetFlushed = targetManagement.get(target.getId()).get();
+        assertThat(notYetFlushed.getAddress()).isEqualTo(URI.create("http://127.0.0.2"));
+        assertThat(notYetFlushed.getOptLockRevision()).isEqualTo(target.getOptLockRevision());
+
+        TimeUnit.MILLISECONDS.sleep(repositoryProperties.getPollPersistenceFlushTime() + 500);
+
+        final Target updated = targetManagement.get(target.getId()).get();
+        assertThat(updated.getAddress()).isEqualTo(address);
+        assertThat(updated.getUpdateStatus()).isEqualTo(TargetUpdateStatus.REGISTERED);
+        assertThat(updated.getLastTargetQuery()).isNotNull();
+        assertThat(updated.getOptLockRevision()).isGreaterThan(target.getOptLockRevision());
+    }
+
+    /**
+     * Verifies that the address changes of multiple targets are written behind at once, each target getting its own address.
+     */
+    @Test
+    @ExpectEvents({
+            @Expect(type = TargetCreatedEvent.class, count = 3),
+            @Expect(type = TargetPollEvent.class, count = 3),
+            @Expect(type = TargetPollBatchEvent.class, count = 1),
+            @Expect(type = TargetUpdatedEvent.class, count = 3) })
+    void lazyAddressUpdateOfMultipleTargets() throws InterruptedException {
+        final List<Target> targets = IntStream.range(0, 3)
+                .mapToObj(i -> targetManagement.create(entityFactory.target().create().controllerId("AA" + i).address("http://127.0.0.2")))
+                .toList();
+
+        targets.forEach(target -> controllerManagement.findOrRegisterTargetIfItDoesNotExist(
+                target.getControllerId(), URI.create("http://127.0.1." + target.getControllerId().charAt(2))));
+
+        TimeUnit.MILLISECONDS.sleep(repositoryProperties.getPollPersistenceFlushTime() + 500);
+
+        targets.forEach(target -> {
+            final Target updated = targetManagement.get(target.getId()).get();
+            assertThat(updated.getAddress()).isEqualTo(URI.create("http://127.0.1." + target.getControllerId().charAt(2)));
+            assertThat(updated.getUpdateStatus()).isEqualTo(TargetUpdateStatus.REGISTERED);
+            assertThat(updated.getOptLockRevision()).isGreaterThan(target.getOptLockRevision());
+        });
+    }
+
+    /**
+     * Verifies that a queued address change doesn't overwrite the address stored directly along with a name change of the
+     * target on the next flush.
+     */
+    @Test
+    void queuedAddressUpdateIsSupersededByEagerUpdate() throws InterruptedException {
+        final Target target = targetManagement.create(entityFactory.target().create().controllerId("AA").address("http://127.0.0.2"));
+
+        controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", URI.create("http://127.0.0.3"));
+        final URI address = URI.create("http://127.0.0.4");
+        final Target renamed = controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", address, "NewName", null);
+        assertThat(renamed.getName()).isEqualTo("NewName");
+        assertThat(renamed.getAddress()).isEqualTo(address);
+
+        TimeUnit.MILLISECONDS.sleep(repositoryProperties.getPollPersistenceFlushTime() + 500);
+
+        final Target updated = targetManagement.get(target.getId()).get();
+        assertThat(updated.getName()).isEqualTo("NewName");
+        assertThat(updated.getAddress()).isEqualTo(address);
+        assertThat(updated.getUpdateStatus()).isEqualTo(TargetUpdateStatus.REGISTERED);
     }
 }
@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.time.Duration;
+import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
@@ -21,7 +22,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
@@ -31,9 +34,12 @@ import jakarta.validation.ValidationException;
 import org.assertj.core.api.Assertions;
 import org.assertj.core.api.Condition;
 import org.awaitility.Awaitility;
+import org.eclipse.hawkbit.ContextAware;
 import org.eclipse.hawkbit.im.authentication.SpPermission;
 import org.eclipse.hawkbit.repository.Identifiable;
 import org.eclipse.hawkbit.repository.OffsetBasedPageRequest;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.RolloutExecutor;
 import org.eclipse.hawkbit.repository.builder.RolloutCreate;
 import org.eclipse.hawkbit.repository.builder.RolloutGroupCreate;
 import org.eclipse.hawkbit.repository.builder.RolloutUpdate;
@@ -60,8 +66,11 @@ import org.eclipse.hawkbit.repository.exception.InsufficientPermissionException;
 import org.eclipse.hawkbit.repository.exception.InvalidDistributionSetException;
 import org.eclipse.hawkbit.repository.exception.RolloutIllegalStateException;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.JpaRolloutHandler;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRollout;
+import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutGroupStatusCounters;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Action.ActionType;
 import org.eclipse.hawkbit.repository.model.Action.Status;
@@ -90,12 +99,16 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
 
 /**
  * Junit tests for RolloutManagement.
@@ -105,6 +118,19 @@ import org.springframework.data.domain.Sort.Direction;
  */
 class RolloutManagementTest extends AbstractJpaIntegrationTest {
 
+    @Autowired
+    private RepositoryProperties repositoryProperties;
+    @Autowired
+    private RolloutGroupStatusCounters rolloutGroupStatusCounters;
+    @Autowired
+    private RolloutExecutor rolloutExecutor;
+    @Autowired
+    private LockRegistry lockRegistry;
+    @Autowired
+    private PlatformTransactionManager txManager;
+    @Autowired
+    private ContextAware contextAware;
+
     /**
      * Tests static assignment aspects of the dynamic group assignment filters.
      */
@@ -813,6 +839,108 @@ class RolloutManagementTest extends AbstractJpaIntegrationTest {
 
     }
 
+    /**
+     * Verifies that the action status counters of the rollout groups drifted by a change which bypasses the counting are corrected by the
+     * reconciliation of the running groups.
+     */
+    @Test
+    void rolloutGroupStatusCountersAreReconciled() {
+        final long reconciliationPeriod = repositoryProperties.getRolloutGroupStatusCountReconciliationPeriodMS();
+        repositoryProperties.setRolloutGroupStatusCountReconciliationPeriodMS(Long.MAX_VALUE);
+        try {
+            final Rollout rollout = testdataFactory.createAndStartRollout(4, 0, 2, "100", "100");
+            final long firstGroupId = rolloutGroupManagement.findByRollout(rollout.getId(), PAGE).getContent().get(0).getId();
+            final List<Action> runningActions = findActionsByRolloutAndStatus(rollout, Status.RUNNING);
+            assertThat(runningActions).hasSize(2);
+            assertThat(rolloutGroupStatusCounters.getStatusCounts(firstGroupId)).containsEntry(Status.RUNNING, 2L);
+
+            // the bulk delete bypasses the counting
+            actionRepository.deleteByIdIn(List.of(runningActions.get(0).getId()));
+            controllerManagement.addUpdateActionStatus(
+                    entityFactory.actionStatus().create(runningActions.get(1).getId()).status(Status.FINISHED));
+            assertThat(rolloutGroupStatusCounters.getStatusCounts(firstGroupId))
+                    .containsEntry(Status.RUNNING, 1L)
+                    .containsEntry(Status.FINISHED, 1L);
+            rolloutHandler.handleAll();
+            assertThat(rolloutGroupManagement.get(firstGroupId)).hasValueSatisfying(
+                    rolloutGroup -> assertThat(rolloutGroup.getStatus()).isEqualTo(RolloutGroupStatus.RUNNING));
+
+            repositoryProperties.setRolloutGroupStatusCountReconciliationPeriodMS(0);
+            rolloutHandler.handleAll();
+            assertThat(rolloutGroupStatusCounters.getStatusCounts(firstGroupId))
+                    .containsEntry(Status.RUNNING, 0L)
+                    .containsEntry(Status.FINISHED, 1L);
+            assertThat(rolloutGroupManagement.get(firstGroupId)).hasValueSatisfying(
+                    rolloutGroup -> assertThat(rolloutGroup.getStatus()).isEqualTo(RolloutGroupStatus.FINISHED));
+        } finally {
+            repositoryProperties.setRolloutGroupStatusCountReconciliationPeriodMS(reconciliationPeriod);
+        }
+    }
+
+    /**
+     * Verifies that the action status counters of the rollout groups are decremented by the cleanup of the actions.
+     */
+    @Test
+    void rolloutGroupStatusCountersAreDecrementedByActionCleanup() {
+        final Rollout rollout = testdataFactory.createAndStartRollout(4, 0, 2, "100", "100");
+        final long firstGroupId = rolloutGroupManagement.findByRollout(rollout.getId(), PAGE).getContent().get(0).getId();
+        findActionsByRolloutAndStatus(rollout, Status.RUNNING).forEach(action -> controllerManagement.addUpdateActionStatus(
+                entityFactory.actionStatus().create(action.getId()).status(Status.FINISHED)));
+        assertThat(rolloutGroupStatusCounters.getStatusCounts(firstGroupId)).containsEntry(Status.FINISHED, 2L);
+
+        assertThat(systemSecurityContext.runAsSystem(() -> deploymentManagement.deleteActionsByStatusAndLastModifiedBefore(
+                Set.of(Status.FINISHED), System.currentTimeMillis() + 1))).isEqualTo(2);
+        assertThat(rolloutGroupStatusCounters.getStatusCounts(firstGroupId))
+                .containsEntry(Status.FINISHED, 0L)
+                .containsEntry(Status.RUNNING, 0L);
+    }
+
+    /**
+     * Verifies that the action status counters of the rollout groups are decremented by the deletion of the targets.
+     */
+    @Test
+    void rolloutGroupStatusCountersAreDecrementedByTargetDeletion() {
+        final Rollout rollout = testdataFactory.createAndStartRollout(4, 0, 2, "100", "100");
+        final List<RolloutGroup> rolloutGroups = rolloutGroupManagement.findByRollout(rollout.getId(), PAGE).getContent();
+        final List<Action> runningActions = findActionsByRolloutAndStatus(rollout, Status.RUNNING);
+        final List<Action> scheduledActions = findActionsByRolloutAndStatus(rollout, Status.SCHEDULED);
+
+        targetManagement.delete(List.of(runningActions.get(0).getTarget().getId(), scheduledActions.get(0).getTarget().getId()));
+        assertThat(rolloutGroupStatusCounters.getStatusCounts(rolloutGroups.get(0).getId())).containsEntry(Status.RUNNING, 1L);
+        assertThat(rolloutGroupStatusCounters.getStatusCounts(rolloutGroups.get(1).getId())).containsEntry(Status.SCHEDULED, 1L);
+    }
+
+    /**
+     * Verifies that the rollouts of a tenant are claimed and handled one by one in parallel in rollout mode.
+     */
+    @Test
+    void rolloutsAreHandledInParallelInRolloutMode() {
+        final JpaRolloutHandler parallelRolloutHandler = new JpaRolloutHandler(
+                tenantAware, rolloutManagement, rolloutExecutor, lockRegistry, txManager, contextAware, Optional.empty(),
+                JpaRolloutHandler.Mode.ROLLOUT, 2, 1);
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet("ds");
+        final List<Rollout> rollouts = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            // own targets, so that the rollouts don't cancel the actions of each other
+            testdataFactory.createTargets("parallel-rollout-" + i + "-", 0, 2);
+            final Rollout rollout = testdataFactory.createRolloutByVariables(
+                    "parallel-" + i, "parallel rollout", 1, "controllerid==parallel-rollout-" + i + "-*", distributionSet, "50", "80");
+            rolloutManagement.start(rollout.getId());
+            rollouts.add(rollout);
+        }
+
+        try {
+            parallelRolloutHandler.handleAll();
+
+            rollouts.forEach(rollout -> assertThat(rolloutManagement.get(rollout.getId())).hasValueSatisfying(
+                    handled -> assertThat(handled.getStatus()).isEqualTo(RolloutStatus.RUNNING)));
+        } finally {
+            parallelRolloutHandler.shutdown();
+        }
+        // the rollouts are not handled anymore after shutdown
+        assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(parallelRolloutHandler::handleAll);
+    }
+
     /**
      * Verify that target actions of rollout get canceled when a manuel distribution sets assignment is done.
      */
@@ -1918,6 +2046,42 @@ class RolloutManagementTest extends AbstractJpaIntegrationTest {
         assertThat(rolloutTargetGroupRepository.count()).isZero();
     }
 
+    /**
+     * Verifies that the distribution set is assigned (with one bulk update) to the targets of a started rollout group only, and that
+     * a target updated event is sent for each of them
+     */
+    @Test
+    @ExpectEvents({
+            @Expect(type = SoftwareModuleCreatedEvent.class, count = 3),
+            @Expect(type = DistributionSetCreatedEvent.class, count = 1),
+            @Expect(type = SoftwareModuleUpdatedEvent.class, count = 3), // implicit lock
+            @Expect(type = DistributionSetUpdatedEvent.class, count = 1), // implicit lock
+            @Expect(type = TargetCreatedEvent.class, count = 15),
+            @Expect(type = TargetUpdatedEvent.class, count = 5),
+            @Expect(type = TargetAssignDistributionSetEvent.class, count = 1),
+            @Expect(type = ActionCreatedEvent.class, count = 10),
+            @Expect(type = ActionUpdatedEvent.class, count = 5),
+            @Expect(type = RolloutCreatedEvent.class, count = 1),
+            @Expect(type = RolloutUpdatedEvent.class, count = 3),
+            @Expect(type = RolloutGroupUpdatedEvent.class, count = 5),
+            @Expect(type = RolloutGroupCreatedEvent.class, count = 2) })
+    void startedRolloutGroupAssignsDistributionSetToItsTargets() {
+        final Rollout rollout = testdataFactory.createSimpleTestRolloutWithTargetsAndDistributionSet(10, 5, 2, "50", "80");
+        rolloutManagement.start(rollout.getId());
+        rolloutHandler.handleAll();
+
+        final List<Action> runningActions = findActionsByRolloutAndStatus(rollout, Status.RUNNING);
+        assertThat(runningActions).hasSize(5);
+        runningActions.forEach(action -> assertThat(targetManagement.getByControllerID(action.getTarget().getControllerId()))
+                .hasValueSatisfying(target -> {
+                    assertThat(target.getUpdateStatus()).isEqualTo(TargetUpdateStatus.PENDING);
+                    assertThat(deploymentManagement.getAssignedDistributionSet(target.getControllerId()))
+                            .hasValueSatisfying(assigned -> assertThat(assigned.getId()).isEqualTo(rollout.getDistributionSet().getId()));
+                }));
+        findActionsByRolloutAndStatus(rollout, Status.SCHEDULED).forEach(action -> assertThat(
+                deploymentManagement.getAssignedDistributionSet(action.getTarget().getControllerId())).isEmpty());
+    }
+
     @Test
     @ExpectEvents({
             @Expect(type = SoftwareModuleCreatedEvent.class, count = 3),
@@ -2094,6 +2258,65 @@ class RolloutManagementTest extends AbstractJpaIntegrationTest {
                 .allMatch(action -> action.getWeight().get() == weight);
     }
 
+    /**
+     * Verifies that the 'max actions per target' quota is enforced for all targets when the rollout actions are created, so that no
+     * action of the rollout is created if the quota of one target is exceeded
+     */
+    @Test
+    void maxActionsPerTargetQuotaIsEnforcedOnRolloutStart() {
+        enableMultiAssignments();
+        final String prefix = "quota-" + randomString(5) + "-";
+        final List<Target> targets = testdataFactory.createTargets(prefix, 4);
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet();
+        final Long dsId = distributionSet.getId();
+        final String exhaustedControllerId = targets.get(2).getControllerId();
+        for (int i = 0; i < quotaManagement.getMaxActionsPerTarget(); i++) {
+            deploymentManagement.offlineAssignedDistributionSets(List.of(new SimpleEntry<>(exhaustedControllerId, dsId)));
+        }
+        final long actionsBefore = actionRepository.count();
+
+        final Long rolloutId = testdataFactory.createRolloutByVariables(prefix, "desc", 1, "controllerId==" + prefix + "*",
+                distributionSet, "50", "80", ActionType.FORCED, 500, false).getId();
+        rolloutManagement.start(rolloutId);
+        rolloutHandler.handleAll();
+
+        assertThat(actionRepository.count()).isEqualTo(actionsBefore);
+        assertThat(rolloutManagement.get(rolloutId).orElseThrow().getStatus()).isEqualTo(RolloutStatus.STARTING);
+    }
+
+    /**
+     * Verifies that the matching, compatible targets are assigned to the rollout groups in the same way set based and one by one
+     * (if the set based assignment is disabled)
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = { true, false })
+    void rolloutGroupsAreFilledSetBasedOrOneByOne(final boolean setBased) {
+        final boolean setBasedBefore = repositoryProperties.isRolloutGroupSetBasedAssignment();
+        repositoryProperties.setRolloutGroupSetBasedAssignment(setBased);
+        try {
+            final String prefix = "fill-" + setBased + "-";
+            final DistributionSet distributionSet = testdataFactory.createDistributionSet();
+            final List<Target> targets = testdataFactory.createTargets(prefix, 0, 20);
+            testdataFactory.createTargetsWithType(3, prefix + "incompatible-", testdataFactory.createTargetType(prefix, List.of()));
+            testdataFactory.createTargets("other-" + prefix, 0, 3);
+
+            final Rollout rollout = testdataFactory.createRolloutByVariables(
+                    prefix, "desc", 4, "controllerId==" + prefix + "*", distributionSet, "50", "80");
+
+            final List<RolloutGroup> groups = rolloutGroupManagement.findByRollout(rollout.getId(), PAGE).getContent();
+            assertThat(groups).hasSize(4).allSatisfy(group -> {
+                assertThat(group.getTotalTargets()).isEqualTo(5);
+                assertThat(rolloutTargetGroupRepository.countByRolloutGroup((JpaRolloutGroup) group)).isEqualTo(5);
+            });
+            assertThat(groups.stream()
+                    .flatMap(group -> rolloutGroupManagement.findTargetsOfRolloutGroup(group.getId(), PAGE).stream())
+                    .map(Target::getId))
+                    .containsExactlyInAnyOrderElementsOf(targets.stream().map(Target::getId).toList());
+        } finally {
+            repositoryProperties.setRolloutGroupSetBasedAssignment(setBasedBefore);
+        }
+    }
+
     /**
      * Rollout can be created without weight in single assignment and be started in multi assignment
      */
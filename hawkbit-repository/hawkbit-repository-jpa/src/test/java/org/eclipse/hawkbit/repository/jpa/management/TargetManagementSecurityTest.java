@@ -189,6 +189,17 @@ class TargetManagementSecurityTest extends AbstractJpaIntegrationTest {
                 ), List.of(SpPermission.READ_TARGET, SpPermission.READ_ROLLOUT));
     }
 
+    /**
+     * Tests ManagementAPI PreAuthorized method with correct and insufficient permissions.
+     */
+    @Test
+    void assignToRolloutGroupByRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatablePermissionsCheck() {
+        assertPermissions(
+                () -> targetManagement.assignToRolloutGroupByRsqlAndNotInRolloutGroupsAndCompatibleAndUpdatable(1L, List.of(1L),
+                        "controllerId==id", entityFactory.distributionSetType().create().build(), 10
+                ), List.of(SpPermission.READ_TARGET, SpPermission.READ_ROLLOUT));
+    }
+
     /**
      * Tests ManagementAPI PreAuthorized method with correct and insufficient permissions.
      */
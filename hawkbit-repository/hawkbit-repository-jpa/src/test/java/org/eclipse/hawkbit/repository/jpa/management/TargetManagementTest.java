@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -55,6 +56,7 @@ import org.eclipse.hawkbit.repository.exception.InvalidTargetAddressException;
 import org.eclipse.hawkbit.repository.exception.RSQLParameterSyntaxException;
 import org.eclipse.hawkbit.repository.exception.RSQLParameterUnsupportedFieldException;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.model.Action;
@@ -77,6 +79,7 @@ import org.eclipse.hawkbit.repository.test.util.WithUser;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
 /**
  * Feature: Component Tests - Repository<br/>
@@ -99,6 +102,25 @@ class TargetManagementTest extends AbstractJpaIntegrationTest {
         assertThat(targetManagement.getMetadata(target.getControllerId()).get(NOT_EXIST_ID)).isNull();
     }
 
+    /**
+     * Verifies that all targets matching the query are streamed exactly once and in order, also across the chunks the persistence
+     * context is cleared after.
+     */
+    @Test
+    void streamByRsqlPassesAllTargetsAcrossChunks() {
+        final List<String> streamed = testdataFactory.createTargets("streamed", Constants.STREAM_FETCH_SIZE + 1).stream()
+                .map(Target::getControllerId)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+        testdataFactory.createTargets("other", 2);
+
+        final List<String> controllerIds = new ArrayList<>();
+        targetManagement.streamByRsql(
+                "controllerId==streamed*", Sort.by(Sort.Direction.DESC, "controllerId"), target -> controllerIds.add(target.getControllerId()));
+
+        assertThat(controllerIds).containsExactlyElementsOf(streamed);
+    }
+
     /**
      * Verifies that management queries react as specified on calls for non existing entities 
      *  by means of throwing EntityNotFoundException.
@@ -0,0 +1,120 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.management;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.repository.jpa.management.TargetWriteBehindQueue.TargetUpdate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Feature: Unit Tests - Repository<br/>
+ * Story: Controller Management
+ */
+class TargetWriteBehindQueueTest {
+
+    private final ScheduledExecutorService executorService = Executors.newSingleThreadScheduledExecutor();
+
+    @AfterEach
+    void shutdownExecutor() {
+        executorService.shutdownNow();
+    }
+
+    /**
+     * Verifies that the room of a full queue can't be reserved while the flush is in progress, and can be as soon as the
+     * flush is finished.
+     */
+    @Test
+    void reserveWaitsForFlushOfFullQueue() throws InterruptedException {
+        final CountDownLatch flushStarted = new CountDownLatch(1);
+        final CountDownLatch flushReleased = new CountDownLatch(1);
+        final List<TargetUpdate> flushed = new CopyOnWriteArrayList<>();
+        final TargetWriteBehindQueue queue = new TargetWriteBehindQueue(1, TimeUnit.HOURS.toMillis(1), (tenant, updates) -> {
+            flushStarted.countDown();
+            await(flushReleased);
+            flushed.addAll(updates);
+        }, executorService);
+
+        assertThat(queue.reserve(0)).isTrue();
+        assertThat(queue.offer(TargetUpdate.poll("DEFAULT", "target1"))).isTrue();
+        queue.release();
+        // the full queue is flushed at once
+        assertThat(flushStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // no room until the flushed updates are persisted
+        assertThat(queue.reserve(100)).isFalse();
+        assertThat(queue.offer(TargetUpdate.poll("DEFAULT", "target2"))).isFalse();
+
+        flushReleased.countDown();
+        assertThat(queue.reserve(TimeUnit.SECONDS.toMillis(10))).isTrue();
+        assertThat(queue.offer(TargetUpdate.poll("DEFAULT", "target2"))).isTrue();
+        queue.release();
+        assertThat(flushed).extracting(TargetUpdate::controllerId).startsWith("target1");
+    }
+
+    /**
+     * Verifies that an unused reservation is released, and that the updates of already queued targets don't need room.
+     */
+    @Test
+    void unusedReservationIsReleased() {
+        final TargetWriteBehindQueue queue = new TargetWriteBehindQueue(2, TimeUnit.HOURS.toMillis(1), (tenant, updates) -> {}, executorService);
+
+        assertThat(queue.reserve(0)).isTrue();
+        queue.release();
+        assertThat(queue.reserve(0)).isTrue();
+        assertThat(queue.offer(TargetUpdate.poll("DEFAULT", "target1"))).isTrue();
+        queue.release();
+
+        // merged with the queued update
+        assertThat(queue.offer(TargetUpdate.poll("DEFAULT", "target1"))).isTrue();
+        assertThat(queue.size()).isEqualTo(1);
+    }
+
+    /**
+     * Verifies that a removed update isn't flushed and releases its room.
+     */
+    @Test
+    void removedUpdateIsNotFlushed() {
+        final List<TargetUpdate> flushed = new CopyOnWriteArrayList<>();
+        final TargetWriteBehindQueue queue = new TargetWriteBehindQueue(1, TimeUnit.HOURS.toMillis(1), (tenant, updates) -> flushed.addAll(updates),
+                executorService);
+
+        assertThat(queue.reserve(0)).isTrue();
+        assertThat(queue.offer(new TargetUpdate("DEFAULT", "target1", System.currentTimeMillis(), "http://127.0.0.3", true, false)))
+                .isTrue();
+        queue.release();
+
+        assertThat(queue.remove("DEFAULT", "target1")).extracting(TargetUpdate::address).isEqualTo("http://127.0.0.3");
+        assertThat(queue.remove("DEFAULT", "target1")).isNull();
+        assertThat(queue.size()).isZero();
+        // the room is released
+        assertThat(queue.reserve(0)).isTrue();
+        queue.release();
+
+        queue.flush();
+        assertThat(flushed).isEmpty();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
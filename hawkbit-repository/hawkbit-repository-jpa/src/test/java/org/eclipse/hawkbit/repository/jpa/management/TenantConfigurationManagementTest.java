@@ -18,13 +18,17 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
 import org.eclipse.hawkbit.repository.exception.InvalidTenantConfigurationKeyException;
 import org.eclipse.hawkbit.repository.exception.TenantConfigurationValidatorException;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTenantConfiguration;
+import org.eclipse.hawkbit.repository.jpa.repository.TenantConfigurationRepository;
 import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
 import org.eclipse.hawkbit.tenancy.configuration.DurationHelper;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.core.env.Environment;
 
@@ -34,6 +38,11 @@ import org.springframework.core.env.Environment;
  */
 class TenantConfigurationManagementTest extends AbstractJpaIntegrationTest implements EnvironmentAware {
 
+    @Autowired
+    private TenantConfigurationRepository tenantConfigurationRepository;
+    @Autowired
+    private TenantConfigurationCache tenantConfigurationCache;
+
     private Environment environment;
 
     @Override
@@ -292,6 +301,29 @@ class TenantConfigurationManagementTest extends AbstractJpaIntegrationTest imple
         });
     }
 
+    /**
+     * Verifies that the configuration values are cached (typed) and evicted by the (remote) tenant configuration events
+     */
+    @Test
+    void configurationValuesAreCachedUntilChanged() {
+        final String configKey = TenantConfigurationKey.POLLING_TIME_INTERVAL;
+        final String defaultValue = tenantConfigurationManagement.getConfigurationValue(configKey, String.class).getValue();
+        tenantConfigurationManagement.addOrUpdateConfiguration(configKey, "00:05:00");
+        assertThat(tenantConfigurationManagement.getConfigurationValue(configKey, String.class).getValue()).isEqualTo("00:05:00");
+        assertThat(tenantConfigurationManagement.<String> getConfigurationValue(configKey).getValue()).isEqualTo("00:05:00");
+
+        // deleted by query - no events, the cached value is still used
+        tenantConfigurationRepository.deleteByTenant(tenantAware.getCurrentTenant());
+        assertThat(tenantConfigurationManagement.getConfigurationValue(configKey, String.class).getValue()).isEqualTo("00:05:00");
+
+        // e.g. received from another node
+        tenantConfigurationCache.onApplicationEvent(new TenantConfigurationDeletedEvent(
+                tenantAware.getCurrentTenant(), 1L, JpaTenantConfiguration.class, configKey, "00:05:00"));
+        final TenantConfigurationValue<String> value = tenantConfigurationManagement.getConfigurationValue(configKey, String.class);
+        assertThat(value.isGlobal()).isTrue();
+        assertThat(value.getValue()).isEqualTo(defaultValue);
+    }
+
     /**
      * Get TenantConfigurationKeyByName
      */
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.eclipse.hawkbit.repository.RolloutHandler;
+import org.eclipse.hawkbit.repository.RolloutManagement;
+import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.RolloutCreatedEvent;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Feature: Unit Tests - Repository<br/>
+ * Story: Rollout scheduler
+ */
+@ExtendWith(MockitoExtension.class)
+class RolloutSchedulerTest {
+
+    private static final String ACTIVE_TENANT = "ACTIVE";
+    private static final String IDLE_TENANT = "IDLE";
+
+    @Mock
+    private RolloutHandler rolloutHandler;
+    @Mock
+    private RolloutManagement rolloutManagement;
+    @Mock
+    private SystemManagement systemManagement;
+    @Mock
+    private SystemSecurityContext systemSecurityContext;
+
+    // tenant -> active rollouts
+    private final Map<String, List<Long>> activeRollouts = Map.of(ACTIVE_TENANT, List.of(1L), IDLE_TENANT, List.of());
+    private String currentTenant;
+    private RolloutScheduler rolloutScheduler;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void before() throws Exception {
+        when(systemSecurityContext.runAsSystem(any())).thenAnswer(invocation -> ((Callable<?>) invocation.getArgument(0)).call());
+        when(systemSecurityContext.runAsSystemAsTenant(any(), anyString())).thenAnswer(invocation -> {
+            currentTenant = invocation.getArgument(1);
+            return ((Callable<?>) invocation.getArgument(0)).call();
+        });
+        when(rolloutManagement.findActiveRollouts()).thenAnswer(invocation -> activeRollouts.get(currentTenant));
+        doAnswer(invocation -> {
+            activeRollouts.keySet().forEach(invocation.<Consumer<String>> getArgument(0));
+            return null;
+        }).when(systemManagement).forEachTenant(any());
+
+        // backoff and full scan period long enough to not elapse during the test
+        rolloutScheduler = new RolloutScheduler(
+                rolloutHandler, rolloutManagement, systemManagement, systemSecurityContext, 1, RolloutScheduler.Mode.ADAPTIVE,
+                TimeUnit.HOURS.toMillis(1), TimeUnit.HOURS.toMillis(2), TimeUnit.HOURS.toMillis(1), Optional.empty());
+    }
+
+    /**
+     * Verifies that in adaptive mode only the tenants with active rollouts are handled - and idle ones with backoff
+     */
+    @Test
+    void handlesTenantsWithActiveRolloutsOnly() {
+        // initial full scan - the idle tenant is checked but not handled and not tracked anymore
+        rolloutScheduler.runningRolloutScheduler();
+        verify(rolloutHandler, times(1)).handleAll();
+        verify(rolloutManagement, times(2)).findActiveRollouts();
+
+        // no events - the active tenant is in backoff, the idle one is not tracked
+        rolloutScheduler.runningRolloutScheduler();
+        verify(rolloutHandler, times(1)).handleAll();
+        verify(rolloutManagement, times(2)).findActiveRollouts();
+    }
+
+    /**
+     * Verifies that in adaptive mode the rollout and rollout action events wake up the handling of the tenant immediately
+     */
+    @Test
+    void rolloutEventsWakeUpTenant() {
+        rolloutScheduler.runningRolloutScheduler();
+        verify(rolloutHandler, times(1)).handleAll();
+
+        // action status update of a rollout action - handled on the next check despite backoff
+        final ActionUpdatedEvent actionUpdatedEvent = mock(ActionUpdatedEvent.class);
+        when(actionUpdatedEvent.getTenant()).thenReturn(ACTIVE_TENANT);
+        when(actionUpdatedEvent.getRolloutId()).thenReturn(1L);
+        rolloutScheduler.onApplicationEvent(actionUpdatedEvent);
+        rolloutScheduler.runningRolloutScheduler();
+        verify(rolloutHandler, times(2)).handleAll();
+
+        // action not of a rollout - no wakeup
+        final ActionUpdatedEvent otherActionUpdatedEvent = mock(ActionUpdatedEvent.class);
+        when(otherActionUpdatedEvent.getTenant()).thenReturn(ACTIVE_TENANT);
+        when(otherActionUpdatedEvent.getRolloutId()).thenReturn(null);
+        rolloutScheduler.onApplicationEvent(otherActionUpdatedEvent);
+        rolloutScheduler.runningRolloutScheduler();
+        verify(rolloutHandler, times(2)).handleAll();
+
+        // rollout created for the idle (not tracked) tenant - it is checked again
+        final RolloutCreatedEvent rolloutCreatedEvent = mock(RolloutCreatedEvent.class);
+        when(rolloutCreatedEvent.getTenant()).thenReturn(IDLE_TENANT);
+        rolloutScheduler.onApplicationEvent(rolloutCreatedEvent);
+        rolloutScheduler.runningRolloutScheduler();
+        verify(rolloutManagement, times(4)).findActiveRollouts();
+    }
+}
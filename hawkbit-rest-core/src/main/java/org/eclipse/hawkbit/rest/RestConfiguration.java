@@ -10,6 +10,7 @@
 package org.eclipse.hawkbit.rest;
 
 import java.io.IOException;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
@@ -36,7 +37,10 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.hateoas.config.EnableHypermediaSupport;
 import org.springframework.hateoas.config.EnableHypermediaSupport.HypermediaType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.util.AntPathMatcher;
@@ -105,6 +109,8 @@ public class RestConfiguration {
             ERROR_TO_HTTP_STATUS.put(SpServerError.SP_REST_SORT_PARAM_INVALID_DIRECTION, HttpStatus.BAD_REQUEST);
             ERROR_TO_HTTP_STATUS.put(SpServerError.SP_REST_SORT_PARAM_INVALID_FIELD, HttpStatus.BAD_REQUEST);
             ERROR_TO_HTTP_STATUS.put(SpServerError.SP_REST_SORT_PARAM_SYNTAX, HttpStatus.BAD_REQUEST);
+            ERROR_TO_HTTP_STATUS.put(SpServerError.SP_REST_PAGING_CURSOR_INVALID, HttpStatus.BAD_REQUEST);
+            ERROR_TO_HTTP_STATUS.put(SpServerError.SP_REST_PAGING_TOTAL_INVALID, HttpStatus.BAD_REQUEST);
             ERROR_TO_HTTP_STATUS.put(SpServerError.SP_REST_RSQL_PARAM_INVALID_FIELD, HttpStatus.BAD_REQUEST);
             ERROR_TO_HTTP_STATUS.put(SpServerError.SP_REST_RSQL_SEARCH_PARAM_SYNTAX, HttpStatus.BAD_REQUEST);
             ERROR_TO_HTTP_STATUS.put(SpServerError.SP_INSUFFICIENT_PERMISSION, HttpStatus.FORBIDDEN);
@@ -134,6 +140,7 @@ public class RestConfiguration {
             ERROR_TO_HTTP_STATUS.put(SpServerError.SP_REPO_CONSTRAINT_VIOLATION, HttpStatus.BAD_REQUEST);
             ERROR_TO_HTTP_STATUS.put(SpServerError.SP_REPO_OPERATION_NOT_SUPPORTED, HttpStatus.GONE);
             ERROR_TO_HTTP_STATUS.put(SpServerError.SP_REPO_CONCURRENT_MODIFICATION, HttpStatus.CONFLICT);
+            ERROR_TO_HTTP_STATUS.put(SpServerError.SP_REPO_TOO_MANY_TARGET_UPDATES, HttpStatus.TOO_MANY_REQUESTS);
             ERROR_TO_HTTP_STATUS.put(SpServerError.SP_MAINTENANCE_SCHEDULE_INVALID, HttpStatus.BAD_REQUEST);
             ERROR_TO_HTTP_STATUS.put(SpServerError.SP_TARGET_ATTRIBUTES_INVALID, HttpStatus.BAD_REQUEST);
             ERROR_TO_HTTP_STATUS.put(SpServerError.SP_REPO_AUTO_CONFIRMATION_ALREADY_ACTIVE, HttpStatus.CONFLICT);
@@ -169,7 +176,7 @@ public class RestConfiguration {
             } else {
                 responseStatus = DEFAULT_RESPONSE_STATUS;
             }
-            return new ResponseEntity<>(response, responseStatus);
+            return toResponseEntity(request, response, responseStatus);
         }
 
         /**
@@ -206,7 +213,7 @@ public class RestConfiguration {
             logRequest(request, ex);
 
             final ExceptionInfo response = createExceptionInfo(new MessageNotReadableException());
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+            return toResponseEntity(request, response, HttpStatus.BAD_REQUEST);
         }
 
         /**
@@ -229,7 +236,7 @@ public class RestConfiguration {
             response.setExceptionClass(ex.getClass().getName());
             response.setErrorCode(SpServerError.SP_REPO_CONSTRAINT_VIOLATION.getKey());
 
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+            return toResponseEntity(request, response, HttpStatus.BAD_REQUEST);
         }
 
         /**
@@ -249,7 +256,7 @@ public class RestConfiguration {
             response.setExceptionClass(ex.getClass().getName());
             response.setErrorCode(SpServerError.SP_REPO_CONSTRAINT_VIOLATION.getKey());
 
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+            return toResponseEntity(request, response, HttpStatus.BAD_REQUEST);
         }
 
         /**
@@ -271,7 +278,7 @@ public class RestConfiguration {
                 log.warn("Request {} lead to MultipartException without root cause message:\n{}", request.getRequestURL(), ex.getStackTrace());
             }
 
-            return new ResponseEntity<>(createExceptionInfo(new MultiPartFileUploadException(responseCause)), HttpStatus.BAD_REQUEST);
+            return toResponseEntity(request, createExceptionInfo(new MultiPartFileUploadException(responseCause)), HttpStatus.BAD_REQUEST);
         }
 
         @ExceptionHandler({DataIntegrityViolationException.class})
@@ -286,7 +293,26 @@ public class RestConfiguration {
             response.setMessage("The data provided violates integrity rules. Please ensure all required fields are valid.");
             response.setExceptionClass(ex.getClass().getName());
 
-            return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+            return toResponseEntity(request, response, HttpStatus.BAD_REQUEST);
+        }
+
+        // the exception info is always JSON - so, it is explicitly responded as JSON if (NDJSON) streams are accepted,
+        // otherwise it couldn't be rendered if only the stream is accepted
+        private static ResponseEntity<ExceptionInfo> toResponseEntity(
+                final HttpServletRequest request, final ExceptionInfo exceptionInfo, final HttpStatus status) {
+            if (acceptsNdjson(request)) {
+                return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON).body(exceptionInfo);
+            }
+            return new ResponseEntity<>(exceptionInfo, status);
+        }
+
+        private static boolean acceptsNdjson(final HttpServletRequest request) {
+            try {
+                return MediaType.parseMediaTypes(Collections.list(request.getHeaders(HttpHeaders.ACCEPT))).stream()
+                        .anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+            } catch (final InvalidMediaTypeException e) {
+                return false;
+            }
         }
 
         private static HttpStatus getStatusOrDefault(final SpServerError error) {
@@ -12,7 +12,14 @@ package org.eclipse.hawkbit.rest.util;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +47,14 @@ import org.springframework.http.ResponseEntity;
 public final class FileStreamingUtil {
 
     private static final int BUFFER_SIZE = 0x2000; // 8k
+    private static final String BYTES_UNIT_PREFIX = "bytes=";
+    private static final long TRANSFER_CHUNK_SIZE = 0x100000; // 1M
+
+    // request attributes of the servlet container (Tomcat) sendfile support
+    private static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
 
     /**
      * <p>
@@ -51,6 +66,13 @@ public final class FileStreamingUtil {
      * The request supports RFC7233 range requests.
      * </p>
      *
+     * <p>
+     * If the artifact binary is available as plain file (see {@link DbArtifact#getFilePath()}) it is streamed
+     * directly from a {@link FileChannel}. If additionally no progress listener is given and the servlet container
+     * supports it, the file transfer is handed over to the container which sends it with zero-copy (sendfile). All
+     * other artifacts (e.g. encrypted) are copied through a heap buffer.
+     * </p>
+     *
      * @param artifact the artifact
      * @param filename to be written to the client response
      * @param lastModified unix timestamp of the artifact
@@ -96,7 +118,8 @@ public final class FileStreamingUtil {
             log.debug("range header for filename ({}) is: {}", filename, range);
 
             // Range header matches"bytes=n-n,n-n,n-n..."
-            if (!range.matches("^bytes=\\d*-\\d*(,\\d*-\\d*)*+$")) {
+            final long[] bounds = parseRangeHeader(range);
+            if (bounds == null) {
                 response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
                 log.debug("range header for filename ({}) is not satisfiable: ", filename);
                 return new ResponseEntity<>(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE);
@@ -107,7 +130,7 @@ public final class FileStreamingUtil {
             checkForShortcut(request, etag, lastModified, full, ranges);
 
             // it seems there are valid ranges
-            result = extractRange(response, length, ranges, range);
+            result = extractRange(response, length, ranges, bounds);
             // return if range extraction turned out to be invalid
             if (result != null) {
                 return result;
@@ -117,12 +140,12 @@ public final class FileStreamingUtil {
         // full request - no range
         if (ranges.isEmpty() || ranges.get(0).equals(full)) {
             log.debug("filename ({}) results into a full request: ", filename);
-            result = handleFullFileRequest(artifact, filename, response, progressListener, full);
+            result = handleFullFileRequest(artifact, filename, request, response, progressListener, full);
         }
         // standard range request
         else if (ranges.size() == 1) {
             log.debug("filename ({}) results into a standard range request: ", filename);
-            result = handleStandardRangeRequest(artifact, filename, response, progressListener, ranges);
+            result = handleStandardRangeRequest(artifact, filename, request, response, progressListener, ranges);
         }
         // multipart range request
         else {
@@ -147,15 +170,14 @@ public final class FileStreamingUtil {
     }
 
     private static ResponseEntity<InputStream> handleFullFileRequest(final DbArtifact artifact, final String filename,
-            final HttpServletResponse response, final FileStreamingProgressListener progressListener,
-            final ByteRange full) {
+            final HttpServletRequest request, final HttpServletResponse response,
+            final FileStreamingProgressListener progressListener, final ByteRange full) {
         final ByteRange r = full;
         response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + r.getStart() + "-" + r.getEnd() + "/" + r.getTotal());
         response.setContentLengthLong(r.getLength());
 
-        try (final InputStream from = artifact.getFileInputStream()) {
-            final ServletOutputStream to = response.getOutputStream();
-            copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
+        try {
+            writeRange(artifact, filename, request, response, progressListener, r);
         } catch (final IOException e) {
             throw new FileStreamingFailedException("fullfileRequest " + filename, e);
         }
@@ -164,12 +186,13 @@ public final class FileStreamingUtil {
     }
 
     private static ResponseEntity<InputStream> extractRange(final HttpServletResponse response, final long length,
-            final List<ByteRange> ranges, final String range) {
+            final List<ByteRange> ranges, final long[] bounds) {
 
         if (ranges.isEmpty()) {
-            for (final String part : range.substring(6).split(",")) {
-                long start = sublong(part, 0, part.indexOf('-'));
-                long end = sublong(part, part.indexOf('-') + 1, part.length());
+            final List<ByteRange> requested = new ArrayList<>(bounds.length / 2);
+            for (int i = 0; i < bounds.length; i += 2) {
+                long start = bounds[i];
+                long end = bounds[i + 1];
 
                 if (start == -1) {
                     start = length - end;
@@ -186,16 +209,100 @@ public final class FileStreamingUtil {
                 }
 
                 // Add range.
-                ranges.add(new ByteRange(start, end, length));
+                requested.add(new ByteRange(start, end, length));
             }
+            ranges.addAll(coalesce(requested));
         }
 
         return null;
     }
 
-    private static long sublong(final String value, final int beginIndex, final int endIndex) {
-        final String substring = value.substring(beginIndex, endIndex);
-        return substring.isEmpty() ? -1 : Long.parseLong(substring);
+    /**
+     * Parses the value of a range header of the form <code>bytes=n-n,n-n,n-n...</code> in a single pass.
+     *
+     * @param range value of the range header
+     * @return the bounds of the ranges as <code>[start0, end0, start1, end1, ...]</code> with <code>-1</code> for an
+     *         absent bound or <code>null</code> if the header is malformed
+     */
+    static long[] parseRangeHeader(final String range) {
+        if (!range.startsWith(BYTES_UNIT_PREFIX)) {
+            return null;
+        }
+
+        long[] bounds = new long[8];
+        int count = 0;
+        int pos = BYTES_UNIT_PREFIX.length();
+        final int length = range.length();
+        while (true) {
+            if (count == bounds.length) {
+                bounds = Arrays.copyOf(bounds, count * 2);
+            }
+
+            // start (optional digits) followed by '-'
+            pos = parseBound(range, pos, bounds, count++);
+            if (pos < 0 || pos == length || range.charAt(pos) != '-') {
+                return null;
+            }
+            // end (optional digits)
+            pos = parseBound(range, pos + 1, bounds, count++);
+            if (pos < 0) {
+                return null;
+            }
+
+            if (pos == length) {
+                return Arrays.copyOf(bounds, count);
+            } else if (range.charAt(pos) != ',') {
+                return null;
+            }
+            pos++;
+        }
+    }
+
+    // parses the optional digits at pos into bounds[index] (-1 if there are none) and returns the position after
+    // them, or -1 if the value overflows
+    private static int parseBound(final String range, final int pos, final long[] bounds, final int index) {
+        long value = -1;
+        int i = pos;
+        for (; i < range.length(); i++) {
+            final int digit = range.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                break;
+            }
+            if (value == -1) {
+                value = digit;
+            } else if (value > (Long.MAX_VALUE - digit) / 10) {
+                return -1;
+            } else {
+                value = value * 10 + digit;
+            }
+        }
+        bounds[index] = value;
+        return i;
+    }
+
+    // RFC 7233 allows to coalesce overlapping or adjacent ranges - they are sorted ascending and merged, so
+    // a multipart response is served in one forward pass over the artifact
+    private static List<ByteRange> coalesce(final List<ByteRange> requested) {
+        if (requested.size() < 2) {
+            return requested;
+        }
+
+        requested.sort(Comparator.comparingLong(ByteRange::getStart));
+        final List<ByteRange> coalesced = new ArrayList<>(requested.size());
+        ByteRange current = requested.get(0);
+        for (int i = 1; i < requested.size(); i++) {
+            final ByteRange next = requested.get(i);
+            if (next.getStart() <= current.getEnd() + 1) {
+                if (next.getEnd() > current.getEnd()) {
+                    current = new ByteRange(current.getStart(), next.getEnd(), current.getTotal());
+                }
+            } else {
+                coalesced.add(current);
+                current = next;
+            }
+        }
+        coalesced.add(current);
+        return coalesced;
     }
 
     private static void checkForShortcut(final HttpServletRequest request, final String etag, final long lastModified,
@@ -221,20 +328,27 @@ public final class FileStreamingUtil {
         response.setContentType("multipart/byteranges; boundary=" + ByteRange.MULTIPART_BOUNDARY);
         response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
 
-        try {
+        // the artifact is opened only once for all ranges - as they are coalesced and sorted they are served
+        // with positioned reads from the file channel or in a single forward pass over the stream
+        final Path file = artifact.getFilePath();
+        try (final FileChannel channel = file == null ? null : FileChannel.open(file, StandardOpenOption.READ);
+                final InputStream stream = file == null ? artifact.getFileInputStream() : null) {
             final ServletOutputStream to = response.getOutputStream();
 
+            long position = 0;
             for (final ByteRange r : ranges) {
-                try (final InputStream from = artifact.getFileInputStream()) {
-
-                    // Add multipart boundary and header fields for every range.
-                    to.println();
-                    to.println("--" + ByteRange.MULTIPART_BOUNDARY);
-                    to.println(HttpHeaders.CONTENT_RANGE + ": bytes " + r.getStart() + "-" + r.getEnd() + "/"
-                            + r.getTotal());
-
-                    // Copy single part range of multi part range.
-                    copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
+                // Add multipart boundary and header fields for every range.
+                to.println();
+                to.println("--" + ByteRange.MULTIPART_BOUNDARY);
+                to.println(HttpHeaders.CONTENT_RANGE + ": bytes " + r.getStart() + "-" + r.getEnd() + "/"
+                        + r.getTotal());
+
+                // Copy single part range of multi part range.
+                if (channel == null) {
+                    copyStreams(stream, to, progressListener, r.getStart() - position, r.getLength(), filename);
+                    position = r.getEnd() + 1;
+                } else {
+                    transferChannel(channel, to, progressListener, r.getStart(), r.getLength(), filename);
                 }
             }
 
@@ -249,16 +363,15 @@ public final class FileStreamingUtil {
     }
 
     private static ResponseEntity<InputStream> handleStandardRangeRequest(final DbArtifact artifact,
-            final String filename, final HttpServletResponse response,
+            final String filename, final HttpServletRequest request, final HttpServletResponse response,
             final FileStreamingProgressListener progressListener, final List<ByteRange> ranges) {
         final ByteRange r = ranges.get(0);
         response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + r.getStart() + "-" + r.getEnd() + "/" + r.getTotal());
         response.setContentLengthLong(r.getLength());
         response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
 
-        try (final InputStream from = artifact.getFileInputStream()) {
-            final ServletOutputStream to = response.getOutputStream();
-            copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
+        try {
+            writeRange(artifact, filename, request, response, progressListener, r);
         } catch (final IOException e) {
             log.error("standardRangeRequest of file ({}) failed!", filename, e);
             throw new FileStreamingFailedException(filename);
@@ -267,6 +380,28 @@ public final class FileStreamingUtil {
         return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).build();
     }
 
+    private static void writeRange(final DbArtifact artifact, final String filename,
+            final HttpServletRequest request, final HttpServletResponse response,
+            final FileStreamingProgressListener progressListener, final ByteRange r) throws IOException {
+        final Path file = artifact.getFilePath();
+        if (file == null) {
+            // not available as plain file (e.g. encrypted) - copy through heap buffer
+            try (final InputStream from = artifact.getFileInputStream()) {
+                copyStreams(from, response.getOutputStream(), progressListener, r.getStart(), r.getLength(), filename);
+            }
+        } else if (progressListener == null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            // the container sends the file (zero-copy) after the request processing, so no progress could be tracked
+            log.trace("Hand over file {} from {} with length {} to container sendfile", filename, r.getStart(), r.getLength());
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START_ATTR, r.getStart());
+            request.setAttribute(SENDFILE_END_ATTR, r.getEnd() + 1); // exclusive
+        } else {
+            try (final FileChannel from = FileChannel.open(file, StandardOpenOption.READ)) {
+                transferChannel(from, response.getOutputStream(), progressListener, r.getStart(), r.getLength(), filename);
+            }
+        }
+    }
+
     private static long copyStreams(final InputStream from, final OutputStream to,
             final FileStreamingProgressListener progressListener, final long start, final long length,
             final String filename) throws IOException {
@@ -277,43 +412,64 @@ public final class FileStreamingUtil {
         Objects.requireNonNull(from);
         Objects.requireNonNull(to);
         final byte[] buf = new byte[BUFFER_SIZE];
+        final ProgressReporter progress = new ProgressReporter(progressListener, length);
         long total = 0;
-        int progressPercent = 1;
 
         IOUtils.skipFully(from, start);
 
         long toRead = length;
-        boolean toContinue = true;
-        long shippedSinceLastEvent = 0;
 
-        while (toContinue) {
-            final int r = from.read(buf);
+        // never read beyond the requested length, so the stream is positioned right after the range
+        while (toRead > 0) {
+            final int r = from.read(buf, 0, (int) Math.min(BUFFER_SIZE, toRead));
             if (r == -1) {
                 break;
             }
 
+            to.write(buf, 0, r);
             toRead -= r;
-            if (toRead > 0) {
-                to.write(buf, 0, r);
-                total += r;
-                shippedSinceLastEvent += r;
-            } else {
-                to.write(buf, 0, (int) toRead + r);
-                total += toRead + r;
-                shippedSinceLastEvent += toRead + r;
-                toContinue = false;
-            }
+            total += r;
+            progress.shipped(r, total);
+        }
 
-            if (progressListener != null) {
-                final int newPercent = (int) Math.floor(total * 100.0 / length);
+        final long totalTime = System.currentTimeMillis() - startMillis;
 
-                // every 10 percent an event
-                if (newPercent == 100 || newPercent > progressPercent + 10) {
-                    progressPercent = newPercent;
-                    progressListener.progress(length, shippedSinceLastEvent, total);
-                    shippedSinceLastEvent = 0;
-                }
+        if (total < length) {
+            throw new FileStreamingFailedException(filename + ": " + (length - total)
+                    + " bytes could not be written to client, total time on write: !" + totalTime + " ms");
+        }
+
+        log.trace("Finished copy-stream of file {} with length {} in {} ms", filename, length, totalTime);
+
+        return total;
+    }
+
+    private static long transferChannel(final FileChannel from, final OutputStream to,
+            final FileStreamingProgressListener progressListener, final long start, final long length,
+            final String filename) throws IOException {
+
+        final long startMillis = System.currentTimeMillis();
+        log.trace("Start of channel transfer of file {} from {} to {}", filename, start, length);
+
+        Objects.requireNonNull(from);
+        Objects.requireNonNull(to);
+        final WritableByteChannel target = Channels.newChannel(to);
+        final ProgressReporter progress = new ProgressReporter(progressListener, length);
+        // transfer in chunks fine-grained enough to keep the progress events (every 10 percent) as they are on copy
+        final long chunkSize = progressListener == null
+                ? TRANSFER_CHUNK_SIZE
+                : Math.max(BUFFER_SIZE, Math.min(TRANSFER_CHUNK_SIZE, length / 100));
+        long total = 0;
+
+        while (total < length) {
+            final long transferred = from.transferTo(start + total, Math.min(chunkSize, length - total), target);
+            if (transferred <= 0) {
+                // end of file reached
+                break;
             }
+
+            total += transferred;
+            progress.shipped(transferred, total);
         }
 
         final long totalTime = System.currentTimeMillis() - startMillis;
@@ -323,7 +479,7 @@ public final class FileStreamingUtil {
                     + " bytes could not be written to client, total time on write: !" + totalTime + " ms");
         }
 
-        log.trace("Finished copy-stream of file {} with length {} in {} ms", filename, length, totalTime);
+        log.trace("Finished channel transfer of file {} with length {} in {} ms", filename, length, totalTime);
 
         return total;
     }
@@ -344,6 +500,36 @@ public final class FileStreamingUtil {
         void progress(long requestedBytes, long shippedBytesSinceLast, long shippedBytesOverall);
     }
 
+    private static final class ProgressReporter {
+
+        private final FileStreamingProgressListener progressListener;
+        private final long length;
+
+        private int progressPercent = 1;
+        private long shippedSinceLastEvent;
+
+        private ProgressReporter(final FileStreamingProgressListener progressListener, final long length) {
+            this.progressListener = progressListener;
+            this.length = length;
+        }
+
+        private void shipped(final long shipped, final long total) {
+            if (progressListener == null) {
+                return;
+            }
+
+            shippedSinceLastEvent += shipped;
+            final int newPercent = (int) Math.floor(total * 100.0 / length);
+
+            // every 10 percent an event
+            if (newPercent == 100 || newPercent > progressPercent + 10) {
+                progressPercent = newPercent;
+                progressListener.progress(length, shippedSinceLastEvent, total);
+                shippedSinceLastEvent = 0;
+            }
+        }
+    }
+
     private static final class ByteRange {
 
         private static final String MULTIPART_BOUNDARY = "THIS_STRING_SEPARATES_MULTIPART";
@@ -0,0 +1,138 @@
+/**
+ * Copyright (c) 2025 Contributors to the Eclipse Foundation
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.hawkbit.rest.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.function.Consumer;
+import java.util.zip.GZIPOutputStream;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.filter.ShallowEtagHeaderFilter;
+
+/**
+ * Utility class for streaming entities as newline delimited JSON (NDJSON), e.g. to export them. Every element is written as one
+ * line as soon as it is passed, so neither the elements nor the response are held in memory. The response is gzip compressed if the
+ * client accepts it.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class NdjsonStreamingUtil {
+
+    private static final String GZIP = "gzip";
+    private static final int BUFFER_SIZE = 0x2000; // 8k
+
+    /**
+     * Writes the elements passed by the producer as NDJSON response.
+     * <p/>
+     * The response is opened with the first element (or when the producer has finished without any), so if the producer fails before,
+     * e.g. because of an invalid query, the error is responded as usual. If it fails later the response is incomplete - in case of
+     * gzip compression even not a valid gzip stream.
+     *
+     * @param objectMapper to serialize the elements
+     * @param producer passes the elements one by one to the given consumer
+     * @param response to be sent back to the requesting client
+     * @param request from the client
+     * @param <T> type of the elements
+     * @return http response
+     */
+    public static <T> ResponseEntity<Void> writeNdjsonResponse(final ObjectMapper objectMapper, final Consumer<Consumer<T>> producer,
+            final HttpServletResponse response, final HttpServletRequest request) {
+        // the stream shall not be copied in memory in order to calculate an ETag
+        ShallowEtagHeaderFilter.disableContentCaching(request);
+        final NdjsonWriter<T> writer = new NdjsonWriter<>(objectMapper, response, acceptsGzip(request));
+        producer.accept(writer);
+        writer.close();
+        return new ResponseEntity<>(HttpStatus.OK);
+    }
+
+    private static boolean acceptsGzip(final HttpServletRequest request) {
+        for (final String acceptEncoding : Collections.list(request.getHeaders(HttpHeaders.ACCEPT_ENCODING))) {
+            for (final String coding : acceptEncoding.split(",")) {
+                final String[] codingAndParams = coding.split(";");
+                if (GZIP.equalsIgnoreCase(codingAndParams[0].trim())) {
+                    // gzip;q=0 means not acceptable
+                    return codingAndParams.length == 1 || !codingAndParams[1].replace(" ", "").matches("q=0(\\.0*)?");
+                }
+            }
+        }
+        return false;
+    }
+
+    private static final class NdjsonWriter<T> implements Consumer<T> {
+
+        private final ObjectWriter objectWriter;
+        private final HttpServletResponse response;
+        private final boolean gzip;
+
+        private JsonGenerator generator;
+
+        private NdjsonWriter(final ObjectMapper objectMapper, final HttpServletResponse response, final boolean gzip) {
+            // one line per element (terminated by a new line, instead of the default space separator) and flushed by the buffers,
+            // not for every element
+            objectWriter = objectMapper.writer()
+                    .withRootValueSeparator("")
+                    .without(SerializationFeature.INDENT_OUTPUT)
+                    .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.response = response;
+            this.gzip = gzip;
+        }
+
+        @Override
+        public void accept(final T element) {
+            try {
+                objectWriter.writeValue(generator(), element);
+                generator.writeRaw('\n');
+            } catch (final IOException e) {
+                throw new UncheckedIOException("NDJSON streaming failed", e);
+            }
+        }
+
+        private void close() {
+            try {
+                generator().close();
+            } catch (final IOException e) {
+                throw new UncheckedIOException("NDJSON streaming failed", e);
+            }
+        }
+
+        private JsonGenerator generator() throws IOException {
+            if (generator == null) {
+                response.setStatus(HttpStatus.OK.value());
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+                final OutputStream out;
+                if (gzip) {
+                    response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+                    out = new GZIPOutputStream(response.getOutputStream(), BUFFER_SIZE);
+                } else {
+                    out = response.getOutputStream();
+                }
+                generator = objectWriter.createGenerator(out);
+            }
+            return generator;
+        }
+    }
+}
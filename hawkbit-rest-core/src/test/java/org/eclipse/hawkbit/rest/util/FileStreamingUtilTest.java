@@ -17,17 +17,25 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifact;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 import org.springframework.http.HttpHeaders;
@@ -78,7 +86,7 @@ class FileStreamingUtilTest {
 
         Mockito.when(servletResponse.getOutputStream()).thenReturn(outputStream);
         final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
-        Mockito.when(servletRequest.getHeader("Range")).thenReturn("bytes=0-10,9-15,16-");
+        Mockito.when(servletRequest.getHeader("Range")).thenReturn("bytes=0-10,20-25,40-");
         long lastModified = System.currentTimeMillis();
 
         final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(TEST_ARTIFACT,
@@ -92,7 +100,65 @@ class FileStreamingUtilTest {
         verify(outputStream).print(stringCaptor.capture());
         assertThat(stringCaptor.getValue()).contains("--THIS_STRING_SEPARATES_MULTIPART--");
         verify(outputStream, times(3)).write(any(), anyInt(), lenCaptor.capture());
-        assertThat(lenCaptor.getAllValues()).containsExactly(11, 7, 39); // Range lengths
+        assertThat(lenCaptor.getAllValues()).containsExactly(11, 6, 15); // Range lengths
+    }
+
+    @Test
+    void shouldCoalesceOverlappingAndAdjacentRangesForMultipartRequests() throws IOException {
+        final AtomicInteger opened = new AtomicInteger();
+        final DbArtifact countingArtifact = streamBackedArtifact(opened);
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(servletOutputStream(content));
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(servletRequest.getHeader("Range")).thenReturn("bytes=30-35,0-10,9-15,16-20");
+
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(countingArtifact,
+                "test.file", System.currentTimeMillis(), servletResponse, servletRequest, null);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(opened).hasValue(1);
+        assertThat(content.toString(StandardCharsets.UTF_8))
+                .containsSubsequence(
+                        "Content-Range: bytes 0-20/" + CONTENT_BYTES.length, CONTENT.substring(0, 21),
+                        "Content-Range: bytes 30-35/" + CONTENT_BYTES.length, CONTENT.substring(30, 36),
+                        "--THIS_STRING_SEPARATES_MULTIPART--")
+                .doesNotContain("bytes 9-15");
+    }
+
+    @Test
+    void shouldServeMultipartRequestsOfFileBackedArtifactFromChannel(@TempDir final Path tempDir) throws IOException {
+        final DbArtifact fileArtifact = fileBackedArtifact(tempDir);
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(servletOutputStream(content));
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(servletRequest.getHeader("Range")).thenReturn("bytes=40-,0-10");
+
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(fileArtifact,
+                "test.file", System.currentTimeMillis(), servletResponse, servletRequest, null);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(content.toString(StandardCharsets.UTF_8)).containsSubsequence(
+                "Content-Range: bytes 0-10/" + CONTENT_BYTES.length, CONTENT.substring(0, 11),
+                "Content-Range: bytes 40-54/" + CONTENT_BYTES.length, CONTENT.substring(40));
+    }
+
+    @Test
+    void shouldParseRangeHeader() {
+        assertThat(FileStreamingUtil.parseRangeHeader("bytes=0-10")).containsExactly(0, 10);
+        assertThat(FileStreamingUtil.parseRangeHeader("bytes=0-10,20-,-5")).containsExactly(0, 10, 20, -1, -1, 5);
+        assertThat(FileStreamingUtil.parseRangeHeader("bytes=1-2,3-4,5-6,7-8,9-10"))
+                .containsExactly(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        assertThat(FileStreamingUtil.parseRangeHeader("bytes=-")).containsExactly(-1, -1);
+
+        assertThat(FileStreamingUtil.parseRangeHeader("bytes=")).isNull();
+        assertThat(FileStreamingUtil.parseRangeHeader("bytes=0-10,")).isNull();
+        assertThat(FileStreamingUtil.parseRangeHeader("bytes=0-10***,9-15")).isNull();
+        assertThat(FileStreamingUtil.parseRangeHeader("bytes=10")).isNull();
+        assertThat(FileStreamingUtil.parseRangeHeader("bytes= 0-10")).isNull();
+        assertThat(FileStreamingUtil.parseRangeHeader("items=0-10")).isNull();
+        assertThat(FileStreamingUtil.parseRangeHeader("bytes=0-99999999999999999999")).isNull();
     }
 
     @Test
@@ -112,4 +178,150 @@ class FileStreamingUtilTest {
         verify(outputStream, times(0)).print(anyString());
         verify(outputStream, times(0)).write(any(), anyInt(), anyInt());
     }
-}
+
+    @Test
+    void shouldTransferFileBackedArtifactFromChannel(@TempDir final Path tempDir) throws IOException {
+        final DbArtifact fileArtifact = fileBackedArtifact(tempDir);
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(servletOutputStream(content));
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        final List<Long> progress = new ArrayList<>();
+
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(fileArtifact,
+                "test.file", System.currentTimeMillis(), servletResponse, servletRequest,
+                (requested, shippedSinceLast, shippedOverall) -> progress.add(shippedOverall));
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(content.toByteArray()).isEqualTo(CONTENT_BYTES);
+        assertThat(progress).containsExactly((long) CONTENT_BYTES.length);
+    }
+
+    @Test
+    void shouldTransferRangeOfFileBackedArtifactFromChannel(@TempDir final Path tempDir) throws IOException {
+        final DbArtifact fileArtifact = fileBackedArtifact(tempDir);
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(servletOutputStream(content));
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(servletRequest.getHeader("Range")).thenReturn("bytes=5-11");
+
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(fileArtifact,
+                "test.file", System.currentTimeMillis(), servletResponse, servletRequest, null);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.PARTIAL_CONTENT);
+        assertThat(content.toString(StandardCharsets.UTF_8)).isEqualTo(CONTENT.substring(5, 12));
+    }
+
+    @Test
+    void shouldHandOverFileBackedArtifactToContainerSendfile(@TempDir final Path tempDir) throws IOException {
+        final DbArtifact fileArtifact = fileBackedArtifact(tempDir);
+        final HttpServletResponse servletResponse = Mockito.mock(HttpServletResponse.class);
+        final ServletOutputStream outputStream = Mockito.mock(ServletOutputStream.class);
+        Mockito.when(servletResponse.getOutputStream()).thenReturn(outputStream);
+        final HttpServletRequest servletRequest = Mockito.mock(HttpServletRequest.class);
+        Mockito.when(servletRequest.getAttribute("org.apache.tomcat.sendfile.support")).thenReturn(Boolean.TRUE);
+
+        final ResponseEntity<InputStream> responseEntity = FileStreamingUtil.writeFileResponse(fileArtifact,
+                "test.file", System.currentTimeMillis(), servletResponse, servletRequest, null);
+
+        assertThat(responseEntity.getStatusCode()).isEqualTo(HttpStatus.OK);
+        verify(servletRequest).setAttribute("org.apache.tomcat.sendfile.filename",
+                fileArtifact.getFilePath().toAbsolutePath().toString());
+        verify(servletRequest).setAttribute("org.apache.tomcat.sendfile.start", 0L);
+        verify(servletRequest).setAttribute("org.apache.tomcat.sendfile.end", (long) CONTENT_BYTES.length);
+        verify(outputStream, times(0)).write(any(), anyInt(), anyInt());
+    }
+
+    private static DbArtifact streamBackedArtifact(final AtomicInteger opened) {
+        return new DbArtifact() {
+
+            @Override
+            public String getArtifactId() {
+                return TEST_ARTIFACT.getArtifactId();
+            }
+
+            @Override
+            public DbArtifactHash getHashes() {
+                return TEST_ARTIFACT.getHashes();
+            }
+
+            @Override
+            public long getSize() {
+                return TEST_ARTIFACT.getSize();
+            }
+
+            @Override
+            public String getContentType() {
+                return TEST_ARTIFACT.getContentType();
+            }
+
+            @Override
+            public InputStream getFileInputStream() {
+                opened.incrementAndGet();
+                return TEST_ARTIFACT.getFileInputStream();
+            }
+        };
+    }
+
+    private static DbArtifact fileBackedArtifact(final Path tempDir) throws IOException {
+        final Path file = Files.write(tempDir.resolve("artifact"), CONTENT_BYTES);
+        return new DbArtifact() {
+
+            @Override
+            public String getArtifactId() {
+                return TEST_ARTIFACT.getArtifactId();
+            }
+
+            @Override
+            public DbArtifactHash getHashes() {
+                return TEST_ARTIFACT.getHashes();
+            }
+
+            @Override
+            public long getSize() {
+                return TEST_ARTIFACT.getSize();
+            }
+
+            @Override
+            public String getContentType() {
+                return TEST_ARTIFACT.getContentType();
+            }
+
+            @Override
+            public InputStream getFileInputStream() {
+                throw new UnsupportedOperationException("File backed artifact shall be read via its path");
+            }
+
+            @Override
+            public Path getFilePath() {
+                return file;
+            }
+        };
+    }
+
+    private static ServletOutputStream servletOutputStream(final ByteArrayOutputStream content) {
+        return new ServletOutputStream() {
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(final WriteListener writeListener) {
+                // not needed
+            }
+
+            @Override
+            public void write(final int b) {
+                content.write(b);
+            }
+
+            @Override
+            public void write(final byte[] b, final int off, final int len) {
+                content.write(b, off, len);
+            }
+        };
+    }
+}
\ No newline at end of file
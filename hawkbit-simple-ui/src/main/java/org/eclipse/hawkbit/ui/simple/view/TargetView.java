@@ -112,7 +112,7 @@ public class TargetView extends TableView<MgmtTarget, String> {
                     }
                 },
                 (query, filter) -> hawkbitClient.getTargetRestApi()
-                        .getTargets(filter, query.getOffset(), query.getPageSize(), Constants.NAME_ASC)
+                        .getTargets(filter, query.getOffset(), query.getPageSize(), Constants.NAME_ASC, null, null)
                         .getBody()
                         .getContent()
                         .stream(),
@@ -832,7 +832,7 @@ public class TargetView extends TableView<MgmtTarget, String> {
                     this::readyToAssign,
                     Optional.ofNullable(
                                     hawkbitClient.getDistributionSetRestApi()
-                                            .getDistributionSets(null, 0, 30, Constants.NAME_ASC)
+                                            .getDistributionSets(null, 0, 30, Constants.NAME_ASC, null)
                                             .getBody())
                             .map(body -> body.getContent().toArray(new MgmtDistributionSet[0]))
                             .orElseGet(() -> new MgmtDistributionSet[0])